@@ -0,0 +1,59 @@
+package org.team.mealkitshop.domain.cart;
+
+import org.openjdk.jmh.annotations.*;
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.domain.item.Item;
+import org.team.mealkitshop.service.cart.CartPricingSnapshot;
+import org.team.mealkitshop.service.pricing.PricingRuleSet;
+import org.team.mealkitshop.service.pricing.PricingRules;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cart 엔티티 합계 계산 벤치마크
+ * - salePriceTotal: 엔티티 sumBy 스트림 합계
+ * - pricedPayable : 배송비 포함 결제금액(CartPricingSnapshot — 화면/주문 경로와 같은 계산)
+ * - lines: 장바구니 줄 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CartTotalsBenchmark {
+
+    @Param({"5", "50"})
+    private int lines;
+
+    private Cart cart;
+    private final PricingRules rules = PricingRules.compile(PricingRuleSet.defaults(), 1);
+
+    @Setup
+    public void setUp() {
+        cart = Cart.builder().build();
+        for (int i = 0; i < lines; i++) {
+            Item item = Item.builder()
+                    .id((long) i + 1)
+                    .itemNm("밀키트" + i)
+                    .originalPrice(8_000 + i * 350)
+                    .discountRate(i % 4 * 5)
+                    .stockNumber(100)
+                    .build();
+            cart.addItem(CartItem.builder().item(item).quantity(1 + i % 3).checked(i % 2 == 0).build());
+        }
+    }
+
+    @Benchmark
+    public int salePriceTotal() {
+        return cart.getSalePriceTotal();
+    }
+
+    @Benchmark
+    public int pricedPayable() {
+        return CartPricingSnapshot.price(cart.getItems(), rules, Grade.SILVER, "63120", Map.of()).all().payableAmount();
+    }
+
+    @Benchmark
+    public int pricedCheckedPayable() {
+        return CartPricingSnapshot.price(cart.getItems(), rules, Grade.SILVER, "06236", Map.of()).checked().payableAmount();
+    }
+}
@@ -0,0 +1,54 @@
+package org.team.mealkitshop.dto.board;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.team.mealkitshop.common.BoardType;
+import org.team.mealkitshop.config.RootConfig;
+import org.team.mealkitshop.domain.board.Board;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 엔티티 → DTO 변환 벤치마크
+ * - fromEntity: 수동 매핑
+ * - modelMapper: RootConfig 의 ModelMapper 설정 그대로(LOOSE + 필드 매칭)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardMappingBenchmark {
+
+    private Board board;
+    private ModelMapper modelMapper;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        board = Board.builder()
+                .bno(1L)
+                .title("여름 한정 이벤트")
+                .content("이벤트 기간 동안 전 상품 무료배송")
+                .writer("관리자")
+                .boardType(BoardType.EVENT)
+                .regTime(now.minusDays(1))
+                .updateTime(now)
+                .startDate(now.minusDays(1))
+                .endDate(now.plusDays(7))
+                .build();
+        for (int i = 0; i < 3; i++) {
+            board.addImage("uuid" + i + "_banner.jpg");
+        }
+        modelMapper = new RootConfig().getMapper();
+    }
+
+    @Benchmark
+    public BoardDTO fromEntity() {
+        return BoardDTO.fromEntity(board);
+    }
+
+    @Benchmark
+    public BoardDTO modelMapper() {
+        return modelMapper.map(board, BoardDTO.class);
+    }
+}
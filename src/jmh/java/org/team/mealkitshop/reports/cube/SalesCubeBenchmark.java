@@ -0,0 +1,78 @@
+package org.team.mealkitshop.reports.cube;
+
+import org.openjdk.jmh.annotations.*;
+import org.team.mealkitshop.common.FoodItem;
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.common.Pay;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 차원별 매출 집계 벤치마크: 큐브 슬라이스 vs 주문 라인 GROUP BY(해시 집계)
+ * - lineStore 는 DB 의 order_item 조인 GROUP BY 가 하는 일(라인 단위 필터 + 해시 그룹)을 메모리에서 재현한 기준선
+ *   (DB 왕복/디스크 I/O 는 빠져 있으므로 실제 쿼리보다 유리한 비교 — 실 DB 비교는 /api/reports/cube?source=db)
+ * - 데이터: 3년, 하루 주문 라인 linesPerDay 개, 조회는 최근 1년 분류 × 결제수단
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SalesCubeBenchmark {
+
+    private record Line(LocalDate day, FoodItem food, Grade grade, Pay pay, int qty, int price) { }
+
+    private record Key(Object a, Object b) { }
+
+    @Param({"200", "2000"})
+    private int linesPerDay;
+
+    private final List<Line> lines = new ArrayList<>();
+    private final SalesCube cube = new SalesCube();
+    private final List<CubeDimension> groupBy = List.of(CubeDimension.CATEGORY, CubeDimension.PAY);
+    private LocalDate from;
+    private LocalDate to;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom rnd = new SplittableRandom(42);
+        FoodItem[] foods = FoodItem.values();
+        Grade[] grades = Grade.values();
+        Pay[] pays = Pay.values();
+        LocalDate start = LocalDate.of(2023, 1, 1);
+        for (int d = 0; d < 3 * 365; d++) {
+            LocalDate day = start.plusDays(d);
+            for (int n = 0; n < linesPerDay; n++) {
+                Line l = new Line(day, foods[rnd.nextInt(foods.length)], grades[rnd.nextInt(grades.length)],
+                        pays[rnd.nextInt(pays.length)], 1 + rnd.nextInt(3), 8_000 + rnd.nextInt(20) * 500);
+                lines.add(l);
+                cube.add(l.day(), l.food(), l.grade(), l.pay(), l.qty(), (long) l.qty() * l.price(), 1);
+            }
+        }
+        to = start.plusDays(3 * 365);
+        from = to.minusDays(365);
+    }
+
+    @Benchmark
+    public List<SalesCube.Cell> cubeSlice() {
+        return cube.slice(from, to, SalesCube.Filter.all(), groupBy);
+    }
+
+    @Benchmark
+    public Map<Key, long[]> lineStoreGroupBy() {
+        Map<Key, long[]> out = new HashMap<>();
+        for (Line l : lines) {
+            if (l.day().isBefore(from) || !l.day().isBefore(to)) continue;
+            long[] acc = out.computeIfAbsent(new Key(l.food().getCategory(), l.pay()), k -> new long[3]);
+            acc[0] += l.qty();
+            acc[1] += (long) l.qty() * l.price();
+            acc[2]++;
+        }
+        return Objects.requireNonNull(out);
+    }
+}
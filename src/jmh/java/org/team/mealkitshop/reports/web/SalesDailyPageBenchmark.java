@@ -0,0 +1,52 @@
+package org.team.mealkitshop.reports.web;
+
+import org.openjdk.jmh.annotations.*;
+import org.team.mealkitshop.reports.dto.SalesDailyPointDTO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일별 매출 0 채움 벤치마크 (DB 조회 결과는 미리 생성)
+ * - days: 조회 기간 일수, 매출이 있는 날은 3일 중 2일
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SalesDailyPageBenchmark {
+
+    @Param({"31", "365", "1825"})
+    private int days;
+
+    private LocalDate from;
+    private LocalDate to;
+    private List<SalesDailyPointDTO> raw;
+
+    @Setup
+    public void setUp() {
+        from = LocalDate.of(2024, 1, 1);
+        to = from.plusDays(days - 1L);
+        raw = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            if (i % 3 == 2) continue;
+            long orders = 5 + i % 17;
+            long net = orders * 23_500L;
+            raw.add(new SalesDailyPointDTO(from.plusDays(i), orders, net, net / orders));
+        }
+    }
+
+    /** 페이지 구간만 0 채움(요청당 실제 작업) */
+    @Benchmark
+    public List<SalesDailyPointDTO> firstPage() {
+        ReportsApiController.DayWindow w = ReportsApiController.DayWindow.of(from, to, 1, 40);
+        return ReportsApiController.zeroFill(raw, w.from(), w.to());
+    }
+
+    /** 전체 기간 0 채움(스트리밍 경로의 구간 병합 비용 상한) */
+    @Benchmark
+    public List<SalesDailyPointDTO> wholeRange() {
+        return ReportsApiController.zeroFill(raw, from, to);
+    }
+}
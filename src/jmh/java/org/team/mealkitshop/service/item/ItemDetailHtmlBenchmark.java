@@ -0,0 +1,46 @@
+package org.team.mealkitshop.service.item;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 상세 HTML 처리 벤치마크 (수정 시 sanitize + 고아 이미지 계산용 jsoup 파싱)
+ * - images: 본문에 포함된 상세 이미지 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemDetailHtmlBenchmark {
+
+    @Param({"5", "40"})
+    private int images;
+
+    private String html;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("<h2>오늘의 밀키트</h2><p>신선한 재료로 15분 완성</p>");
+        for (int i = 0; i < images; i++) {
+            sb.append("<p>조리 순서 ").append(i + 1).append(" — 재료를 손질합니다.</p>")
+              .append("<p><img loading=\"lazy\" src=\"")
+              .append(i % 2 == 0 ? "/images/detail/" : "https://shop.example.com/images/detail/")
+              .append(String.format("%08d-0000-0000-0000-%012d.jpg", i, i))
+              .append(i % 3 == 0 ? "?v=2" : "")
+              .append("\" alt=\"detail\"/></p>");
+        }
+        sb.append("<p><img src=\"data:image/png;base64,AAAA\"/></p>");
+        html = sb.toString();
+    }
+
+    @Benchmark
+    public String sanitizeDetail() {
+        return ItemService.sanitizeDetail(html);
+    }
+
+    @Benchmark
+    public Set<String> extractDetailSavedNames() {
+        return ItemService.extractDetailSavedNames(html);
+    }
+}
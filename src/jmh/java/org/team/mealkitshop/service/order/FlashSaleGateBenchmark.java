@@ -0,0 +1,63 @@
+package org.team.mealkitshop.service.order;
+
+import org.openjdk.jmh.annotations.*;
+import org.team.mealkitshop.config.FlashSaleProperties;
+import org.team.mealkitshop.exception.OutOfStockException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플래시 세일 입장 처리량 벤치마크 (8 스레드가 한 상품에 동시 시도)
+ * - admitAndRollback: 토큰 확보 → 동시 진입 → 롤백 반환까지 입장 한 바퀴(토큰이 줄지 않아 반복 측정 가능)
+ * - rejectSoldOut   : 토큰 소진 후 DB 접근 없이 거절되는 경로
+ * - passThrough     : 세일 상품이 아닌 주문(맵 조회만)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class FlashSaleGateBenchmark {
+
+    private static final long SALE_ITEM = 1L;
+    private static final long SOLD_OUT_ITEM = 2L;
+    private static final long NORMAL_ITEM = 3L;
+
+    private final Map<Long, Integer> saleOrder = Map.of(SALE_ITEM, 1);
+    private final Map<Long, Integer> soldOutOrder = Map.of(SOLD_OUT_ITEM, 1);
+    private final Map<Long, Integer> normalOrder = Map.of(NORMAL_ITEM, 1);
+
+    private FlashSaleGate gate;
+
+    @Setup
+    public void setUp() {
+        // 유량 제한이 측정을 가리지 않도록 충분히 크게, 동시 진입은 스레드 수 이상
+        gate = new FlashSaleGate(new FlashSaleProperties(1_000_000_000, 1_000_000, 16, 10_000, Duration.ofSeconds(2)));
+        gate.open(SALE_ITEM, 1_000_000, null, null);
+        gate.open(SOLD_OUT_ITEM, 0, null, null);
+    }
+
+    @Benchmark
+    public FlashSaleGate.Admission admitAndRollback() {
+        FlashSaleGate.Admission admission = gate.admit(saleOrder);
+        admission.complete(false);
+        return admission;
+    }
+
+    @Benchmark
+    public boolean rejectSoldOut() {
+        try {
+            gate.admit(soldOutOrder);
+            return true;
+        } catch (OutOfStockException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public FlashSaleGate.Admission passThrough() {
+        return gate.admit(normalOrder);
+    }
+}
@@ -0,0 +1,60 @@
+package org.team.mealkitshop.service.order;
+
+import org.openjdk.jmh.annotations.*;
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.common.OrderStatus;
+import org.team.mealkitshop.domain.cart.CartItem;
+import org.team.mealkitshop.domain.item.Item;
+import org.team.mealkitshop.domain.order.Order;
+import org.team.mealkitshop.service.cart.CartPricingSnapshot;
+import org.team.mealkitshop.service.pricing.PricingRuleSet;
+import org.team.mealkitshop.service.pricing.PricingRules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderService.buildOrder 금액 계산 구간 벤치마크
+ * - 가격 스냅샷 계산 + 주문 라인 생성 + 주문 금액 반영 (재고 차감/저장 등 DB 구간 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderPricingBenchmark {
+
+    @Param({"5", "50"})
+    private int lines;
+
+    private List<CartItem> cartItems;
+    private PricingRules rules;
+
+    @Setup
+    public void setUp() {
+        cartItems = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            Item item = Item.builder()
+                    .id((long) i + 1)
+                    .itemNm("밀키트" + i)
+                    .originalPrice(8_000 + i * 350)
+                    .discountRate(i % 4 * 5)
+                    .stockNumber(100)
+                    .build();
+            cartItems.add(CartItem.builder().item(item).quantity(1 + i % 3).checked(true).build());
+        }
+        rules = PricingRules.compile(PricingRuleSet.defaults(), 1L);
+    }
+
+    @Benchmark
+    public Order buildOrderPricing() {
+        Order order = Order.builder()
+                .orderNo("BENCH")
+                .status(OrderStatus.CREATED)
+                .discountTotal(0)
+                .build();
+        CartPricingSnapshot pricing = CartPricingSnapshot.price(cartItems, rules, Grade.SILVER, "06236", Map.of());
+        OrderService.applyPricing(order, pricing);
+        return order;
+    }
+}
@@ -0,0 +1,80 @@
+package org.team.mealkitshop.service.pricing;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.domain.cart.CartItem;
+import org.team.mealkitshop.domain.item.Item;
+import org.team.mealkitshop.service.cart.CartPricingSnapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 50줄 장바구니 가격 계산 벤치마크
+ * - snapshot : CartPricingSnapshot.price (라인 DTO용 레코드 생성 포함, 화면/주문 경로 그대로)
+ * - rulesOnly: PricingRules 평가만(단가 할인 → 합계 → 쿠폰 → 배송비), 할당 없는 정수 연산 경로
+ * 실행: ./gradlew jmh  (-prof gc 로 할당량 확인 가능)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CartPricingBenchmark {
+
+    private static final int LINES = 50;
+
+    private List<CartItem> cart;
+    private long[] itemIds;
+    private int[] salePrices;
+    private int[] quantities;
+    private PricingRules rules;
+
+    @Setup
+    public void setUp() {
+        Map<Long, Integer> promos = new HashMap<>();
+        cart = new ArrayList<>(LINES);
+        itemIds = new long[LINES];
+        salePrices = new int[LINES];
+        quantities = new int[LINES];
+
+        for (int i = 0; i < LINES; i++) {
+            long id = 1_000L + i * 7L;
+            Item item = Item.builder()
+                    .id(id)
+                    .itemNm("밀키트" + i)
+                    .originalPrice(8_000 + i * 350)
+                    .discountRate(i % 4 * 5)
+                    .stockNumber(100)
+                    .build();
+            cart.add(CartItem.builder().item(item).quantity(1 + i % 3).checked(i % 2 == 0).build());
+            itemIds[i] = id;
+            salePrices[i] = item.getSalePrice();
+            quantities[i] = 1 + i % 3;
+            if (i % 5 == 0) promos.put(id, 10); // 5개 중 1개 상품 추가 할인
+        }
+
+        PricingRuleSet d = PricingRuleSet.defaults();
+        rules = PricingRules.compile(new PricingRuleSet(
+                d.gradeDiscountPercent(), d.freeShippingGrades(), d.freeShippingThreshold(), d.baseShippingFee(),
+                Map.of("63", 5_000, "631", 6_000, "52", 2_000), promos), 1L);
+    }
+
+    @Benchmark
+    public CartPricingSnapshot snapshot() {
+        return CartPricingSnapshot.price(cart, rules, Grade.GOLD, "63120", Map.of());
+    }
+
+    @Benchmark
+    public void rulesOnly(Blackhole bh) {
+        int total = 0;
+        for (int i = 0; i < LINES; i++) {
+            total += rules.effectiveUnitPrice(itemIds[i], salePrices[i]) * quantities[i];
+        }
+        int coupon = rules.couponDiscount(total, Grade.GOLD);
+        int shipping = rules.shippingFee(total, "63120", Grade.GOLD);
+        bh.consume(total + shipping - coupon);
+    }
+}
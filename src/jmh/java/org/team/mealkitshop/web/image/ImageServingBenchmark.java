@@ -0,0 +1,107 @@
+package org.team.mealkitshop.web.image;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.team.mealkitshop.config.ImageServingProperties;
+import org.team.mealkitshop.service.item.FileService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /images/** 서빙 벤치마크 — 기존 리소스 체인(ResourceHttpRequestHandler) vs ImageServingController
+ * - size: 이미지 크기(byte) — 카드 썸네일급 / 상세 원본급
+ * - 최초 요청(본문 전송)과 재방문(컨트롤러 If-None-Match / 리소스 체인 If-Modified-Since) 각각
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ImageServingBenchmark {
+
+    @Param({"16384", "1048576"})
+    private int size;
+
+    private Path root;
+    private String name;
+    private ResourceHttpRequestHandler resourceHandler;
+    private ImageServingController controller;
+    private String etag;
+    private String lastModified;
+
+    @Setup
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("img-bench");
+        name = "item/" + UUID.randomUUID() + ".jpg";
+        byte[] body = new byte[size];
+        new Random(42).nextBytes(body);
+        Files.createDirectories(root.resolve("item"));
+        Files.write(root.resolve(name), body);
+
+        resourceHandler = new ResourceHttpRequestHandler();
+        resourceHandler.setLocations(List.of(new FileSystemResource(root.toString() + "/")));
+        resourceHandler.setServletContext(new MockServletContext());
+        resourceHandler.afterPropertiesSet();
+
+        ImageServingProperties props = new ImageServingProperties(DataSize.ofMegabytes(64),
+                DataSize.ofKilobytes(256), 20000, Duration.ofDays(365), Duration.ofDays(30), DataSize.ofKilobytes(48));
+        controller = new ImageServingController(new FileService(root.toString()), new ImageCache(props), props);
+
+        etag = controllerGet(null).getHeader("ETag");
+        lastModified = resourceGet(null).getHeader("Last-Modified"); // 리소스 체인은 기본 ETag 없음
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(root.resolve(name));
+        Files.deleteIfExists(root.resolve("item"));
+        Files.deleteIfExists(root);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse resourceChainFull() throws Exception {
+        return resourceGet(null);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse controllerFull() throws Exception {
+        return controllerGet(null);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse resourceChainRevalidate() throws Exception {
+        return resourceGet(lastModified);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse controllerRevalidate() throws Exception {
+        return controllerGet(etag);
+    }
+
+    private MockHttpServletResponse resourceGet(String ifModifiedSince) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/images/" + name);
+        req.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, name);
+        if (ifModifiedSince != null) req.addHeader("If-Modified-Since", ifModifiedSince);
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        resourceHandler.handleRequest(req, res);
+        return res;
+    }
+
+    private MockHttpServletResponse controllerGet(String ifNoneMatch) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/images/" + name);
+        if (ifNoneMatch != null) req.addHeader("If-None-Match", ifNoneMatch);
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        controller.serve(req, res);
+        return res;
+    }
+}
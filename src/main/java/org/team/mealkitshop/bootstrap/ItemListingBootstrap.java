@@ -0,0 +1,32 @@
+package org.team.mealkitshop.bootstrap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.team.mealkitshop.service.item.ItemListingService;
+
+/**
+ * 상품 목록 읽기 모델(item_listing) 초기 적재
+ * - 테이블이 비어 있으면(최초 배포) 자동 재빌드
+ * - items.listing.rebuild-on-startup=true 면 매 기동 시 전체 재빌드
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemListingBootstrap implements CommandLineRunner {
+
+    private final ItemListingService itemListingService;
+
+    @Value("${items.listing.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    @Override
+    public void run(String... args) {
+        if (rebuildOnStartup || itemListingService.isEmpty()) {
+            int n = itemListingService.rebuildAll();
+            log.info("[ItemListingBootstrap] item_listing rebuilt: {} items", n);
+        }
+    }
+}
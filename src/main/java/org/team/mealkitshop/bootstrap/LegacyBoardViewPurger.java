@@ -0,0 +1,41 @@
+package org.team.mealkitshop.bootstrap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.team.mealkitshop.repository.board.BoardViewRepository;
+import org.team.mealkitshop.repository.board.ReviewBoardViewRepository;
+import org.team.mealkitshop.repository.board.TipBoardViewRepository;
+
+/**
+ * 구 조회 이력 테이블(board_view / review_board_view / tip_board_view) 비우기
+ * - 조회수 중복 제거는 BoardViewTracker(메모리 필터)로 이전되어 더 이상 기록하지 않음
+ * - boards.view.purge-legacy=true 로 1회 기동하면 전체 삭제(이후 테이블 DROP 가능)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "boards.view", name = "purge-legacy", havingValue = "true")
+public class LegacyBoardViewPurger implements CommandLineRunner {
+
+    private final BoardViewRepository boardViewRepository;
+    private final ReviewBoardViewRepository reviewBoardViewRepository;
+    private final TipBoardViewRepository tipBoardViewRepository;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        long board = boardViewRepository.count();
+        long review = reviewBoardViewRepository.count();
+        long tip = tipBoardViewRepository.count();
+
+        boardViewRepository.deleteAllInBatch();
+        reviewBoardViewRepository.deleteAllInBatch();
+        tipBoardViewRepository.deleteAllInBatch();
+
+        log.warn("[LegacyBoardViewPurger] purged view history rows: board={}, review={}, tip={}", board, review, tip);
+    }
+}
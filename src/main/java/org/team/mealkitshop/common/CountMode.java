@@ -0,0 +1,10 @@
+package org.team.mealkitshop.common;
+
+/**
+ * 페이지 목록의 전체 건수 계산 방식 (엔드포인트별 설정: paging.count.modes.*)
+ */
+public enum CountMode {
+    EXACT,   // 매 요청 count 쿼리
+    CACHED,  // 같은 조건이면 TTL 동안 캐시된 건수, 쓰기 시 무효화
+    NONE     // count 없음 — size+1 건 조회로 다음 페이지 여부만 판단
+}
@@ -0,0 +1,42 @@
+package org.team.mealkitshop.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지 응답 — 전체 건수(count) 없이 다음 커서만
+ * @param content    이번 조각
+ * @param size       요청 크기
+ * @param hasNext    다음 조각 존재 여부(size+1 건 조회로 판정)
+ * @param nextCursor 다음 요청에 그대로 넘길 커서(없으면 null)
+ */
+public record CursorSlice<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /** 요청 크기 보정(1~100) */
+    public static int clampSize(int size) {
+        return size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * size+1 건으로 조회한 결과로 조립
+     * @param keyOf 행 → 커서(마지막 행에만 호출)
+     */
+    public static <T> CursorSlice<T> of(List<T> fetched, int size, Function<T, KeysetCursor> keyOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? List.copyOf(fetched.subList(0, size)) : fetched;
+        String next = hasNext ? keyOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorSlice<>(content, size, hasNext, next);
+    }
+
+    public static <T> CursorSlice<T> empty(int size) {
+        return new CursorSlice<>(List.of(), size, false, null);
+    }
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorSlice<>(mapped, size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,79 @@
+package org.team.mealkitshop.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+/**
+ * 키셋(seek) 페이지 커서 — 마지막 행의 (정렬 값, id) 를 불투명 문자열로 주고받음
+ * - 형식: base64url("정렬태그|정렬값|id"), 정렬값에 '|' 가 있어도 태그/ID 는 양 끝에서 분리
+ * - 다른 정렬로 만든 커서는 거부(정렬을 바꾸면 처음부터)
+ *
+ * @param sort  정렬 태그 (예: "NEW", "PRICE_ASC", "id")
+ * @param value 정렬 값 문자열 (id 단독 정렬이면 "")
+ * @param id    마지막 행 PK — 같은 정렬 값 사이 순서
+ */
+public record KeysetCursor(String sort, String value, long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static KeysetCursor of(String sort, Object value, long id) {
+        return new KeysetCursor(sort, value == null ? "" : value.toString(), id);
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString((sort + "|" + value + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 요청 커서 해석
+     * @return 비어 있으면 null(첫 페이지)
+     * @throws IllegalArgumentException 형식이 틀렸거나 정렬이 다른 커서
+     */
+    public static KeysetCursor decode(String cursor, String expectedSort) {
+        if (cursor == null || cursor.isBlank()) return null;
+        String raw;
+        try {
+            raw = new String(DECODER.decode(cursor.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        int first = raw.indexOf('|');
+        int last = raw.lastIndexOf('|');
+        if (first < 0 || last == first) throw new IllegalArgumentException("잘못된 커서입니다.");
+        String sort = raw.substring(0, first);
+        if (!sort.equals(expectedSort)) throw new IllegalArgumentException("정렬이 바뀐 커서입니다. 처음부터 다시 조회하세요.");
+        try {
+            return new KeysetCursor(sort, raw.substring(first + 1, last), Long.parseLong(raw.substring(last + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public long longValue() {
+        return parse(() -> Long.parseLong(value));
+    }
+
+    /** int 컬럼(가격 등) 정렬 값 — 범위를 벗어나면 깨진 커서와 같이 거부 */
+    public int intValue() {
+        return parse(() -> Integer.parseInt(value));
+    }
+
+    public double doubleValue() {
+        return parse(() -> Double.parseDouble(value));
+    }
+
+    public LocalDateTime dateTimeValue() {
+        return parse(() -> LocalDateTime.parse(value));
+    }
+
+    private static <T> T parse(Supplier<T> parser) {
+        try {
+            return parser.get();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
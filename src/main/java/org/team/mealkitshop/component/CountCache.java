@@ -0,0 +1,224 @@
+package org.team.mealkitshop.component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.team.mealkitshop.common.CountMode;
+import org.team.mealkitshop.config.CountCacheProperties;
+import org.team.mealkitshop.event.ItemChangedEvent;
+import org.team.mealkitshop.event.MemberHeaderChangedEvent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이지 목록 전체 건수 캐시 ("엔드포인트?정규화된 조건" → count)
+ * - 엔드포인트 이름은 "도메인-용도"(예: item-list), 무효화는 도메인 단위
+ * - 무효화: 상품 ItemChangedEvent(목록 구성 변경만), 회원 MemberHeaderChangedEvent(커밋 후), 게시글은 서비스에서 직접 호출
+ * - 세대 번호: count 쿼리 도중 무효화가 끼어들면 결과를 저장하지 않음
+ * - 엔드포인트별 방식(EXACT/CACHED/NONE)은 paging.count.modes 로 선택
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class CountCache {
+
+    public static final String ITEM = "item";
+    public static final String BOARD = "board";
+    public static final String MEMBER = "member";
+
+    private final CountCacheProperties properties;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /* ===== 지표 ===== */
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder exactCounts = new LongAdder();
+    private final LongAdder skippedCounts = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder staleLoads = new LongAdder();
+
+    private record Entry(long count, long expiresAtNanos, long createdAtNanos) { }
+
+    public CountMode mode(String endpoint) {
+        return properties.modes().getOrDefault(endpoint, properties.defaultMode());
+    }
+
+    /**
+     * 엔드포인트 방식에 맞춰 페이지 조립
+     * @param fetch   조회 건수(limit) → 내용, offset 은 호출 측이 pageable 로 적용
+     * @param key     정규화된 조건 (key(...) 로 생성)
+     * @param counter 실제 count 쿼리
+     */
+    public <T> Page<T> page(String endpoint, Pageable pageable, IntFunction<List<T>> fetch,
+                            String key, LongSupplier counter) {
+        CountMode mode = mode(endpoint);
+        if (mode == CountMode.NONE) {
+            skippedCounts.increment();
+            return hasNextPage(fetch.apply(pageable.getPageSize() + 1), pageable);
+        }
+        List<T> content = fetch.apply(pageable.getPageSize());
+        // 첫 페이지가 덜 찼거나 마지막 페이지면 count 없이 전체 건수 확정
+        return PageableExecutionUtils.getPage(content, pageable, mode == CountMode.CACHED
+                ? () -> count(endpoint, key, counter)
+                : () -> { exactCounts.increment(); return counter.getAsLong(); });
+    }
+
+    /** 캐시된 건수 — 없거나 만료면 counter 실행 후 저장 */
+    public long count(String endpoint, String key, LongSupplier counter) {
+        String k = endpoint + "?" + key;
+        Entry e = entries.get(k);
+        if (e != null && e.expiresAtNanos() - System.nanoTime() > 0) {
+            hits.increment();
+            return e.count();
+        }
+        misses.increment();
+        AtomicLong gen = generation(domainOf(endpoint));
+        long before = gen.get();
+        long count = counter.getAsLong();
+        if (gen.get() != before) {
+            staleLoads.increment();
+            return count;
+        }
+        long now = System.nanoTime();
+        entries.put(k, new Entry(count, now + properties.ttl().toNanos(), now));
+        if (gen.get() != before) entries.remove(k); // put 직전에 끼어든 무효화 대응
+        if (entries.size() > properties.maxEntries()) trim();
+        return count;
+    }
+
+    /**
+     * count 없는 페이지 — size+1 건 조회 결과로 다음 페이지 여부만 반영
+     * - totalElements 는 "지금까지 + 다음 페이지 있으면 1" 하한값 (hasNext/isLast 는 정확)
+     */
+    public static <T> Page<T> hasNextPage(List<T> fetched, Pageable pageable) {
+        int size = pageable.getPageSize();
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? List.copyOf(fetched.subList(0, size)) : fetched;
+        return new PageImpl<>(content, pageable, pageable.getOffset() + content.size() + (hasNext ? 1 : 0));
+    }
+
+    /**
+     * 조건 정규화 키 — (이름, 값) 쌍, null·빈 문자열 생략, 이름순, 배열은 값 정렬
+     * - 문자열은 그대로(대소문자/공백이 결과를 바꿀 수 있는 LIKE 조건이 있어 합치지 않음)
+     * 예: key("kw", "Salad", "cat", KOREAN, "deal", null) → "cat=KOREAN&kw=Salad"
+     */
+    public static String key(Object... namesAndValues) {
+        TreeMap<String, String> parts = new TreeMap<>();
+        for (int i = 0; i + 1 < namesAndValues.length; i += 2) {
+            String v = normalize(namesAndValues[i + 1]);
+            if (v != null) parts.put(String.valueOf(namesAndValues[i]), v);
+        }
+        StringJoiner sj = new StringJoiner("&");
+        parts.forEach((n, v) -> sj.add(n + "=" + v));
+        return sj.toString();
+    }
+
+    private static String normalize(Object v) {
+        if (v == null) return null;
+        if (v instanceof String s) return s.isEmpty() ? null : s;
+        if (v instanceof Object[] arr) {
+            if (arr.length == 0) return null;
+            return Arrays.stream(arr).map(String::valueOf).sorted().reduce((a, b) -> a + "," + b).orElse(null);
+        }
+        return v.toString();
+    }
+
+    /**
+     * 도메인 무효화 — 즉시 + 트랜잭션 중이면 커밋 후 한 번 더
+     * (커밋 전 다른 요청이 옛 건수를 다시 채우는 경우 대비)
+     */
+    public void invalidate(String domain) {
+        evict(domain);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(domain);
+                }
+            });
+        }
+    }
+
+    /** 목록 읽기 모델 갱신(ItemListingService, 최우선) 뒤에 비움 — 먼저 비우면 옛 item_listing 으로 다시 셀 수 있음 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.membershipChanged()) evict(ITEM); // 찜/리뷰/판매량/이미지 변경은 건수와 무관
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberHeaderChangedEvent event) {
+        evict(MEMBER);
+    }
+
+    public void clear() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        entries.clear();
+    }
+
+    /** 지표 스냅샷 */
+    public Map<String, Object> metrics() {
+        long h = hits.sum(), m = misses.sum();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("size", entries.size());
+        out.put("hits", h);
+        out.put("misses", m);
+        out.put("hitRatio", (h + m) == 0 ? 0.0 : (double) h / (h + m));
+        out.put("exactCounts", exactCounts.sum());
+        out.put("skippedCounts", skippedCounts.sum());
+        out.put("invalidations", invalidations.sum());
+        out.put("staleLoadsDiscarded", staleLoads.sum());
+        out.put("ttlSeconds", properties.ttl().toSeconds());
+        out.put("defaultMode", properties.defaultMode());
+        out.put("modes", properties.modes());
+        return out;
+    }
+
+    private void evict(String domain) {
+        generation(domain).incrementAndGet();
+        String prefix = domain + "-";
+        entries.keySet().removeIf(k -> k.startsWith(prefix));
+        invalidations.increment();
+    }
+
+    private AtomicLong generation(String domain) {
+        return generations.computeIfAbsent(domain, d -> new AtomicLong());
+    }
+
+    private static String domainOf(String endpoint) {
+        int dash = endpoint.indexOf('-');
+        return dash < 0 ? endpoint : endpoint.substring(0, dash);
+    }
+
+    /** 용량 초과 시 만료 항목 → 오래된 항목 순으로 제거 */
+    private synchronized void trim() {
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(en -> en.getValue().expiresAtNanos() - now <= 0);
+        int over = entries.size() - properties.maxEntries();
+        if (over <= 0) return;
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(en -> en.getValue().createdAtNanos()))
+                .limit(over)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(entries::remove);
+        log.debug("[count-cache] trimmed {} entries", over);
+    }
+}
@@ -0,0 +1,37 @@
+package org.team.mealkitshop.component;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 비로그인 방문자 식별 쿠키(viewed_board) — 게시판 조회수 중복 제거용
+ * - 게시글마다 쿠키를 따로 만들지 않고 방문자당 UUID 하나만 발급
+ */
+@Component
+public class VisitorIdResolver {
+
+    public static final String COOKIE_NAME = "viewed_board";
+    private static final int MAX_AGE_SECONDS = 60 * 60 * 24 * 30;
+
+    /** 쿠키가 있으면 그 값, 없으면 새로 발급해 응답에 추가 */
+    public String resolve(HttpServletRequest request, HttpServletResponse response) {
+        if (request.getCookies() != null) {
+            for (Cookie c : request.getCookies()) {
+                if (COOKIE_NAME.equals(c.getName()) && c.getValue() != null && !c.getValue().isBlank()) {
+                    return c.getValue();
+                }
+            }
+        }
+        String id = UUID.randomUUID().toString();
+        Cookie cookie = new Cookie(COOKIE_NAME, id);
+        cookie.setMaxAge(MAX_AGE_SECONDS);
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        response.addCookie(cookie);
+        return id;
+    }
+}
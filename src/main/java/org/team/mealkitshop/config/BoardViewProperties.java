@@ -0,0 +1,21 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시판(공지/후기/TIP) 조회수 중복 제거 + write-behind 설정
+ * @param dedupWindow          같은 회원/방문자의 재조회를 1회로 보는 구간(블룸필터 세대 교체 주기)
+ * @param expectedViewsPerWindow 구간당 예상 (게시글, 조회자) 쌍 수 — 필터 크기 산정용
+ * @param falsePositiveRate    허용 오탐률(오탐 시 해당 조회 1건이 집계되지 않음)
+ * @param flushInterval        조회수 DB 반영 주기 = 비정상 종료 시 유실 가능한 최대 구간
+ */
+@ConfigurationProperties(prefix = "boards.view")
+public record BoardViewProperties(
+        @DefaultValue("24h") Duration dedupWindow,
+        @DefaultValue("200000") long expectedViewsPerWindow,
+        @DefaultValue("0.001") double falsePositiveRate,
+        @DefaultValue("10s") Duration flushInterval
+) { }
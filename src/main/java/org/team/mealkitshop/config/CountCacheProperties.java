@@ -0,0 +1,27 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.team.mealkitshop.common.CountMode;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 페이지 목록 전체 건수 캐시 설정
+ * @param ttl         캐시된 건수 유효 시간 — 무효화 이벤트가 없는 변경(신메뉴 기간 경과 등)의 최대 지연
+ * @param maxEntries  최대 보관 조건 수(초과 시 오래된 항목부터 제거)
+ * @param defaultMode modes 에 없는 엔드포인트의 방식
+ * @param modes       엔드포인트별 방식 (item-list, item-admin, item-public, board-list, member-admin)
+ */
+@ConfigurationProperties(prefix = "paging.count")
+public record CountCacheProperties(
+        @DefaultValue("30s") Duration ttl,
+        @DefaultValue("5000") int maxEntries,
+        @DefaultValue("CACHED") CountMode defaultMode,
+        Map<String, CountMode> modes
+) {
+    public CountCacheProperties {
+        modes = modes == null ? Map.of() : Map.copyOf(modes);
+    }
+}
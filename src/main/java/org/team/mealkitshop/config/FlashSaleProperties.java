@@ -0,0 +1,23 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 플래시 세일 입장 제어 기본값 (상품별 세일 시작 시 덮어쓸 수 있음)
+ * @param permitsPerSecond 초당 주문 시도 허용 수(토큰 버킷 충전 속도)
+ * @param burst            순간 허용 묶음 크기(버킷 용량)
+ * @param maxInFlight      상품별 동시에 재고 차감 단계에 들어갈 수 있는 주문 수
+ * @param maxQueue         maxInFlight 대기열 최대 길이(넘으면 즉시 거절)
+ * @param queueTimeout     대기열 최대 대기 시간
+ */
+@ConfigurationProperties(prefix = "orders.flash-sale")
+public record FlashSaleProperties(
+        @DefaultValue("200") int permitsPerSecond,
+        @DefaultValue("50") int burst,
+        @DefaultValue("8") int maxInFlight,
+        @DefaultValue("200") int maxQueue,
+        @DefaultValue("2s") Duration queueTimeout
+) { }
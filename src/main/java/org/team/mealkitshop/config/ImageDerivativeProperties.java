@@ -0,0 +1,31 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 업로드 이미지 파생본(목록 카드/모바일/상세) 생성 설정
+ * @param enabled       false 면 업로드 이벤트를 무시(원본만 서빙)
+ * @param cardEdge      목록 카드용 긴 변 최대 px
+ * @param mobileEdge    모바일용 긴 변 최대 px
+ * @param detailEdge    상세용 긴 변 최대 px
+ * @param quality       손실 압축 품질(0~1)
+ * @param preferWebp    ImageIO 에 WebP 인코더가 등록돼 있으면 WebP 로 저장(없으면 JPEG)
+ * @param threads       작업 스레드 수
+ * @param queueCapacity 대기 작업 상한 — 초과분은 버리고 지표로 집계(백필로 복구)
+ * @param backfillBatch 백필 1회 요청 시 테이블별 최대 작업 수
+ * @param maxPixels     원본 가로×세로 상한 — 헤더로 크기만 읽어 넘으면 서브샘플링해 이 크기 안팎으로 디코딩
+ */
+@ConfigurationProperties(prefix = "images.derivatives")
+public record ImageDerivativeProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("400") int cardEdge,
+        @DefaultValue("720") int mobileEdge,
+        @DefaultValue("1200") int detailEdge,
+        @DefaultValue("0.82") double quality,
+        @DefaultValue("true") boolean preferWebp,
+        @DefaultValue("2") int threads,
+        @DefaultValue("200") int queueCapacity,
+        @DefaultValue("200") int backfillBatch,
+        @DefaultValue("40000000") long maxPixels
+) { }
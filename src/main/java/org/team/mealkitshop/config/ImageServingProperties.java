@@ -0,0 +1,26 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * /images/** 서빙 설정
+ * @param cacheBytes         작은 이미지 본문 메모리 캐시 총량(LRU)
+ * @param maxCachedFileBytes 본문을 캐시할 파일 크기 상한(초과 파일은 메타/ETag 만 캐시)
+ * @param maxEntries         메타(ETag/크기/수정시각) 캐시 항목 수 상한
+ * @param immutableMaxAge    해시/UUID 이름(내용이 바뀌지 않는 이름) 캐시 기간 — immutable
+ * @param defaultMaxAge      그 외(파생본 등) 캐시 기간 — ETag 로 재검증
+ * @param sendfileMinBytes   이 크기 이상이면 서블릿 컨테이너 sendfile(제로 카피)로 전송
+ */
+@ConfigurationProperties(prefix = "images.serving")
+public record ImageServingProperties(
+        @DefaultValue("64MB") DataSize cacheBytes,
+        @DefaultValue("256KB") DataSize maxCachedFileBytes,
+        @DefaultValue("20000") int maxEntries,
+        @DefaultValue("365d") Duration immutableMaxAge,
+        @DefaultValue("30d") Duration defaultMaxAge,
+        @DefaultValue("48KB") DataSize sendfileMinBytes
+) { }
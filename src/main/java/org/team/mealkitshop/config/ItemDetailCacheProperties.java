@@ -0,0 +1,17 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 상품 상세(ItemDTO) near-cache 설정
+ * @param ttl        항목 유효 시간 — 이벤트로 무효화되지 않는 값(조회수 등)의 최대 지연
+ * @param maxEntries 최대 보관 상품 수(초과 시 오래된 항목부터 제거)
+ */
+@ConfigurationProperties(prefix = "items.detail-cache")
+public record ItemDetailCacheProperties(
+        @DefaultValue("5m") Duration ttl,
+        @DefaultValue("2000") int maxEntries
+) { }
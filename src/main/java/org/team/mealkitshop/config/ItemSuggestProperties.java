@@ -0,0 +1,23 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 검색어 자동완성(/api/items/suggest) 설정
+ * @param maxResults        한 번에 돌려주는 최대 제안 수(트라이 노드별 상위 K 크기)
+ * @param popularQueries    자동완성에 넣을 인기 검색어 수
+ * @param minQueryCount     인기 검색어로 인정할 최소 검색 횟수(반감 후 기준)
+ * @param maxTrackedQueries 집계하는 서로 다른 검색어 수 상한(초과분은 다음 주기까지 버림)
+ * @param refreshInterval   인기 검색어 반영/조회수 갱신 주기 — 주기마다 검색 횟수는 반감
+ */
+@ConfigurationProperties(prefix = "items.suggest")
+public record ItemSuggestProperties(
+        @DefaultValue("10") int maxResults,
+        @DefaultValue("300") int popularQueries,
+        @DefaultValue("3") int minQueryCount,
+        @DefaultValue("10000") int maxTrackedQueries,
+        @DefaultValue("5m") Duration refreshInterval
+) { }
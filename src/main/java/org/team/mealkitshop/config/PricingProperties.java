@@ -0,0 +1,28 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.team.mealkitshop.common.Grade;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 가격/프로모션 규칙 초기값 (기동 시 PricingEngine 이 컴파일, 이후 관리자 API 로 교체 가능)
+ * - 맵/집합을 비워두면 기존 정책(SILVER 5%, GOLD 7%, VIP 10% + VIP 무료배송, 제주 63 +5,000원)을 사용
+ * @param gradeDiscountPercent  등급별 쿠폰 할인율(%)
+ * @param freeShippingGrades    무료배송 등급
+ * @param freeShippingThreshold 무료배송 기준 금액(원)
+ * @param baseShippingFee       기본 배송비(원)
+ * @param shippingZoneFees      우편번호 접두사별 추가 배송비(원)
+ * @param itemDiscountPercent   상품 ID별 추가 할인율(%)
+ */
+@ConfigurationProperties(prefix = "pricing")
+public record PricingProperties(
+        Map<Grade, Integer> gradeDiscountPercent,
+        Set<Grade> freeShippingGrades,
+        @DefaultValue("50000") int freeShippingThreshold,
+        @DefaultValue("3000") int baseShippingFee,
+        Map<String, Integer> shippingZoneFees,
+        Map<Long, Integer> itemDiscountPercent
+) { }
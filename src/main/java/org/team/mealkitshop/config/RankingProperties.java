@@ -0,0 +1,22 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.Period;
+
+/**
+ * 홈/베스트 순위표(메모리 상위 K) 설정
+ * @param topK             순위표별 노출 상한
+ * @param slack            K 외에 더 들고 있는 후보 수 — 상위 항목 점수가 내려가도 DB 재조회 없이 채움
+ * @param snapshotInterval DB 상위 목록으로 다시 맞추는 주기(조회수처럼 이벤트 없이 바뀌는 값 반영)
+ * @param tipWindow        좋아요 TIP 순위 대상 기간(등록일 기준)
+ */
+@ConfigurationProperties(prefix = "ranking")
+public record RankingProperties(
+        @DefaultValue("50") int topK,
+        @DefaultValue("50") int slack,
+        @DefaultValue("5m") Duration snapshotInterval,
+        @DefaultValue("1m") Period tipWindow
+) { }
@@ -0,0 +1,17 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품별 리뷰 통계(item_review_stats) 설정
+ * @param backfillOnStartup 기동 시 통계가 비어 있고 리뷰가 있으면 전체 보정으로 채움
+ * @param reconcileCron     review 원본과 비교해 어긋난 상품만 고치는 주기 보정 cron
+ * @param chunkSize         보정 1 트랜잭션당 상품 수(잠금 시간 제한)
+ */
+@ConfigurationProperties(prefix = "items.review-stats")
+public record ReviewStatsProperties(
+        @DefaultValue("true") boolean backfillOnStartup,
+        @DefaultValue("0 10 4 * * *") String reconcileCron,
+        @DefaultValue("500") int chunkSize
+) { }
@@ -0,0 +1,19 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 일별 매출 롤업 설정
+ * @param backfillOnStartup 기동 시 롤업이 비어 있으면 전체 주문 기간을 백필
+ * @param reconcileDays     주기 재계산 시 오늘 이전 며칠을 orders 로부터 다시 계산할지
+ * @param reconcileCron     주기 재계산 cron
+ * @param chunkDays         백필/재계산 1 트랜잭션당 처리 일수(잠금 시간 제한)
+ */
+@ConfigurationProperties(prefix = "reports.rollup")
+public record SalesRollupProperties(
+        @DefaultValue("true") boolean backfillOnStartup,
+        @DefaultValue("3") int reconcileDays,
+        @DefaultValue("0 30 3 * * *") String reconcileCron,
+        @DefaultValue("31") int chunkDays
+) { }
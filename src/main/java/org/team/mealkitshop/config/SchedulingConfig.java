@@ -0,0 +1,13 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 (@Scheduled)
+ * - 스레드 풀 크기는 spring.task.scheduling.pool.size 로 조정
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,24 +0,0 @@
-// src/main/java/org/team/mealkitshop/config/StaticResourceConfig.java
-package org.team.mealkitshop.config;
-
-import org.springframework.context.annotation.Configuration;
-import org.springframework.http.CacheControl;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-
-import java.nio.file.Paths;
-import java.util.concurrent.TimeUnit;
-
-@Configuration
-public class StaticResourceConfig implements WebMvcConfigurer {
-
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // Windows 경로 → file:///C:/mealkit/uploads/
-        String location = Paths.get("C:/mealkit/uploads/").toUri().toString();
-
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations(location)
-                .setCacheControl(CacheControl.maxAge(30, TimeUnit.DAYS).cachePublic());
-    }
-}
@@ -0,0 +1,21 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 주문 재고 예약 설정 (미결제 주문의 재고 점유 기한)
+ * @param bankTransferTtl 무통장입금 CREATED 주문의 재고 점유 기한
+ * @param tossPayTtl      토스페이 CREATED 주문의 재고 점유 기한
+ * @param sweepInterval   만료 주문 정리 주기
+ * @param sweepBatchSize  1회 정리 최대 주문 수
+ */
+@ConfigurationProperties(prefix = "orders.reservation")
+public record StockReservationProperties(
+        @DefaultValue("24h") Duration bankTransferTtl,
+        @DefaultValue("30m") Duration tossPayTtl,
+        @DefaultValue("1m") Duration sweepInterval,
+        @DefaultValue("100") int sweepBatchSize
+) { }
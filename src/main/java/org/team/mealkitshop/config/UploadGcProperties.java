@@ -0,0 +1,28 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 업로드 고아 파일 정리(mark-and-sweep) 설정
+ * @param enabled          주기 실행 여부(관리자 수동 실행은 항상 가능)
+ * @param dryRun           주기 실행 시 삭제 없이 집계만
+ * @param cron             주기 실행 cron
+ * @param gracePeriod      이 기간보다 최근에 바뀐 파일은 참조가 없어도 보존(커밋 전 업로드 보호)
+ * @param batchSize        참조 조회(키셋 페이지)·삭제 직전 재확인 1회당 건수
+ * @param maxDeletesPerRun 1회 실행당 삭제 상한(설정 실수로 대량 삭제되는 것 방지)
+ * @param dirs             정리 대상 하위 폴더(업로드 루트 직속 게시판 파일 UUID_이름 은 항상 포함)
+ */
+@ConfigurationProperties(prefix = "upload.gc")
+public record UploadGcProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("true") boolean dryRun,
+        @DefaultValue("0 15 4 * * *") String cron,
+        @DefaultValue("24h") Duration gracePeriod,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("2000") int maxDeletesPerRun,
+        @DefaultValue({"item", "detail", "review"}) List<String> dirs
+) { }
@@ -0,0 +1,17 @@
+package org.team.mealkitshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 상품 조회수 write-behind 버퍼 설정
+ * @param flushInterval 주기 flush 간격 = 비정상 종료 시 유실 가능한 최대 구간
+ * @param maxPending    미반영 조회수 합이 이 값을 넘으면 주기와 무관하게 즉시 flush
+ */
+@ConfigurationProperties(prefix = "items.view-count")
+public record ViewCountProperties(
+        @DefaultValue("5s") Duration flushInterval,
+        @DefaultValue("10000") long maxPending
+) { }
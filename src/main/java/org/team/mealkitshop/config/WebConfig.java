@@ -11,7 +11,6 @@ import org.springframework.web.servlet.resource.PathResourceResolver;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.Duration;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -27,25 +26,13 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 순수 경로 → file:// URI로 변환하여 리소스 로케이션에 사용
-        String location = Paths.get(uploadDir).toAbsolutePath().normalize().toUri().toString();
-        if (!location.endsWith("/")) location += "/";
+        // /images/** 는 ImageServingController 가 담당(ETag/Range/sendfile)
 
-        registry.addResourceHandler("/images/**")
-                .addResourceLocations(location)
-                .setCacheControl(CacheControl.maxAge(Duration.ofDays(30)).cachePublic())
-                .resourceChain(true)
-                .addResolver(new PathResourceResolver());
-
-
-        // Windows 환경 안전하게 file URI 생성
-        String cleanUploadDir = uploadDir.replace("\\", "/");
-        if (cleanUploadDir.endsWith("/")) {
-            cleanUploadDir = cleanUploadDir.substring(0, cleanUploadDir.length() - 1);
-        }
-        String uploadPathUri = "file:///" + cleanUploadDir + "/";
+        // 업로드 루트(uploadPath) → file URI (Windows/Linux 공통, 끝 슬래시 포함)
+        String uploadPathUri = Paths.get(uploadDir).toAbsolutePath().normalize().toUri().toString();
+        if (!uploadPathUri.endsWith("/")) uploadPathUri += "/";
 
-        // 공지사항, 이벤트 업로드 매핑
+        // 배너 등 정적 업로드의 기존 경로(게시판 첨부는 /images/** 로 서빙)
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations(uploadPathUri)
                 .setCacheControl(CacheControl.noCache())
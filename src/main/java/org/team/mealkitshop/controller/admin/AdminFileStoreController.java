@@ -0,0 +1,50 @@
+package org.team.mealkitshop.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.team.mealkitshop.service.item.ContentAddressedStore;
+import org.team.mealkitshop.service.item.UploadGarbageCollector;
+
+import java.io.IOException;
+import java.util.Map;
+
+/** 관리자: 업로드 저장소 중복 제거(마이그레이션)·절감량 보고, 고아 파일 정리 */
+@RestController
+@RequestMapping(value = "/api/admin/files", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminFileStoreController {
+
+    private final ContentAddressedStore contentAddressedStore;
+    private final UploadGarbageCollector uploadGarbageCollector;
+
+    /** 기존 uploadPath 트리를 해시 blob 으로 중복 제거 — 여러 번 실행해도 안전, cas 모드에서만 */
+    @PostMapping("/dedup")
+    public ResponseEntity<?> dedup() throws IOException {
+        if (!contentAddressedStore.enabled()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("message", "upload.store.mode=cas 에서만 중복 제거할 수 있습니다."));
+        }
+        return ResponseEntity.ok(contentAddressedStore.migrate());
+    }
+
+    @GetMapping("/report")
+    public ResponseEntity<?> report() {
+        return ResponseEntity.ok(contentAddressedStore.report());
+    }
+
+    /** 고아 파일 정리 1회 실행 — 기본은 dry-run(삭제 없이 집계) */
+    @PostMapping("/gc")
+    public ResponseEntity<?> gc(@RequestParam(defaultValue = "true") boolean dryRun) throws IOException {
+        return ResponseEntity.ok(uploadGarbageCollector.run(dryRun));
+    }
+
+    @GetMapping("/gc/metrics")
+    public ResponseEntity<?> gcMetrics() {
+        return ResponseEntity.ok(uploadGarbageCollector.metrics());
+    }
+}
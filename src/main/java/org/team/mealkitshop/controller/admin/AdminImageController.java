@@ -0,0 +1,38 @@
+package org.team.mealkitshop.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.team.mealkitshop.service.image.ImageDerivativeService;
+import org.team.mealkitshop.web.image.ImageCache;
+
+import java.util.Map;
+
+/** 관리자: 이미지 파생본(썸네일) 생성 지표 조회·백필, 이미지 서빙 캐시 지표 */
+@RestController
+@RequestMapping(value = "/api/admin/images", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminImageController {
+
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageCache imageCache;
+
+    @GetMapping("/derivatives/metrics")
+    public ResponseEntity<?> metrics() {
+        return ResponseEntity.ok(imageDerivativeService.metrics());
+    }
+
+    /** 파생본이 없는 이미지를 한 묶음 작업 등록 — queued 가 0 이 될 때까지 반복 호출 */
+    @PostMapping("/derivatives/backfill")
+    public ResponseEntity<?> backfill() {
+        return ResponseEntity.ok(Map.of("queued", imageDerivativeService.backfill()));
+    }
+
+    @GetMapping("/serving/metrics")
+    public ResponseEntity<?> servingMetrics() {
+        return ResponseEntity.ok(imageCache.metrics());
+    }
+}
@@ -13,6 +13,13 @@ import org.team.mealkitshop.dto.item.ItemFormDTO;
 import org.team.mealkitshop.dto.item.ItemImgDTO;
 import org.team.mealkitshop.repository.order.OrderItemRepository;
 import org.team.mealkitshop.service.item.ItemImgService;
+import org.team.mealkitshop.service.item.ItemListingService;
+import org.team.mealkitshop.service.item.ItemViewCountBuffer;
+import org.team.mealkitshop.service.item.ReviewStatsService;
+import org.team.mealkitshop.service.order.FlashSaleGate;
+import org.team.mealkitshop.service.order.StockReservationService;
+import org.team.mealkitshop.service.search.ItemSearchIndex;
+import org.team.mealkitshop.service.search.ItemSuggestService;
 import org.team.mealkitshop.service.item.ItemService;
 
 import java.io.IOException;
@@ -29,6 +36,13 @@ public class AdminItemController {
     private final ItemService itemService;
     private final ItemImgService itemImgService;
     private final OrderItemRepository orderItemRepository;
+    private final ItemListingService itemListingService;
+    private final ItemViewCountBuffer itemViewCountBuffer;
+    private final StockReservationService stockReservationService;
+    private final FlashSaleGate flashSaleGate;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemSuggestService itemSuggestService;
+    private final ReviewStatsService reviewStatsService;
 
     /* -------------------- 생성(new.html: FormData) -------------------- */
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -67,7 +81,7 @@ public class AdminItemController {
     public ResponseEntity<?> updateMultipart(@PathVariable Long id, @ModelAttribute ItemFormDTO form) {
         // 에디터 상세 이미지는 별도 업로드 API를 사용 → 여기서는 본문/기본 필드만 갱신
         if (!StringUtils.hasText(form.getItemDetail())) {
-            ItemDTO cur = itemService.read(id);
+            ItemDTO cur = itemService.readForAdmin(id);
             form.setItemDetail(cur.getItemDetail());
         }
         itemService.update(id, form);
@@ -117,7 +131,7 @@ public class AdminItemController {
 
     /* 선택: 단건 조회(디버그/관리 화면용) */
     @GetMapping("/{id}")
-    public ItemDTO getOne(@PathVariable Long id) { return itemService.read(id); }
+    public ItemDTO getOne(@PathVariable Long id) { return itemService.readForAdmin(id); }
 
     /* 정책 삭제(soft/hard/hard-forced, 헤더로 결과 통지) */
     @DeleteMapping("/{id}")
@@ -143,6 +157,90 @@ public class AdminItemController {
         };
     }
 
+    /* -------------------- 사용자 목록 읽기 모델 전체 재빌드 -------------------- */
+    @PostMapping("/listing/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildListing() {
+        int rebuilt = itemListingService.rebuildAll();
+        return ResponseEntity.ok(Map.of("rebuilt", rebuilt));
+    }
+
+    /* -------------------- 리뷰 통계 보정 / 지표 -------------------- */
+    @PostMapping("/review-stats/reconcile")
+    public ResponseEntity<Map<String, Object>> reconcileReviewStats() {
+        int fixed = reviewStatsService.reconcile();
+        return ResponseEntity.ok(Map.of("fixed", fixed));
+    }
+
+    @GetMapping("/review-stats/metrics")
+    public ResponseEntity<Map<String, Object>> reviewStatsMetrics() {
+        return ResponseEntity.ok(reviewStatsService.metrics());
+    }
+
+    /* -------------------- 상품 검색 색인 재빌드 / 지표 -------------------- */
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSearchIndex() {
+        int indexed = itemSearchIndex.rebuild();
+        return ResponseEntity.ok(Map.of("indexed", indexed));
+    }
+
+    @GetMapping("/search-index/metrics")
+    public ResponseEntity<Map<String, Object>> searchIndexMetrics() {
+        return ResponseEntity.ok(itemSearchIndex.metrics());
+    }
+
+    /* -------------------- 자동완성 재구성 / 지표 -------------------- */
+    @PostMapping("/suggest/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSuggest() {
+        int entries = itemSuggestService.rebuild();
+        return ResponseEntity.ok(Map.of("entries", entries));
+    }
+
+    @GetMapping("/suggest/metrics")
+    public ResponseEntity<Map<String, Object>> suggestMetrics() {
+        return ResponseEntity.ok(itemSuggestService.metrics());
+    }
+
+    /* -------------------- 조회수 버퍼 지표 (미반영 조회수 등) -------------------- */
+    @GetMapping("/view-count/metrics")
+    public ResponseEntity<Map<String, Object>> viewCountMetrics() {
+        return ResponseEntity.ok(itemViewCountBuffer.metrics());
+    }
+
+    /* -------------------- 상세 캐시 지표 (적중률/무효화 등) -------------------- */
+    @GetMapping("/detail-cache/metrics")
+    public ResponseEntity<Map<String, Object>> detailCacheMetrics() {
+        return ResponseEntity.ok(itemService.detailCacheMetrics());
+    }
+
+    /* -------------------- 재고 예약 지표 (예약/거절/반환/만료) -------------------- */
+    @GetMapping("/stock-reservation/metrics")
+    public ResponseEntity<Map<String, Object>> stockReservationMetrics() {
+        return ResponseEntity.ok(stockReservationService.metrics());
+    }
+
+    /* -------------------- 플래시 세일 (입장 토큰/유량 제어) -------------------- */
+    // 배정 토큰은 min(요청 수량, 현재 재고) — 미지정 시 현재 재고 전량
+    @PostMapping("/{id}/flash-sale")
+    public ResponseEntity<Map<String, Object>> openFlashSale(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer tokens,
+            @RequestParam(required = false) Integer permitsPerSecond,
+            @RequestParam(required = false) Integer burst) {
+        int stock = itemService.currentStock(id);
+        int allocated = flashSaleGate.open(id, tokens == null ? stock : Math.min(tokens, stock), permitsPerSecond, burst);
+        return ResponseEntity.ok(Map.of("itemId", id, "allocatedTokens", allocated));
+    }
+
+    @DeleteMapping("/{id}/flash-sale")
+    public ResponseEntity<Void> closeFlashSale(@PathVariable Long id) {
+        return flashSaleGate.close(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping("/flash-sale/metrics")
+    public ResponseEntity<Map<Long, Map<String, Object>>> flashSaleMetrics() {
+        return ResponseEntity.ok(flashSaleGate.metrics());
+    }
+
     /* ================== 내부 유틸 ================== */
 
     @GetMapping("/{id}/order-exists")
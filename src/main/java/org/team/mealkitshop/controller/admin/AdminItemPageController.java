@@ -128,7 +128,7 @@ public class AdminItemPageController {
     /** 수정 폼 */
     @GetMapping("/{id}/edit")
     public String editItemPage(@PathVariable Long id, Model model) {
-        ItemDTO item = itemService.read(id);
+        ItemDTO item = itemService.readForAdmin(id);
         model.addAttribute("item", item);
 
         // 갤러리(상품) 이미지만
@@ -162,7 +162,7 @@ public class AdminItemPageController {
                                  BindingResult br,
                                  Model model) {
         if (br.hasErrors()) {
-            model.addAttribute("item", itemService.read(id));
+            model.addAttribute("item", itemService.readForAdmin(id));
             return "admin/items/edit";
         }
         itemService.update(id, form);
@@ -172,7 +172,7 @@ public class AdminItemPageController {
     /** 상세 페이지 */
     @GetMapping("/{id}")
     public String detail(@PathVariable Long id, Model model) {
-        model.addAttribute("item", itemService.read(id));
+        model.addAttribute("item", itemService.readForAdmin(id));
         model.addAttribute("itemId", id);
         return "admin/items/detail";
     }
@@ -2,14 +2,20 @@ package org.team.mealkitshop.controller.admin;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.team.mealkitshop.common.CursorSlice;
 import org.team.mealkitshop.common.OrderStatus;
 import org.team.mealkitshop.common.Pay;
 import org.team.mealkitshop.domain.order.Order;
+import org.team.mealkitshop.dto.admin.AdminOrderDTO;
 import org.team.mealkitshop.service.admin.AdminOrderService;
 
+import java.util.Map;
+
 @Controller
 @RequestMapping("/admin/orders")
 @RequiredArgsConstructor
@@ -43,6 +49,21 @@ public class AdminOrderController {
         return "admin/orders/list";
     }
 
+    /** 주문 목록 커서 조회(JSON, 최신순) — nextCursor 로 이어서 조회 */
+    @GetMapping("/cursor")
+    @ResponseBody
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> listCursor(@RequestParam(required = false) String cursor,
+                                        @RequestParam(defaultValue = "20") int size,
+                                        @RequestParam(required = false) OrderStatus status,
+                                        @RequestParam(required = false) Pay pay) {
+        try {
+            CursorSlice<AdminOrderDTO> slice = orderService.getOrdersCursor(cursor, size, status, pay);
+            return ResponseEntity.ok(slice);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
 
     /** 상태 변경 */
     @PostMapping("/{orderId}/status")
@@ -0,0 +1,32 @@
+package org.team.mealkitshop.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.team.mealkitshop.component.CountCache;
+
+import java.util.Map;
+
+/** 관리자: 목록 전체 건수 캐시 지표 조회·비우기 */
+@RestController
+@RequestMapping(value = "/api/admin/paging", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminPagingController {
+
+    private final CountCache countCache;
+
+    @GetMapping("/count-cache/metrics")
+    public ResponseEntity<Map<String, Object>> countCacheMetrics() {
+        return ResponseEntity.ok(countCache.metrics());
+    }
+
+    /** 일괄 데이터 보정 등 이벤트 없이 바뀐 뒤 즉시 반영 */
+    @PostMapping("/count-cache/clear")
+    public ResponseEntity<Void> clearCountCache() {
+        countCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,42 @@
+package org.team.mealkitshop.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.team.mealkitshop.service.pricing.PricingEngine;
+import org.team.mealkitshop.service.pricing.PricingRuleSet;
+import org.team.mealkitshop.service.pricing.PricingRules;
+
+import java.util.Map;
+
+/** 관리자: 가격/프로모션 규칙 조회·교체 (교체 즉시 장바구니·주문 계산에 반영) */
+@RestController
+@RequestMapping(value = "/api/admin/pricing", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Log4j2
+public class AdminPricingController {
+
+    private final PricingEngine pricingEngine;
+
+    @GetMapping("/rules")
+    public ResponseEntity<?> rules() {
+        return ResponseEntity.ok(body(pricingEngine.rules()));
+    }
+
+    @PutMapping(value = "/rules", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> update(@RequestBody PricingRuleSet definition) {
+        try {
+            return ResponseEntity.ok(body(pricingEngine.update(definition)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private static Map<String, Object> body(PricingRules rules) {
+        return Map.of("version", rules.version(), "rules", rules.definition());
+    }
+}
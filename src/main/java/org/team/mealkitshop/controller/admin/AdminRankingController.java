@@ -0,0 +1,31 @@
+package org.team.mealkitshop.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.team.mealkitshop.service.ranking.RankingService;
+
+import java.util.Map;
+
+/** 관리자: 홈/베스트 순위표 지표 조회·즉시 스냅샷 */
+@RestController
+@RequestMapping(value = "/api/admin/rankings", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminRankingController {
+
+    private final RankingService rankingService;
+
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> metrics() {
+        return ResponseEntity.ok(rankingService.metrics());
+    }
+
+    /** 일괄 데이터 보정 등 이벤트 없이 바뀐 뒤 주기를 기다리지 않고 다시 맞춤 */
+    @PostMapping("/snapshot")
+    public ResponseEntity<Map<String, Object>> snapshot() {
+        return ResponseEntity.ok(Map.of("rankings", rankingService.snapshot())); // 성공한 순위표 수
+    }
+}
@@ -3,6 +3,8 @@ package org.team.mealkitshop.controller.admin;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -12,6 +14,8 @@ import org.team.mealkitshop.domain.order.OrderRefund;
 import org.team.mealkitshop.service.admin.AdminRefundService;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 
+import java.util.Map;
+
 @Controller
 @RequestMapping("/admin/refunds")
 @RequiredArgsConstructor
@@ -37,6 +41,20 @@ public class AdminRefundController {
         return "admin/refunds/list"; // → templates/admin/refunds/list.html
     }
 
+    /** 환불 요청 커서 조회(JSON, 최신순) */
+    @GetMapping("/cursor")
+    @ResponseBody
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> listRefundsCursor(@RequestParam(value = "status", required = false) RefundStatus status,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(adminRefundService.getRefundRequestsCursor(status, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
     /** 환불 승인 */
     @PostMapping("/{id}/approve")
     public String approveRefund(@PathVariable Long id,
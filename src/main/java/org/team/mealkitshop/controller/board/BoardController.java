@@ -1,6 +1,5 @@
 package org.team.mealkitshop.controller.board;
 
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -20,10 +19,13 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.team.mealkitshop.common.BoardType;
 import org.team.mealkitshop.component.Rq;
+import org.team.mealkitshop.component.VisitorIdResolver;
 import org.team.mealkitshop.domain.member.Member;
 import org.team.mealkitshop.dto.board.*;
 import org.team.mealkitshop.service.board.BoardImageService;
 import org.team.mealkitshop.service.board.BoardService;
+import org.team.mealkitshop.service.board.BoardViewTarget;
+import org.team.mealkitshop.service.board.BoardViewTracker;
 
 import java.io.File;
 import java.nio.file.Files;
@@ -31,6 +33,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Controller
@@ -45,6 +48,8 @@ public class BoardController {
 
     private final BoardService boardService;
     private final Rq rq;
+    private final VisitorIdResolver visitorIdResolver;
+    private final BoardViewTracker boardViewTracker;
 
     /** 게시판 리스트 조회 */
     @GetMapping("/list")
@@ -74,6 +79,24 @@ public class BoardController {
         };
     }
 
+    /**
+     * 게시판 리스트 커서 조회(JSON, 더보기/무한 스크롤용)
+     * - 조건은 /list 와 같음, 전체 건수 없이 nextCursor 로 이어서 조회
+     */
+    @GetMapping("/list-cursor")
+    @ResponseBody
+    public ResponseEntity<?> listCursor(@RequestParam(required = false, defaultValue = "EVENT") BoardType boardType,
+                                        @RequestParam(required = false, defaultValue = "ongoing") String status,
+                                        PageRequestDTO pageRequestDTO,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(boardService.listByTypeCursor(boardType, pageRequestDTO, status, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
     /** 관리자 게시글 작성 페이지 이동 */
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/register")
@@ -181,38 +204,20 @@ public class BoardController {
             boardType = boardDTO.getBoardType();
         }
 
-        // ---- 조회수 증가 로직 추가 ----
+        // ---- 조회수 증가 (BoardViewTracker: 중복 제거 + 일괄 반영) ----
         if(boardType == BoardType.EVENT){
             // 이벤트는 단순 증가
             boardService.incrementViewCount(bno, null, null);
         } else {
-            // NOTICE, FAQ 등 기존 로직
+            // NOTICE, FAQ: 회원은 mno, 비회원은 방문자 쿠키 기준 1회
             Member member = rq.getMemberOrNull(); // 로그인 안 했으면 null 반환
-            String cookieId = null;
-
             if(member != null){
-                if(!boardService.hasViewed(bno, member.getMno(), null)){
-                    boardService.incrementViewCount(bno, member.getMno(), null);
-                }
+                boardService.incrementViewCount(bno, member.getMno(), null);
             } else {
-                Cookie[] cookies = request.getCookies();
-                if(cookies != null){
-                    for(Cookie c : cookies){
-                        if(c.getName().equals("viewed_board")) cookieId = c.getValue();
-                    }
-                }
-                if(cookieId == null){
-                    cookieId = java.util.UUID.randomUUID().toString();
-                    Cookie newCookie = new Cookie("viewed_board", cookieId);
-                    newCookie.setMaxAge(60*60*24);
-                    response.addCookie(newCookie);
-                }
-
-                if(!boardService.hasViewed(bno, null, cookieId)){
-                    boardService.incrementViewCount(bno, null, cookieId);
-                }
+                boardService.incrementViewCount(bno, null, visitorIdResolver.resolve(request, response));
             }
         }
+        boardDTO.setViewCount(boardDTO.getViewCount() + boardViewTracker.pending(BoardViewTarget.BOARD, bno));
         // ---- 조회수 증가 끝 ----
 
         return switch(boardType) {
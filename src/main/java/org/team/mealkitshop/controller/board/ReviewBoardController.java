@@ -1,7 +1,6 @@
 package org.team.mealkitshop.controller.board;
 
 import jakarta.annotation.security.PermitAll;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -18,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.team.mealkitshop.common.Role;
 import org.team.mealkitshop.component.Rq;
+import org.team.mealkitshop.component.VisitorIdResolver;
 import org.team.mealkitshop.domain.board.ReviewBoard;
 import org.team.mealkitshop.domain.board.ReviewBoardReply;
 import org.team.mealkitshop.domain.member.Member;
@@ -30,6 +30,8 @@ import org.team.mealkitshop.repository.board.ReviewBoardReplyRepository;
 import org.team.mealkitshop.repository.board.ReviewBoardRepository;
 import org.team.mealkitshop.service.board.ReviewBoardReactionService;
 import org.team.mealkitshop.service.board.ReviewBoardService;
+import org.team.mealkitshop.service.board.BoardViewTarget;
+import org.team.mealkitshop.service.board.BoardViewTracker;
 
 import java.util.HashMap;
 import java.util.List;
@@ -48,6 +50,8 @@ public class ReviewBoardController {
     private final ReviewBoardReplyRepository reviewBoardReplyRepository;
     private final Rq rq; // 로그인 상태 및 회원 정보를 제공하는 컴포넌트
     private final ReviewBoardReactionService reviewBoardReactionService;
+    private final VisitorIdResolver visitorIdResolver;
+    private final BoardViewTracker boardViewTracker;
 
     // ==========================
     // 후기 게시글 리스트 조회 (모두 접근 가능)
@@ -127,33 +131,17 @@ public class ReviewBoardController {
 
             Long memberId = rq.isLogined() ? rq.getMemberMno() : null;
 
-            // 조회수 증가
+            // 조회수 증가 (회원: mno, 비회원: 방문자 쿠키 기준 1회 — 반영은 일괄 처리)
             if (memberId != null) {
                 reviewBoardService.incrementViewCountForMember(board, memberId);
             } else {
-                boolean alreadyViewed = false;
-                if (request.getCookies() != null) {
-                    for (var cookie : request.getCookies()) {
-                        if (cookie.getName().equals("view_board_" + bno)) {
-                            alreadyViewed = true;
-                            break;
-                        }
-                    }
-                }
-
-                if (!alreadyViewed) {
-                    board.setViewCount(board.getViewCount() + 1);
-                    reviewBoardRepository.save(board);
-
-                    var cookie = new Cookie("view_board_" + bno, "true");
-                    cookie.setMaxAge(60 * 60 * 24);
-                    cookie.setPath("/");
-                    response.addCookie(cookie);
-                }
+                boardViewTracker.recordView(BoardViewTarget.REVIEW_BOARD, bno, null,
+                        visitorIdResolver.resolve(request, response));
             }
 
-            // DTO 변환
+            // DTO 변환 (미반영 조회수 포함)
             ReviewBoardDTO reviewBoardDTO = reviewBoardMapper.toDTO(board);
+            reviewBoardDTO.setViewCount(board.getViewCount() + boardViewTracker.pending(BoardViewTarget.REVIEW_BOARD, bno));
 
             // ★ 상세 DTO에도 canViewSecret 반영 (뷰에서 DTO만으로 분기 가능)
             reviewBoardDTO.setCanViewSecret(canViewSecret);
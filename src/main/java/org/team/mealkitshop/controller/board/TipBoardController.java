@@ -1,6 +1,5 @@
 package org.team.mealkitshop.controller.board;
 
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -9,12 +8,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.team.mealkitshop.common.BoardReactionType;
 import org.team.mealkitshop.component.Rq;
+import org.team.mealkitshop.component.VisitorIdResolver;
 import org.team.mealkitshop.config.CustomUserDetails;
 import org.team.mealkitshop.domain.board.TipBoard;
 import org.team.mealkitshop.domain.member.Member;
@@ -23,6 +22,8 @@ import org.team.mealkitshop.dto.board.TipBoardReactionDTO;
 import org.team.mealkitshop.repository.board.TipBoardRepository;
 import org.team.mealkitshop.service.board.TipBoardReactionService;
 import org.team.mealkitshop.service.board.TipBoardService;
+import org.team.mealkitshop.service.board.BoardViewTarget;
+import org.team.mealkitshop.service.board.BoardViewTracker;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,6 +47,8 @@ public class TipBoardController {
     private final TipBoardReactionService tipBoardReactionService;
     private final Rq rq; // 현재 로그인된 회원 정보를 제공
     private final TipBoardRepository tipBoardRepository;
+    private final VisitorIdResolver visitorIdResolver;
+    private final BoardViewTracker boardViewTracker;
 
     /**
      * TIP 게시판 리스트 조회
@@ -231,35 +234,17 @@ public class TipBoardController {
 
     @PostMapping("/increment-view/{bno}")
     @ResponseBody
-    @Transactional
     public void incrementView(@PathVariable Long bno, HttpServletRequest request, HttpServletResponse response) {
-        TipBoard board = tipBoardRepository.findById(bno)
-                .orElseThrow(() -> new IllegalArgumentException("게시글 없음"));
+        if (!tipBoardRepository.existsById(bno)) {
+            throw new IllegalArgumentException("게시글 없음");
+        }
 
+        // 회원: mno, 비회원: 방문자 쿠키 기준 1회 (반영은 BoardViewTracker 가 일괄 처리)
         if (rq.isLogined()) {
-            Long memberId = rq.getMember().getMno();
-            tipBoardService.incrementViewCountForMember(board, memberId);
+            boardViewTracker.recordView(BoardViewTarget.TIP_BOARD, bno, rq.getMember().getMno(), null);
         } else {
-            // 비로그인 쿠키 체크
-            boolean alreadyViewed = false;
-            if (request.getCookies() != null) {
-                for (var cookie : request.getCookies()) {
-                    if (cookie.getName().equals("view_tip_" + bno)) {
-                        alreadyViewed = true;
-                        break;
-                    }
-                }
-            }
-
-            if (!alreadyViewed) {
-                board.setViewCount(board.getViewCount() + 1);
-                tipBoardRepository.save(board);
-
-                var cookie = new Cookie("view_tip_" + bno, "true");
-                cookie.setMaxAge(60 * 60 * 24); // 하루
-                cookie.setPath("/");
-                response.addCookie(cookie);
-            }
+            boardViewTracker.recordView(BoardViewTarget.TIP_BOARD, bno, null,
+                    visitorIdResolver.resolve(request, response));
         }
     }
 
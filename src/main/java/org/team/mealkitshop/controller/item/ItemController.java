@@ -6,13 +6,16 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.team.mealkitshop.common.Category;
+import org.team.mealkitshop.common.CursorSlice;
 import org.team.mealkitshop.dto.item.ItemDTO;
 import org.team.mealkitshop.dto.item.ItemSearchDTO;
 import org.team.mealkitshop.dto.item.ListItemDTO;
 import org.team.mealkitshop.service.item.ItemActionService;
 import org.team.mealkitshop.service.item.ItemService;
+import org.team.mealkitshop.service.search.ItemSuggestService;
 
 import java.util.*;
 
@@ -23,6 +26,7 @@ public class ItemController {
 
     private final ItemService itemService;
     private final ItemActionService itemActionService;
+    private final ItemSuggestService itemSuggestService;
 
     /**
      * [사용자용] 상품 목록 조회
@@ -39,6 +43,55 @@ public class ItemController {
             @PageableDefault(size = 20, sort = "regTime", direction = Sort.Direction.DESC) Pageable pageable,
             @RequestParam(value = "mno", required = false) Long mno) {
 
+        applyFilters(cond, category, foodItem, specialDeal, newItem);
+
+        Page<ListItemDTO> page = itemService.getListPage(cond, pageable);
+        if (page.getTotalElements() > 0) itemSuggestService.recordQuery(cond.getKeyword()); // 결과 있는 검색어만 자동완성 후보
+
+        Set<Long> liked = Set.of();
+        if (mno != null && !page.isEmpty()) {
+            var ids = page.getContent().stream()
+                    .map(ListItemDTO::getId)
+                    .toList();
+            liked = itemActionService.likedItemIds(mno, ids);
+        }
+        return Map.of("page", page, "likedIds", liked);
+    }
+
+    /**
+     * [사용자용] 상품 목록 커서 조회 (무한 스크롤/깊은 페이지용)
+     * - 조건은 목록과 같고 정렬은 sortType(미지정이면 최신순, 키워드 검색이면 관련도순)
+     * - 전체 건수 없이 다음 커서만 응답, 정렬을 바꾸면 cursor 없이 처음부터
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<Map<String, Object>> listByCursor(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String foodItem,
+            @RequestParam(required = false) Boolean specialDeal,
+            @RequestParam(required = false) Boolean newItem,
+            @ModelAttribute ItemSearchDTO cond,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(value = "mno", required = false) Long mno) {
+
+        applyFilters(cond, category, foodItem, specialDeal, newItem);
+        CursorSlice<ListItemDTO> slice;
+        try {
+            slice = itemService.getListSlice(cond, cursor, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+
+        Set<Long> liked = Set.of();
+        if (mno != null && !slice.content().isEmpty()) {
+            liked = itemActionService.likedItemIds(mno, slice.content().stream().map(ListItemDTO::getId).toList());
+        }
+        return ResponseEntity.ok(Map.of("slice", slice, "likedIds", liked));
+    }
+
+    /** 목록 공통 필터(카테고리/품목/특가/신메뉴) — 잘못된 코드는 무시 */
+    private static void applyFilters(ItemSearchDTO cond, String category, String foodItem,
+                                     Boolean specialDeal, Boolean newItem) {
         if (category != null) { // 대분류 (카테고리별)
             try {
                 cond.setCategory(Category.valueOf(category.toUpperCase()));
@@ -59,35 +112,36 @@ public class ItemController {
         if (newItem != null) {
             cond.setNewItem(newItem);
         }
+    }
 
-        Page<ListItemDTO> page = itemService.getListPage(cond, pageable);
-
-        Set<Long> liked = Set.of();
-        if (mno != null && !page.isEmpty()) {
-            var ids = page.getContent().stream()
-                    .map(ListItemDTO::getId)
-                    .toList();
-            liked = itemActionService.likedItemIds(mno, ids);
-        }
-        return Map.of("page", page, "likedIds", liked);
+    /**
+     * [사용자용] 검색어 자동완성
+     * - 상품명/인기 검색어 접두 일치(자모 단위, 초성, 오타 허용) — 메모리 트라이만 조회
+     */
+    @GetMapping("/suggest")
+    public List<ItemSuggestService.Suggestion> suggest(@RequestParam(name = "q", defaultValue = "") String q,
+                                                       @RequestParam(defaultValue = "8") int limit) {
+        return itemSuggestService.suggest(q, limit);
     }
 
     /**
      * [사용자용] 상품 상세 조회
-     * - 조회수 증가
+     * - 조회수 증가(존재 확인 후 버퍼에 누적)
      * - 상세 정보 + 리뷰 통계 포함
      * - 회원이 로그인한 경우 liked 상태 포함
      */
     @GetMapping("/{id}")
     public Map<String, Object> detail(@PathVariable Long id,
                                       @RequestParam(value = "mno", required = false) Long mno) {
-        itemActionService.increaseViewCount(id);
         ItemDTO item = itemService.read(id);
+        itemActionService.increaseViewCount(id);
+        long viewCnt = Optional.ofNullable(item.getItemViewCnt()).orElse(0L)
+                + itemActionService.pendingViewCount(id); // 미반영분 포함
         Map<String, Object> body = new HashMap<>();
         body.put("item", item);
         body.put("avgRating",   Optional.ofNullable(item.getAvgRating()).orElse(0.0)); // 평균 평점
         body.put("reviewCount", Optional.ofNullable(item.getReviewCount()).orElse(0L)); // 총 리뷰 수
-        body.put("viewCount",   Optional.ofNullable(item.getItemViewCnt()).orElse(0L)); // 총 조회 수
+        body.put("viewCount",   viewCnt); // 총 조회 수
         //body.put("likeCount",   Optional.ofNullable(item.getItemLike()).orElse(0L)); // 좋아요 누른 수 (해당 코드는 사용 시 주석 해제)
 
         if (mno != null) {
@@ -20,6 +20,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.team.mealkitshop.common.CursorSlice;
 import org.team.mealkitshop.config.CustomUserDetails;
 import org.team.mealkitshop.dto.item.ReviewDTO;
 import org.team.mealkitshop.dto.item.ReviewImageDTO;
@@ -64,6 +65,31 @@ public class ReviewController {
         return ResponseEntity.ok(reviewService.listByMember(myMno, pageable, withImages, withReply));
     }
 
+    /** 아이템별 리뷰 커서 조회(더보기용) — nextCursor 로 이어서 조회 */
+    @PermitAll
+    @GetMapping("/items/{itemId}/cursor")
+    public ResponseEntity<CursorSlice<ReviewDTO>> listByItemCursor(
+            @PathVariable Long itemId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withImages,
+            @RequestParam(defaultValue = "true") boolean withReply
+    ) {
+        return ResponseEntity.ok(reviewService.listByItemCursor(itemId, cursor, size, withImages, withReply));
+    }
+
+    /** 본인 리뷰 커서 조회 */
+    @GetMapping("/my/cursor")
+    public ResponseEntity<CursorSlice<ReviewDTO>> listMyReviewsCursor(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withImages,
+            @RequestParam(defaultValue = "true") boolean withReply
+    ) {
+        return ResponseEntity.ok(reviewService.listByMemberCursor(principal.getMemberId(), cursor, size, withImages, withReply));
+    }
+
     /** 리뷰 단건 상세 조회 */
     @PermitAll
     @GetMapping("/{reviewId}")
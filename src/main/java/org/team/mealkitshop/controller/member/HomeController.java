@@ -2,14 +2,12 @@ package org.team.mealkitshop.controller.member;
 
 import jakarta.annotation.security.PermitAll;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.team.mealkitshop.common.ItemSortType;
-import org.team.mealkitshop.dto.item.ItemSearchDTO;
 import org.team.mealkitshop.service.item.ItemService;
+import org.team.mealkitshop.service.ranking.RankingService;
 
 @Controller
 @RequestMapping(value = "/thymeleaf")
@@ -20,15 +18,14 @@ public class HomeController {
 
     @GetMapping("/main")
     public String main(Model model) {
-        // 판매량 내림차순 TOP5
-        ItemSearchDTO cond = new ItemSearchDTO();
-        cond.setSortType(ItemSortType.SALES_DESC);
-
-        var top5 = itemService
-                .getListPage(cond, PageRequest.of(0, 5))
-                .getContent();
+        // 판매량 내림차순 TOP5 (메모리 순위표, 준비 전이면 목록 정렬 조회)
+        var top5 = itemService.getRankedItems(RankingService.Ranking.BEST_SELLING, 5);
 
         model.addAttribute("products", top5);
+        // 조회수/찜/신상품 TOP5 — 같은 순위표(templates/fragments/rank-cards.html)
+        model.addAttribute("mostViewed", itemService.getRankedItems(RankingService.Ranking.MOST_VIEWED, 5));
+        model.addAttribute("mostLiked", itemService.getRankedItems(RankingService.Ranking.MOST_LIKED, 5));
+        model.addAttribute("newest", itemService.getRankedItems(RankingService.Ranking.NEWEST, 5));
         return "thymeleaf/main"; // templates/thymeleaf/main.html
     }
 
@@ -19,6 +19,7 @@ import org.team.mealkitshop.dto.payment.PgCallbackRequest;
 import org.team.mealkitshop.repository.address.AddressRepository;
 import org.team.mealkitshop.repository.member.MemberRepository;
 import org.team.mealkitshop.service.cart.CartService;
+import org.team.mealkitshop.service.order.OrderPlacementService;
 import org.team.mealkitshop.service.order.OrderService;
 
 import java.util.List;
@@ -31,6 +32,7 @@ import java.util.Objects;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderPlacementService orderPlacementService; // 주문 생성(플래시 세일 입장은 트랜잭션 밖)
     private final CartService cartService;
     private final MemberRepository memberRepository;
     private final AddressRepository addressRepository;
@@ -104,11 +106,11 @@ public class OrderController {
             if (cartItemIds == null || cartItemIds.isEmpty()) {
                 throw new IllegalStateException("선택 주문 정보가 유실되었습니다. 다시 시도해주세요.");
             }
-            orderId = orderService.createSelectedOrder(memberId, cartItemIds, addressId, payMethod);
+            orderId = orderPlacementService.createSelectedOrder(memberId, cartItemIds, addressId, payMethod);
         } else if (cartItemIds != null && !cartItemIds.isEmpty()) {
-            orderId = orderService.createSelectedOrder(memberId, cartItemIds, addressId, payMethod);
+            orderId = orderPlacementService.createSelectedOrder(memberId, cartItemIds, addressId, payMethod);
         } else {
-            orderId = orderService.createOrder(memberId, addressId, payMethod);
+            orderId = orderPlacementService.createOrder(memberId, addressId, payMethod);
         }
 
         return "redirect:/orders/complete/" + orderId;
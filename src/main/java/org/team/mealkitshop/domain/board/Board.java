@@ -19,7 +19,9 @@ import java.util.Set;
  * - 공용 이미지 관리만 포함
  */
 @Entity
-@Table(name = "board")
+@Table(name = "board", indexes = {
+        @Index(name = "idx_board_type_bno", columnList = "board_type, bno") // 유형별 최신순 목록/커서 조회
+})
 @Getter
 @Setter
 @SuperBuilder
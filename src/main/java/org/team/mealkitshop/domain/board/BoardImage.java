@@ -3,6 +3,8 @@ package org.team.mealkitshop.domain.board;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "board_Image")
 @Getter
@@ -32,6 +34,20 @@ public class BoardImage {
     @Column(name = "file_url")
     private String fileUrl; // 프론트에서 접근 가능한 URL
 
+    /** 파생본 공개 경로 — 업로드 커밋 후 백그라운드 생성, 생성 전/실패 시 null (원본 사용) */
+    @Column(name = "card_url", length = 500)
+    private String cardUrl;     // 목록 카드
+
+    @Column(name = "mobile_url", length = 500)
+    private String mobileUrl;   // 모바일
+
+    @Column(name = "detail_url", length = 500)
+    private String detailUrl;   // 상세
+
+    /** 원본을 디코딩할 수 없어 파생본을 만들지 못한 시각 — 백필 대상에서 제외 */
+    @Column(name = "derive_failed_at")
+    private LocalDateTime deriveFailedAt;
+
     @Column(name = "rep_img_yn")
     private String repImgYn; // "Y" 또는 "N"
 
@@ -27,13 +27,6 @@ import java.util.function.ToIntFunction; // ✅ 합계 공통화에 필요
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Cart extends BaseTimeEntity {
 
-    // --------------------------------------------------------------------
-    // 🚚 배송 관련 상수(모두 KRW, 원 단위)
-    // --------------------------------------------------------------------
-    private static final int FREE_SHIPPING_THRESHOLD = 50_000;
-    private static final int BASE_SHIPPING_FEE       = 3_000;
-    private static final int JEJU_EXTRA_FEE          = 5_000;
-
     // --------------------------------------------------------------------
     // 🧾 기본 필드 (식별자/연관관계/컬렉션)
     // --------------------------------------------------------------------
@@ -79,6 +72,7 @@ public class Cart extends BaseTimeEntity {
 
     // ====================================================================
     // 💰 합계 계산 (정가/할인/세일가)  — 중복 제거: sumBy(...) 공통 함수 사용
+    //    배송비/쿠폰/최종 결제금액은 CartPricingSnapshot(PricingRules 스냅샷)에서만 계산
     // ====================================================================
 
     /** 전체 상품 정가 합계 */
@@ -111,32 +105,6 @@ public class Cart extends BaseTimeEntity {
         return sumBy(CartItem::getLinePayable, true);
     }
 
-    // ====================================================================
-    // 🚚 배송비/최종 결제금액 계산 — 중복 제거: shippingFeeFor(...) 공통 함수 사용
-    // ====================================================================
-
-    /** 예상 배송비(전체 담긴 상품 기준) */
-    public int getEstimatedShippingFee(String zipcode) {
-        return shippingFeeFor(getSalePriceTotal(), zipcode);
-    }
-
-    /** 예상 배송비(우편번호 미지정) */
-    public int getEstimatedShippingFee() {
-        return getEstimatedShippingFee(null);
-    }
-
-    /** 최종 결제금액 = (전체 세일가 합계) + (예상 배송비) */
-    public int getPayableAmount(String zipcode) {
-        int saleTotal = getSalePriceTotal();
-        return saleTotal + shippingFeeFor(saleTotal, zipcode);
-    }
-
-    /** (체크된 항목 기준) 최종 결제금액 = 체크된 세일가 합계 + 배송비 */
-    public int getCheckedPayableAmount(String zipcode) {
-        int saleTotal = getCheckedSalePriceTotal();
-        return saleTotal + shippingFeeFor(saleTotal, zipcode);
-    }
-
     // ====================================================================
     // 🔽 내부 공통 헬퍼 (API 변경 없음)
     // ====================================================================
@@ -148,13 +116,4 @@ public class Cart extends BaseTimeEntity {
                 .mapToInt(extractor)
                 .sum();
     }
-
-    /** 금액/우편번호에 따른 배송비 계산(단일 소스) */
-    private int shippingFeeFor(int saleTotal, String zipcode) {
-        int fee = (saleTotal >= FREE_SHIPPING_THRESHOLD) ? 0 : BASE_SHIPPING_FEE;
-        if (zipcode != null && zipcode.startsWith("63")) {
-            fee += JEJU_EXTRA_FEE;
-        }
-        return fee;
-    }
 }
@@ -0,0 +1,37 @@
+package org.team.mealkitshop.domain.file;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 저장소의 실제 파일(blob) 1개 — 업로드 루트의 _blobs/{앞 2자}/{다음 2자}/{sha256}
+ * - 같은 내용의 업로드는 모두 이 파일을 가리키는 하드링크(논리 경로)로 저장
+ * - refCount = 이 blob 을 가리키는 논리 경로 수, 0 이 되면 행과 파일 삭제
+ * - 쓰기는 JDBC(upsert) 전용 — 엔티티는 스키마용
+ */
+@Entity
+@Table(name = "file_blob")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FileBlob {
+
+    /** SHA-256 (hex 64자) */
+    @Id
+    @Column(name = "hash", length = 64)
+    private String hash;
+
+    /** 바이트 수 */
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    /** 참조 수 */
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package org.team.mealkitshop.domain.file;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 논리 경로(기존 저장 파일명, 예: "item/UUID.jpg") → blob 해시
+ * - FileService.deleteBySavedName 시 이 행으로 참조 수를 줄임
+ * - 행이 없는 경로는 내용 주소 저장 도입 전(또는 plain 모드) 파일 — 이름 기준 삭제만
+ */
+@Entity
+@Table(name = "file_blob_ref", indexes = @Index(name = "idx_file_blob_ref_hash", columnList = "hash"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FileBlobRef {
+
+    @Id
+    @Column(name = "saved_name", length = 500)
+    private String savedName;
+
+    @Column(name = "hash", length = 64, nullable = false)
+    private String hash;
+}
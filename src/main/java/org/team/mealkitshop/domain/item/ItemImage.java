@@ -5,6 +5,8 @@ import lombok.*;
 import org.team.mealkitshop.common.BaseEntity;
 import org.team.mealkitshop.common.YesNoBooleanConverter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,6 +35,20 @@ public class ItemImage extends BaseEntity {
     @Column(nullable = false, length = 500)
     private String imgUrl;
 
+    /** 파생본 공개 경로 — 업로드 커밋 후 백그라운드 생성, 생성 전/실패 시 null (원본 사용) */
+    @Column(name = "card_url", length = 500)
+    private String cardUrl;     // 목록 카드
+
+    @Column(name = "mobile_url", length = 500)
+    private String mobileUrl;   // 모바일
+
+    @Column(name = "detail_url", length = 500)
+    private String detailUrl;   // 상세
+
+    /** 원본을 디코딩할 수 없어 파생본을 만들지 못한 시각 — 백필 대상에서 제외, 파일이 바뀌면 초기화 */
+    @Column(name = "derive_failed_at")
+    private LocalDateTime deriveFailedAt;
+
     /**
      * 대표 이미지 여부 (Y/N 컨버터)
      * - DB: CHAR(1) 'Y'/'N'
@@ -61,6 +77,10 @@ public class ItemImage extends BaseEntity {
         this.oriImgName = oriImgName;
         this.imgName = imgName;
         this.imgUrl = imgUrl;
+        this.cardUrl = null;    // 파일이 바뀌면 파생본은 다시 생성
+        this.mobileUrl = null;
+        this.detailUrl = null;
+        this.deriveFailedAt = null;
     }
 
     /** 양방향 연결용 (필요 시 public 유지) */
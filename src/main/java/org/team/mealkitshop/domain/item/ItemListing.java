@@ -0,0 +1,119 @@
+package org.team.mealkitshop.domain.item;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.team.mealkitshop.common.Category;
+import org.team.mealkitshop.common.FoodItem;
+import org.team.mealkitshop.common.ItemSellStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 상품 목록 전용 읽기 모델 (item 1건 = 1행)
+ * - 대표 이미지/실판매가/리뷰 통계/판매량을 미리 계산해 두고 단일 테이블로 페이징
+ * - 원본은 Item/ItemImage/Review/OrderItem, 갱신은 ItemListingService가 담당
+ */
+@Entity
+@Table(name = "item_listing", indexes = {
+        @Index(name = "ix_listing_status_reg",       columnList = "item_sell_status, reg_time"),
+        @Index(name = "ix_listing_food_item",        columnList = "food_item"),
+        @Index(name = "ix_listing_category",         columnList = "category"),
+        // 정렬 컬럼 + item_id: 정렬/키셋(커서) 탐색을 인덱스 순서대로 (단일 컬럼 인덱스 대체)
+        @Index(name = "ix_listing_reg_id",           columnList = "reg_time, item_id"),
+        @Index(name = "ix_listing_sale_price_id",    columnList = "sale_price, item_id"),
+        @Index(name = "ix_listing_sold_quantity_id", columnList = "sold_quantity, item_id"),
+        @Index(name = "ix_listing_review_count_id",  columnList = "review_count, item_id"),
+        @Index(name = "ix_listing_avg_rating_id",    columnList = "avg_rating, item_id"),
+        @Index(name = "ix_listing_view_cnt_id",      columnList = "item_view_cnt, item_id"),
+        @Index(name = "ix_listing_item_like_id",     columnList = "item_like, item_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ItemListing {
+
+    /** item.item_id 와 동일 (별도 시퀀스 없음) */
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "item_nm", length = 50, nullable = false)
+    private String itemNm;
+
+    @Column(name = "created_by")
+    private String createdBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category")
+    private Category category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "food_item")
+    private FoodItem foodItem;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "item_sell_status")
+    private ItemSellStatus itemSellStatus;
+
+    /** 대표 이미지 URL (detail=false 중 대표) */
+    @Column(name = "rep_img_url", length = 500)
+    private String repImgUrl;
+
+    @Column(name = "original_price", nullable = false)
+    private int originalPrice;
+
+    @Column(name = "discount_rate", nullable = false)
+    private int discountRate;
+
+    /** 실판매가 = Item.getSalePrice() */
+    @Column(name = "sale_price", nullable = false)
+    private int salePrice;
+
+    @Column(name = "item_like", nullable = false)
+    private long itemLike;
+
+    @Column(name = "item_view_cnt", nullable = false)
+    private long itemViewCnt;
+
+    @Column(name = "avg_rating", nullable = false)
+    private double avgRating;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    /** 판매량(SHIPPED/DELIVERED/COMPLETED 주문 수량 합) */
+    @Column(name = "sold_quantity", nullable = false)
+    private long soldQuantity;
+
+    @Column(name = "reg_time")
+    private LocalDateTime regTime;
+
+    /** 마지막 동기화 시각 */
+    @Column(name = "synced_at")
+    private LocalDateTime syncedAt;
+
+    public static ItemListing of(Long itemId) {
+        ItemListing l = new ItemListing();
+        l.itemId = itemId;
+        return l;
+    }
+
+    /** 원본 엔티티 + 집계값으로 전체 컬럼 재계산 */
+    public void sync(Item item, String repImgUrl, double avgRating, long reviewCount, long soldQuantity) {
+        this.itemNm = item.getItemNm();
+        this.createdBy = item.getCreatedBy();
+        this.category = item.getCategory();
+        this.foodItem = item.getFoodItem();
+        this.itemSellStatus = item.getItemSellStatus();
+        this.repImgUrl = repImgUrl;
+        this.originalPrice = item.getOriginalPrice() != null ? item.getOriginalPrice() : 0;
+        this.discountRate = item.getDiscountRate() != null ? item.getDiscountRate() : 0;
+        this.salePrice = item.getSalePrice();
+        this.itemLike = item.getItemLike();
+        this.itemViewCnt = item.getItemViewCnt();
+        this.avgRating = avgRating;
+        this.reviewCount = reviewCount;
+        this.soldQuantity = soldQuantity;
+        this.regTime = item.getRegTime();
+        this.syncedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,62 @@
+package org.team.mealkitshop.domain.item;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품별 리뷰 통계 (리뷰 수, 평점 합, 1~5점 분포)
+ * - 리뷰 작성/평점 수정/삭제 시 같은 트랜잭션에서 증분 반영(ReviewStatsService), 주기 보정으로 정합성 유지
+ * - 상세 평점·목록 정렬은 review 행 집계 대신 이 행만 읽음
+ * - 쓰기는 upsert(JDBC) 전용 — 엔티티는 스키마/조회(QueryDSL)용
+ */
+@Entity
+@Table(name = "item_review_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ItemReviewStats {
+
+    /** 상품 id (item.item_id) */
+    @Id
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "star1_count", nullable = false)
+    private long star1Count;
+
+    @Column(name = "star2_count", nullable = false)
+    private long star2Count;
+
+    @Column(name = "star3_count", nullable = false)
+    private long star3Count;
+
+    @Column(name = "star4_count", nullable = false)
+    private long star4Count;
+
+    @Column(name = "star5_count", nullable = false)
+    private long star5Count;
+
+    /** 마지막 반영 시각 */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /** 평균 평점 (리뷰 없으면 0) */
+    public double avgRating() {
+        return reviewCount <= 0 ? 0.0 : (double) ratingSum / reviewCount;
+    }
+
+    /** 1~5점 순 리뷰 수 */
+    public List<Long> histogram() {
+        return List.of(star1Count, star2Count, star3Count, star4Count, star5Count);
+    }
+}
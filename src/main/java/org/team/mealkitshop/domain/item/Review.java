@@ -15,8 +15,8 @@ import java.util.List;
 @Table( name = "review",
         indexes = {@Index(name = "ix_review_item_id_id", columnList = "item_id, id"),
         // 아이템 상세 페이지에서 최신순 페이지닝 가속
-                @Index(name = "ix_review_mno", columnList = "mno")})
-        // 마이페이지 등 회원별 조회가 있으면 유용
+                @Index(name = "ix_review_mno_id", columnList = "mno, id")})
+        // 마이페이지 등 회원별 최신순/커서 조회
 
 
 @Getter @Setter @Builder
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.team.mealkitshop.common.BaseEntity;
 
+import java.time.LocalDateTime;
+
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -33,6 +35,20 @@ public class ReviewImage extends BaseEntity {
     @Column(nullable = false, length = 500)
     private String imgUrl;
 
+    /** 파생본 공개 경로 — 업로드 커밋 후 백그라운드 생성, 생성 전/실패 시 null (원본 사용) */
+    @Column(name = "card_url", length = 500)
+    private String cardUrl;     // 목록 카드
+
+    @Column(name = "mobile_url", length = 500)
+    private String mobileUrl;   // 모바일
+
+    @Column(name = "detail_url", length = 500)
+    private String detailUrl;   // 상세
+
+    /** 원본을 디코딩할 수 없어 파생본을 만들지 못한 시각 — 백필 대상에서 제외 */
+    @Column(name = "derive_failed_at")
+    private LocalDateTime deriveFailedAt;
+
     /** 소속 리뷰 */
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "review_id", nullable = false)
@@ -19,7 +19,11 @@ import java.util.List;
  * - 배송지 스냅샷 없이 Address 엔티티를 직접 참조
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_status_reserved_until", columnList = "status, reserved_until"),
+        @Index(name = "idx_orders_order_date_id", columnList = "order_date, order_id"),   // 매출 롤업 범위 조회 + 관리자 최신순 커서
+        @Index(name = "idx_orders_status_date_id", columnList = "status, order_date, order_id") // 상태 필터 + 최신순 커서
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -90,6 +94,10 @@ public class Order extends BaseTimeEntity {
     @Column(length = 20, nullable = false)
     private Pay payMethod;
 
+    /** 재고 점유 기한 (미결제 무통장/토스페이 주문만, 지나면 자동 취소 + 재고 반환) */
+    @Column(name = "reserved_until")
+    private LocalDateTime reservedUntil;
+
     /** 배송 요청사항 */
     @Column(length = 200)
     private String memo;
@@ -52,13 +52,19 @@ public class OrderItem extends BaseTimeEntity {
 
     /** 생성 편의 메서드: 주문 시점 단가 스냅샷을 반드시 세팅 */
     public static OrderItem of(Item item, int quantity) {
+        if (item == null) throw new IllegalArgumentException("item is null");
+        return of(item, quantity, item.getSalePrice());
+    }
+
+    /** 가격 규칙(상품별 추가 할인 등)이 적용된 단가로 생성 */
+    public static OrderItem of(Item item, int quantity, int unitPrice) {
         if (item == null) throw new IllegalArgumentException("item is null");
         if (quantity < 1) throw new IllegalArgumentException("quantity must be >= 1");
         return OrderItem.builder()
                 .item(item)
                 .itemName(item.getItemNm())       // ✅ 주문 당시 상품명 스냅샷 저장
                 .quantity(quantity)
-                .purchasePrice(item.getSalePrice()) // ✅ 주문 당시 판매가 스냅샷 저장
+                .purchasePrice(unitPrice)         // ✅ 주문 당시 결제 단가 스냅샷 저장
                 .build();
     }
 
@@ -9,6 +9,10 @@ import org.team.mealkitshop.common.RefundStatus;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "order_refund", indexes = {
+        @Index(name = "idx_refund_reg_id", columnList = "reg_time, refund_id"),                // 최신순 목록/커서
+        @Index(name = "idx_refund_status_reg_id", columnList = "status, reg_time, refund_id")  // 상태별 최신순
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,24 @@
+package org.team.mealkitshop.dto.admin;
+
+import lombok.*;
+import org.team.mealkitshop.common.RefundReason;
+import org.team.mealkitshop.common.RefundStatus;
+
+import java.time.LocalDateTime;
+
+@Getter @Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminRefundDTO {
+
+    private Long refundId;
+    private Long orderId;
+    private String orderNo;
+    private RefundReason reasonCode;
+    private String reasonDetail;
+    private RefundStatus status;
+    private String processedBy;
+    private LocalDateTime processedAt;
+    private LocalDateTime regTime; // 요청 일시
+}
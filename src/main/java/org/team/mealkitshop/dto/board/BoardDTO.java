@@ -101,7 +101,7 @@ public class BoardDTO extends BoardBaseTimeEntity {
         if (board.getImageSet() != null) {
             dto.setFileNames(
                     board.getImageSet().stream()
-                            .map(img -> "/uploads/" + img.getFileName()) // UUID_원본파일명 형태 그대로 사용
+                            .map(img -> "/images/" + img.getFileName()) // UUID_원본파일명 — ImageServingController(ETag/Range)
                             .collect(Collectors.toList())
             );
         }
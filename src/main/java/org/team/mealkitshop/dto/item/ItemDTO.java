@@ -32,6 +32,7 @@ public class ItemDTO {
         private boolean liked;         // 로그인 사용자 기준 좋아요 토글 여부
         private Double avgRating;      // 평균 평점
         private Long reviewCount;      // 리뷰 개수
+        private List<Long> ratingHistogram = List.of(0L, 0L, 0L, 0L, 0L); // 1~5점 리뷰 수
 
         private List<String> longImages = new ArrayList<>();
 
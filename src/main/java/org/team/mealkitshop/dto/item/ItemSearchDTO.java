@@ -29,7 +29,7 @@ public class ItemSearchDTO {
     private FoodItem foodItem;
 
     // 정렬(enum) — 지정 시 우선, 미지정이면 Pageable.sort 사용
-    // 값: NEW, PRICE_ASC, PRICE_DESC, RATING_DESC, REVIEW_DESC, POPULAR_VIEW
+    // 값: NEW, PRICE_ASC, PRICE_DESC, RATING_DESC, REVIEW_DESC, POPULAR_VIEW, LIKE_DESC
     private ItemSortType sortType;
 
     // 최저/최고가(실판매가 기준)
@@ -0,0 +1,26 @@
+package org.team.mealkitshop.event;
+
+import java.util.Objects;
+
+/**
+ * 게시글 반응 수(도움돼요/좋아요)가 바뀌었거나 게시글이 삭제됐음을 알리는 이벤트
+ * - 발행: 후기 게시판 도움돼요 토글, TIP 좋아요 토글, 각 게시글 삭제(같은 트랜잭션 안에서)
+ * - 구독: 순위표(RankingService) — 커밋 후 해당 글만 다시 읽어 반영
+ */
+public record BoardReactionChangedEvent(Board board, Long bno) {
+
+    public enum Board { REVIEW_BOARD, TIP_BOARD }
+
+    public BoardReactionChangedEvent {
+        Objects.requireNonNull(board, "board");
+        Objects.requireNonNull(bno, "bno");
+    }
+
+    public static BoardReactionChangedEvent review(Long bno) {
+        return new BoardReactionChangedEvent(Board.REVIEW_BOARD, bno);
+    }
+
+    public static BoardReactionChangedEvent tip(Long bno) {
+        return new BoardReactionChangedEvent(Board.TIP_BOARD, bno);
+    }
+}
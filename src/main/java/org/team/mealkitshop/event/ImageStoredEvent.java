@@ -0,0 +1,34 @@
+package org.team.mealkitshop.event;
+
+import java.util.Objects;
+
+/**
+ * 이미지 원본이 저장되고 메타 행이 생겼음을 알리는 이벤트
+ * - 발행: 상품/리뷰/게시판 이미지 업로드 경로(행 저장 직후)
+ * - 구독: 파생본(썸네일) 생성 — 커밋 후 백그라운드
+ * @param savedPath 업로드 루트 기준 상대 경로 (예: "item/UUID.jpg", "review/UUID.png", "UUID_이름.png")
+ * @param itemId    상품 이미지일 때만 소속 상품 id(목록 갱신용), 그 외 null
+ */
+public record ImageStoredEvent(Kind kind, Long imageId, String savedPath, Long itemId) {
+
+    /** 이미지 메타 테이블 구분 */
+    public enum Kind { ITEM, REVIEW, BOARD }
+
+    public ImageStoredEvent {
+        Objects.requireNonNull(kind, "kind");
+        Objects.requireNonNull(imageId, "imageId");
+        Objects.requireNonNull(savedPath, "savedPath");
+    }
+
+    public static ImageStoredEvent item(Long imageId, String savedPath, Long itemId) {
+        return new ImageStoredEvent(Kind.ITEM, imageId, savedPath, itemId);
+    }
+
+    public static ImageStoredEvent review(Long imageId, String savedPath) {
+        return new ImageStoredEvent(Kind.REVIEW, imageId, savedPath, null);
+    }
+
+    public static ImageStoredEvent board(Long imageId, String savedPath) {
+        return new ImageStoredEvent(Kind.BOARD, imageId, savedPath, null);
+    }
+}
@@ -0,0 +1,53 @@
+package org.team.mealkitshop.event;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 상품 목록 표시 값(가격/재고 상태/대표 이미지/리뷰 통계/판매량 등)이 바뀌었음을 알리는 이벤트
+ * - 발행: 상품/이미지/리뷰/주문 쓰기 경로
+ * - 구독: 목록 읽기 모델(item_listing) 등 파생 데이터
+ * - membershipChanged: 목록 필터 결과(건수)가 달라질 수 있는 변경(등록/삭제/판매 상태/카테고리·이름·가격 수정)
+ *   재고 차감/반환으로 SELL ↔ SOLD_OUT 이 실제로 바뀐 상품은 StockReservationService 가 따로 발행
+ *   찜/리뷰/판매량/이미지처럼 표시 값만 바뀌는 변경은 false
+ */
+public record ItemChangedEvent(Set<Long> itemIds, boolean membershipChanged) {
+
+    public ItemChangedEvent {
+        itemIds = Set.copyOf(itemIds);
+    }
+
+    /** 표시 값만 변경 */
+    public static ItemChangedEvent of(Long itemId) {
+        return new ItemChangedEvent(Set.of(itemId), false);
+    }
+
+    /** 표시 값만 변경 */
+    public static ItemChangedEvent of(Collection<Long> itemIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long id : itemIds) {
+            if (id != null) ids.add(id);
+        }
+        return new ItemChangedEvent(ids, false);
+    }
+
+    /** 목록 필터 결과가 달라질 수 있는 변경 */
+    public static ItemChangedEvent membershipOf(Long itemId) {
+        return new ItemChangedEvent(Set.of(itemId), true);
+    }
+
+    /** 목록 필터 결과가 달라질 수 있는 변경(재고 소진/복구로 판매 상태가 바뀐 상품들) */
+    public static ItemChangedEvent membershipOf(Collection<Long> itemIds) {
+        return new ItemChangedEvent(of(itemIds).itemIds(), true);
+    }
+
+    public boolean isEmpty() {
+        return itemIds.isEmpty();
+    }
+
+    public boolean contains(Long itemId) {
+        return itemIds.contains(Objects.requireNonNull(itemId));
+    }
+}
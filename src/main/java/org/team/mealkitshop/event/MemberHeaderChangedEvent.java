@@ -0,0 +1,24 @@
+package org.team.mealkitshop.event;
+
+import java.util.Objects;
+
+/**
+ * 헤더 요약(이름/등급/장바구니 개수)이 바뀌었음을 알리는 이벤트
+ * - 발행: 장바구니 담기/삭제, 회원 가입·정보 수정·상태 변경, 주문 생성(장바구니 비움)
+ * - 구독: 세션 헤더 요약 캐시(HeaderSummaryService), 관리자 회원 목록 건수 캐시(CountCache)
+ * - memberId 가 null 이면 전체 회원 대상(예: 상품 하드삭제로 여러 장바구니가 바뀜)
+ */
+public record MemberHeaderChangedEvent(Long memberId) {
+
+    public static MemberHeaderChangedEvent of(Long memberId) {
+        return new MemberHeaderChangedEvent(Objects.requireNonNull(memberId, "memberId must not be null"));
+    }
+
+    public static MemberHeaderChangedEvent all() {
+        return new MemberHeaderChangedEvent(null);
+    }
+
+    public boolean isAll() {
+        return memberId == null;
+    }
+}
@@ -0,0 +1,36 @@
+package org.team.mealkitshop.event;
+
+import org.team.mealkitshop.common.OrderStatus;
+import org.team.mealkitshop.domain.order.Order;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 주문 상태가 바뀌었음을 알리는 이벤트 (생성은 from = null)
+ * - 발행: 주문 생성/결제 확인/취소/만료/환불 등 상태 전이 경로(같은 트랜잭션 안에서)
+ * - 구독: 일별 매출 롤업(sales_daily_rollup) 등 주문 집계
+ * - 금액/주문일은 발행 시점 스냅샷 — 구독자가 주문을 다시 읽지 않아도 됨
+ */
+public record OrderStatusChangedEvent(Long orderId, LocalDate orderDate,
+                                      long productsTotal, long discountTotal,
+                                      OrderStatus from, OrderStatus to) {
+
+    public OrderStatusChangedEvent {
+        Objects.requireNonNull(orderDate, "orderDate");
+        Objects.requireNonNull(to, "to");
+    }
+
+    public static OrderStatusChangedEvent created(Order order) {
+        return of(order, null, order.getStatus());
+    }
+
+    public static OrderStatusChangedEvent of(Order order, OrderStatus from, OrderStatus to) {
+        return new OrderStatusChangedEvent(order.getOrderId(), order.getOrderDate().toLocalDate(),
+                order.getProductsTotal(), order.getDiscountTotal(), from, to);
+    }
+
+    public boolean isCreated() {
+        return from == null;
+    }
+}
@@ -0,0 +1,37 @@
+package org.team.mealkitshop.reports.cube;
+
+import org.team.mealkitshop.common.Category;
+import org.team.mealkitshop.common.FoodItem;
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.common.Pay;
+
+/**
+ * 매출 큐브 차원 (분류/품목/회원 등급/결제수단)
+ * - 분류는 품목에서 결정되므로 저장 축은 품목·등급·결제수단 3개
+ */
+public enum CubeDimension {
+    CATEGORY(Category.values().length),
+    FOOD_ITEM(FoodItem.values().length),
+    GRADE(Grade.values().length),
+    PAY(Pay.values().length);
+
+    private final int cardinality;
+
+    CubeDimension(int cardinality) {
+        this.cardinality = cardinality;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /** 저장 셀(품목, 등급, 결제수단)에서 이 차원의 값(ordinal) */
+    int ordinalOf(FoodItem food, Grade grade, Pay pay) {
+        return switch (this) {
+            case CATEGORY -> food.getCategory().ordinal();
+            case FOOD_ITEM -> food.ordinal();
+            case GRADE -> grade.ordinal();
+            case PAY -> pay.ordinal();
+        };
+    }
+}
@@ -0,0 +1,214 @@
+package org.team.mealkitshop.reports.cube;
+
+import org.team.mealkitshop.common.Category;
+import org.team.mealkitshop.common.FoodItem;
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.common.Pay;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 일자 × (품목 × 회원 등급 × 결제수단) 매출 큐브 (메모리, 컬럼형)
+ * - 측정값(수량/매출/주문 라인 수)은 각각 long[] 한 개 — 인덱스 = (일자 - 기준일) × CELLS + 셀 번호
+ *   → 해시/객체 없이 일자 구간을 연속 메모리로 훑음
+ * - 조회: 필터/그룹 기준을 셀 번호 → 그룹 번호 표(int[CELLS])로 미리 계산 후 구간 내 일자만 누적
+ * - 증분: add(양수/음수 변화량), 일자 범위는 필요 시 양쪽으로 확장
+ * - 읽기/쓰기 잠금으로 동시 조회와 증분 반영을 분리
+ */
+public final class SalesCube {
+
+    private static final FoodItem[] FOODS = FoodItem.values();
+    private static final Grade[] GRADES = Grade.values();
+    private static final Pay[] PAYS = Pay.values();
+    private static final Category[] CATEGORIES = Category.values();
+
+    /** 하루치 셀 수 */
+    public static final int CELLS = FOODS.length * GRADES.length * PAYS.length;
+
+    /** 확장 시 앞/뒤 여유 일수 */
+    private static final int SLACK_DAYS = 31;
+
+    /** 집계 결과 1행 — 그룹 기준이 아닌 차원은 null */
+    public record Cell(Category category, FoodItem foodItem, Grade grade, Pay pay,
+                       long quantity, long sales, long lines) { }
+
+    /**
+     * 차원별 필터 — null/빈 집합이면 전체
+     */
+    public record Filter(Collection<Category> categories, Collection<FoodItem> foodItems,
+                         Collection<Grade> grades, Collection<Pay> pays) {
+
+        public static Filter all() {
+            return new Filter(null, null, null, null);
+        }
+
+        boolean accepts(FoodItem food, Grade grade, Pay pay) {
+            return in(categories, food.getCategory()) && in(foodItems, food) && in(grades, grade) && in(pays, pay);
+        }
+
+        private static <T> boolean in(Collection<T> allowed, T value) {
+            return allowed == null || allowed.isEmpty() || allowed.contains(value);
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long baseDay;     // 배열 0번 일자(epoch day)
+    private int days;         // 할당된 일수
+    private long[] quantity = new long[0];
+    private long[] sales = new long[0];
+    private long[] lines = new long[0];
+
+    /* ===================== 쓰기 ===================== */
+
+    /** 셀 번호 */
+    public static int cell(FoodItem food, Grade grade, Pay pay) {
+        return (food.ordinal() * GRADES.length + grade.ordinal()) * PAYS.length + pay.ordinal();
+    }
+
+    /** 변화량 반영(취소 등은 음수) */
+    public void add(LocalDate day, FoodItem food, Grade grade, Pay pay, long qty, long amount, long lineCount) {
+        long epochDay = day.toEpochDay();
+        lock.writeLock().lock();
+        try {
+            ensureDay(epochDay);
+            int idx = (int) (epochDay - baseDay) * CELLS + cell(food, grade, pay);
+            quantity[idx] += qty;
+            sales[idx] += amount;
+            lines[idx] += lineCount;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* ===================== 조회 ===================== */
+
+    /**
+     * [from, toExclusive) 구간을 필터 후 groupBy 차원으로 집계 (groupBy 비어 있으면 전체 합계 1행)
+     */
+    public List<Cell> slice(LocalDate from, LocalDate toExclusive, Filter filter, List<CubeDimension> groupBy) {
+        Filter f = filter == null ? Filter.all() : filter;
+        List<CubeDimension> dims = groupBy == null ? List.of() : groupBy.stream().distinct().toList();
+
+        // 셀 번호 → 그룹 번호(필터 제외는 -1), 혼합 진법
+        int groups = 1;
+        for (CubeDimension d : dims) groups *= d.cardinality();
+        int[] groupOf = new int[CELLS];
+        for (FoodItem food : FOODS) {
+            for (Grade grade : GRADES) {
+                for (Pay pay : PAYS) {
+                    int g = -1;
+                    if (f.accepts(food, grade, pay)) {
+                        g = 0;
+                        for (CubeDimension d : dims) g = g * d.cardinality() + d.ordinalOf(food, grade, pay);
+                    }
+                    groupOf[cell(food, grade, pay)] = g;
+                }
+            }
+        }
+
+        long[] accQty = new long[groups], accSales = new long[groups], accLines = new long[groups];
+        lock.readLock().lock();
+        try {
+            long start = Math.max(from.toEpochDay(), baseDay);
+            long end = Math.min(toExclusive.toEpochDay(), baseDay + days);
+            for (long day = start; day < end; day++) {
+                int off = (int) (day - baseDay) * CELLS;
+                for (int c = 0; c < CELLS; c++) {
+                    int g = groupOf[c];
+                    if (g < 0) continue;
+                    accQty[g] += quantity[off + c];
+                    accSales[g] += sales[off + c];
+                    accLines[g] += lines[off + c];
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Cell> out = new ArrayList<>();
+        for (int g = 0; g < groups; g++) {
+            if (accLines[g] == 0 && accQty[g] == 0 && accSales[g] == 0 && !dims.isEmpty()) continue;
+            out.add(decode(g, dims, accQty[g], accSales[g], accLines[g]));
+        }
+        return out;
+    }
+
+    /** 할당된 일자 범위 */
+    public int allocatedDays() {
+        lock.readLock().lock();
+        try {
+            return days;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 값이 있는 셀 수 */
+    public long nonEmptyCells() {
+        lock.readLock().lock();
+        try {
+            long n = 0;
+            for (long l : lines) if (l != 0) n++;
+            return n;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private static Cell decode(int g, List<CubeDimension> dims, long qty, long amount, long lineCount) {
+        Category category = null;
+        FoodItem food = null;
+        Grade grade = null;
+        Pay pay = null;
+        for (int i = dims.size() - 1; i >= 0; i--) {
+            CubeDimension d = dims.get(i);
+            int ord = g % d.cardinality();
+            g /= d.cardinality();
+            switch (d) {
+                case CATEGORY -> category = CATEGORIES[ord];
+                case FOOD_ITEM -> food = FOODS[ord];
+                case GRADE -> grade = GRADES[ord];
+                case PAY -> pay = PAYS[ord];
+            }
+        }
+        return new Cell(category, food, grade, pay, qty, amount, lineCount);
+    }
+
+    /** epochDay 가 배열 범위 안에 오도록 확장(쓰기 잠금 보유 상태에서 호출) */
+    private void ensureDay(long epochDay) {
+        if (days == 0) {
+            baseDay = epochDay - SLACK_DAYS;
+            resize(baseDay, 2 * SLACK_DAYS + 1);
+            return;
+        }
+        if (epochDay < baseDay) {
+            long newBase = epochDay - SLACK_DAYS;
+            resize(newBase, (int) (baseDay + days - newBase));
+        } else if (epochDay >= baseDay + days) {
+            int needed = (int) (epochDay - baseDay) + 1;
+            resize(baseDay, Math.max(days * 2, needed + SLACK_DAYS));
+        }
+    }
+
+    private void resize(long newBase, int newDays) {
+        int shift = (int) (baseDay - newBase) * CELLS;   // 기존 데이터가 옮겨갈 위치
+        quantity = moved(quantity, newDays, shift);
+        sales = moved(sales, newDays, shift);
+        lines = moved(lines, newDays, shift);
+        baseDay = newBase;
+        days = newDays;
+    }
+
+    private static long[] moved(long[] src, int newDays, int shift) {
+        long[] dst = new long[newDays * CELLS];
+        System.arraycopy(src, 0, dst, shift, src.length);
+        return dst;
+    }
+}
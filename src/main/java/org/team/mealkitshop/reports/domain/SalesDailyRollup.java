@@ -0,0 +1,43 @@
+package org.team.mealkitshop.reports.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 매출 롤업 (주문일 기준, 취소/환불 제외 주문만 집계)
+ * - 주문 상태 전이 시 증분 반영(SalesRollupService), 주기 재계산으로 보정
+ * - 리포트는 orders 대신 이 테이블의 일자 행(기간 일수만큼)만 합산
+ * - 쓰기는 upsert(JDBC) 전용 — 엔티티는 스키마/조회(QueryDSL)용
+ */
+@Entity
+@Table(name = "sales_daily_rollup")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesDailyRollup {
+
+    /** 주문일 */
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    /** 주문 수 */
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    /** 상품 총액 합계 */
+    @Column(name = "gross_sales", nullable = false)
+    private long grossSales;
+
+    /** 할인 합계 */
+    @Column(name = "discount_total", nullable = false)
+    private long discountTotal;
+
+    /** 마지막 반영 시각 */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,93 +1,142 @@
 package org.team.mealkitshop.reports.repo;
 
-import com.querydsl.core.types.dsl.DateExpression;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
-import org.team.mealkitshop.common.OrderStatus;
+import org.team.mealkitshop.domain.item.QItem;
+import org.team.mealkitshop.domain.member.QMember;
 import org.team.mealkitshop.domain.order.QOrder;
+import org.team.mealkitshop.domain.order.QOrderItem;
+import org.team.mealkitshop.reports.cube.CubeDimension;
+import org.team.mealkitshop.reports.cube.SalesCube;
+import org.team.mealkitshop.reports.domain.QSalesDailyRollup;
 import org.team.mealkitshop.reports.dto.ExecSummaryDTO;
 import org.team.mealkitshop.reports.dto.SalesDailyPointDTO;
+import org.team.mealkitshop.reports.service.SalesRollupService;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
+/**
+ * 리포트 조회 — 요약/일별은 orders 를 직접 스캔하지 않고 일별 매출 롤업(sales_daily_rollup)만 읽음
+ * - 롤업은 SalesRollupService 가 주문 상태 전이마다 증분 반영 + 주기 재계산
+ * - 차원별 매출은 평소 메모리 큐브(SalesCubeService), 여기의 GROUP BY 는 비교/검증용
+ */
 @Repository
 @RequiredArgsConstructor
 public class ReportsQueryRepository {
 
     private final JPAQueryFactory qf;
 
-    /* 경영 요약: [from, to) */
+    /* 경영 요약: [from, to) — 롤업 일자 행 합산(기간 일수만큼의 행만 읽음) */
     public ExecSummaryDTO findExecSummary(LocalDate from, LocalDate to) {
-        QOrder o = QOrder.order;
+        QSalesDailyRollup r = QSalesDailyRollup.salesDailyRollup;
 
-        var predicate = o.orderDate.goe(from.atStartOfDay())
-                .and(o.orderDate.lt(to.atStartOfDay()))
-                .and(o.status.notIn(OrderStatus.CANCELED, OrderStatus.REFUNDED));
-
-        // countDistinct()는 Long로 귀결되므로 그대로 사용
-        Long orders = qf.select(o.orderId.countDistinct())
-                .from(o)
-                .where(predicate)
-                .fetchOne();
-
-        // sum()은 컬럼 타입(Integer/Long/BigDecimal 등)을 따르므로 Number로 받고 longValue() 사용
-        Number grossNum = qf.select(o.productsTotal.sum())
-                .from(o)
-                .where(predicate)
-                .fetchOne();
+        var exprOrders = r.orderCount.sum();
+        var exprGross  = r.grossSales.sum();
+        var exprDisc   = r.discountTotal.sum();
 
-        Number discNum = qf.select(o.discountTotal.sum())
-                .from(o)
-                .where(predicate)
+        Tuple t = qf.select(exprOrders, exprGross, exprDisc)
+                .from(r)
+                .where(r.salesDate.goe(from), r.salesDate.lt(to))
                 .fetchOne();
 
-        long ord = orders == null ? 0L : orders;
-        long g   = grossNum == null ? 0L : grossNum.longValue();
-        long ds  = discNum  == null ? 0L : discNum.longValue();
+        long ord = t == null ? 0L : nz(t.get(exprOrders));
+        long g   = t == null ? 0L : nz(t.get(exprGross));
+        long ds  = t == null ? 0L : nz(t.get(exprDisc));
         long net = g - ds;
 
         return new ExecSummaryDTO(from, to, "ALL", ord, g, ds, net);
     }
 
-    /* 일별 매출 시계열: [from, to) */
+    /* 일별 매출 시계열: [from, to) — 주문이 있는 날만(0 채움은 호출 측) */
     public List<SalesDailyPointDTO> findSalesDaily(LocalDate from, LocalDate to) {
-        QOrder o = QOrder.order;
-
-        // "YYYY-MM-DD" 문자열로 그룹핑 (호환성 ↑)
-        var dayStr = Expressions.stringTemplate("DATE_FORMAT({0}, {1})", o.orderDate, "%Y-%m-%d");
-
-        var predicate = o.orderDate.goe(from.atStartOfDay())
-                .and(o.orderDate.lt(to.atStartOfDay()))
-                .and(o.status.notIn(OrderStatus.CANCELED, OrderStatus.REFUNDED));
-
-        var exprOrders = o.orderId.countDistinct();
-        var exprGross  = o.productsTotal.sum();
-        var exprDisc   = o.discountTotal.sum();
+        QSalesDailyRollup r = QSalesDailyRollup.salesDailyRollup;
 
-        return qf.select(dayStr, exprOrders, exprGross, exprDisc)
-                .from(o)
-                .where(predicate)
-                .groupBy(dayStr)
-                .orderBy(dayStr.asc())
+        return qf.selectFrom(r)
+                .where(r.salesDate.goe(from), r.salesDate.lt(to), r.orderCount.gt(0L))
+                .orderBy(r.salesDate.asc())
                 .fetch()
                 .stream()
-                .map(t -> {
-                    String ds = t.get(dayStr);
-                    Long orders = t.get(exprOrders);
-                    Number grossNum = t.get(exprGross);
-                    Number discNum  = t.get(exprDisc);
-
-                    long ord = orders == null ? 0L : orders;
-                    long g   = grossNum == null ? 0L : grossNum.longValue();
-                    long dsct= discNum  == null ? 0L : discNum.longValue();
-                    long net = g - dsct;
+                .map(row -> {
+                    long ord = row.getOrderCount();
+                    long net = row.getGrossSales() - row.getDiscountTotal();
                     long aov = ord == 0 ? 0L : (net / ord);
-
-                    return new SalesDailyPointDTO(LocalDate.parse(ds), ord, net, aov);
+                    return new SalesDailyPointDTO(row.getSalesDate(), ord, net, aov);
                 })
                 .toList();
     }
+
+    /**
+     * 차원별 매출 — 큐브와 같은 결과를 order_item 조인 GROUP BY 로 직접 계산 (비교/검증용)
+     * - 집계 대상 상태는 일별 롤업과 동일(취소/환불 제외)
+     */
+    public List<SalesCube.Cell> findSalesByDimension(LocalDate from, LocalDate to,
+                                                     SalesCube.Filter filter, List<CubeDimension> groupBy) {
+        QOrderItem oi = new QOrderItem("oi");
+        QOrder o = new QOrder("o");
+        QItem i = new QItem("i");
+        QMember m = new QMember("m");
+
+        List<CubeDimension> dims = groupBy == null ? List.of() : groupBy.stream().distinct().toList();
+        List<Expression<?>> keys = new ArrayList<>();
+        for (CubeDimension d : dims) {
+            keys.add(switch (d) {
+                case CATEGORY -> i.category;
+                case FOOD_ITEM -> i.foodItem;
+                case GRADE -> m.grade;
+                case PAY -> o.payMethod;
+            });
+        }
+        var exprQty   = Expressions.numberTemplate(Long.class, "sum({0})", oi.quantity);
+        var exprSales = Expressions.numberTemplate(Long.class, "sum({0} * {1})", oi.purchasePrice, oi.quantity);
+        var exprLines = oi.count();
+
+        List<Expression<?>> select = new ArrayList<>(keys);
+        select.add(exprQty);
+        select.add(exprSales);
+        select.add(exprLines);
+
+        BooleanBuilder where = new BooleanBuilder()
+                .and(o.orderDate.goe(from.atStartOfDay()))
+                .and(o.orderDate.lt(to.atStartOfDay()))
+                .and(o.status.notIn(SalesRollupService.EXCLUDED));
+        if (filter != null) {
+            if (notEmpty(filter.categories())) where.and(i.category.in(filter.categories()));
+            if (notEmpty(filter.foodItems()))  where.and(i.foodItem.in(filter.foodItems()));
+            if (notEmpty(filter.grades()))     where.and(m.grade.in(filter.grades()));
+            if (notEmpty(filter.pays()))       where.and(o.payMethod.in(filter.pays()));
+        }
+
+        var query = qf.select(select.toArray(new Expression<?>[0]))
+                .from(oi)
+                .join(oi.order, o)
+                .join(oi.item, i)
+                .join(o.member, m)
+                .where(where);
+        if (!keys.isEmpty()) query.groupBy(keys.toArray(new Expression<?>[0]));
+
+        return query.fetch().stream()
+                .map(t -> new SalesCube.Cell(
+                        dims.contains(CubeDimension.CATEGORY) ? t.get(i.category) : null,
+                        dims.contains(CubeDimension.FOOD_ITEM) ? t.get(i.foodItem) : null,
+                        dims.contains(CubeDimension.GRADE) ? t.get(m.grade) : null,
+                        dims.contains(CubeDimension.PAY) ? t.get(o.payMethod) : null,
+                        nz(t.get(exprQty)), nz(t.get(exprSales)), nz(t.get(exprLines))))
+                .toList();
+    }
+
+    private static boolean notEmpty(Collection<?> c) {
+        return c != null && !c.isEmpty();
+    }
+
+    private static long nz(Long v) {
+        return v == null ? 0L : v;
+    }
 }
@@ -0,0 +1,232 @@
+package org.team.mealkitshop.reports.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.team.mealkitshop.common.FoodItem;
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.common.OrderStatus;
+import org.team.mealkitshop.common.Pay;
+import org.team.mealkitshop.event.OrderStatusChangedEvent;
+import org.team.mealkitshop.reports.cube.CubeDimension;
+import org.team.mealkitshop.reports.cube.SalesCube;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 차원별 매출 큐브 유지/조회
+ * - 기동 시 + 매일 새벽 orders/order_item 에서 전체 재구성(집계 1쿼리) 후 원자적 교체
+ * - 주문 상태 전이 커밋 후 해당 주문 라인만 다시 읽어 ±반영(집계 대상 여부는 일별 롤업과 동일 규칙)
+ * - 회원 등급/품목은 반영 시점 값 기준(재구성 시 현재 값으로 다시 맞춰짐)
+ * - 재구성 스캔 중 들어온 증분은 스캔과 같은 스냅샷의 주문 상태를 보고 스캔이 못 본 전이만 새 큐브에 재적용
+ *   (스캔 전에 커밋됐지만 리스너가 늦게 돈 전이는 스캔에 이미 포함 → 건너뜀)
+ */
+@Service
+@Log4j2
+public class SalesCubeService {
+
+    private static final String LINE_COLUMNS = """
+            select date(o.order_date) as d, i.food_item, m.grade, o.pay_method,
+                   %s(oi.quantity) as qty, %s(oi.purchase_price * oi.quantity) as amount, %s as line_count
+              from order_item oi
+              join orders o on o.order_id = oi.order_id
+              join item i   on i.item_id = oi.item_id
+              join member m on m.mno = o.member_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    /** 재구성 스캔 + 재적용 판정용 상태 조회를 한 스냅샷(REPEATABLE READ)에서 */
+    private final TransactionTemplate snapshotTx;
+
+    private final AtomicReference<SalesCube> cube = new AtomicReference<>(new SalesCube());
+
+    /** 증분 반영과 큐브 교체를 직렬화(재구성 스캔 자체는 잡지 않음) */
+    private final Object applyLock = new Object();
+    /** 재구성 스캔 중 들어온 증분(스캔 중이 아니면 null) — applyLock 보호 */
+    private List<OrderDelta> pendingDuringRebuild;
+
+    /** 주문 라인 1행의 ± 반영분 */
+    record LineDelta(LocalDate day, FoodItem food, Grade grade, Pay pay, long qty, long amount, long lines) {
+        void applyTo(SalesCube target) {
+            target.add(day, food, grade, pay, qty, amount, lines);
+        }
+    }
+
+    /** 주문 1건의 상태 전이(from → to) 반영분 — from 이 null 이면 생성 */
+    record OrderDelta(long orderId, OrderStatus from, OrderStatus to, List<LineDelta> lines) {
+        void applyTo(SalesCube target) {
+            lines.forEach(d -> d.applyTo(target));
+        }
+    }
+
+    public SalesCubeService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotTx = new TransactionTemplate(transactionManager);
+        this.snapshotTx.setReadOnly(true);
+        this.snapshotTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /* ===== 지표 ===== */
+    private final LongAdder appliedOrders = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+    private volatile long lastRebuildMillis;
+
+    /* ===================== 조회 ===================== */
+
+    public List<SalesCube.Cell> slice(LocalDate from, LocalDate toExclusive,
+                                      SalesCube.Filter filter, List<CubeDimension> groupBy) {
+        queries.increment();
+        return cube.get().slice(from, toExclusive, filter, groupBy);
+    }
+
+    /* ===================== 재구성 ===================== */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("[sales-cube] initial build failed", e);
+        }
+    }
+
+    @Scheduled(cron = "${reports.cube.rebuild-cron:0 45 3 * * *}")
+    public void nightlyRebuild() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("[sales-cube] nightly rebuild failed", e);
+        }
+    }
+
+    /**
+     * 전체 재구성 — 새 큐브를 채운 뒤 교체(조회는 교체 전까지 기존 큐브 사용)
+     * - 스캔 중 들어온 증분은 모아 두었다가, 같은 스냅샷에서 읽은 주문 상태 이후의 전이만 새 큐브에 재적용
+     */
+    public synchronized int rebuild() {
+        long started = System.currentTimeMillis();
+        SalesCube next = new SalesCube();
+        String sql = LINE_COLUMNS.formatted("sum", "sum", "count(*)")
+                + " where o.status not in (" + excludedStatuses() + ")"
+                + " group by date(o.order_date), i.food_item, m.grade, o.pay_method";
+        synchronized (applyLock) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        int[] rows = {0};
+        int[] replayed = {0};
+        try {
+            snapshotTx.executeWithoutResult(status -> {
+                jdbcTemplate.query(sql, rs -> {
+                    next.add(rs.getDate("d").toLocalDate(),
+                            FoodItem.valueOf(rs.getString("food_item")),
+                            Grade.valueOf(rs.getString("grade")),
+                            Pay.valueOf(rs.getString("pay_method")),
+                            rs.getLong("qty"), rs.getLong("amount"), rs.getLong("line_count"));
+                    rows[0]++;
+                });
+                synchronized (applyLock) {
+                    replayed[0] = replayUnseen(next, pendingDuringRebuild);
+                    cube.set(next);
+                }
+            });
+        } finally {
+            synchronized (applyLock) {
+                pendingDuringRebuild = null; // 실패 시엔 기존 큐브 유지(증분은 이미 반영됨)
+            }
+        }
+        rebuilds.increment();
+        lastRebuildMillis = System.currentTimeMillis() - started;
+        log.info("[sales-cube] rebuilt from {} aggregate rows in {} ms (replayed {} transitions)",
+                rows[0], lastRebuildMillis, replayed[0]);
+        return rows[0];
+    }
+
+    /**
+     * 스캔이 못 본 전이만 재적용 — 스냅샷의 주문 상태(없으면 null)에서 출발하는 전이부터 순서대로
+     * - 스냅샷 상태가 마지막 전이의 to 와 같으면(스캔 전에 커밋) 아무것도 재적용하지 않음
+     */
+    private int replayUnseen(SalesCube next, List<OrderDelta> pending) {
+        if (pending.isEmpty()) return 0;
+        Map<Long, List<OrderDelta>> byOrder = new LinkedHashMap<>();
+        for (OrderDelta d : pending) byOrder.computeIfAbsent(d.orderId(), k -> new ArrayList<>()).add(d);
+
+        Map<Long, OrderStatus> seen = new HashMap<>();
+        String in = String.join(",", Collections.nCopies(byOrder.size(), "?"));
+        jdbcTemplate.query("select order_id, status from orders where order_id in (" + in + ")",
+                rs -> { seen.put(rs.getLong(1), OrderStatus.valueOf(rs.getString(2))); },
+                byOrder.keySet().toArray());
+
+        int replayed = 0;
+        for (Map.Entry<Long, List<OrderDelta>> e : byOrder.entrySet()) {
+            OrderStatus snapshot = seen.get(e.getKey());
+            boolean unseen = false;
+            for (OrderDelta d : e.getValue()) {
+                if (!unseen && d.from() == snapshot) unseen = true;
+                if (unseen) {
+                    d.applyTo(next);
+                    replayed++;
+                }
+            }
+        }
+        return replayed;
+    }
+
+    /* ===================== 증분 ===================== */
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent e) {
+        int delta = SalesRollupService.countedDelta(e.from(), e.to());
+        if (delta == 0) return;
+        try {
+            String sql = LINE_COLUMNS.formatted("", "", "1") + " where oi.order_id = ?";
+            List<LineDelta> lines = jdbcTemplate.query(sql, (rs, i) -> new LineDelta(e.orderDate(),
+                    FoodItem.valueOf(rs.getString("food_item")),
+                    Grade.valueOf(rs.getString("grade")),
+                    Pay.valueOf(rs.getString("pay_method")),
+                    delta * rs.getLong("qty"), delta * rs.getLong("amount"), delta), e.orderId());
+            apply(new OrderDelta(e.orderId(), e.from(), e.to(), lines));
+            appliedOrders.increment();
+        } catch (RuntimeException ex) {
+            log.warn("[sales-cube] incremental apply failed: orderId={} (next rebuild will fix)", e.orderId(), ex);
+        }
+    }
+
+    /** 현재 큐브에 반영 — 재구성 스캔 중이면 교체 후 큐브용으로도 보관 */
+    void apply(OrderDelta delta) {
+        synchronized (applyLock) {
+            delta.applyTo(cube.get());
+            if (pendingDuringRebuild != null) pendingDuringRebuild.add(delta);
+        }
+    }
+
+    /** 지표 스냅샷 */
+    public Map<String, Object> metrics() {
+        SalesCube c = cube.get();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("allocatedDays", c.allocatedDays());
+        out.put("cellsPerDay", SalesCube.CELLS);
+        out.put("nonEmptyCells", c.nonEmptyCells());
+        out.put("appliedOrders", appliedOrders.sum());
+        out.put("rebuilds", rebuilds.sum());
+        out.put("lastRebuildMillis", lastRebuildMillis);
+        out.put("queries", queries.sum());
+        return out;
+    }
+
+    private static String excludedStatuses() {
+        return SalesRollupService.EXCLUDED.stream().map(s -> "'" + s.name() + "'").collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,159 @@
+package org.team.mealkitshop.reports.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.team.mealkitshop.common.OrderStatus;
+import org.team.mealkitshop.config.SalesRollupProperties;
+import org.team.mealkitshop.event.OrderStatusChangedEvent;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 일별 매출 롤업 유지
+ * - 증분: 주문 상태 전이 이벤트마다 (집계 대상 여부 변화량) × (건수/금액)을 해당 주문일 행에 upsert
+ *   · 커밋 직전(BEFORE_COMMIT)에 반영 → 주문과 같은 트랜잭션(원자적), 일자 행 잠금은 커밋까지 최소 시간만 보유
+ * - 백필: 기동 시 롤업이 비어 있으면 전체 기간, 관리자 요청 시 지정 기간을 orders 에서 다시 계산
+ * - 보정: 매일 지난 며칠을 다시 계산(오늘 행은 증분만 — 진행 중 주문과 경합 없음)
+ * - 집계 대상: 취소/환불을 제외한 모든 상태(기존 리포트 기준과 동일)
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class SalesRollupService {
+
+    /** 매출에서 제외되는 상태 */
+    public static final Set<OrderStatus> EXCLUDED = EnumSet.of(OrderStatus.CANCELED, OrderStatus.REFUNDED);
+
+    private static final String UPSERT_SQL = """
+            insert into sales_daily_rollup (sales_date, order_count, gross_sales, discount_total, updated_at)
+            values (?, ?, ?, ?, now())
+            on duplicate key update
+                order_count    = order_count + values(order_count),
+                gross_sales    = gross_sales + values(gross_sales),
+                discount_total = discount_total + values(discount_total),
+                updated_at     = now()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SalesRollupProperties properties;
+
+    /* ===== 지표 ===== */
+    private final LongAdder appliedEvents = new LongAdder();
+    private final LongAdder skippedEvents = new LongAdder();
+    private final LongAdder rebuiltDays = new LongAdder();
+    private final LongAdder rebuildRuns = new LongAdder();
+
+    /* ===================== 증분 ===================== */
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent e) {
+        int delta = countedDelta(e.from(), e.to());
+        if (delta == 0) {
+            skippedEvents.increment();
+            return;
+        }
+        jdbcTemplate.update(UPSERT_SQL, Date.valueOf(e.orderDate()),
+                (long) delta, delta * e.productsTotal(), delta * e.discountTotal());
+        appliedEvents.increment();
+    }
+
+    /** 상태 전이에 따른 집계 건수 변화(-1, 0, +1) — 생성은 from = null */
+    public static int countedDelta(OrderStatus from, OrderStatus to) {
+        return (counted(to) ? 1 : 0) - (from != null && counted(from) ? 1 : 0);
+    }
+
+    public static boolean counted(OrderStatus status) {
+        return status != null && !EXCLUDED.contains(status);
+    }
+
+    /* ===================== 백필/보정 ===================== */
+
+    /** 기동 시 롤업이 비어 있으면 첫 주문일부터 오늘까지 백필 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!properties.backfillOnStartup()) return;
+        try {
+            Integer rows = jdbcTemplate.queryForObject("select count(*) from sales_daily_rollup", Integer.class);
+            if (rows != null && rows > 0) return;
+            Date first = jdbcTemplate.queryForObject("select min(date(order_date)) from orders", Date.class);
+            if (first == null) return;
+            int days = rebuild(first.toLocalDate(), LocalDate.now().plusDays(1));
+            log.info("[sales-rollup] initial backfill done: {} days from {}", days, first);
+        } catch (RuntimeException ex) {
+            log.warn("[sales-rollup] initial backfill failed", ex);
+        }
+    }
+
+    /** 지난 며칠(오늘 제외) 재계산 — 증분 누락/수동 DB 수정 보정 */
+    @Scheduled(cron = "${reports.rollup.reconcile-cron:0 30 3 * * *}")
+    public void reconcileRecent() {
+        LocalDate today = LocalDate.now();
+        try {
+            rebuild(today.minusDays(Math.max(1, properties.reconcileDays())), today);
+        } catch (RuntimeException ex) {
+            log.warn("[sales-rollup] reconcile failed", ex);
+        }
+    }
+
+    /**
+     * [from, toExclusive) 일자 행을 orders 에서 다시 계산 (chunkDays 단위 독립 트랜잭션)
+     * - 오늘을 포함하면 재계산 중 생성되는 주문과 경합할 수 있으므로 한가한 시간에 실행
+     * @return 처리한 일수
+     */
+    public int rebuild(LocalDate from, LocalDate toExclusive) {
+        if (from == null || toExclusive == null || !from.isBefore(toExclusive)) return 0;
+        String excluded = EXCLUDED.stream().map(s -> "'" + s.name() + "'").collect(Collectors.joining(","));
+        String insertSql = """
+                insert into sales_daily_rollup (sales_date, order_count, gross_sales, discount_total, updated_at)
+                select date(o.order_date), count(*), sum(o.products_total), sum(o.discount_total), now()
+                  from orders o
+                 where o.order_date >= ? and o.order_date < ?
+                   and o.status not in (%s)
+                 group by date(o.order_date)
+                """.formatted(excluded);
+
+        int chunk = Math.max(1, properties.chunkDays());
+        int days = 0;
+        for (LocalDate start = from; start.isBefore(toExclusive); ) {
+            LocalDate end = start.plusDays(chunk).isBefore(toExclusive) ? start.plusDays(chunk) : toExclusive;
+            LocalDate s = start, e = end;
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("delete from sales_daily_rollup where sales_date >= ? and sales_date < ?",
+                        Date.valueOf(s), Date.valueOf(e));
+                jdbcTemplate.update(insertSql, s.atStartOfDay(), e.atStartOfDay());
+            });
+            days += (int) (e.toEpochDay() - s.toEpochDay());
+            start = end;
+        }
+        rebuiltDays.add(days);
+        rebuildRuns.increment();
+        log.info("[sales-rollup] rebuilt [{}, {}) — {} days", from, toExclusive, days);
+        return days;
+    }
+
+    /** 지표 스냅샷 */
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("appliedEvents", appliedEvents.sum());
+        out.put("skippedEvents", skippedEvents.sum());
+        out.put("rebuildRuns", rebuildRuns.sum());
+        out.put("rebuiltDays", rebuiltDays.sum());
+        return out;
+    }
+}
@@ -2,22 +2,38 @@ package org.team.mealkitshop.reports.web;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.team.mealkitshop.reports.dto.ExecSummaryDTO;
 import org.team.mealkitshop.reports.dto.SalesDailyPageResponse;
 import org.team.mealkitshop.reports.dto.SalesDailyPointDTO;
 import org.team.mealkitshop.reports.repo.ReportsQueryRepository;
+import org.team.mealkitshop.reports.service.SalesRollupService;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/reports")
 @RequiredArgsConstructor
 public class ReportsApiController {
 
+    /** 스트리밍 1회 조회 구간(일) */
+    private static final int STREAM_CHUNK_DAYS = 366;
+    /** 스트리밍 최대 기간(일, 끝 포함) — 약 10년 */
+    static final int MAX_STREAM_DAYS = 3_660;
+
     private final ReportsQueryRepository repo;
+    private final SalesRollupService salesRollupService;
 
     private LocalDate toInclusive(LocalDate to) {
         return to.plusDays(1); // 내부 쿼리는 [from, to) 이므로 외부에서는 끝 포함을 위해 +1일
@@ -39,7 +55,27 @@ public class ReportsApiController {
         return repo.findSalesDaily(from, toInclusive(to));
     }
 
-    /** 📄 테이블/합계용: 날짜 전체(0 포함)를 서버에서 채워서 페이지네이션 반환 */
+    /** 🔁 관리자: 기간 롤업 재계산(백필) — 끝 포함, 오늘을 포함하면 주문이 적은 시간에 실행 */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/rollup/rebuild")
+    public Map<String, Object> rebuildRollup(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        int days = salesRollupService.rebuild(from, toInclusive(to));
+        return Map.of("from", from, "to", to, "days", days);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/rollup/metrics")
+    public Map<String, Object> rollupMetrics() {
+        return salesRollupService.metrics();
+    }
+
+    /**
+     * 📄 테이블/합계용: 날짜 전체(0 포함) 기준 페이지 반환
+     * - 합계는 기간 집계 1쿼리, 행은 요청 페이지 날짜 구간만 조회 후 0 채움 → 기간 길이와 무관하게 O(page) 메모리
+     */
     @GetMapping("/sales/daily/page")
     public SalesDailyPageResponse salesDailyPage(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
@@ -47,36 +83,113 @@ public class ReportsApiController {
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "40") int size
     ) {
-        LocalDate toEx = toInclusive(to);
+        int pageSize = Math.max(size, 1);
+        DayWindow w = DayWindow.of(from, to, page, pageSize);
 
-        // 1) 데이터 있는 일자만 DB에서 가져온 뒤
-        List<SalesDailyPointDTO> raw = repo.findSalesDaily(from, toEx);
+        // 1) 합계(기간 전체 기준) — 0 인 날은 합계에 영향 없으므로 집계 쿼리 결과 그대로
+        ExecSummaryDTO total = repo.findExecSummary(from, toInclusive(to));
+        long aov = (total.getOrders() == 0) ? 0 : (total.getNetSales() / total.getOrders());
 
-        // 2) 날짜 전 범위를 0으로 채우고 raw로 덮어쓰기
-        Map<LocalDate, SalesDailyPointDTO> map = raw.stream()
-                .collect(Collectors.toMap(SalesDailyPointDTO::getDate, v -> v));
+        // 2) 요청 페이지 날짜 구간만 조회 → 0 채움
+        List<SalesDailyPointDTO> items = w.isEmpty()
+                ? List.of()
+                : zeroFill(repo.findSalesDaily(w.from(), toInclusive(w.to())), w.from(), w.to());
 
-        List<SalesDailyPointDTO> filled = new ArrayList<>();
-        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
-            SalesDailyPointDTO v = map.getOrDefault(d, new SalesDailyPointDTO(d, 0L, 0L, 0L));
-            // aov 보정(0으로 저장되어 있을 수 있음)
-            long aov = (v.getOrders() == 0) ? 0L : (v.getNetSales() / v.getOrders());
-            filled.add(new SalesDailyPointDTO(v.getDate(), v.getOrders(), v.getNetSales(), aov));
+        return new SalesDailyPageResponse(items, w.page(), pageSize, w.totalItems(), w.totalPages(),
+                total.getOrders(), total.getNetSales(), aov);
+    }
+
+    /**
+     * 📤 전체 시계열 스트리밍(0 포함) — NDJSON(기본) 또는 CSV
+     * - STREAM_CHUNK_DAYS 구간씩 조회해 바로 기록 → 다년 기간도 구간 크기만큼의 메모리만 사용
+     * - 관리자 전용, from ≤ to 이고 최대 MAX_STREAM_DAYS 일(초과 시 400)
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/sales/daily/stream")
+    public ResponseEntity<StreamingResponseBody> salesDailyStream(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        validateStreamRange(from, to);
+        boolean csv = "csv".equalsIgnoreCase(format);
+        StreamingResponseBody body = out -> {
+            Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (csv) w.write("date,orders,netSales,aov\n");
+            for (LocalDate start = from; !start.isAfter(to); start = start.plusDays(STREAM_CHUNK_DAYS)) {
+                LocalDate end = start.plusDays(STREAM_CHUNK_DAYS - 1L).isBefore(to)
+                        ? start.plusDays(STREAM_CHUNK_DAYS - 1L) : to;
+                for (SalesDailyPointDTO p : zeroFill(repo.findSalesDaily(start, toInclusive(end)), start, end)) {
+                    if (csv) {
+                        w.write(p.getDate() + "," + p.getOrders() + "," + p.getNetSales() + "," + p.getAov() + "\n");
+                    } else {
+                        w.write("{\"date\":\"" + p.getDate() + "\",\"orders\":" + p.getOrders()
+                                + ",\"netSales\":" + p.getNetSales() + ",\"aov\":" + p.getAov() + "}\n");
+                    }
+                }
+                w.flush();
+            }
+            w.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                                 : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, csv
+                        ? "attachment; filename=\"sales-daily-" + from + "_" + to + ".csv\"" : "inline")
+                .body(body);
+    }
+
+    /** 스트리밍 기간 검증 — 역순/과도한 기간 거절 */
+    static void validateStreamRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > MAX_STREAM_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_STREAM_DAYS + "일입니다.");
         }
+    }
 
-        // 3) 합계(기간 전체 기준)
-        long sumOrders = filled.stream().mapToLong(SalesDailyPointDTO::getOrders).sum();
-        long sumNet    = filled.stream().mapToLong(SalesDailyPointDTO::getNetSales).sum();
-        long aov       = (sumOrders == 0) ? 0 : (sumNet / sumOrders);
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
 
-        // 4) 페이지네이션 (1-based)
-        int totalItems = filled.size();
-        int totalPages = (int)Math.ceil(totalItems / (double)size);
-        int safePage   = Math.min(Math.max(page, 1), Math.max(totalPages,1));
-        int startIdx   = (safePage - 1) * size;
-        int endIdx     = Math.min(startIdx + size, totalItems);
-        List<SalesDailyPointDTO> slice = filled.subList(startIdx, endIdx);
+    /** 날짜 기준 1-based 페이지 구간 (to 포함) */
+    record DayWindow(int page, int totalPages, long totalItems, LocalDate from, LocalDate to) {
 
-        return new SalesDailyPageResponse(slice, safePage, size, totalItems, totalPages, sumOrders, sumNet, aov);
+        static DayWindow of(LocalDate from, LocalDate to, int page, int size) {
+            long totalItems = Math.max(0, ChronoUnit.DAYS.between(from, to) + 1);
+            int totalPages  = (int) ((totalItems + size - 1) / size);
+            int safePage    = Math.min(Math.max(page, 1), Math.max(totalPages, 1));
+            LocalDate start = from.plusDays((long) (safePage - 1) * size);
+            LocalDate end   = start.plusDays(size - 1L).isBefore(to) ? start.plusDays(size - 1L) : to;
+            return new DayWindow(safePage, totalPages, totalItems, start, end);
+        }
+
+        boolean isEmpty() {
+            return totalItems == 0;
+        }
+    }
+
+    /**
+     * [from, to] 날짜를 0으로 채우며 raw(날짜 오름차순)와 병합 (DB 접근 없음, 벤치마크 대상)
+     * - 정렬된 raw 를 한 번 훑는 병합이라 맵/중간 리스트 없음
+     */
+    static List<SalesDailyPointDTO> zeroFill(List<SalesDailyPointDTO> raw, LocalDate from, LocalDate to) {
+        int days = (int) Math.max(0, ChronoUnit.DAYS.between(from, to) + 1);
+        List<SalesDailyPointDTO> out = new ArrayList<>(days);
+        int i = 0;
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            while (i < raw.size() && raw.get(i).getDate().isBefore(d)) i++;
+            if (i < raw.size() && raw.get(i).getDate().equals(d)) {
+                SalesDailyPointDTO v = raw.get(i++);
+                // aov 보정(0으로 저장되어 있을 수 있음)
+                long aov = (v.getOrders() == 0) ? 0L : (v.getNetSales() / v.getOrders());
+                out.add(new SalesDailyPointDTO(d, v.getOrders(), v.getNetSales(), aov));
+            } else {
+                out.add(new SalesDailyPointDTO(d, 0L, 0L, 0L));
+            }
+        }
+        return out;
     }
 }
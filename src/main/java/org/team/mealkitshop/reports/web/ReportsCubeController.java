@@ -0,0 +1,76 @@
+package org.team.mealkitshop.reports.web;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.team.mealkitshop.common.Category;
+import org.team.mealkitshop.common.FoodItem;
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.common.Pay;
+import org.team.mealkitshop.reports.cube.CubeDimension;
+import org.team.mealkitshop.reports.cube.SalesCube;
+import org.team.mealkitshop.reports.repo.ReportsQueryRepository;
+import org.team.mealkitshop.reports.service.SalesCubeService;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 차원별 매출(분류/품목/회원 등급/결제수단) 슬라이스·다이스
+ * - by: 그룹 기준 차원(쉼표 구분, 없으면 기간 합계 1행)
+ * - category/foodItem/grade/pay: 차원 필터(쉼표 구분, 없으면 전체)
+ * - /db: 같은 조건을 order_item GROUP BY 로 직접 계산(비교/검증용, 관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/reports/cube")
+@RequiredArgsConstructor
+public class ReportsCubeController {
+
+    private final SalesCubeService salesCubeService;
+    private final ReportsQueryRepository repo;
+
+    @GetMapping
+    public List<SalesCube.Cell> slice(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<CubeDimension> by,
+            @RequestParam(required = false) Set<Category> category,
+            @RequestParam(required = false) Set<FoodItem> foodItem,
+            @RequestParam(required = false) Set<Grade> grade,
+            @RequestParam(required = false) Set<Pay> pay
+    ) {
+        return salesCubeService.slice(from, to.plusDays(1), // 끝 포함
+                new SalesCube.Filter(category, foodItem, grade, pay), by);
+    }
+
+    /** DB 직접 집계(큐브 검증용) — 기간 전체 order_item 스캔이라 관리자만 */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/db")
+    public List<SalesCube.Cell> sliceFromDb(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<CubeDimension> by,
+            @RequestParam(required = false) Set<Category> category,
+            @RequestParam(required = false) Set<FoodItem> foodItem,
+            @RequestParam(required = false) Set<Grade> grade,
+            @RequestParam(required = false) Set<Pay> pay
+    ) {
+        return repo.findSalesByDimension(from, to.plusDays(1),
+                new SalesCube.Filter(category, foodItem, grade, pay), by);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/rebuild")
+    public Map<String, Object> rebuild() {
+        return Map.of("aggregateRows", salesCubeService.rebuild());
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/metrics")
+    public Map<String, Object> metrics() {
+        return salesCubeService.metrics();
+    }
+}
@@ -2,10 +2,13 @@ package org.team.mealkitshop.repository.board.Search;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.team.mealkitshop.common.BoardType;
 import org.team.mealkitshop.domain.board.Board;
 import org.team.mealkitshop.dto.board.BoardListAllDTO;
 import org.team.mealkitshop.dto.board.TipBoardListReplyCountDTO;
 
+import java.util.List;
+
 public interface BoardSearch {
 
     Page<Board> search1(Pageable pageable);
@@ -16,4 +19,11 @@ public interface BoardSearch {
 
     Page<BoardListAllDTO> searchWithAll(String[] types, String keyword, Pageable pageable);
 
+    /**
+     * 유형별 게시글 키셋 조회(bno desc) — offset/count 없이 afterBno 다음부터 limit 건
+     * @param status EVENT 일 때만: "expired" 종료, 그 외 진행중(listByType 과 같은 의미)
+     */
+    List<Board> searchSlice(BoardType boardType, String status, String[] types, String keyword,
+                            Long afterBno, int limit);
+
 }
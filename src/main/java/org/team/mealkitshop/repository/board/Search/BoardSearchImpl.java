@@ -9,6 +9,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Repository;
+import org.team.mealkitshop.common.BoardType;
+import org.team.mealkitshop.component.CountCache;
 import org.team.mealkitshop.domain.board.Board;
 import org.team.mealkitshop.domain.board.QBoard;
 import org.team.mealkitshop.domain.board.QTipReply;
@@ -17,14 +19,18 @@ import org.team.mealkitshop.dto.board.BoardListAllDTO;
 import org.team.mealkitshop.dto.board.TipBoardListReplyCountDTO;
 
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Repository
 public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardSearch {
 
-    public BoardSearchImpl() {
+    private final CountCache countCache;
+
+    public BoardSearchImpl(CountCache countCache) {
         super(Board.class);
+        this.countCache = countCache;
     }
 
     @Override
@@ -50,28 +56,17 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
     @Override
     public Page<Board> searchAll(String[] types, String keyword, Pageable pageable) {
         QBoard board = QBoard.board;
-        JPQLQuery<Board> query = from(board);
-
-        // 검색 조건 설정 (제목, 내용, 작성자)
-        if ((types != null && types.length > 0) && keyword != null) {
-            BooleanBuilder booleanBuilder = new BooleanBuilder();
-            for (String type : types) {
-                switch (type) {
-                    case "t": booleanBuilder.or(board.title.contains(keyword)); break;
-                    case "c": booleanBuilder.or(board.content.contains(keyword)); break;
-                    case "w": booleanBuilder.or(board.writer.contains(keyword)); break;
-                }
-            }
-            query.where(booleanBuilder);
-        }
-
-        query.where(board.bno.gt(0L)); // pk 기준 검색
-        getQuerydsl().applyPagination(pageable, query);
-
-        List<Board> list = query.fetch();
-        long count = query.fetchCount();
-
-        return new PageImpl<>(list, pageable, count);
+        BooleanBuilder where = keywordCondition(board, types, keyword);
+        where.and(board.bno.gt(0L)); // pk 기준 검색
+
+        return countCache.page("board-search", pageable,
+                limit -> {
+                    JPQLQuery<Board> query = from(board).where(where);
+                    getQuerydsl().applySorting(pageable.getSort(), query);
+                    return query.offset(pageable.getOffset()).limit(limit).fetch();
+                },
+                countKey(types, keyword),
+                () -> from(board).where(where).fetchCount());
     }
 
     @Override
@@ -90,28 +85,19 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
     @Override
     public Page<BoardListAllDTO> searchWithAll(String[] types, String keyword, Pageable pageable) {
         QBoard board = QBoard.board;
-        JPQLQuery<Board> query = from(board);
-
-        // 검색 조건 설정
-        if ((types != null && types.length > 0) && keyword != null) {
-            BooleanBuilder booleanBuilder = new BooleanBuilder();
-            for (String type : types) {
-                switch (type) {
-                    case "t": booleanBuilder.or(board.title.contains(keyword)); break;
-                    case "c": booleanBuilder.or(board.content.contains(keyword)); break;
-                    case "w": booleanBuilder.or(board.writer.contains(keyword)); break;
-                }
-            }
-            query.where(booleanBuilder);
-        }
-
-        query.groupBy(board);
-        getQuerydsl().applyPagination(pageable, query);
+        BooleanBuilder where = keywordCondition(board, types, keyword);
 
-        List<Board> boardList = query.fetch();
+        Page<Board> page = countCache.page("board-list", pageable,
+                limit -> {
+                    JPQLQuery<Board> query = from(board).where(where).groupBy(board);
+                    getQuerydsl().applySorting(pageable.getSort(), query);
+                    return query.offset(pageable.getOffset()).limit(limit).fetch();
+                },
+                countKey(types, keyword),
+                () -> from(board).where(where).fetchCount());
 
         // 🔹 DTO 변환 (첨부파일 포함, 댓글 count는 0)
-        List<BoardListAllDTO> dtoList = boardList.stream().map(b -> {
+        return page.map(b -> {
             BoardListAllDTO dto = BoardListAllDTO.builder()
                     .bno(b.getBno())
                     .title(b.getTitle())
@@ -128,11 +114,69 @@ public class BoardSearchImpl extends QuerydslRepositorySupport implements BoardS
             dto.setBoardImage(images);
 
             return dto;
-        }).collect(Collectors.toList());
+        });
+    }
+
+    /** 검색 조건 (제목 t, 내용 c, 작성자 w) — 타입이나 키워드가 없으면 조건 없음 */
+    private static BooleanBuilder keywordCondition(QBoard board, String[] types, String keyword) {
+        BooleanBuilder where = new BooleanBuilder();
+        if ((types != null && types.length > 0) && keyword != null) {
+            BooleanBuilder booleanBuilder = new BooleanBuilder();
+            for (String type : types) {
+                switch (type) {
+                    case "t": booleanBuilder.or(board.title.contains(keyword)); break;
+                    case "c": booleanBuilder.or(board.content.contains(keyword)); break;
+                    case "w": booleanBuilder.or(board.writer.contains(keyword)); break;
+                }
+            }
+            where.and(booleanBuilder);
+        }
+        return where;
+    }
+
+    /** 건수 캐시 키 — 타입 없이 온 키워드는 조건이 아니므로 제외 */
+    private static String countKey(String[] types, String keyword) {
+        boolean filtered = types != null && types.length > 0;
+        return CountCache.key("types", filtered ? types : null, "kw", filtered ? keyword : null);
+    }
+
+    /**
+     * 🔹 유형별 게시글 키셋 조회
+     * - (board_type, bno) 인덱스를 bno 역순으로 읽다가 limit 건에서 멈춤 (offset 스캔/건수 조회 없음)
+     */
+    @Override
+    public List<Board> searchSlice(BoardType boardType, String status, String[] types, String keyword,
+                                   Long afterBno, int limit) {
+        QBoard board = QBoard.board;
+        JPQLQuery<Board> query = from(board);
+
+        if (boardType != null) {
+            query.where(board.boardType.eq(boardType));
+            if (boardType == BoardType.EVENT) {
+                LocalDateTime now = LocalDateTime.now();
+                query.where("expired".equals(status)
+                        ? board.endDate.before(now)
+                        : board.endDate.isNull().or(board.endDate.after(now)));
+            }
+        }
+
+        // 검색 조건 설정 (제목, 내용, 작성자)
+        if ((types != null && types.length > 0) && keyword != null) {
+            BooleanBuilder booleanBuilder = new BooleanBuilder();
+            for (String type : types) {
+                switch (type) {
+                    case "t": booleanBuilder.or(board.title.contains(keyword)); break;
+                    case "c": booleanBuilder.or(board.content.contains(keyword)); break;
+                    case "w": booleanBuilder.or(board.writer.contains(keyword)); break;
+                }
+            }
+            query.where(booleanBuilder);
+        }
 
-        long totalCount = query.fetchCount();
+        if (afterBno != null) query.where(board.bno.lt(afterBno));
+        query.orderBy(board.bno.desc()).limit(limit);
 
-        return new PageImpl<>(dtoList, pageable, totalCount);
+        return query.fetch();
     }
 
 }
\ No newline at end of file
@@ -14,10 +14,10 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
 
     /**
      * 회원 번호(mno)로 장바구니 조회
-     * - 장바구니(cart) + 항목들(items) + 각 항목의 상품(item)까지 한 번에 로딩
+     * - 장바구니(cart) + 항목들(items) + 각 항목의 상품(item) + 회원(등급)까지 한 번에 로딩
      * - 화면에서 N+1 문제를 막기 위해 EntityGraph 사용
      */
-    @EntityGraph(attributePaths = {"items", "items.item"}, type = EntityGraph.EntityGraphType.FETCH)
+    @EntityGraph(attributePaths = {"items", "items.item", "member"}, type = EntityGraph.EntityGraphType.FETCH)
     Optional<Cart> findByMember_Mno(Long mno);
 
     /**
@@ -89,14 +89,14 @@ public interface ItemImgRepository extends JpaRepository<ItemImage, Long> {
     """)
     List<ItemImage> findAllForDetail(@Param("itemId") Long itemId);
 
-    /** 배치: 대표 URL만 (정책: 갤러리 detail=false) */
+    /** 배치: 대표 URL만 (정책: 갤러리 detail=false) — 목록 카드 파생본 우선, 없으면 원본 */
     interface ItemRepProjection {
         Long getItemId();
         String getImgUrl();
     }
 
     @Query("""
-        select ii.item.id as itemId, ii.imgUrl as imgUrl
+        select ii.item.id as itemId, coalesce(ii.cardUrl, ii.imgUrl) as imgUrl
           from ItemImage ii
          where ii.repimgYn = true
            and ii.detail = false
@@ -0,0 +1,27 @@
+package org.team.mealkitshop.repository.item;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.team.mealkitshop.domain.item.ItemListing;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ItemListingRepository extends JpaRepository<ItemListing, Long>, ItemListingRepositoryCustom {
+
+    /** 원본 item이 사라진 목록 행 정리 */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from ItemListing l where l.itemId in :itemIds")
+    int deleteByItemIdIn(@Param("itemIds") Collection<Long> itemIds);
+
+    /** 원본 item에 없는 목록 행 id (전체 재빌드 시 정리용) */
+    @Query("""
+        select l.itemId from ItemListing l
+         where not exists (select 1 from Item i where i.id = l.itemId)
+    """)
+    List<Long> findOrphanItemIds();
+}
@@ -0,0 +1,34 @@
+package org.team.mealkitshop.repository.item;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.team.mealkitshop.common.CursorSlice;
+import org.team.mealkitshop.dto.item.ItemSearchDTO;
+import org.team.mealkitshop.dto.item.ListItemDTO;
+
+import java.util.List;
+
+public interface ItemListingRepositoryCustom {
+
+    /**
+     * 사용자 상품 목록 조회 (item_listing 단일 테이블)
+     * - 조인/그룹핑 없이 미리 계산된 대표 이미지/리뷰 통계/판매량으로 필터·정렬
+     * - 검색 조건/정렬 의미는 ItemRepositoryCustom#getListItemPage 와 동일
+     */
+    Page<ListItemDTO> getListPage(ItemSearchDTO itemSearchDTO, Pageable pageable);
+
+    /**
+     * 검색 색인 결과(순위순 상품 id)로 좁힌 사용자 목록
+     * - 키워드/상품명·상세 검색 LIKE 대신 id IN 조건, 나머지 조건은 동일
+     * - RELEVANCE 정렬(또는 정렬 미지정·기본 최신순)이면 색인 순위 그대로 페이징
+     */
+    Page<ListItemDTO> getListPage(ItemSearchDTO itemSearchDTO, Pageable pageable, List<Long> rankedIds);
+
+    /**
+     * 키셋(커서) 목록 — offset/count 없이 커서 다음부터 size 건
+     * - 조건/정렬 의미는 getListPage 와 같음(sortType 미지정이면 최신순), 동점은 item_id desc
+     * - rankedIds 가 있고 정렬 미지정/RELEVANCE 면 색인 순위의 위치를 커서로 사용
+     * @param cursor 직전 응답의 nextCursor (첫 요청은 null), 정렬이 다르면 IllegalArgumentException
+     */
+    CursorSlice<ListItemDTO> getListSlice(ItemSearchDTO itemSearchDTO, String cursor, int size, List<Long> rankedIds);
+}
@@ -0,0 +1,386 @@
+package org.team.mealkitshop.repository.item;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.team.mealkitshop.common.CursorSlice;
+import org.team.mealkitshop.component.CountCache;
+import org.team.mealkitshop.common.ItemSellStatus;
+import org.team.mealkitshop.common.ItemSortType;
+import org.team.mealkitshop.common.KeysetCursor;
+import org.team.mealkitshop.domain.item.ItemListing;
+import org.team.mealkitshop.domain.item.QItem;
+import org.team.mealkitshop.domain.item.QItemListing;
+import org.team.mealkitshop.dto.item.ItemSearchDTO;
+import org.team.mealkitshop.dto.item.ListItemDTO;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.querydsl.jpa.JPAExpressions.select;
+
+@Repository
+public class ItemListingRepositoryCustomImpl implements ItemListingRepositoryCustom {
+
+    /** 전체 건수 캐시/생략 방식 선택용 엔드포인트 이름 */
+    static final String COUNT_ENDPOINT = "item-list";
+
+    private final JPAQueryFactory queryFactory;
+    private final CountCache countCache;
+
+    public ItemListingRepositoryCustomImpl(EntityManager em, CountCache countCache) {
+        this.queryFactory = new JPAQueryFactory(em);
+        this.countCache = countCache;
+    }
+
+    /* ==================== 사용자 목록 (단일 테이블) ==================== */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ListItemDTO> getListPage(ItemSearchDTO dto, Pageable pageable) {
+        return getListPage(dto, pageable, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ListItemDTO> getListPage(ItemSearchDTO dto, Pageable pageable, List<Long> rankedIds) {
+        if (rankedIds != null && rankedIds.isEmpty()) return Page.empty(pageable);
+        QItemListing listing = QItemListing.itemListing;
+
+        BooleanExpression[] where = buildWhere(dto, rankedIds);
+
+        ItemSortType effSort = (dto != null && dto.getSortType() != null)
+                ? dto.getSortType()
+                : mapSortFrom(pageable.getSort());
+        if (rankedIds != null && (effSort == ItemSortType.RELEVANCE
+                || ((dto == null || dto.getSortType() == null) && effSort == ItemSortType.NEW))) {
+            return relevancePage(where, rankedIds, pageable);
+        }
+
+        return countCache.page(COUNT_ENDPOINT, pageable,
+                limit -> queryFactory
+                        .selectFrom(listing)
+                        .where(where)
+                        .orderBy(getSortOrder(effSort, listing))
+                        .offset(pageable.getOffset())
+                        .limit(limit)
+                        .fetch()
+                        .stream()
+                        .map(this::toListItemDTO)
+                        .toList(),
+                countKey(dto),
+                () -> {
+                    Long total = queryFactory
+                            .select(listing.count())
+                            .from(listing)
+                            .where(where)
+                            .fetchOne();
+                    return total == null ? 0 : total;
+                });
+    }
+
+    /**
+     * 건수 캐시 키 — 정렬/페이지를 뺀 검색 조건만
+     * - 색인 검색이면 id 목록 대신 검색어로 구분(색인 갱신도 ItemChangedEvent 로 무효화됨)
+     * - 상대 기간 조건(searchDateType, newItem)은 기호 그대로 → 경계 이동은 TTL 만큼 지연
+     */
+    static String countKey(ItemSearchDTO dto) {
+        if (dto == null) return "";
+        String q = trimToNull(dto.getSearchQuery());
+        return CountCache.key(
+                "date", dto.getSearchDateType(),
+                "status", dto.getItemSellStatus(),
+                "by", q == null ? null : dto.getSearchBy(),
+                "q", q,
+                "kw", trimToNull(dto.getKeyword()), // 조건에서도 trim 후 사용
+                "cat", dto.getCategory(),
+                "food", dto.getFoodItem(),
+                "min", dto.getMinPrice(),
+                "max", dto.getMaxPrice(),
+                "deal", Boolean.TRUE.equals(dto.getSpecialDeal()) ? true : null,
+                "new", Boolean.TRUE.equals(dto.getNewItem()) ? true : null);
+    }
+
+    private static String trimToNull(String s) {
+        return s == null || s.isBlank() ? null : s.trim();
+    }
+
+    /**
+     * 색인 순위순 페이지 — 조건에 맞는 id 만 먼저 추리고(최대 색인 결과 수) 순위로 정렬 후 해당 페이지 행만 조회
+     */
+    private Page<ListItemDTO> relevancePage(BooleanExpression[] where, List<Long> rankedIds, Pageable pageable) {
+        List<Long> ordered = matchedInRankOrder(where, rankedIds);
+
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        int to = Math.min(from + pageable.getPageSize(), ordered.size());
+        List<Long> pageIds = ordered.subList(from, to);
+        if (pageIds.isEmpty()) return new PageImpl<>(List.of(), pageable, ordered.size());
+
+        List<ListItemDTO> content = loadInOrder(pageIds).stream()
+                .map(this::toListItemDTO)
+                .toList();
+        return new PageImpl<>(content, pageable, ordered.size());
+    }
+
+    /* ==================== 사용자 목록 (키셋/커서) ==================== */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<ListItemDTO> getListSlice(ItemSearchDTO dto, String cursor, int size, List<Long> rankedIds) {
+        if (rankedIds != null && rankedIds.isEmpty()) return CursorSlice.empty(size);
+        QItemListing listing = QItemListing.itemListing;
+
+        BooleanExpression[] where = buildWhere(dto, rankedIds);
+        boolean sortGiven = dto != null && dto.getSortType() != null;
+        ItemSortType sort = sortGiven ? dto.getSortType() : ItemSortType.NEW;
+        if (rankedIds != null && (sort == ItemSortType.RELEVANCE || !sortGiven)) {
+            return relevanceSlice(where, rankedIds, KeysetCursor.decode(cursor, ItemSortType.RELEVANCE.name()), size);
+        }
+        if (sort == ItemSortType.RELEVANCE) sort = ItemSortType.NEW; // 검색어 없을 때
+
+        ItemSortType effSort = sort;
+        List<ItemListing> rows = queryFactory
+                .selectFrom(listing)
+                .where(where)
+                .where(seek(effSort, KeysetCursor.decode(cursor, effSort.name()), listing))
+                .orderBy(getSortOrder(effSort, listing))
+                .limit(size + 1L)
+                .fetch();
+        return CursorSlice.of(rows, size, l -> KeysetCursor.of(effSort.name(), sortValue(effSort, l), l.getItemId()))
+                .map(this::toListItemDTO);
+    }
+
+    /** 관련도순 키셋 — 커서 값은 (조건에 맞는) 색인 순위 목록에서 다음 시작 위치 */
+    private CursorSlice<ListItemDTO> relevanceSlice(BooleanExpression[] where, List<Long> rankedIds,
+                                                    KeysetCursor after, int size) {
+        List<Long> ordered = matchedInRankOrder(where, rankedIds);
+        int from = after == null ? 0 : (int) Math.min(Math.max(after.longValue(), 0), ordered.size());
+        List<Long> ids = ordered.subList(from, Math.min(from + size + 1, ordered.size()));
+        if (ids.isEmpty()) return CursorSlice.empty(size);
+
+        long nextFrom = (long) from + size;
+        return CursorSlice.of(loadInOrder(ids), size,
+                        l -> KeysetCursor.of(ItemSortType.RELEVANCE.name(), nextFrom, l.getItemId()))
+                .map(this::toListItemDTO);
+    }
+
+    /** 색인 순위 중 목록 조건에 맞는 id (순위 유지) */
+    private List<Long> matchedInRankOrder(BooleanExpression[] where, List<Long> rankedIds) {
+        QItemListing listing = QItemListing.itemListing;
+        Set<Long> matched = new HashSet<>(queryFactory
+                .select(listing.itemId)
+                .from(listing)
+                .where(where)
+                .fetch());
+        return rankedIds.stream().filter(matched::contains).toList();
+    }
+
+    /** id 목록 순서대로 목록 행 조회 */
+    private List<ItemListing> loadInOrder(List<Long> ids) {
+        QItemListing listing = QItemListing.itemListing;
+        Map<Long, ItemListing> rows = queryFactory
+                .selectFrom(listing)
+                .where(listing.itemId.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(ItemListing::getItemId, Function.identity()));
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /* ==================== 검색/정렬 Helper ==================== */
+
+    /** where절 생성 — 사용자 기본조건(SELL + SOLD_OUT) 포함, rankedIds 가 있으면 텍스트 검색은 색인 결과로 대체 */
+    private BooleanExpression[] buildWhere(ItemSearchDTO dto, List<Long> rankedIds) {
+        QItemListing listing = QItemListing.itemListing;
+        List<BooleanExpression> conditions = new ArrayList<>();
+        conditions.add(listing.itemSellStatus.in(ItemSellStatus.SELL, ItemSellStatus.SOLD_OUT));
+
+        if (dto != null) {
+            conditions.add(regDtsAfter(dto.getSearchDateType()));
+            conditions.add(dto.getItemSellStatus() == null ? null : listing.itemSellStatus.eq(dto.getItemSellStatus()));
+            if (rankedIds != null) {
+                conditions.add(listing.itemId.in(rankedIds));
+                if ("createdBy".equals(dto.getSearchBy())) {
+                    conditions.add(searchByLike(dto.getSearchBy(), dto.getSearchQuery()));
+                }
+            } else {
+                conditions.add(searchByLike(dto.getSearchBy(), dto.getSearchQuery()));
+            }
+
+            // FoodItem 우선, 없으면 Category fallback
+            if (dto.getFoodItem() != null) {
+                conditions.add(listing.foodItem.eq(dto.getFoodItem()));
+            } else if (dto.getCategory() != null) {
+                conditions.add(listing.category.eq(dto.getCategory()));
+            }
+            // 키워드 (상품명 LIKE)
+            if (rankedIds == null && dto.getKeyword() != null && !dto.getKeyword().isBlank()) {
+                conditions.add(listing.itemNm.containsIgnoreCase(dto.getKeyword().trim()));
+            }
+            // 가격 범위 (실판매가 컬럼 그대로 사용)
+            if (dto.getMinPrice() != null) conditions.add(listing.salePrice.goe(dto.getMinPrice()));
+            if (dto.getMaxPrice() != null) conditions.add(listing.salePrice.loe(dto.getMaxPrice()));
+            // 특가상품(할인율 50% 이상) / 신메뉴(최근 7일)
+            if (Boolean.TRUE.equals(dto.getSpecialDeal())) {
+                conditions.add(listing.discountRate.goe(50));
+            }
+            if (Boolean.TRUE.equals(dto.getNewItem())) {
+                conditions.add(listing.regTime.after(LocalDateTime.now().minusDays(7)));
+            }
+        }
+
+        return conditions.stream()
+                .filter(Objects::nonNull)
+                .toArray(BooleanExpression[]::new);
+    }
+
+    /** 등록일 필터 */
+    private BooleanExpression regDtsAfter(String searchDateType) {
+        if (searchDateType == null || searchDateType.isEmpty()) return null;
+        LocalDateTime dt = LocalDateTime.now();
+        switch (searchDateType) {
+            case "1d" -> dt = dt.minusDays(1);
+            case "1w" -> dt = dt.minusWeeks(1);
+            case "1m" -> dt = dt.minusMonths(1);
+            case "6m" -> dt = dt.minusMonths(6);
+            default -> { return null; }
+        }
+        return QItemListing.itemListing.regTime.after(dt);
+    }
+
+    /** 검색 타입별 like — 상세설명은 목록 테이블에 없으므로 item 서브쿼리 */
+    private BooleanExpression searchByLike(String searchBy, String searchQuery) {
+        if (searchBy == null || searchQuery == null || searchQuery.isBlank()) return null;
+        QItemListing listing = QItemListing.itemListing;
+        String term = searchQuery.trim();
+        return switch (searchBy) {
+            case "itemNm"     -> listing.itemNm.containsIgnoreCase(term);
+            case "createdBy"  -> listing.createdBy.containsIgnoreCase(term);
+            case "itemDetail" -> listing.itemId.in(
+                    select(QItem.item.id).from(QItem.item)
+                            .where(QItem.item.itemDetail.containsIgnoreCase(term)));
+            default           -> null;
+        };
+    }
+
+    /** Pageable.sort → ItemSortType 매핑 */
+    private ItemSortType mapSortFrom(Sort sort) {
+        Sort.Order o = sort.stream().findFirst().orElse(null);
+        if (o == null) return ItemSortType.NEW;
+
+        String prop = o.getProperty();
+        boolean asc = o.isAscending();
+
+        return switch (prop) {
+            case "price"        -> asc ? ItemSortType.PRICE_ASC : ItemSortType.PRICE_DESC;
+            case "regTime"      -> ItemSortType.NEW;
+            case "reviewCount"  -> ItemSortType.REVIEW_DESC;
+            case "avgRating"    -> ItemSortType.RATING_DESC;
+            case "itemViewCnt"  -> ItemSortType.POPULAR_VIEW;
+            case "itemLike"     -> ItemSortType.LIKE_DESC;
+            case "relevance"    -> ItemSortType.RELEVANCE;
+            default             -> ItemSortType.NEW;
+        };
+    }
+
+    /** 정렬 조건 — 모두 목록 테이블의 인덱스 컬럼 */
+    private OrderSpecifier<?>[] getSortOrder(ItemSortType sortType, QItemListing listing) {
+        ItemSortType sort = (sortType != null) ? sortType : ItemSortType.NEW;
+        return switch (sort) {
+            case POPULAR_VIEW -> new OrderSpecifier[]{ listing.itemViewCnt.desc(), listing.itemId.desc() };
+            case LIKE_DESC    -> new OrderSpecifier[]{ listing.itemLike.desc(), listing.itemId.desc() };
+            case PRICE_ASC    -> new OrderSpecifier[]{ listing.salePrice.asc(), listing.itemId.desc() };
+            case PRICE_DESC   -> new OrderSpecifier[]{ listing.salePrice.desc(), listing.itemId.desc() };
+            case RATING_DESC  -> new OrderSpecifier[]{ listing.avgRating.desc(), listing.itemId.desc() };
+            case REVIEW_DESC  -> new OrderSpecifier[]{ listing.reviewCount.desc(), listing.itemId.desc() };
+            case SALES_DESC   -> new OrderSpecifier[]{ listing.soldQuantity.desc(), listing.itemId.desc() };
+            case NEW          -> new OrderSpecifier[]{ listing.regTime.desc(), listing.itemId.desc() };
+            case RELEVANCE    -> new OrderSpecifier[]{ listing.regTime.desc(), listing.itemId.desc() }; // 검색어 없을 때
+        };
+    }
+
+    /**
+     * 키셋 조건 — 정렬 값이 커서 뒤쪽이거나 같으면 id 가 더 작은 행(동점 순서는 모든 정렬에서 id desc)
+     * - "값 ≤ v and (값 < v or id < 커서id)" 형태로 (정렬 컬럼, item_id) 인덱스 범위 탐색이 되게 함
+     */
+    private BooleanExpression seek(ItemSortType sort, KeysetCursor c, QItemListing l) {
+        if (c == null) return null;
+        long id = c.id();
+        return switch (sort) {
+            case POPULAR_VIEW -> {
+                long v = c.longValue();
+                yield l.itemViewCnt.loe(v).and(l.itemViewCnt.lt(v).or(l.itemId.lt(id)));
+            }
+            case LIKE_DESC -> {
+                long v = c.longValue();
+                yield l.itemLike.loe(v).and(l.itemLike.lt(v).or(l.itemId.lt(id)));
+            }
+            case PRICE_ASC -> {
+                int v = c.intValue();
+                yield l.salePrice.goe(v).and(l.salePrice.gt(v).or(l.itemId.lt(id)));
+            }
+            case PRICE_DESC -> {
+                int v = c.intValue();
+                yield l.salePrice.loe(v).and(l.salePrice.lt(v).or(l.itemId.lt(id)));
+            }
+            case RATING_DESC -> {
+                double v = c.doubleValue();
+                yield l.avgRating.loe(v).and(l.avgRating.lt(v).or(l.itemId.lt(id)));
+            }
+            case REVIEW_DESC -> {
+                long v = c.longValue();
+                yield l.reviewCount.loe(v).and(l.reviewCount.lt(v).or(l.itemId.lt(id)));
+            }
+            case SALES_DESC -> {
+                long v = c.longValue();
+                yield l.soldQuantity.loe(v).and(l.soldQuantity.lt(v).or(l.itemId.lt(id)));
+            }
+            case NEW, RELEVANCE -> {
+                LocalDateTime v = c.dateTimeValue();
+                yield l.regTime.loe(v).and(l.regTime.lt(v).or(l.itemId.lt(id)));
+            }
+        };
+    }
+
+    /** 커서에 담을 정렬 값 */
+    private static Object sortValue(ItemSortType sort, ItemListing l) {
+        return switch (sort) {
+            case POPULAR_VIEW -> l.getItemViewCnt();
+            case LIKE_DESC -> l.getItemLike();
+            case PRICE_ASC, PRICE_DESC -> l.getSalePrice();
+            case RATING_DESC -> l.getAvgRating();
+            case REVIEW_DESC -> l.getReviewCount();
+            case SALES_DESC -> l.getSoldQuantity();
+            case NEW, RELEVANCE -> l.getRegTime();
+        };
+    }
+
+    /** 목록 행 → 화면 DTO (liked는 서비스에서 세팅) */
+    private ListItemDTO toListItemDTO(ItemListing l) {
+        return ListItemDTO.builder()
+                .id(l.getItemId())
+                .itemNm(l.getItemNm())
+                .repImgUrl(l.getRepImgUrl())
+                .price(l.getSalePrice())
+                .originalPrice(l.getOriginalPrice())
+                .discountRate(l.getDiscountRate())
+                .itemLike(l.getItemLike())
+                .avgRating(l.getAvgRating())
+                .reviewCount(l.getReviewCount())
+                .itemViewCnt(l.getItemViewCnt())
+                .liked(false)
+                .itemSellStatus(l.getItemSellStatus())
+                .regTime(l.getRegTime())
+                .build();
+    }
+}
@@ -68,6 +68,10 @@ public interface ItemRepository extends JpaRepository<Item, Long>,
     @Query("select i from Item i left join fetch i.images where i.id = :id")
     Optional<Item> findByIdWithImages(@Param("id") Long id);
 
+    /** 현재 재고(캐시 거치지 않은 DB 값) */
+    @Query("select i.stockNumber from Item i where i.id = :id")
+    Optional<Integer> findStockNumberById(@Param("id") Long id);
+
     /** 좋아요 +1 */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("update Item i set i.itemLike = i.itemLike + 1 where i.id = :id")
@@ -92,5 +96,8 @@ public interface ItemRepository extends JpaRepository<Item, Long>,
            """)
     int decrementLikeSafely(@Param("id") Long id);
 
-}
+    /** id 키셋 순회 (목록 읽기 모델 전체 재빌드 등 배치용) */
+    @Query("select i.id from Item i where i.id > :afterId order by i.id asc")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 
+}
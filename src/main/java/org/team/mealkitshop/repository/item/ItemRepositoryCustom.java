@@ -7,6 +7,8 @@ import org.team.mealkitshop.domain.item.Item;
 import org.team.mealkitshop.dto.item.ItemSearchDTO;
 import org.team.mealkitshop.dto.item.ListItemDTO;
 
+import java.util.Collection;
+
 @Repository
 public interface ItemRepositoryCustom {
 
@@ -17,6 +19,12 @@ public interface ItemRepositoryCustom {
      */
     Page<ListItemDTO> getAdminItemPage(ItemSearchDTO itemSearchDTO, Pageable pageable);
 
+    /**
+     * 관리자 페이지용 상품 조회 — 검색 색인 결과로 좁힘
+     * - 키워드/상품명·상세 검색 LIKE 대신 id IN 조건(등록자 검색은 그대로 LIKE)
+     */
+    Page<ListItemDTO> getAdminItemPage(ItemSearchDTO itemSearchDTO, Pageable pageable, Collection<Long> matchedIds);
+
     /**
      * 메인 페이지용 상품 조회
      * - 검색 조건(ItemSearchDTO)에 따라 메인 화면에 표시할 상품 목록 조회
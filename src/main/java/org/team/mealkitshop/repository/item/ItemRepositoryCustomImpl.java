@@ -8,7 +8,6 @@ import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
@@ -16,9 +15,10 @@ import org.springframework.transaction.annotation.Transactional;
 import org.team.mealkitshop.common.ItemSellStatus;
 import org.team.mealkitshop.common.ItemSortType;
 import org.team.mealkitshop.common.OrderStatus;          // OrderStatus: common 패키지
+import org.team.mealkitshop.component.CountCache;
 import org.team.mealkitshop.domain.item.QItem;
 import org.team.mealkitshop.domain.item.QItemImage;
-import org.team.mealkitshop.domain.item.QReview;
+import org.team.mealkitshop.domain.item.QItemReviewStats;
 import org.team.mealkitshop.domain.order.QOrder;         // 판매량 정렬용 Q타입
 import org.team.mealkitshop.domain.order.QOrderItem;     // 판매량 정렬용 Q타입
 import org.team.mealkitshop.dto.item.ItemSearchDTO;
@@ -26,6 +26,7 @@ import org.team.mealkitshop.dto.item.ListItemDTO;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -35,25 +36,34 @@ import static com.querydsl.jpa.JPAExpressions.select;
 public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final CountCache countCache;
 
-    public ItemRepositoryCustomImpl(EntityManager em) {
+    public ItemRepositoryCustomImpl(EntityManager em, CountCache countCache) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.countCache = countCache;
     }
 
     /* ==================== 관리자 목록 ==================== */
     @Override
     @Transactional(readOnly = true)
     public Page<ListItemDTO> getAdminItemPage(ItemSearchDTO dto, Pageable pageable) {
+        return getAdminItemPage(dto, pageable, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ListItemDTO> getAdminItemPage(ItemSearchDTO dto, Pageable pageable, Collection<Long> matchedIds) {
+        if (matchedIds != null && matchedIds.isEmpty()) return Page.empty(pageable);
         QItem item = QItem.item;
         QItemImage rep = QItemImage.itemImage;
         QItemImage tmp = new QItemImage("tmpRep");
-        QReview review = QReview.review;
+        QItemReviewStats stats = QItemReviewStats.itemReviewStats; // 리뷰 통계(미리 집계, 상품당 1행)
 
         QOrder order = QOrder.order;
         QOrderItem oi = QOrderItem.orderItem;
 
         // STOP 포함 (관리자 전체 조회)
-        BooleanExpression[] where = buildWhere(dto, null, true);
+        BooleanExpression[] where = buildWhere(dto, null, true, matchedIds);
 
         // 대표 이미지(대표 Y중 최소 id)
         var repImgMinIdSubquery = select(tmp.id.min())
@@ -88,52 +98,47 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
                 ? dto.getSortType()
                 : mapSortFrom(pageable.getSort());
 
-        List<ListItemDTO> content = queryFactory
-                .select(Projections.constructor(
-                        ListItemDTO.class,
-                        item.id,
-                        item.itemNm,
-                        item.itemDetail,
-                        rep.imgUrl,
-                        salePriceExpr,
-                        item.originalPrice,
-                        item.discountRate,
-                        item.itemLike.coalesce(0L),
-                        review.rating.avg().coalesce(0.0),
-                        review.id.countDistinct().coalesce(0L),
-                        item.itemViewCnt.coalesce(0L),
-                        Expressions.constant(false), // 관리자페이지 liked=False
-                        item.itemSellStatus,
-                        item.regTime
-                ))
-                .from(item)
-                .leftJoin(item.images, rep).on(rep.id.eq(repImgMinIdSubquery))
-                .leftJoin(item.reviews, review)
-                .where(where)
-                .groupBy(
-                        item.id, item.itemNm, item.itemDetail,
-                        rep.imgUrl,
-                        item.originalPrice, item.discountRate,
-                        item.itemLike, item.itemViewCnt,
-                        item.itemSellStatus, item.regTime
-                )
-                // SALES_DESC일 때만 판매량 정렬 사용
-                .orderBy(
-                        (effSort == ItemSortType.SALES_DESC)
-                                ? new OrderSpecifier[]{ salesQtyExpr.desc(), item.id.desc() }
-                                : getSortOrder(effSort, item, review, salePriceExpr)
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        Long total = queryFactory
-                .select(item.id.countDistinct())
-                .from(item)
-                .where(where)
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+        return countCache.page("item-admin", pageable,
+                limit -> queryFactory
+                        .select(Projections.constructor(
+                                ListItemDTO.class,
+                                item.id,
+                                item.itemNm,
+                                item.itemDetail,
+                                rep.cardUrl.coalesce(rep.imgUrl), // 목록 카드 파생본 우선
+                                salePriceExpr,
+                                item.originalPrice,
+                                item.discountRate,
+                                item.itemLike.coalesce(0L),
+                                avgRating(stats),
+                                stats.reviewCount.coalesce(0L),
+                                item.itemViewCnt.coalesce(0L),
+                                Expressions.constant(false), // 관리자페이지 liked=False
+                                item.itemSellStatus,
+                                item.regTime
+                        ))
+                        .from(item)
+                        .leftJoin(item.images, rep).on(rep.id.eq(repImgMinIdSubquery))
+                        .leftJoin(stats).on(stats.itemId.eq(item.id))
+                        .where(where)
+                        // SALES_DESC일 때만 판매량 정렬 사용
+                        .orderBy(
+                                (effSort == ItemSortType.SALES_DESC)
+                                        ? new OrderSpecifier[]{ salesQtyExpr.desc(), item.id.desc() }
+                                        : getSortOrder(effSort, item, stats, salePriceExpr)
+                        )
+                        .offset(pageable.getOffset())
+                        .limit(limit)
+                        .fetch(),
+                ItemListingRepositoryCustomImpl.countKey(dto),
+                () -> {
+                    Long total = queryFactory
+                            .select(item.id.countDistinct())
+                            .from(item)
+                            .where(where)
+                            .fetchOne();
+                    return total == null ? 0 : total;
+                });
     }
 
     /* ==================== 사용자 목록 ==================== */
@@ -143,7 +148,7 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
         QItem item = QItem.item;
         QItemImage rep = QItemImage.itemImage;
         QItemImage tmp = new QItemImage("tmpRep");
-        QReview review = QReview.review;
+        QItemReviewStats stats = QItemReviewStats.itemReviewStats; // 리뷰 통계(미리 집계, 상품당 1행)
 
         QOrder order = QOrder.order;
         QOrderItem oi = QOrderItem.orderItem;
@@ -152,7 +157,7 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
         List<BooleanExpression> base = List.of(
                 item.itemSellStatus.in(ItemSellStatus.SELL, ItemSellStatus.SOLD_OUT)
         );
-        BooleanExpression[] where = buildWhere(dto, base, false);
+        BooleanExpression[] where = buildWhere(dto, base, false, null);
 
         // 대표 이미지
         var repImgMinIdSubquery = select(tmp.id.min())
@@ -194,57 +199,54 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
                 ? dto.getSortType()
                 : mapSortFrom(pageable.getSort());
 
-        List<ListItemDTO> content = queryFactory
-                .select(Projections.constructor(
-                        ListItemDTO.class,
-                        item.id,
-                        item.itemNm,
-                        item.itemDetail,
-                        rep.imgUrl,
-                        salePriceExpr.as("price"),
-                        item.originalPrice,
-                        item.discountRate,
-                        item.itemLike.coalesce(0L),
-                        review.rating.avg().coalesce(0.0),
-                        review.id.countDistinct().coalesce(0L),
-                        item.itemViewCnt.coalesce(0L),
-                        Expressions.constant(false), // 로그인 유저 liked는 서비스에서 세팅
-                        item.itemSellStatus,
-                        item.regTime
-                ))
-                .from(item)
-                .leftJoin(item.images, rep).on(rep.id.eq(repImgMinIdSubquery))
-                .leftJoin(item.reviews, review)
-                .where(where)
-                .groupBy(
-                        item.id, item.itemNm, item.itemDetail,
-                        rep.imgUrl,
-                        item.originalPrice, item.discountRate,
-                        item.itemLike, item.itemViewCnt,
-                        item.itemSellStatus, item.regTime
-                )
-                .orderBy(
-                        (effSort == ItemSortType.SALES_DESC)
-                                ? new OrderSpecifier[]{ salesQtyExpr.desc(), item.id.desc() }
-                                : getSortOrder(effSort, item, review, salePriceExpr)
-                )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        Long total = queryFactory
-                .select(item.id.countDistinct())
-                .from(item)
-                .where(where)
-                .fetchOne();
-
-        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+        BooleanExpression[] filters = where; // 가격 조건까지 붙인 최종 조건
+        return countCache.page("item-list-join", pageable,
+                limit -> queryFactory
+                        .select(Projections.constructor(
+                                ListItemDTO.class,
+                                item.id,
+                                item.itemNm,
+                                item.itemDetail,
+                                rep.cardUrl.coalesce(rep.imgUrl), // 목록 카드 파생본 우선
+                                salePriceExpr.as("price"),
+                                item.originalPrice,
+                                item.discountRate,
+                                item.itemLike.coalesce(0L),
+                                avgRating(stats),
+                                stats.reviewCount.coalesce(0L),
+                                item.itemViewCnt.coalesce(0L),
+                                Expressions.constant(false), // 로그인 유저 liked는 서비스에서 세팅
+                                item.itemSellStatus,
+                                item.regTime
+                        ))
+                        .from(item)
+                        .leftJoin(item.images, rep).on(rep.id.eq(repImgMinIdSubquery))
+                        .leftJoin(stats).on(stats.itemId.eq(item.id))
+                        .where(filters)
+                        .orderBy(
+                                (effSort == ItemSortType.SALES_DESC)
+                                        ? new OrderSpecifier[]{ salesQtyExpr.desc(), item.id.desc() }
+                                        : getSortOrder(effSort, item, stats, salePriceExpr)
+                        )
+                        .offset(pageable.getOffset())
+                        .limit(limit)
+                        .fetch(),
+                ItemListingRepositoryCustomImpl.countKey(dto),
+                () -> {
+                    Long total = queryFactory
+                            .select(item.id.countDistinct())
+                            .from(item)
+                            .where(filters)
+                            .fetchOne();
+                    return total == null ? 0 : total;
+                });
     }
 
     /* ==================== 검색/정렬 Helper ==================== */
 
-    /** 공통 where절 생성 */
-    private BooleanExpression[] buildWhere(ItemSearchDTO dto, List<BooleanExpression> extraConditions, boolean admin) {
+    /** 공통 where절 생성 — matchedIds 가 있으면 텍스트 검색(키워드/상품명/상세)은 색인 결과로 대체 */
+    private BooleanExpression[] buildWhere(ItemSearchDTO dto, List<BooleanExpression> extraConditions, boolean admin,
+                                           Collection<Long> matchedIds) {
         QItem item = QItem.item;
         List<BooleanExpression> conditions = new ArrayList<>();
         if (extraConditions != null) conditions.addAll(extraConditions);
@@ -252,8 +254,13 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
         // 등록일, 판매상태, 검색조건
         conditions.add(regDtsAfter(dto != null ? dto.getSearchDateType() : null));
         conditions.add(sellStatusEq(dto != null ? dto.getItemSellStatus() : null));
-        conditions.add(searchByLike(dto != null ? dto.getSearchBy() : null,
-                dto != null ? dto.getSearchQuery() : null));
+        String searchBy = dto != null ? dto.getSearchBy() : null;
+        if (matchedIds != null) {
+            conditions.add(item.id.in(matchedIds));
+            if ("createdBy".equals(searchBy)) conditions.add(searchByLike(searchBy, dto.getSearchQuery()));
+        } else {
+            conditions.add(searchByLike(searchBy, dto != null ? dto.getSearchQuery() : null));
+        }
 
         if (dto != null) {
             if (admin) {
@@ -270,7 +277,7 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
                 }
             }
             // 키워드 (상품명 LIKE)
-            if (dto.getKeyword() != null && !dto.getKeyword().isBlank()) {
+            if (matchedIds == null && dto.getKeyword() != null && !dto.getKeyword().isBlank()) {
                 conditions.add(item.itemNm.containsIgnoreCase(dto.getKeyword().trim()));
             }
         }
@@ -338,20 +345,28 @@ public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
     }
 
     /** 정렬 조건 (기본) — SALES_DESC는 외부에서 처리되지만 컴파일 안전을 위해 포함 */
-    private OrderSpecifier<?>[] getSortOrder(ItemSortType sortType, QItem item, QReview review,
+    private OrderSpecifier<?>[] getSortOrder(ItemSortType sortType, QItem item, QItemReviewStats stats,
                                              NumberExpression<Integer> salePriceExpr) {
         ItemSortType sort = (sortType != null) ? sortType : ItemSortType.NEW;
         return switch (sort) {
             case POPULAR_VIEW -> new OrderSpecifier[]{ item.itemViewCnt.desc(), item.id.desc() };
+            case LIKE_DESC    -> new OrderSpecifier[]{ item.itemLike.coalesce(0L).desc(), item.id.desc() };
             case PRICE_ASC    -> new OrderSpecifier[]{ salePriceExpr.asc(), item.id.desc() };
             case PRICE_DESC   -> new OrderSpecifier[]{ salePriceExpr.desc(), item.id.desc() };
-            case RATING_DESC  -> new OrderSpecifier[]{ review.rating.avg().coalesce(0.0).desc(), item.id.desc() };
-            case REVIEW_DESC  -> new OrderSpecifier[]{ review.id.countDistinct().coalesce(0L).desc(), item.id.desc() };
+            case RATING_DESC  -> new OrderSpecifier[]{ avgRating(stats).desc(), item.id.desc() };
+            case REVIEW_DESC  -> new OrderSpecifier[]{ stats.reviewCount.coalesce(0L).desc(), item.id.desc() };
             case SALES_DESC   -> new OrderSpecifier[]{ item.regTime.desc(), item.id.desc() }; // 안전 fallback
             case NEW          -> new OrderSpecifier[]{ item.regTime.desc(), item.id.desc() };
+            case RELEVANCE    -> new OrderSpecifier[]{ item.regTime.desc(), item.id.desc() }; // 관리자 목록은 최신순
         };
     }
 
+    /** 평균 평점 = 평점 합 / 리뷰 수 (통계 행이 없거나 리뷰 0건이면 0) */
+    private static NumberExpression<Double> avgRating(QItemReviewStats stats) {
+        return Expressions.numberTemplate(Double.class,
+                "coalesce({0} * 1.0 / nullif({1}, 0), 0.0)", stats.ratingSum, stats.reviewCount);
+    }
+
     /** 조건 배열 추가 */
     private BooleanExpression[] append(BooleanExpression[] arr, BooleanExpression extra) {
         if (extra == null) return arr;
@@ -0,0 +1,8 @@
+package org.team.mealkitshop.repository.item;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.team.mealkitshop.domain.item.ItemReviewStats;
+
+/** 상품별 리뷰 통계 조회 (쓰기는 ReviewStatsService 의 JDBC upsert) */
+public interface ItemReviewStatsRepository extends JpaRepository<ItemReviewStats, Long> {
+}
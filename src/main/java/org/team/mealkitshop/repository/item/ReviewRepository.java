@@ -17,23 +17,28 @@ import java.util.Optional;
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    /** 아이템 별 리뷰 목록 (회원+아이템 페치) - 페이징 */
-    @EntityGraph(attributePaths = {"member","item"}, type = EntityGraph.EntityGraphType.FETCH)
+    /** 아이템 별 리뷰 목록 (아이템만 페치, 작성자/이미지/답변은 ReviewPageAssembler 일괄 조회) - 페이징 */
+    @EntityGraph(attributePaths = {"item"}, type = EntityGraph.EntityGraphType.FETCH)
     Page<Review> findByItem_Id(Long itemId, Pageable pageable);
 
-    /** 아이템 별 리뷰 + 이미지 페치 (N+1 방지) - 페이징 */
-    @EntityGraph(attributePaths = {"member","item","images"}, type = EntityGraph.EntityGraphType.FETCH)
-    @Query("select r from Review r where r.item.id = :itemId")
-    Page<Review> findWithImagesByItemId(@Param("itemId") Long itemId, Pageable pageable);
-
     /** 아이템 상위 평점 10건 (회원까지 페치) */
     @EntityGraph(attributePaths = {"member"}, type = EntityGraph.EntityGraphType.FETCH)
     List<Review> findTop10ByItem_IdOrderByRatingDescIdDesc(Long itemId);
 
-    /** 회원이 작성한 리뷰 목록 (회원+아이템 페치) - 페이징 */
-    @EntityGraph(attributePaths = {"member","item"}, type = EntityGraph.EntityGraphType.FETCH)
+    /** 회원이 작성한 리뷰 목록 (아이템만 페치) - 페이징 */
+    @EntityGraph(attributePaths = {"item"}, type = EntityGraph.EntityGraphType.FETCH)
     Page<Review> findByMember_Mno(Long mno, Pageable pageable);
 
+    /** 아이템 별 리뷰 키셋 조회 (id desc, afterId 다음부터) — 건수 조회 없이 size+1 건, 아이템만 페치 */
+    @EntityGraph(attributePaths = {"item"}, type = EntityGraph.EntityGraphType.FETCH)
+    @Query("select r from Review r where r.item.id = :itemId and (:afterId is null or r.id < :afterId) order by r.id desc")
+    List<Review> findSliceByItemId(@Param("itemId") Long itemId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /** 회원 별 리뷰 키셋 조회 (id desc, afterId 다음부터), 아이템만 페치 */
+    @EntityGraph(attributePaths = {"item"}, type = EntityGraph.EntityGraphType.FETCH)
+    @Query("select r from Review r where r.member.mno = :mno and (:afterId is null or r.id < :afterId) order by r.id desc")
+    List<Review> findSliceByMemberMno(@Param("mno") Long mno, @Param("afterId") Long afterId, Pageable pageable);
+
     /** 상세 화면 최적화: 단건 조회 시 member,item 함께 로드 */
     @EntityGraph(attributePaths = {"member","item"}, type = EntityGraph.EntityGraphType.FETCH)
     Optional<Review> findWithItemAndMemberById(Long id);
@@ -1,9 +1,13 @@
 package org.team.mealkitshop.repository.member;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.team.mealkitshop.domain.member.Member;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long>, QuerydslPredicateExecutor<Member> {
@@ -14,9 +18,19 @@ public interface MemberRepository extends JpaRepository<Member, Long>, QuerydslP
     // email로 회원 조회
     Optional<Member> findByEmail(String email);
 
+    // email → 회원 번호만 (헤더 요약: 버전 번호를 회원 조회보다 먼저 읽기 위해)
+    @Query("select m.mno from Member m where m.email = :email")
+    Optional<Long> findMnoByEmail(@Param("email") String email);
+
     // 닉네임(=memberName) 중복 체크
     boolean existsByMemberName(String memberName);
 
     Optional<Member> findByMemberName(String memberName);
+
+    // 회원 번호 묶음 → 이름만 조회 (리뷰 페이지 작성자/답변자 표시)
+    @Query("select m.mno as mno, m.memberName as memberName from Member m where m.mno in :mnos")
+    List<MemberName> findNamesByMnoIn(@Param("mnos") Collection<Long> mnos);
+
+    interface MemberName { Long getMno(); String getMemberName(); }
 }
 
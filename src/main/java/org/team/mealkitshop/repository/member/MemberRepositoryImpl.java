@@ -7,10 +7,10 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import org.team.mealkitshop.component.CountCache;
 import org.team.mealkitshop.domain.member.QMember;
 import org.team.mealkitshop.dto.member.MemberAdminListItemDTO;
 import org.team.mealkitshop.dto.member.MemberSearchCondition;
@@ -23,6 +23,7 @@ import java.util.List;
 public class MemberRepositoryImpl implements MemberRepositoryCustom {
 
     private final JPAQueryFactory query;
+    private final CountCache countCache;
     private static final QMember m = QMember.member;
 
     @Override
@@ -58,26 +59,33 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
             }
         }
 
-        List<MemberAdminListItemDTO> content = query
-                .select(Projections.constructor(
-                        MemberAdminListItemDTO.class,
-                        m.regTime,        // createdAt
-                        m.email,
-                        m.memberName,
-                        m.grade,
-                        m.role,
-                        m.points,
-                        m.provider,
-                        m.status
-                ))
-                .from(m)
-                .where(where)
-                .orderBy(orders.toArray(new OrderSpecifier[0]))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+        String keyword = cond.getKeyword() == null || cond.getKeyword().isBlank() ? null : cond.getKeyword().trim();
+        String countKey = CountCache.key("kw", keyword, "grade", cond.getGrade(), "role", cond.getRole(),
+                "provider", cond.getProvider(), "status", cond.getStatus());
 
-        Long total = query.select(m.count()).from(m).where(where).fetchOne();
-        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+        return countCache.page("member-admin", pageable,
+                limit -> query
+                        .select(Projections.constructor(
+                                MemberAdminListItemDTO.class,
+                                m.regTime,        // createdAt
+                                m.email,
+                                m.memberName,
+                                m.grade,
+                                m.role,
+                                m.points,
+                                m.provider,
+                                m.status
+                        ))
+                        .from(m)
+                        .where(where)
+                        .orderBy(orders.toArray(new OrderSpecifier[0]))
+                        .offset(pageable.getOffset())
+                        .limit(limit)
+                        .fetch(),
+                countKey,
+                () -> {
+                    Long total = query.select(m.count()).from(m).where(where).fetchOne();
+                    return total == null ? 0 : total;
+                });
     }
 }
@@ -5,9 +5,11 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
+import org.team.mealkitshop.common.OrderStatus;
 import org.team.mealkitshop.common.Pay;
 import org.team.mealkitshop.domain.order.OrderItem;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
@@ -51,4 +53,47 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from OrderItem oi where oi.item.id = :itemId")
     int deleteByItemId(@Param("itemId") Long itemId);
+
+    /* 상품별 판매량(수량 합) — 목록 읽기 모델(item_listing) 갱신용 */
+    @Query("""
+        select oi.item.id as itemId, sum(oi.quantity) as soldQuantity
+          from OrderItem oi
+         where oi.item.id in :itemIds
+           and oi.order.status in :statuses
+         group by oi.item.id
+    """)
+    List<ItemSoldQuantity> sumSoldQuantityByItemIds(@Param("itemIds") Collection<Long> itemIds,
+                                                    @Param("statuses") Collection<OrderStatus> statuses);
+
+    /* 주문 상품별 수량 — 재고 반환용(엔티티 로딩 없이) */
+    @Query("""
+        select oi.item.id as itemId, oi.quantity as quantity
+          from OrderItem oi
+         where oi.order.orderId = :orderId
+    """)
+    List<OrderLineQuantity> findLineQuantitiesByOrderId(@Param("orderId") Long orderId);
+
+    /* 주문별 상품명 — 관리자 주문 목록 한 페이지분을 한 번에(지연 컬렉션 N+1 방지) */
+    @Query("""
+        select oi.order.orderId as orderId, oi.itemName as itemName
+          from OrderItem oi
+         where oi.order.orderId in :orderIds
+         order by oi.orderItemId
+    """)
+    List<OrderItemName> findItemNamesByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    interface OrderItemName {
+        Long getOrderId();
+        String getItemName();
+    }
+
+    interface OrderLineQuantity {
+        Long getItemId();
+        Integer getQuantity();
+    }
+
+    interface ItemSoldQuantity {
+        Long getItemId();
+        Long getSoldQuantity();
+    }
 }
@@ -2,11 +2,16 @@ package org.team.mealkitshop.repository.order;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.team.mealkitshop.common.RefundStatus;
 import org.team.mealkitshop.domain.order.OrderRefund;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -23,4 +28,30 @@ public interface OrderRefundRepository extends JpaRepository<OrderRefund, Long>
 
     // ✅ 전체 환불 요청 조회 (최신순: regTime 기준)
     Page<OrderRefund> findAllByOrderByRegTimeDesc(Pageable pageable);
+
+    // ✅ 처리 결과 기록 — 대기(PENDING) 상태일 때만(동시 처리 시 한쪽만 1 반환)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update OrderRefund r
+        set r.status = :to, r.processedBy = :processedBy, r.processedAt = :processedAt
+        where r.refundId = :refundId and r.status = org.team.mealkitshop.common.RefundStatus.PENDING
+    """)
+    int completePending(@Param("refundId") Long refundId,
+                        @Param("to") RefundStatus to,
+                        @Param("processedBy") String processedBy,
+                        @Param("processedAt") LocalDateTime processedAt);
+
+    // ✅ 키셋 조회 (최신순: regTime, refundId) — status 는 선택, 건수 조회 없음
+    @EntityGraph(attributePaths = {"order"})
+    @Query("""
+        select r from OrderRefund r
+        where (:status is null or r.status = :status)
+        and   (:afterTime is null
+               or (r.regTime <= :afterTime and (r.regTime < :afterTime or r.refundId < :afterId)))
+        order by r.regTime desc, r.refundId desc
+    """)
+    List<OrderRefund> findSlice(@Param("status") RefundStatus status,
+                                @Param("afterTime") LocalDateTime afterTime,
+                                @Param("afterId") Long afterId,
+                                Pageable pageable);
 }
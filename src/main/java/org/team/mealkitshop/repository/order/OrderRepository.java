@@ -4,12 +4,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.team.mealkitshop.common.OrderStatus;
 import org.team.mealkitshop.common.Pay;
 import org.team.mealkitshop.domain.order.Order;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -86,6 +88,22 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("select o from Order o order by o.orderDate desc")
     Page<Order> findAllWithMember(Pageable pageable);
 
+    /** 관리자 키셋 조회 (주문일시 desc, orderId desc) — (afterDate, afterId) 다음부터, 건수 조회 없음 */
+    @EntityGraph(attributePaths = {"member"})
+    @Query("""
+        select o from Order o
+        where (:status is null or o.status = :status)
+        and   (:pay is null or o.payMethod = :pay)
+        and   (:afterDate is null
+               or (o.orderDate <= :afterDate and (o.orderDate < :afterDate or o.orderId < :afterId)))
+        order by o.orderDate desc, o.orderId desc
+    """)
+    List<Order> findSliceForAdmin(@Param("status") OrderStatus status,
+                                  @Param("pay") Pay pay,
+                                  @Param("afterDate") LocalDateTime afterDate,
+                                  @Param("afterId") Long afterId,
+                                  Pageable pageable);
+
     @EntityGraph(attributePaths = {"member"})
     @Query("""
         select o from Order o
@@ -102,4 +120,25 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     /** ✅ 회원별 특정 상태 주문 조회 */
     List<Order> findByMember_MnoAndStatusIn(Long memberId, List<OrderStatus> statuses);
+
+    /* ===================== 상태 전이 / 재고 예약 ===================== */
+
+    /** 조건부 상태 전이(현재 상태가 from 일 때만). 성공 1, 이미 바뀌었으면 0 — 동시 전이 직렬화용 */
+    @Modifying(flushAutomatically = true)
+    @Query("update Order o set o.status = :to where o.orderId = :orderId and o.status = :from")
+    int transitionStatus(@Param("orderId") Long orderId,
+                         @Param("from") OrderStatus from,
+                         @Param("to") OrderStatus to);
+
+    /** 재고 점유 기한이 지난 미결제 주문 ID (오래된 순) */
+    @Query("""
+        select o.orderId from Order o
+         where o.status = :status
+           and o.reservedUntil is not null
+           and o.reservedUntil < :now
+         order by o.reservedUntil asc
+    """)
+    List<Long> findExpiredReservationIds(@Param("status") OrderStatus status,
+                                         @Param("now") LocalDateTime now,
+                                         Pageable pageable);
 }
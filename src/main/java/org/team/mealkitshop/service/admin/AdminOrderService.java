@@ -1,14 +1,26 @@
 package org.team.mealkitshop.service.admin;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.team.mealkitshop.common.CursorSlice;
+import org.team.mealkitshop.common.KeysetCursor;
 import org.team.mealkitshop.common.OrderStatus;
 import org.team.mealkitshop.common.Pay;
 import org.team.mealkitshop.domain.order.Order;
+import org.team.mealkitshop.dto.admin.AdminOrderDTO;
+import org.team.mealkitshop.event.ItemChangedEvent;
+import org.team.mealkitshop.event.OrderStatusChangedEvent;
+import org.team.mealkitshop.repository.order.OrderItemRepository;
 import org.team.mealkitshop.repository.order.OrderRepository;
+import org.team.mealkitshop.service.order.StockReservationService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -16,6 +28,9 @@ import org.team.mealkitshop.repository.order.OrderRepository;
 public class AdminOrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockReservationService stockReservationService;
 
     /** 관리자 전체 조회 */
     public Page<Order> getOrders(int page, int size, String sort, OrderStatus status, Pay pay) {
@@ -26,11 +41,65 @@ public class AdminOrderService {
         return orderRepository.searchOrders(status, pay, sort, pageable);
     }
 
+    /**
+     * 관리자 커서 조회 (최신 주문순) — 주문이 많아도 뒤 페이지가 느려지지 않음
+     * - 이름순 정렬은 키셋 대상이 아님(페이지 목록에서만)
+     */
+    public CursorSlice<AdminOrderDTO> getOrdersCursor(String cursor, int size, OrderStatus status, Pay pay) {
+        int limit = CursorSlice.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, "date");
+        List<Order> rows = orderRepository.findSliceForAdmin(status, pay,
+                after == null ? null : after.dateTimeValue(),
+                after == null ? null : after.id(),
+                PageRequest.of(0, limit + 1));
+
+        CursorSlice<Order> slice = CursorSlice.of(rows, limit,
+                o -> KeysetCursor.of("date", o.getOrderDate(), o.getOrderId()));
+        Map<Long, List<String>> itemNames = itemNamesOf(slice.content());
+        return slice.map(o -> toAdminDTO(o, itemNames.getOrDefault(o.getOrderId(), List.of())));
+    }
+
+    /** 페이지 주문들의 상품명을 쿼리 1번으로 */
+    private Map<Long, List<String>> itemNamesOf(List<Order> orders) {
+        if (orders.isEmpty()) return Map.of();
+        return orderItemRepository.findItemNamesByOrderIds(orders.stream().map(Order::getOrderId).toList()).stream()
+                .collect(Collectors.groupingBy(OrderItemRepository.OrderItemName::getOrderId,
+                        Collectors.mapping(OrderItemRepository.OrderItemName::getItemName, Collectors.toList())));
+    }
+
+    private AdminOrderDTO toAdminDTO(Order o, List<String> itemNames) {
+        return AdminOrderDTO.builder()
+                .orderId(o.getOrderId())
+                .orderNo(o.getOrderNo())
+                .buyerEmail(o.getMember().getEmail())
+                .buyerName(o.getMember().getMemberName())
+                .orderDate(o.getOrderDate())
+                .status(o.getStatus())
+                .payMethod(o.getPayMethod())
+                .payableAmount(o.getPayableAmount())
+                .items(itemNames)
+                .build();
+    }
+
     /** 주문 상태 변경 */
     @Transactional
     public void updateStatus(Long orderId, OrderStatus newStatus) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("주문 없음"));
+        OrderStatus current = order.getStatus();
+        // 조건부 전이 — 사용자 취소/미결제 만료와 동시에 처리되면 한쪽만 성공
+        if (orderRepository.transitionStatus(orderId, current, newStatus) == 0) {
+            throw new IllegalStateException("주문 상태가 이미 변경되었습니다. 다시 확인해주세요.");
+        }
         order.setStatus(newStatus);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.of(order, current, newStatus)); // 일별 매출 롤업
+        // 출고 전 주문을 관리자가 취소하면 점유 재고 반환
+        if (newStatus == OrderStatus.CANCELED
+                && (current == OrderStatus.CREATED || current == OrderStatus.PREPARING)) {
+            stockReservationService.release(StockReservationService.quantitiesOf(order.getOrderItems()));
+        }
+        // 판매량(SHIPPED/DELIVERED/COMPLETED) 변동 → 목록 읽기 모델 갱신
+        eventPublisher.publishEvent(ItemChangedEvent.of(
+                order.getOrderItems().stream().map(oi -> oi.getItem().getId()).toList()));
     }
 }
\ No newline at end of file
@@ -1,20 +1,29 @@
 package org.team.mealkitshop.service.admin;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.team.mealkitshop.common.CursorSlice;
+import org.team.mealkitshop.common.KeysetCursor;
 import org.team.mealkitshop.common.OrderStatus;
 import org.team.mealkitshop.common.RefundStatus;
 import org.team.mealkitshop.domain.member.Member;
 import org.team.mealkitshop.domain.order.Order;
 import org.team.mealkitshop.domain.order.OrderRefund;
+import org.team.mealkitshop.dto.admin.AdminRefundDTO;
+import org.team.mealkitshop.event.ItemChangedEvent;
+import org.team.mealkitshop.event.OrderStatusChangedEvent;
 import org.team.mealkitshop.repository.member.MemberRepository;
 import org.team.mealkitshop.repository.order.OrderRefundRepository;
 import org.team.mealkitshop.repository.order.OrderRepository;
+import org.team.mealkitshop.service.order.StockReservationService;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +33,8 @@ public class AdminRefundService {
     private final OrderRefundRepository refundRepository;
     private final OrderRepository orderRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockReservationService stockReservationService;
 
     /**
      * 환불 요청 목록 전체 조회 (최신순)
@@ -39,8 +50,34 @@ public class AdminRefundService {
         return refundRepository.findByStatusOrderByRegTimeDesc(status, pageable);
     }
 
+    /**
+     * 환불 요청 커서 조회 (최신순, status 선택) — 전체 건수 없이 nextCursor 로 이어서 조회
+     */
+    public CursorSlice<AdminRefundDTO> getRefundRequestsCursor(RefundStatus status, String cursor, int size) {
+        int limit = CursorSlice.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, "regTime");
+        List<OrderRefund> rows = refundRepository.findSlice(status,
+                after == null ? null : after.dateTimeValue(),
+                after == null ? null : after.id(),
+                PageRequest.of(0, limit + 1));
+
+        return CursorSlice.of(rows, limit, r -> KeysetCursor.of("regTime", r.getRegTime(), r.getRefundId()))
+                .map(r -> AdminRefundDTO.builder()
+                        .refundId(r.getRefundId())
+                        .orderId(r.getOrder().getOrderId())
+                        .orderNo(r.getOrder().getOrderNo())
+                        .reasonCode(r.getReasonCode())
+                        .reasonDetail(r.getReasonDetail())
+                        .status(r.getStatus())
+                        .processedBy(r.getProcessedBy())
+                        .processedAt(r.getProcessedAt())
+                        .regTime(r.getRegTime())
+                        .build());
+    }
+
     /**
      * 환불 승인
+     * - 주문/환불 상태를 조건부로 먼저 바꾼 쪽만 진행 → 동시 승인 시 포인트/재고 복구는 한 번만
      */
     @Transactional
     public void approveRefund(Long refundId, String adminNickname) {
@@ -51,6 +88,8 @@ public class AdminRefundService {
         if (order.getStatus() != OrderStatus.REFUND_REQUESTED) {
             throw new IllegalStateException("환불 요청 상태에서만 승인 가능");
         }
+        transitionOrThrow(order, OrderStatus.REFUNDED); // 일별 매출 롤업에서 제외
+        completeOrThrow(refund, RefundStatus.APPROVED, adminNickname);
 
         // 포인트 환불 처리
         if (order.getPayMethod().name().equals("POINT")) {
@@ -59,15 +98,9 @@ public class AdminRefundService {
         }
 
         // 재고 복구
-        order.getOrderItems().forEach(oi -> oi.getItem().increaseStock(oi.getQuantity()));
+        stockReservationService.release(StockReservationService.quantitiesOf(order.getOrderItems()));
 
-        // 주문 상태 변경
-        order.setStatus(OrderStatus.REFUNDED);
-
-        // ✅ 환불 요청 상태 변경 (삭제 X)
-        refund.setStatus(RefundStatus.APPROVED);
-        refund.setProcessedBy(adminNickname);
-        refund.setProcessedAt(LocalDateTime.now());
+        publishItemsChanged(order);
     }
 
     /**
@@ -83,12 +116,36 @@ public class AdminRefundService {
             throw new IllegalStateException("환불 요청 상태에서만 거절 가능");
         }
 
-        // 주문 상태 원상복구
-        order.setStatus(OrderStatus.DELIVERED);
+        // 주문 상태 원상복구 + ✅ 환불 요청 상태 변경 (삭제 X) — 둘 다 조건부
+        transitionOrThrow(order, OrderStatus.DELIVERED);
+        completeOrThrow(refund, RefundStatus.REJECTED, adminNickname);
+        publishItemsChanged(order);
+    }
 
-        // ✅ 환불 요청 상태 변경 (삭제 X)
-        refund.setStatus(RefundStatus.REJECTED);
+    /** 주문 상태 조건부 전이(REFUND_REQUESTED → to) — 다른 처리가 먼저 바꿨으면 예외(롤백) */
+    private void transitionOrThrow(Order order, OrderStatus to) {
+        if (orderRepository.transitionStatus(order.getOrderId(), OrderStatus.REFUND_REQUESTED, to) == 0) {
+            throw new IllegalStateException("이미 처리된 환불 요청입니다.");
+        }
+        order.setStatus(to);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.of(order, OrderStatus.REFUND_REQUESTED, to));
+    }
+
+    /** 환불 요청 처리 결과 조건부 기록(PENDING 일 때만) */
+    private void completeOrThrow(OrderRefund refund, RefundStatus to, String adminNickname) {
+        LocalDateTime now = LocalDateTime.now();
+        if (refundRepository.completePending(refund.getRefundId(), to, adminNickname, now) == 0) {
+            throw new IllegalStateException("이미 처리된 환불 요청입니다.");
+        }
+        // 영속 엔티티도 같은 값으로(더티 체킹이 옛 상태로 덮지 않도록)
+        refund.setStatus(to);
         refund.setProcessedBy(adminNickname);
-        refund.setProcessedAt(LocalDateTime.now());
+        refund.setProcessedAt(now);
+    }
+
+    /** 재고/판매량 변동 → 목록 읽기 모델 갱신 (커밋 후 처리) */
+    private void publishItemsChanged(Order order) {
+        eventPublisher.publishEvent(ItemChangedEvent.of(
+                order.getOrderItems().stream().map(oi -> oi.getItem().getId()).toList()));
     }
 }
@@ -3,14 +3,17 @@ package org.team.mealkitshop.service.board;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.team.mealkitshop.domain.board.Board;
 import org.team.mealkitshop.domain.board.BoardImage;
+import org.team.mealkitshop.event.ImageStoredEvent;
 import org.team.mealkitshop.repository.board.BoardImageRepository;
 import org.team.mealkitshop.repository.board.BoardRepository;
+import org.team.mealkitshop.service.item.FileService;
 
-import java.nio.file.Path;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,6 +24,8 @@ public class BoardImageServiceImpl implements BoardImageService {
 
     private final BoardImageRepository boardImageRepository;
     private final BoardRepository boardRepository;
+    private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher; // 파생본(썸네일) 생성 요청
 
     @Value("${uploadPath}")
     private String uploadDir;
@@ -57,8 +62,10 @@ public class BoardImageServiceImpl implements BoardImageService {
                 // 파일 저장 후 DB에는 파일명만 저장
                 String storedFileName = uuid + "_" + originalName;
 
-                Path filePath = uploadPath.resolve(storedFileName);
-                file.transferTo(filePath.toFile());
+                // 업로드 루트에 저장 (FileService — 내용 주소 저장 모드면 중복 내용은 1벌만)
+                try (InputStream in = file.getInputStream()) {
+                    fileService.uploadFileAs(storedFileName, in);
+                }
 
 // DB 저장 (fileUrl 대신 fileName만 넣음)
                 BoardImage image = BoardImage.builder()
@@ -74,6 +81,7 @@ public class BoardImageServiceImpl implements BoardImageService {
                         .build();
 
                 boardImageRepository.save(image);
+                eventPublisher.publishEvent(ImageStoredEvent.board(image.getFileId(), storedFileName));
 
                 savedFilePaths.add(storedFileName); // 파일명만 반환
 
@@ -92,10 +100,9 @@ public class BoardImageServiceImpl implements BoardImageService {
                 .orElseThrow(() -> new RuntimeException("이미지가 존재하지 않습니다."));
         boardImageRepository.delete(image);
 
-        // 실제 파일 삭제 (upload 경로 기준)
-        java.nio.file.Path path = java.nio.file.Paths.get(uploadDir, fileName); // 실제 경로로 변경
+        // 실제 파일 삭제 (upload 경로 기준, 파생본 포함)
         try {
-            java.nio.file.Files.deleteIfExists(path);
+            fileService.deleteBySavedName(fileName);
         } catch (Exception e) {
             log.error("파일 삭제 실패: " + fileName, e);
         }
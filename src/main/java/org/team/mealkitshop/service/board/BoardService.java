@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 import org.team.mealkitshop.common.BoardType;
+import org.team.mealkitshop.common.CursorSlice;
 import org.team.mealkitshop.domain.board.Board;
 import org.team.mealkitshop.domain.member.Member;
 import org.team.mealkitshop.dto.board.*;
@@ -30,6 +31,10 @@ public interface BoardService {
     /** 게시판 타입별 페이징 리스트 조회 (status 필터링 포함) */
     PageResponseDTO<BoardDTO> listByType(BoardType boardType, PageRequestDTO pageRequestDTO, String status);
 
+    /** 게시판 타입별 커서(키셋) 리스트 조회 — 검색/status 는 listByType 과 같음, 최신 글(bno)부터 */
+    CursorSlice<BoardDTO> listByTypeCursor(BoardType boardType, PageRequestDTO pageRequestDTO, String status,
+                                           String cursor, int size);
+
     /** 페이징 + 첨부파일 포함 게시글 리스트 조회 */
     PageResponseDTO<BoardListAllDTO> listWithAll(PageRequestDTO pageRequestDTO);
 
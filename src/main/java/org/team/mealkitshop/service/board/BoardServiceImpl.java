@@ -10,12 +10,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.team.mealkitshop.common.BoardType;
+import org.team.mealkitshop.common.CursorSlice;
+import org.team.mealkitshop.common.KeysetCursor;
+import org.team.mealkitshop.component.CountCache;
 import org.team.mealkitshop.domain.board.Board;
-import org.team.mealkitshop.domain.board.BoardView;
 import org.team.mealkitshop.domain.member.Member;
 import org.team.mealkitshop.dto.board.*;
 import org.team.mealkitshop.repository.board.BoardRepository;
-import org.team.mealkitshop.repository.board.BoardViewRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,7 +31,8 @@ public class BoardServiceImpl implements BoardService {
     private final ModelMapper modelMapper;
     private final BoardRepository boardRepository;
     private final BoardImageService boardImageService;
-    private final BoardViewRepository boardViewRepository;
+    private final BoardViewTracker boardViewTracker;
+    private final CountCache countCache; // 목록 전체 건수 캐시 — 글 등록/수정/삭제 시 무효화
 
 
     // 관리자 게시글 등록
@@ -41,6 +43,7 @@ public class BoardServiceImpl implements BoardService {
 
         Board board = dtoTOEntity(boardDTO);
         Board saved = boardRepository.save(board);
+        countCache.invalidate(CountCache.BOARD);
 
         // 첨부파일 저장
         if (files != null && !files.isEmpty()) {
@@ -56,10 +59,9 @@ public class BoardServiceImpl implements BoardService {
         Board board = boardRepository.findByIdWithImage(bno)
                 .orElseThrow(() -> new RuntimeException("게시글이 존재하지 않습니다."));
 
-        // 조회수 증가
-        board.increaseViewCount();
-        boardRepository.save(board); // DB 반영
+        // 조회수 증가는 상세 화면 진입 시 BoardViewTracker 가 담당(중복 제거 + 일괄 반영)
         BoardDTO dto = entityTODTO(board);
+        dto.setViewCount(dto.getViewCount() + boardViewTracker.pending(BoardViewTarget.BOARD, bno));
 
         // 등록일과 수정일이 같으면 수정일 null 처리
         if (dto.getUpdateTime() != null && dto.getUpdateTime().equals(dto.getRegTime())) {
@@ -110,6 +112,7 @@ public class BoardServiceImpl implements BoardService {
         }
 
         boardRepository.save(board);
+        countCache.invalidate(CountCache.BOARD); // 제목/내용 검색 건수
     }
 
     /**
@@ -130,29 +133,18 @@ public class BoardServiceImpl implements BoardService {
         }
 
         boardRepository.delete(board);
+        countCache.invalidate(CountCache.BOARD);
     }
 
     @Override
     public boolean hasViewed(Long boardId, Long memberId, String cookieId){
-        if(memberId != null){
-            return boardViewRepository.existsByBoardIdAndMemberId(boardId, memberId);
-        } else {
-            return boardViewRepository.existsByBoardIdAndCookieId(boardId, cookieId);
-        }
+        return boardViewTracker.hasViewed(BoardViewTarget.BOARD, boardId, memberId, cookieId);
     }
 
+    /** 조회 기록(중복 제거 포함) — memberId/cookieId 모두 null 이면 무조건 집계 */
     @Override
     public void incrementViewCount(Long boardId, Long memberId, String cookieId){
-        Board board = boardRepository.findById(boardId).orElseThrow();
-        board.setViewCount(board.getViewCount() + 1);
-        boardRepository.save(board);
-
-        BoardView view = BoardView.builder()
-                .boardId(boardId)
-                .memberId(memberId)
-                .cookieId(cookieId)
-                .build();
-        boardViewRepository.save(view);
+        boardViewTracker.recordView(BoardViewTarget.BOARD, boardId, memberId, cookieId);
     }
 
     @Override
@@ -182,6 +174,19 @@ public class BoardServiceImpl implements BoardService {
                 .build();
     }
 
+    @Override
+    public CursorSlice<BoardDTO> listByTypeCursor(BoardType boardType, PageRequestDTO pageRequestDTO, String status,
+                                                  String cursor, int size) {
+        int limit = CursorSlice.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, "bno");
+        List<Board> rows = boardRepository.searchSlice(boardType, status,
+                pageRequestDTO.getTypes(), pageRequestDTO.getKeyword(),
+                after == null ? null : after.id(), limit + 1);
+
+        return CursorSlice.of(rows, limit, b -> KeysetCursor.of("bno", null, b.getBno()))
+                .map(this::entityTODTO);
+    }
+
     /**
      * 게시글 리스트 조회 (페이징 + 첨부파일 포함)
      *
@@ -0,0 +1,20 @@
+package org.team.mealkitshop.service.board;
+
+/**
+ * 조회수 집계 대상 게시판 — 테이블명은 BoardViewTracker 의 배치 UPDATE 에 사용
+ */
+public enum BoardViewTarget {
+    BOARD("board"),
+    REVIEW_BOARD("review_board"),
+    TIP_BOARD("tip_board");
+
+    private final String table;
+
+    BoardViewTarget(String table) {
+        this.table = table;
+    }
+
+    String incrementSql() {
+        return "update " + table + " set view_count = view_count + ? where bno = ?";
+    }
+}
@@ -0,0 +1,181 @@
+package org.team.mealkitshop.service.board;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.team.mealkitshop.config.BoardViewProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시판 3종(공지·FAQ·이벤트 / 후기 / TIP) 공용 조회수 엔진
+ * - 중복 제거: (게시판, 글번호, 회원 또는 방문자 쿠키) 지문을 회전 블룸필터에 기록 — 조회 이력 테이블 INSERT/exists 없음
+ * - 집계: 게시글별 LongAdder 에 누적 후 주기적으로 게시판별 JDBC 배치 UPDATE 한 번씩 반영
+ * - 회원/방문자 모두 boards.view.dedup-window 구간 안의 재조회는 1회로 집계
+ */
+@Component
+@Log4j2
+public class BoardViewTracker {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardViewProperties properties;
+    private final RotatingBloomFilter seen;
+
+    private final Map<BoardViewTarget, ConcurrentHashMap<Long, LongAdder>> counters = new EnumMap<>(BoardViewTarget.class);
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /* ===== 지표 ===== */
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final AtomicLong flushedTotal = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private volatile LocalDateTime lastRotateAt = LocalDateTime.now();
+
+    public BoardViewTracker(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            BoardViewProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.seen = new RotatingBloomFilter(properties.expectedViewsPerWindow(), properties.falsePositiveRate());
+        for (BoardViewTarget t : BoardViewTarget.values()) {
+            counters.put(t, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 조회 1건 기록
+     * - memberId 우선, 없으면 visitorId(쿠키)로 중복 판정
+     * - 둘 다 없으면 중복 제거 없이 집계(이벤트 게시판 등)
+     * @return 이번 조회가 집계되었으면 true
+     */
+    public boolean recordView(BoardViewTarget target, Long bno, Long memberId, String visitorId) {
+        if (bno == null) return false;
+        String viewer = viewerKey(memberId, visitorId);
+        if (viewer != null && !seen.addIfAbsent(fingerprint(target, bno, viewer))) {
+            deduplicated.increment();
+            return false;
+        }
+        counters.get(target).computeIfAbsent(bno, k -> new LongAdder()).increment();
+        accepted.increment();
+        return true;
+    }
+
+    /** 최근 구간 내 조회 여부(기록하지 않음) */
+    public boolean hasViewed(BoardViewTarget target, Long bno, Long memberId, String visitorId) {
+        String viewer = viewerKey(memberId, visitorId);
+        return viewer != null && seen.mightContain(fingerprint(target, bno, viewer));
+    }
+
+    /** 아직 DB 에 반영되지 않은 조회수(화면 표시 보정용) */
+    public int pending(BoardViewTarget target, Long bno) {
+        LongAdder a = counters.get(target).get(bno);
+        return a == null ? 0 : (int) a.sum();
+    }
+
+    /** 주기 flush */
+    @Scheduled(fixedDelayString = "${boards.view.flush-interval:10s}")
+    public void scheduledFlush() {
+        if (!flushLock.tryLock()) return;
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** 중복 제거 구간 교체 */
+    @Scheduled(fixedRateString = "${boards.view.dedup-window:24h}", initialDelayString = "${boards.view.dedup-window:24h}")
+    public void rotateWindow() {
+        seen.rotate();
+        lastRotateAt = LocalDateTime.now();
+    }
+
+    /** 종료 시 남은 누적분 반영 */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** 지표 스냅샷 */
+    public Map<String, Object> metrics() {
+        long pending = counters.values().stream()
+                .flatMap(m -> m.values().stream())
+                .mapToLong(LongAdder::sum)
+                .sum();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("pendingDelta", pending);
+        m.put("accepted", accepted.sum());
+        m.put("deduplicated", deduplicated.sum());
+        m.put("flushedTotal", flushedTotal.get());
+        m.put("failedFlushCount", failedFlushCount.get());
+        m.put("filterBytes", seen.memoryBytes());
+        m.put("dedupWindow", properties.dedupWindow().toString());
+        m.put("lastRotateAt", lastRotateAt.toString());
+        return m;
+    }
+
+    /** 게시판별 누적분 수거 → 배치 UPDATE, 실패 시 되돌림 */
+    private void flushLocked() {
+        Map<BoardViewTarget, List<Object[]>> batches = new EnumMap<>(BoardViewTarget.class);
+        for (var entry : counters.entrySet()) {
+            List<Object[]> rows = new ArrayList<>();
+            for (var c : entry.getValue().entrySet()) {
+                long delta = c.getValue().sumThenReset();
+                if (delta != 0) rows.add(new Object[]{ delta, c.getKey() });
+            }
+            if (!rows.isEmpty()) batches.put(entry.getKey(), rows);
+        }
+        if (batches.isEmpty()) return;
+
+        long drained = batches.values().stream().flatMap(List::stream).mapToLong(r -> (Long) r[0]).sum();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    batches.forEach((target, rows) -> jdbcTemplate.batchUpdate(target.incrementSql(), rows)));
+            flushedTotal.addAndGet(drained);
+        } catch (RuntimeException ex) {
+            batches.forEach((target, rows) -> {
+                for (Object[] r : rows) {
+                    counters.get(target).computeIfAbsent((Long) r[1], k -> new LongAdder()).add((Long) r[0]);
+                }
+            });
+            failedFlushCount.incrementAndGet();
+            log.warn("[board-view] flush failed, {} views kept in buffer", drained, ex);
+        }
+    }
+
+    private static String viewerKey(Long memberId, String visitorId) {
+        if (memberId != null) return "m:" + memberId;
+        if (visitorId != null && !visitorId.isBlank()) return "v:" + visitorId;
+        return null;
+    }
+
+    /** (게시판, 글번호, 조회자) 64비트 지문 — FNV-1a 후 splitmix 로 섞음 */
+    static long fingerprint(BoardViewTarget target, Long bno, String viewer) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : viewer.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= bno * 0x9E3779B97F4A7C15L + target.ordinal();
+        h ^= (h >>> 30); h *= 0xbf58476d1ce4e5b9L;
+        h ^= (h >>> 27); h *= 0x94d049bb133111ebL;
+        h ^= (h >>> 31);
+        return h;
+    }
+}
@@ -1,6 +1,7 @@
 package org.team.mealkitshop.service.board;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,6 +12,7 @@ import org.team.mealkitshop.domain.board.Board;
 import org.team.mealkitshop.domain.board.ReviewBoard;
 import org.team.mealkitshop.domain.board.ReviewBoardReaction;
 import org.team.mealkitshop.dto.board.ReviewBoardReactionDTO;
+import org.team.mealkitshop.event.BoardReactionChangedEvent;
 import org.team.mealkitshop.repository.board.BoardRepository;
 import org.team.mealkitshop.repository.board.ReviewBoardReactionRepository;
 import org.team.mealkitshop.repository.board.ReviewBoardRepository;
@@ -30,6 +32,7 @@ public class ReviewBoardReactionServiceImpl implements ReviewBoardReactionServic
 
     private final ReviewBoardReactionRepository reactionRepository;
     private final ReviewBoardRepository reviewBoardRepository;
+    private final ApplicationEventPublisher eventPublisher;  // 도움돼요 수 변경 → 인기글 순위 반영
 
     /**
      * 토글 처리 (동일 버튼 클릭 시 해제, 반대 버튼 클릭 시 전환)
@@ -74,6 +77,7 @@ public class ReviewBoardReactionServiceImpl implements ReviewBoardReactionServic
             reactionRepository.save(newReaction);
             updateCount(board, clickedType, +1);
         }
+        eventPublisher.publishEvent(BoardReactionChangedEvent.review(board.getBno()));
 
         // ✅ 카운트 최신화 위해 DB에서 다시 조회
         ReviewBoard refreshedBoard = reviewBoardRepository.findById(board.getBno())
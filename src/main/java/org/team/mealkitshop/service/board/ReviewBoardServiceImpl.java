@@ -2,6 +2,7 @@ package org.team.mealkitshop.service.board;
 
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.repository.query.Param;
 import org.springframework.security.access.AccessDeniedException;
@@ -18,17 +19,19 @@ import org.team.mealkitshop.component.Rq;
 import org.team.mealkitshop.config.CustomUserDetails;
 import org.team.mealkitshop.domain.board.ReviewBoard;
 import org.team.mealkitshop.domain.board.ReviewBoardReply;
-import org.team.mealkitshop.domain.board.ReviewBoardView;
 import org.team.mealkitshop.domain.item.ReviewReply;
 import org.team.mealkitshop.domain.member.Member;
 import org.team.mealkitshop.dto.board.ReviewBoardDTO;
+import org.team.mealkitshop.event.BoardReactionChangedEvent;
 import org.team.mealkitshop.mapper.board.ReviewBoardMapper;
 import org.team.mealkitshop.repository.board.ReviewBoardReactionRepository;
 import org.team.mealkitshop.repository.board.ReviewBoardRepository;
 import org.team.mealkitshop.repository.board.ReviewBoardViewRepository;
 import org.team.mealkitshop.repository.member.MemberRepository;
+import org.team.mealkitshop.service.ranking.RankingService;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 리뷰 게시판 CRUD 전용 서비스 구현체
@@ -41,7 +44,10 @@ public class ReviewBoardServiceImpl implements ReviewBoardService {
     private final ReviewBoardMapper reviewBoardMapper;
     private final ReviewBoardReactionRepository reviewBoardReactionRepository;
     private final MemberRepository memberRepository;
-    private final ReviewBoardViewRepository reviewBoardViewRepository;
+    private final ReviewBoardViewRepository reviewBoardViewRepository; // 구 조회 이력(삭제 시 FK 정리용)
+    private final BoardViewTracker boardViewTracker;
+    private final RankingService rankingService;              // 도움돼요 인기글 순위(메모리)
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -128,13 +134,15 @@ public class ReviewBoardServiceImpl implements ReviewBoardService {
 
         // 게시글 삭제
         reviewBoardRepository.delete(board);
+        eventPublisher.publishEvent(BoardReactionChangedEvent.review(bno));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ReviewBoard> getReviewBoardList() {
         // ✅ 상위 인기글 5개
-        List<ReviewBoard> topHelpful = reviewBoardRepository.findTop5ByOrderByHelpfulCountDesc();
+        List<ReviewBoard> topHelpful = rankedHelpful(5)
+                .orElseGet(reviewBoardRepository::findTop5ByOrderByHelpfulCountDesc);
         // ✅ 최신글 Top 50 (모든 글 조회)
         List<ReviewBoard> latest = reviewBoardRepository.findTop50ByOrderByRegTimeDesc();
         // ✅ 최신글에서 인기글 제거 (중복 방지)
@@ -149,12 +157,19 @@ public class ReviewBoardServiceImpl implements ReviewBoardService {
     @Override
     @Transactional(readOnly = true)
     public List<ReviewBoard> getTopHelpfulReviews(int topCount) {
-        List<ReviewBoard> topHelpful = reviewBoardRepository.findTopHelpful(PageRequest.of(0, topCount));
+        List<ReviewBoard> topHelpful = rankedHelpful(topCount)
+                .orElseGet(() -> reviewBoardRepository.findTopHelpful(PageRequest.of(0, topCount)));
         // ✅ 조회된 글 모두 베스트 글 표시
         topHelpful.forEach(board -> board.setTopHelpful(true));
         return topHelpful;
     }
 
+    /** 순위표의 인기글(순위순) — 순위표 준비 전이면 빈 Optional */
+    private Optional<List<ReviewBoard>> rankedHelpful(int topCount) {
+        return rankingService.top(RankingService.Ranking.HELPFUL_REVIEWS, topCount)
+                .map(ids -> RankingService.inRankOrder(ids, reviewBoardRepository.findAllById(ids), ReviewBoard::getBno));
+    }
+
     //@PreAuthorize("hasRole('USER')")
     //@PostMapping("/reply/admin-register")
     //@ResponseBody // JSON 반환
@@ -176,23 +191,8 @@ public class ReviewBoardServiceImpl implements ReviewBoardService {
     }
 
     @Override
-    @Transactional
     public void incrementViewCountForMember(ReviewBoard board, Long memberId) {
-        boolean alreadyViewed = reviewBoardViewRepository.existsByBoard_BnoAndMember_Mno(board.getBno(), memberId);
-
-        if (!alreadyViewed) {
-            board.setViewCount(board.getViewCount() + 1);
-            reviewBoardRepository.save(board);
-
-            Member member = memberRepository.findById(memberId)
-                    .orElseThrow(() -> new IllegalArgumentException("회원 없음"));
-
-            ReviewBoardView viewRecord = ReviewBoardView.builder()
-                    .board(board)
-                    .member(member)
-                    .build();
-            reviewBoardViewRepository.save(viewRecord);
-        }
+        boardViewTracker.recordView(BoardViewTarget.REVIEW_BOARD, board.getBno(), memberId, null);
     }
 
     @Override
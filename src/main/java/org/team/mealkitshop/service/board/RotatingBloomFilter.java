@@ -0,0 +1,81 @@
+package org.team.mealkitshop.service.board;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 2세대(current/previous) 회전 블룸필터 — 고정 메모리로 "최근 구간에 본 적 있음"을 판정
+ * - addIfAbsent: 두 세대 모두에 없을 때만 current 에 기록하고 true
+ * - rotate: previous 를 버리고 current 를 previous 로 내림 → 기억 구간은 window ~ 2*window
+ * - 오탐(본 적 없는데 있다고 판정)만 있고 미탐은 없음
+ */
+final class RotatingBloomFilter {
+
+    private final int numBits;
+    private final int numHashes;
+
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray previous;
+
+    RotatingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+        long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        this.numBits = (int) Math.min(Math.max(m, 64), Integer.MAX_VALUE - 63);
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+        this.current = newBits();
+        this.previous = newBits();
+    }
+
+    boolean mightContain(long hash) {
+        return contains(current, hash) || contains(previous, hash);
+    }
+
+    /** 최근 구간에 없던 키면 기록 후 true */
+    boolean addIfAbsent(long hash) {
+        if (contains(previous, hash)) return false;
+        AtomicLongArray bits = current;
+        boolean changed = false;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < numHashes; i++) {
+            int idx = index(h1 + i * h2);
+            long mask = 1L << idx;
+            int word = idx >>> 6;
+            long old;
+            do {
+                old = bits.get(word);
+                if ((old & mask) != 0) break;
+            } while (!bits.compareAndSet(word, old, old | mask));
+            if ((old & mask) == 0) changed = true;
+        }
+        return changed;
+    }
+
+    synchronized void rotate() {
+        previous = current;
+        current = newBits();
+    }
+
+    /** 두 세대 합산 메모리(byte) */
+    long memoryBytes() {
+        return 2L * ((numBits + 63) / 64) * Long.BYTES;
+    }
+
+    private boolean contains(AtomicLongArray bits, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < numHashes; i++) {
+            int idx = index(h1 + i * h2);
+            if ((bits.get(idx >>> 6) & (1L << idx)) == 0) return false;
+        }
+        return true;
+    }
+
+    private int index(int combined) {
+        return (combined & Integer.MAX_VALUE) % numBits;
+    }
+
+    private AtomicLongArray newBits() {
+        return new AtomicLongArray((numBits + 63) / 64);
+    }
+}
@@ -1,6 +1,7 @@
 package org.team.mealkitshop.service.board;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -8,14 +9,14 @@ import org.team.mealkitshop.common.BoardReactionType;
 import org.team.mealkitshop.common.BoardType;
 import org.team.mealkitshop.domain.board.TipBoard;
 import org.team.mealkitshop.domain.board.TipBoardReaction;
-import org.team.mealkitshop.domain.board.TipBoardView;
 import org.team.mealkitshop.domain.member.Member;
 import org.team.mealkitshop.dto.board.TipBoardDTO;
+import org.team.mealkitshop.event.BoardReactionChangedEvent;
 import org.team.mealkitshop.mapper.board.TipBoardMapper;
 import org.team.mealkitshop.repository.board.TipBoardReactionRepository;
 import org.team.mealkitshop.repository.board.TipBoardRepository;
-import org.team.mealkitshop.repository.board.TipBoardViewRepository;
 import org.team.mealkitshop.repository.board.TipReplyRepository;
+import org.team.mealkitshop.service.ranking.RankingService;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -34,10 +35,12 @@ public class TipBoardServiceImpl implements TipBoardService {
 
     private final TipBoardRepository tipBoardRepository;
     private final TipBoardReactionRepository tipBoardReactionRepository;
-    private final TipBoardViewRepository tipBoardViewRepository;
+    private final BoardViewTracker boardViewTracker;
     private final TipReplyRepository tipReplyRepository;
 
     private final TipBoardMapper tipBoardMapper;
+    private final RankingService rankingService;              // 좋아요 TIP 순위(메모리)
+    private final ApplicationEventPublisher eventPublisher;   // 좋아요 수 변경 → 순위 반영
 
     /** TIP 등록 */
     @Override
@@ -67,7 +70,8 @@ public class TipBoardServiceImpl implements TipBoardService {
 
         // ModelMapper 적용
         TipBoardDTO tipBoardDTO = tipBoardMapper.toDTO(tipBoard);
-        tipBoardDTO.setViewCount(tipBoard.getViewCount()); // viewCount는 skip 처리했으므로 별도 세팅 필요
+        // viewCount는 skip 처리했으므로 별도 세팅 필요 (미반영 조회수 포함)
+        tipBoardDTO.setViewCount(tipBoard.getViewCount() + boardViewTracker.pending(BoardViewTarget.TIP_BOARD, bno));
 
         // 좋아요/싫어요 체크
         if (userId != null) {
@@ -91,23 +95,8 @@ public class TipBoardServiceImpl implements TipBoardService {
 
     /** 회원별 조회수 증가 */
     @Override
-    @Transactional
     public void incrementViewCountForMember(TipBoard board, Long memberId) {
-        boolean alreadyViewed = tipBoardViewRepository.existsByTipBoard_BnoAndMember_Mno(board.getBno(), memberId);
-
-        if (!alreadyViewed) {
-            board.setViewCount(board.getViewCount() + 1);
-            tipBoardRepository.save(board);
-
-            Member member = new Member();
-            member.setMno(memberId); // Member 객체 간단 생성 (Repository 조회 가능)
-
-            TipBoardView viewRecord = TipBoardView.builder()
-                    .tipBoard(board)
-                    .member(member)
-                    .build();
-            tipBoardViewRepository.save(viewRecord);
-        }
+        boardViewTracker.recordView(BoardViewTarget.TIP_BOARD, board.getBno(), memberId, null);
     }
 
     /** 게시글 수정 (본인만) */
@@ -149,11 +138,17 @@ public class TipBoardServiceImpl implements TipBoardService {
 
         // 게시글 삭제
         tipBoardRepository.delete(board);
+        eventPublisher.publishEvent(BoardReactionChangedEvent.tip(bno));
     }
 
     /** 상위 좋아요 TIP 조회 */
     @Override
     public List<TipBoard> getTopLikedTips(int topCount) {
+        Optional<List<Long>> ranked = rankingService.top(RankingService.Ranking.LIKED_TIPS, topCount);
+        if (ranked.isPresent()) {
+            return RankingService.inRankOrder(ranked.get(), tipBoardRepository.findAllById(ranked.get()), TipBoard::getBno);
+        }
+        // 순위표 준비 전 — 기존 조회
         LocalDateTime oneMonthAgo = LocalDateTime.now().minusMonths(1);
         List<TipBoard> list = tipBoardRepository.findTop5ByRegTimeAfterOrderByLikeCountDesc(oneMonthAgo);
         return list.size() > topCount ? list.subList(0, topCount) : list;
@@ -165,13 +160,13 @@ public class TipBoardServiceImpl implements TipBoardService {
         // 1. 모든 글 조회 (좋아요/조회수 등은 그대로)
         List<TipBoard> allTips = tipBoardRepository.findAllByOrderByRegTimeDesc();
 
-        // 2. 최근 한 달 기준 좋아요 상위 5개 조회
-        LocalDateTime oneMonthAgo = LocalDateTime.now().minusMonths(1);
-        List<Long> topLikedBnos = tipBoardRepository
-                .findTop5ByRegTimeAfterOrderByLikeCountDesc(oneMonthAgo)
-                .stream()
-                .map(TipBoard::getBno)
-                .toList();
+        // 2. 최근 한 달 기준 좋아요 상위 5개 (순위표, 준비 전이면 기존 조회)
+        List<Long> topLikedBnos = rankingService.top(RankingService.Ranking.LIKED_TIPS, 5)
+                .orElseGet(() -> tipBoardRepository
+                        .findTop5ByRegTimeAfterOrderByLikeCountDesc(LocalDateTime.now().minusMonths(1))
+                        .stream()
+                        .map(TipBoard::getBno)
+                        .toList());
 
         // 최신글 그대로 두되, topLiked 여부는 DTO에서 표시 가능
         return allTips.stream()
@@ -211,5 +206,6 @@ public class TipBoardServiceImpl implements TipBoardService {
         board.setLikeCount(tipBoardReactionRepository.countByTipBoardAndReaction(board, BoardReactionType.LIKE));
         board.setDislikeCount(tipBoardReactionRepository.countByTipBoardAndReaction(board, BoardReactionType.DIS_LIKE));
         tipBoardRepository.save(board);
+        eventPublisher.publishEvent(BoardReactionChangedEvent.tip(bno));
     }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package org.team.mealkitshop.service.cart;
+
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.domain.cart.CartItem;
+import org.team.mealkitshop.domain.item.Item;
+import org.team.mealkitshop.dto.cart.AmountSummary;
+import org.team.mealkitshop.dto.cart.CartItemDto;
+import org.team.mealkitshop.service.pricing.PricingRules;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장바구니 가격 스냅샷 (단일 순회 계산 결과)
+ * - 라인별 금액과 전체/체크 합계, 등급 쿠폰, 배송비를 한 번의 순회로 계산
+ * - 장바구니 화면(CartService)과 주문 생성(OrderService.buildOrder)이 같은 계산을 공유 → 표시 금액 = 결제 금액
+ * - 입력 CartItem 은 상품(item)이 로딩된 상태여야 함(추가 조회 없음)
+ * - 할인/배송 정책은 PricingRules(컴파일된 규칙 스냅샷)에서 가져옴 — 상품별 추가 할인은 단가에 반영
+ */
+public final class CartPricingSnapshot {
+
+    /** 장바구니 1줄 계산 결과 */
+    public record Line(CartItem source, Long cartItemId, Long itemId, String itemName,
+                       int originalPrice, int discountRate, int salePrice, int quantity, boolean checked,
+                       int stock, int lineTotal, int lineDiscountTotal, int linePayable, String thumbnailUrl) {
+
+        public Item item() {
+            return source.getItem();
+        }
+
+        public CartItemDto toDto() {
+            return CartItemDto.builder()
+                    .cartItemId(cartItemId)
+                    .itemId(itemId)
+                    .itemName(itemName)
+                    .originalPrice(originalPrice)
+                    .discountRate(discountRate)
+                    .salePrice(salePrice)
+                    .quantity(quantity)
+                    .checked(checked)
+                    .lineTotal(lineTotal)
+                    .lineDiscountTotal(lineDiscountTotal)
+                    .linePayable(linePayable)
+                    .stock(stock)
+                    .thumbnailUrl(thumbnailUrl)
+                    .build();
+        }
+    }
+
+    /** 합계(할인 적용 단가 합계 기준 쿠폰/배송비 반영) */
+    public record Totals(int lineCount, int saleTotal, int discountTotal,
+                         int shippingFee, int couponDiscount, int payableAmount) {
+
+        public AmountSummary toSummary(Grade grade) {
+            return AmountSummary.builder()
+                    .productsTotal(saleTotal)
+                    .shippingFee(shippingFee)
+                    .payableAmount(payableAmount)
+                    .couponDiscount(couponDiscount)
+                    .appliedCouponCode(grade != null ? grade.name() : null)
+                    .build();
+        }
+    }
+
+    private final List<Line> lines;
+    private final Totals all;
+    private final Totals checked;
+    private final Grade grade;
+
+    private CartPricingSnapshot(List<Line> lines, Totals all, Totals checked, Grade grade) {
+        this.lines = lines;
+        this.all = all;
+        this.checked = checked;
+        this.grade = grade;
+    }
+
+    /**
+     * 라인 목록을 한 번 순회해 스냅샷 생성
+     * @param rules      적용할 가격 규칙 스냅샷(호출 단위로 한 번 읽어 전달 → 계산 도중 규칙이 바뀌어도 일관)
+     * @param thumbnails 상품 ID → 대표 이미지 URL (주문 생성처럼 필요 없으면 빈 맵)
+     */
+    public static CartPricingSnapshot price(Collection<CartItem> cartItems, PricingRules rules, Grade grade,
+                                            String zipcode, Map<Long, String> thumbnails) {
+        List<Line> lines = new ArrayList<>(cartItems.size());
+        int allCount = 0, allSale = 0, allDiscount = 0;
+        int chkCount = 0, chkSale = 0, chkDiscount = 0;
+
+        for (CartItem ci : cartItems) {
+            Item item = ci.getItem();
+            int sale = rules.effectiveUnitPrice(item.getId() == null ? 0L : item.getId(), item.getSalePrice());
+            int orig = Math.max(0, item.getOriginalPrice());
+            int qty  = Math.max(1, ci.getQuantity());
+
+            int lineTotal    = sale * qty;
+            int lineDiscount = Math.max(0, orig - sale) * qty;
+            int linePayable  = sale * qty;
+
+            lines.add(new Line(ci, ci.getCartItemId(), item.getId(), item.getItemNm(),
+                    item.getOriginalPrice(), item.getDiscountRate(), sale,
+                    ci.getQuantity(), ci.isChecked(), item.getStockNumber(),
+                    lineTotal, lineDiscount, linePayable, thumbnails.get(item.getId())));
+
+            allCount++;
+            allSale += linePayable;
+            allDiscount += lineDiscount;
+            if (ci.isChecked()) {
+                chkCount++;
+                chkSale += linePayable;
+                chkDiscount += lineDiscount;
+            }
+        }
+
+        return new CartPricingSnapshot(List.copyOf(lines),
+                totals(rules, allCount, allSale, allDiscount, grade, zipcode),
+                totals(rules, chkCount, chkSale, chkDiscount, grade, zipcode),
+                grade);
+    }
+
+    private static Totals totals(PricingRules rules, int count, int saleTotal, int discountTotal,
+                                 Grade grade, String zipcode) {
+        int coupon = rules.couponDiscount(saleTotal, grade);
+        int shipping = rules.shippingFee(saleTotal, zipcode, grade);
+        int payable = Math.max(0, saleTotal + shipping - coupon);
+        return new Totals(count, saleTotal, discountTotal, shipping, coupon, payable);
+    }
+
+    /* ===================== 조회 ===================== */
+
+    public List<Line> lines() { return lines; }
+
+    /** 전체 라인 기준 합계 */
+    public Totals all() { return all; }
+
+    /** 체크된 라인 기준 합계 */
+    public Totals checked() { return checked; }
+
+    public Grade grade() { return grade; }
+
+    public List<CartItemDto> toDtos() {
+        return lines.stream().map(Line::toDto).toList();
+    }
+
+    public boolean isEmpty() { return lines.isEmpty(); }
+}
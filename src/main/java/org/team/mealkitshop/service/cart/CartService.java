@@ -2,6 +2,7 @@
 package org.team.mealkitshop.service.cart;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.team.mealkitshop.common.Grade;
@@ -10,16 +11,19 @@ import org.team.mealkitshop.domain.cart.CartItem;
 import org.team.mealkitshop.domain.item.Item;
 import org.team.mealkitshop.domain.member.Member;
 import org.team.mealkitshop.dto.cart.*;
+import org.team.mealkitshop.event.MemberHeaderChangedEvent;
 import org.team.mealkitshop.repository.cart.CartItemRepository;
 import org.team.mealkitshop.repository.cart.CartRepository;
 import org.team.mealkitshop.repository.item.ItemImgRepository;
 import org.team.mealkitshop.repository.item.ItemRepository;
 import org.team.mealkitshop.repository.member.MemberRepository;
+import org.team.mealkitshop.service.pricing.PricingEngine;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,6 +36,8 @@ public class CartService {
     private final MemberRepository memberRepository;
     private final ItemRepository itemRepository;
     private final ItemImgRepository itemImgRepository;
+    private final ApplicationEventPublisher eventPublisher; // 헤더 장바구니 개수 무효화
+    private final PricingEngine pricingEngine;               // 할인/배송 규칙 스냅샷
 
     private Cart getOrCreateCartByMemberMno(Long mno) {
         return cartRepository.findByMember_Mno(mno)
@@ -49,86 +55,6 @@ public class CartService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 장바구니 항목이 없습니다. cartItemId=" + cartItemId));
     }
 
-    private int getGradeCouponPercent(Grade grade) {
-        return switch (grade) {
-            case VIP -> 10;
-            case GOLD -> 7;
-            case SILVER -> 5;
-            default -> 0;
-        };
-    }
-
-    private CartItemDto toDto(CartItem ci, String thumbnailUrl) {
-        return CartItemDto.builder()
-                .cartItemId(ci.getCartItemId())
-                .itemId(ci.getItem().getId())
-                .itemName(ci.getItem().getItemNm())
-                .originalPrice(ci.getItem().getOriginalPrice())
-                .discountRate(ci.getItem().getDiscountRate())
-                .salePrice(ci.getItem().getSalePrice())
-                .quantity(ci.getQuantity())
-                .checked(ci.isChecked())
-                .lineTotal(ci.getLineTotal())
-                .lineDiscountTotal(ci.getLineDiscountTotal())
-                .linePayable(ci.getLinePayable())
-                .stock(ci.getItem().getStockNumber())   // ★ 추가 (재고 필드 매핑)
-                .thumbnailUrl(thumbnailUrl)
-                .build();
-    }
-
-    private AmountSummary toAllSummaryWithCoupon(Cart cart, Member member, String zipcode) {
-        int subtotal = cart.getSalePriceTotal();
-        int shippingFee = cart.getEstimatedShippingFee(zipcode);
-
-        Grade grade = member != null ? member.getGrade() : null;
-        if (Grade.VIP.equals(grade)) {
-            shippingFee = 0;
-        }
-
-        int percent = getGradeCouponPercent(grade);
-        int couponDiscount = Math.min((int) Math.round(subtotal * (percent / 100.0)), subtotal);
-        int payableAmount = Math.max(0, subtotal + shippingFee - couponDiscount);
-
-        return AmountSummary.builder()
-                .productsTotal(subtotal)
-                .shippingFee(shippingFee)
-                .payableAmount(payableAmount)
-                .couponDiscount(couponDiscount)
-                .appliedCouponCode(grade != null ? grade.name() : null)
-                .build();
-    }
-
-    // ✅ 수정된 부분
-    private AmountSummary toCheckedSummaryWithCoupon(Cart cart, Member member, String zipcode) {
-        int subtotal = cart.getCheckedSalePriceTotal();
-        int shippingFee = 0;
-
-        if (subtotal < 50_000 && subtotal > 0) {
-            shippingFee += 3_000;
-        }
-
-        if (zipcode != null && zipcode.startsWith("63")) {
-            shippingFee += 5_000;
-        }
-
-        Grade grade = member != null ? member.getGrade() : null;
-        if (Grade.VIP.equals(grade)) {
-            shippingFee = 0;
-        }
-
-        int percent = getGradeCouponPercent(grade);
-        int couponDiscount = Math.min((int) Math.round(subtotal * (percent / 100.0)), subtotal);
-        int payableAmount = Math.max(0, subtotal + shippingFee - couponDiscount);
-
-        return AmountSummary.builder()
-                .productsTotal(subtotal)
-                .shippingFee(shippingFee)
-                .payableAmount(payableAmount)
-                .couponDiscount(couponDiscount)
-                .appliedCouponCode(grade != null ? grade.name() : null)
-                .build();
-    }
-
     public Long addToCart(Long memberMno, AddToCartRequest req) {
         Cart cart = getOrCreateCartByMemberMno(memberMno);
         Item item = itemRepository.findById(req.getItemId())
@@ -148,7 +74,9 @@ public class CartService {
                 .build();
 
         cart.addItem(newItem);
-        return cartItemRepository.save(newItem).getCartItemId();
+        Long id = cartItemRepository.save(newItem).getCartItemId();
+        eventPublisher.publishEvent(MemberHeaderChangedEvent.of(memberMno)); // 줄 수 변동
+        return id;
     }
 
     public void updateCartItem(Long memberMno, UpdateCartItemRequest req) {
@@ -161,6 +89,7 @@ public class CartService {
                 cartItemRepository.delete(line);
                 cartItemRepository.flush();
                 owner.getItems().removeIf(ci -> ci.getCartItemId().equals(line.getCartItemId()));
+                eventPublisher.publishEvent(MemberHeaderChangedEvent.of(memberMno));
                 return;
             } else {
                 line.changeQuantity(qty);
@@ -200,33 +129,18 @@ public class CartService {
                     .build();
         }
 
-        List<Long> itemIds = cart.getItems().stream()
-                .map(ci -> ci.getItem().getId())
-                .distinct()
-                .toList();
-
-        Map<Long, String> repUrlMap = itemImgRepository.findRepUrlsByItemIdIn(itemIds).stream()
-                .collect(Collectors.toMap(
-                        ItemImgRepository.ItemRepProjection::getItemId,
-                        ItemImgRepository.ItemRepProjection::getImgUrl
-                ));
-
-        List<CartItemDto> items = new ArrayList<>();
-        for (CartItem ci : cart.getItems()) {
-            String thumbnailUrl = repUrlMap.get(ci.getItem().getId());
-            items.add(toDto(ci, thumbnailUrl));
-        }
-
+        // 카트+라인+상품+회원 1쿼리(EntityGraph), 대표 이미지 1쿼리 → 한 번 순회로 금액 계산
         Member member = cart.getMember();
-        AmountSummary summary = toAllSummaryWithCoupon(cart, member, zipcode);
-        AmountSummary checkedSummary = toCheckedSummaryWithCoupon(cart, member, zipcode);
+        Grade grade = member != null ? member.getGrade() : null;
+        CartPricingSnapshot pricing = CartPricingSnapshot.price(
+                cart.getItems(), pricingEngine.rules(), grade, zipcode, thumbnailsOf(cart.getItems()));
 
         return CartDetailResponse.builder()
                 .cartId(cart.getCartId())
                 .memberId(memberMno)
-                .items(items)
-                .summary(summary)
-                .checkedSummary(checkedSummary)
+                .items(pricing.toDtos())
+                .summary(pricing.all().toSummary(grade))
+                .checkedSummary(pricing.checked().toSummary(grade))
                 .build();
     }
 
@@ -241,62 +155,22 @@ public class CartService {
         Cart cart = cartRepository.findByMember_Mno(memberMno)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니 없음: " + memberMno));
 
-        List<CartItem> selectedItems = cartItemRepository.findByCartAndCartItemIdIn(cart, cartItemIds);
-
-        List<Long> itemIds = selectedItems.stream()
-                .map(ci -> ci.getItem().getId())
-                .distinct()
+        // 이미 로딩된 카트 라인에서 선택 항목만 추림(추가 조회 없음)
+        Set<Long> ids = new HashSet<>(cartItemIds);
+        List<CartItem> selectedItems = cart.getItems().stream()
+                .filter(ci -> ids.contains(ci.getCartItemId()))
                 .toList();
 
-        Map<Long, String> repUrlMap = itemImgRepository.findRepUrlsByItemIdIn(itemIds).stream()
-                .collect(Collectors.toMap(
-                        ItemImgRepository.ItemRepProjection::getItemId,
-                        ItemImgRepository.ItemRepProjection::getImgUrl
-                ));
-
-        List<CartItemDto> items = new ArrayList<>();
-        for (CartItem ci : selectedItems) {
-            String thumbnailUrl = repUrlMap.get(ci.getItem().getId());
-            items.add(toDto(ci, thumbnailUrl));
-        }
-
         Member member = cart.getMember();
-        int subtotal = items.stream().mapToInt(CartItemDto::getLinePayable).sum();
-
-        int shippingFee = 0;
-        if (subtotal < 50_000 && subtotal > 0) {
-            shippingFee += 3_000;
-        }
-        if (zipcode != null && zipcode.startsWith("63")) {
-            shippingFee += 5_000;
-        }
-
-        // ✅ 추가: VIP 등급은 무료배송 (장바구니 화면 규칙과 동일)
         Grade grade = (member != null) ? member.getGrade() : null;
-        if (Grade.VIP.equals(grade)) {
-            shippingFee = 0;
-        }
-
-        int couponDiscount = 0;
-        if (member != null) {
-            int percent = getGradeCouponPercent(member.getGrade());
-            couponDiscount = Math.min((int) Math.round(subtotal * (percent / 100.0)), subtotal);
-        }
-
-        int payableAmount = Math.max(0, subtotal + shippingFee - couponDiscount);
-
-        AmountSummary summary = AmountSummary.builder()
-                .productsTotal(subtotal)
-                .shippingFee(shippingFee)
-                .payableAmount(payableAmount)
-                .couponDiscount(couponDiscount)
-                .appliedCouponCode(member != null && member.getGrade() != null ? member.getGrade().name() : null)
-                .build();
+        CartPricingSnapshot pricing = CartPricingSnapshot.price(
+                selectedItems, pricingEngine.rules(), grade, zipcode, thumbnailsOf(selectedItems));
+        AmountSummary summary = pricing.all().toSummary(grade); // 선택 항목 전체 기준(VIP 무료배송 포함)
 
         return CartDetailResponse.builder()
                 .cartId(cart.getCartId())
                 .memberId(memberMno)
-                .items(items)
+                .items(pricing.toDtos())
                 .summary(summary)
                 .checkedSummary(summary)
                 .build();
@@ -307,6 +181,7 @@ public class CartService {
                 .orElseThrow(() -> new IllegalArgumentException("장바구니 없음. id=" + memberMno));
         cartItemRepository.deleteAll(cart.getItems());
         cart.getItems().clear();
+        eventPublisher.publishEvent(MemberHeaderChangedEvent.of(memberMno));
     }
 
     public int getCartItemCount(Long memberId) {
@@ -320,27 +195,33 @@ public class CartService {
         List<CartItem> toDelete = cartItemRepository.findAllByCartAndCheckedTrue(cart);
         cartItemRepository.deleteAll(toDelete);
         cart.getItems().removeIf(CartItem::isChecked);
+        eventPublisher.publishEvent(MemberHeaderChangedEvent.of(memberId));
     }
 
     public List<CartItemDto> getCheckedCartItems(Long memberId) {
         Cart cart = cartRepository.findByMember_Mno(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니 없음"));
 
-        List<CartItem> checkedItems = cartItemRepository.findAllByCartAndCheckedTrue(cart);
+        List<CartItem> checkedItems = cart.getItems().stream()
+                .filter(CartItem::isChecked)
+                .toList();
 
-        List<Long> itemIds = checkedItems.stream()
+        return CartPricingSnapshot.price(checkedItems, pricingEngine.rules(), null, null, thumbnailsOf(checkedItems)).toDtos();
+    }
+
+    /** 라인들의 대표 이미지 URL 일괄 조회(1쿼리) */
+    private Map<Long, String> thumbnailsOf(List<CartItem> lines) {
+        List<Long> itemIds = lines.stream()
                 .map(ci -> ci.getItem().getId())
                 .distinct()
                 .toList();
+        if (itemIds.isEmpty()) return Map.of();
 
-        Map<Long, String> repUrlMap = itemImgRepository.findRepUrlsByItemIdIn(itemIds).stream()
+        return itemImgRepository.findRepUrlsByItemIdIn(itemIds).stream()
                 .collect(Collectors.toMap(
                         ItemImgRepository.ItemRepProjection::getItemId,
-                        ItemImgRepository.ItemRepProjection::getImgUrl
+                        ItemImgRepository.ItemRepProjection::getImgUrl,
+                        (a, b) -> a
                 ));
-
-        return checkedItems.stream()
-                .map(ci -> toDto(ci, repUrlMap.get(ci.getItem().getId())))
-                .toList();
     }
 }
@@ -0,0 +1,315 @@
+package org.team.mealkitshop.service.image;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.team.mealkitshop.config.ImageDerivativeProperties;
+import org.team.mealkitshop.event.ImageStoredEvent;
+import org.team.mealkitshop.event.ItemChangedEvent;
+import org.team.mealkitshop.service.item.FileService;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업로드 이미지 파생본(상세/모바일/목록 카드) 생성
+ * - 업로드 트랜잭션 커밋 후 이벤트를 받아 고정 크기 작업 풀에 넣음(요청 스레드는 대기하지 않음)
+ * - 원본을 한 번만 디코딩한 뒤 큰 크기부터 차례로 축소(앞 결과를 다음 입력으로 재사용)
+ * - 임시 파일에 쓰고 원자적 이동 → 서빙 중 반쯤 쓰인 파일이 노출되지 않음
+ * - 완료 시 메타 행에 URL 기록(원본이 그새 바뀌었거나 삭제됐으면 파생본 삭제), 상품 이미지는 목록 갱신 이벤트 발행
+ * - 대기열이 가득 차면 버리고 지표로 집계 → 관리자 백필(card_url 이 비어 있는 행)로 복구
+ * - 픽셀 상한을 넘는 원본은 서브샘플링으로 줄여 디코딩, 디코딩할 수 없는 원본은 행에 실패 표식(백필 제외)
+ */
+@Service
+@Log4j2
+public class ImageDerivativeService {
+
+    /** 종류별 메타 테이블 정보 — prefix: 업로드 루트 기준 경로와 DB 저장 파일명의 차이 */
+    private record Target(String table, String idColumn, String nameColumn, String itemColumn, String prefix) { }
+
+    private static final Map<ImageStoredEvent.Kind, Target> TARGETS = new EnumMap<>(Map.of(
+            ImageStoredEvent.Kind.ITEM, new Target("item_img", "item_img_id", "img_name", "item_id", ""),
+            ImageStoredEvent.Kind.REVIEW, new Target("review_img", "review_img_id", "img_name", null, "review/"),
+            ImageStoredEvent.Kind.BOARD, new Target("board_image", "file_id", "file_name", null, "")
+    ));
+
+    private final FileService fileService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageDerivativeProperties properties;
+    private final String imageBasePath;
+
+    private final ThreadPoolExecutor executor;
+    private final String format;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    /* ===== 지표 ===== */
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder oversized = new LongAdder();
+    private final LongAdder sourceBytes = new LongAdder();
+    private final LongAdder derivedBytes = new LongAdder();
+
+    public ImageDerivativeService(FileService fileService,
+                                  JdbcTemplate jdbcTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ImageDerivativeProperties properties,
+                                  @Value("${imageBasePath:/images/}") String imageBasePath) {
+        this.fileService = fileService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.imageBasePath = imageBasePath.endsWith("/") ? imageBasePath : imageBasePath + "/";
+
+        int threads = Math.max(1, properties.threads());
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity())),
+                r -> {
+                    Thread t = new Thread(r, "image-derive-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // 순수 Java WebP 인코더는 JDK 에 없음 — ImageIO 플러그인이 등록돼 있을 때만 사용
+        this.format = properties.preferWebp() && ImageIO.getImageWritersByFormatName("webp").hasNext() ? "webp" : "jpg";
+        log.info("[image-derive] format={}, threads={}, queue={}", format, threads, properties.queueCapacity());
+    }
+
+    /* ===================== 이벤트 ===================== */
+
+    /** 업로드 커밋 후 작업 등록(롤백된 업로드는 이벤트가 오지 않음) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onImageStored(ImageStoredEvent e) {
+        if (!properties.enabled()) return;
+        submit(e);
+    }
+
+    /** 작업 등록 — 같은 이미지가 이미 대기/처리 중이면 무시, 대기열이 가득 차면 버림 */
+    public boolean submit(ImageStoredEvent e) {
+        String key = e.kind() + ":" + e.imageId();
+        if (!inFlight.add(key)) return false;
+        try {
+            executor.execute(() -> {
+                try {
+                    process(e);
+                } finally {
+                    inFlight.remove(key);
+                }
+            });
+            submitted.increment();
+            return true;
+        } catch (RejectedExecutionException ex) {
+            inFlight.remove(key);
+            dropped.increment();
+            log.debug("[image-derive] queue full, dropped {}", key);
+            return false;
+        }
+    }
+
+    /* ===================== 처리 ===================== */
+
+    /**
+     * 헤더에서 가로/세로만 먼저 읽어 maxPixels 를 넘으면 서브샘플링(n 픽셀마다 1개)으로 디코딩
+     * - 작은 파일이 거대한 크기를 선언하는 경우(압축 폭탄)에도 디코딩 결과는 maxPixels 안팎으로 묶임
+     * - 파생본은 어차피 detailEdge 이하로 줄이므로 큰 원본도 파생본을 만듦
+     * - 읽을 수 있는 리더가 없으면 null
+     */
+    private BufferedImage readBounded(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (pixels > properties.maxPixels()) {
+                    int step = (int) Math.ceil(Math.sqrt((double) pixels / properties.maxPixels()));
+                    param.setSourceSubsampling(step, step, 0, 0);
+                    oversized.increment();
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    void process(ImageStoredEvent e) {
+        Path source = fileService.resolveSaved(e.savedPath());
+        BufferedImage original;
+        try {
+            original = Files.isRegularFile(source) ? readBounded(source) : null;
+        } catch (IOException | RuntimeException ex) {
+            log.debug("[image-derive] decode failed: {}", e.savedPath(), ex);
+            original = null;
+        }
+        if (original == null) {
+            // 다시 시도해도 같은 결과 → 행에 표식을 남겨 백필이 반복 등록하지 않게 함
+            failed.increment();
+            markFailed(e);
+            log.warn("[image-derive] unreadable or missing source: {}", e.savedPath());
+            return;
+        }
+        try {
+            sourceBytes.add(Files.size(source));
+
+            Map<ImageDerivatives.Variant, String> urls = new EnumMap<>(ImageDerivatives.Variant.class);
+            BufferedImage current = ImageDerivatives.toRgb(original);
+            for (ImageDerivatives.Variant v : ImageDerivatives.Variant.values()) {
+                current = ImageDerivatives.downscale(current, edgeOf(v));
+                String path = ImageDerivatives.pathOf(e.savedPath(), v, format);
+                derivedBytes.add(write(current, fileService.resolveSaved(path)));
+                urls.put(v, imageBasePath + path);
+            }
+
+            if (record(e, urls) == 0) {
+                // 처리 중 원본 행이 삭제/교체됨 → 만든 파생본 정리
+                stale.increment();
+                fileService.deleteDerivatives(e.savedPath());
+                return;
+            }
+            completed.increment();
+            if (e.kind() == ImageStoredEvent.Kind.ITEM && e.itemId() != null) {
+                eventPublisher.publishEvent(ItemChangedEvent.of(e.itemId())); // 목록 대표 이미지 → 카드 크기로 교체
+            }
+        } catch (IOException | RuntimeException ex) {
+            failed.increment();
+            log.warn("[image-derive] failed: {} {}", e.kind(), e.savedPath(), ex);
+        }
+    }
+
+    private int edgeOf(ImageDerivatives.Variant v) {
+        return switch (v) {
+            case DETAIL -> properties.detailEdge();
+            case MOBILE -> properties.mobileEdge();
+            case CARD -> properties.cardEdge();
+        };
+    }
+
+    /** 임시 파일에 인코딩 후 원자적 이동 — 기록한 바이트 수 반환 */
+    private long write(BufferedImage image, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), ".derive-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                Thumbnails.of(image).scale(1.0)
+                        .outputFormat(format)
+                        .outputQuality(properties.quality())
+                        .toOutputStream(out);
+            }
+            long bytes = Files.size(tmp);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return bytes;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /** 메타 행에 파생본 URL 기록 — 파일명이 그대로일 때만(교체/삭제된 행은 0) */
+    private int record(ImageStoredEvent e, Map<ImageDerivatives.Variant, String> urls) {
+        Target t = TARGETS.get(e.kind());
+        String sql = "update " + t.table() + " set card_url = ?, mobile_url = ?, detail_url = ?"
+                + " where " + t.idColumn() + " = ? and " + t.nameColumn() + " = ?";
+        return jdbcTemplate.update(sql,
+                urls.get(ImageDerivatives.Variant.CARD),
+                urls.get(ImageDerivatives.Variant.MOBILE),
+                urls.get(ImageDerivatives.Variant.DETAIL),
+                e.imageId(),
+                e.savedPath().substring(t.prefix().length()));
+    }
+
+    /** 디코딩 불가 표식 — 파일명이 그대로일 때만(그새 교체됐으면 새 파일은 다시 처리) */
+    private void markFailed(ImageStoredEvent e) {
+        Target t = TARGETS.get(e.kind());
+        try {
+            jdbcTemplate.update("update " + t.table() + " set derive_failed_at = ?"
+                            + " where " + t.idColumn() + " = ? and " + t.nameColumn() + " = ?",
+                    LocalDateTime.now(), e.imageId(), e.savedPath().substring(t.prefix().length()));
+        } catch (RuntimeException ex) {
+            log.warn("[image-derive] failed to mark {} {}", e.kind(), e.imageId(), ex);
+        }
+    }
+
+    /* ===================== 백필 ===================== */
+
+    /**
+     * 파생본이 없는 행(card_url is null, 디코딩 실패 표식 없음)을 테이블별 최대 backfillBatch 건씩 작업 등록
+     * - 도입 이전 업로드, 대기열 초과로 버려진 작업 복구용 — 반복 호출로 전체 처리
+     * @return 등록한 작업 수
+     */
+    public int backfill() {
+        int batch = Math.max(1, properties.backfillBatch());
+        int queued = 0;
+        for (Map.Entry<ImageStoredEvent.Kind, Target> entry : TARGETS.entrySet()) {
+            Target t = entry.getValue();
+            String sql = "select " + t.idColumn() + " as image_id, " + t.nameColumn() + " as saved_name, "
+                    + (t.itemColumn() != null ? t.itemColumn() : "null") + " as item_id"
+                    + " from " + t.table() + " where card_url is null and derive_failed_at is null"
+                    + " order by " + t.idColumn() + " limit ?";
+            var rows = jdbcTemplate.queryForList(sql, batch);
+            for (Map<String, Object> row : rows) {
+                Long itemId = row.get("item_id") instanceof Number n ? n.longValue() : null;
+                ImageStoredEvent e = new ImageStoredEvent(entry.getKey(),
+                        ((Number) row.get("image_id")).longValue(),
+                        t.prefix() + row.get("saved_name"),
+                        itemId);
+                if (submit(e)) queued++;
+            }
+        }
+        log.info("[image-derive] backfill queued {} images", queued);
+        return queued;
+    }
+
+    /** 지표 스냅샷 */
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("enabled", properties.enabled());
+        out.put("format", format);
+        out.put("submitted", submitted.sum());
+        out.put("completed", completed.sum());
+        out.put("failed", failed.sum());
+        out.put("dropped", dropped.sum());
+        out.put("stale", stale.sum());
+        out.put("oversized", oversized.sum());
+        out.put("queued", executor.getQueue().size());
+        out.put("active", executor.getActiveCount());
+        out.put("sourceBytes", sourceBytes.sum());
+        out.put("derivedBytes", derivedBytes.sum());
+        return out;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,90 @@
+package org.team.mealkitshop.service.image;
+
+import net.coobird.thumbnailator.Thumbnails;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이미지 파생본 규칙(경로/크기) — 상태 없는 유틸
+ * - 경로: 원본과 같은 폴더의 "_d/{variant}/{원본 이름(확장자 제외)}.{ext}"
+ *   예) item/UUID.png → item/_d/card/UUID.jpg, UUID_이름.png → _d/card/UUID_이름.jpg
+ * - 크기: 긴 변 기준 축소만(원본보다 크게 만들지 않음), 비율 유지
+ */
+public final class ImageDerivatives {
+
+    /** 파생본 폴더 이름 */
+    public static final String DIR = "_d";
+
+    /** 파생본 확장자 후보(삭제 시 모두 시도) */
+    static final List<String> FORMATS = List.of("jpg", "webp");
+
+    /** 파생본 종류 — 큰 것부터(앞 결과를 다음 축소의 입력으로 재사용) */
+    public enum Variant {
+        DETAIL("detail"), MOBILE("mobile"), CARD("card");
+
+        private final String dir;
+
+        Variant(String dir) { this.dir = dir; }
+
+        public String dir() { return dir; }
+    }
+
+    private ImageDerivatives() { }
+
+    /** 원본 상대 경로 → 파생본 상대 경로 */
+    public static String pathOf(String savedPath, Variant variant, String ext) {
+        String p = normalize(savedPath);
+        int slash = p.lastIndexOf('/');
+        String dir = slash >= 0 ? p.substring(0, slash + 1) : "";
+        String name = slash >= 0 ? p.substring(slash + 1) : p;
+        int dot = name.lastIndexOf('.');
+        String stem = dot > 0 ? name.substring(0, dot) : name;
+        return dir + DIR + "/" + variant.dir() + "/" + stem + "." + ext;
+    }
+
+    /** 원본 하나에 대해 존재할 수 있는 모든 파생본 경로(확장자 후보 포함) */
+    public static List<String> allPathsOf(String savedPath) {
+        List<String> out = new ArrayList<>(Variant.values().length * FORMATS.size());
+        for (Variant v : Variant.values()) {
+            for (String ext : FORMATS) out.add(pathOf(savedPath, v, ext));
+        }
+        return out;
+    }
+
+    /** 파생본 경로 여부(원본 목록/정리 작업에서 제외용) */
+    public static boolean isDerivative(String path) {
+        String p = normalize(path);
+        return p.startsWith(DIR + "/") || p.contains("/" + DIR + "/");
+    }
+
+    /** 긴 변이 maxEdge 를 넘을 때만 비율 유지 축소 — 이하면 입력을 그대로 반환 */
+    public static BufferedImage downscale(BufferedImage src, int maxEdge) throws IOException {
+        if (maxEdge <= 0 || Math.max(src.getWidth(), src.getHeight()) <= maxEdge) return src;
+        return Thumbnails.of(src).size(maxEdge, maxEdge).keepAspectRatio(true).asBufferedImage();
+    }
+
+    /** 투명/팔레트 이미지를 흰 배경 RGB 로 평탄화(JPEG 인코딩용) */
+    public static BufferedImage toRgb(BufferedImage src) {
+        if (src.getType() == BufferedImage.TYPE_INT_RGB) return src;
+        BufferedImage rgb = new BufferedImage(src.getWidth(), src.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, src.getWidth(), src.getHeight());
+            g.drawImage(src, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    private static String normalize(String path) {
+        String p = path.replace('\\', '/');
+        while (p.startsWith("/")) p = p.substring(1);
+        return p;
+    }
+}
@@ -0,0 +1,297 @@
+package org.team.mealkitshop.service.item;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.team.mealkitshop.service.image.ImageDerivatives;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 내용 주소(SHA-256) 기반 중복 제거 저장소 — FileService 뒤에서 동작(upload.store.mode=cas)
+ * - 실제 내용은 _blobs/{h0h1}/{h2h3}/{hash} 에 1벌만 저장
+ * - 기존 논리 경로(item/UUID.jpg 등)는 blob 의 하드링크 → URL/정적 서빙/파생본 생성은 그대로
+ * - 참조 수는 file_blob / file_blob_ref 테이블로 관리, 마지막 참조 삭제 시 blob 삭제
+ * - 하드링크를 지원하지 않는 파일시스템이면 복사로 대체(정상 동작, 중복 제거만 안 됨 — 지표로 집계)
+ * - 참조 행은 호출자 트랜잭션과 분리(REQUIRES_NEW)해 파일 작업 전에 확정 — 호출자 롤백 시 정리는 파일 삭제(release)로
+ * - 같은 해시의 commit/release 는 해시별 락 → file_blob 행 락 → file_blob_ref 순서로만 잡음
+ */
+@Component
+@Log4j2
+public class ContentAddressedStore {
+
+    /** 업로드 루트 기준 blob 폴더 */
+    public static final String BLOB_DIR = "_blobs";
+
+    private static final String UPSERT_BLOB = """
+            insert into file_blob (hash, size, ref_count, created_at) values (?, ?, 1, now())
+            on duplicate key update ref_count = ref_count + 1
+            """;
+
+    /** 마이그레이션 결과 */
+    public record MigrationReport(long scanned, long alreadyTracked, long registered,
+                                  long deduplicated, long bytesSaved, long failed) { }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Path root;
+    private final boolean enabled;
+
+    /* ===== 지표 ===== */
+    private final LongAdder stored = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder blobsDeleted = new LongAdder();
+    private final LongAdder linkFallbacks = new LongAdder();
+
+    /** 해시별 락(스트라이프) — blob 파일 확정/삭제와 참조 수 변경을 한 덩어리로 */
+    private final Object[] hashLocks = new Object[64];
+
+    public ContentAddressedStore(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${uploadPath}") String uploadPath,
+                                 @Value("${upload.store.mode:plain}") String mode) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < hashLocks.length; i++) hashLocks[i] = new Object();
+        this.root = Paths.get(uploadPath).toAbsolutePath().normalize();
+        this.enabled = "cas".equalsIgnoreCase(mode.trim());
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /** 업로드 스트림을 받을 임시 파일(blob 과 같은 볼륨 — 이동/링크가 원자적) */
+    Path newTempFile() throws IOException {
+        Path dir = root.resolve(BLOB_DIR).resolve("tmp");
+        Files.createDirectories(dir);
+        return Files.createTempFile(dir, "up-", ".tmp");
+    }
+
+    /**
+     * 해시 계산이 끝난 임시 파일을 blob 으로 확정하고 논리 경로(target)에 연결
+     * - 참조 등록(행) → blob 확정(없을 때만 이동, 있으면 임시 파일 삭제) → 하드링크
+     * - 연결 실패 시 참조를 되돌리고 예외
+     */
+    void commit(Path temp, String hash, long size, String savedName, Path target) throws IOException {
+        synchronized (lockOf(hash)) {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(UPSERT_BLOB, hash, size);   // file_blob 행 락 먼저
+                jdbcTemplate.update("insert into file_blob_ref (saved_name, hash) values (?, ?)", savedName, hash);
+            });
+            try {
+                Path blob = blobPath(hash);
+                if (Files.exists(blob)) {
+                    Files.deleteIfExists(temp);
+                    reused.increment();
+                } else {
+                    Files.createDirectories(blob.getParent());
+                    try {
+                        Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (FileAlreadyExistsException race) {
+                        Files.deleteIfExists(temp); // 다른 인스턴스가 먼저 확정 — 내용 동일
+                    }
+                }
+                link(blob, target);
+                stored.increment();
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temp);
+                release(savedName);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 논리 경로의 참조 해제 — 마지막 참조였으면 blob 파일까지 삭제
+     * @return 참조 행이 있었으면 true (없으면 도입 전 파일)
+     */
+    boolean release(String savedName) {
+        List<String> hashes = jdbcTemplate.queryForList(
+                "select hash from file_blob_ref where saved_name = ?", String.class, savedName);
+        if (hashes.isEmpty()) return false;
+        String hash = hashes.get(0);
+        synchronized (lockOf(hash)) {
+            boolean[] orphan = {false};
+            Boolean tracked = transactionTemplate.execute(status -> {
+                // commit 과 같은 순서: file_blob 행 락 → 참조 행
+                Long refs = jdbcTemplate.queryForObject(
+                        "select ref_count from file_blob where hash = ? for update", Long.class, hash);
+                if (jdbcTemplate.update("delete from file_blob_ref where saved_name = ? and hash = ?", savedName, hash) == 0) {
+                    return false; // 동시 해제가 먼저 처리
+                }
+                if (refs == null || refs <= 1) {
+                    jdbcTemplate.update("delete from file_blob where hash = ?", hash);
+                    orphan[0] = true;
+                } else {
+                    jdbcTemplate.update("update file_blob set ref_count = ref_count - 1 where hash = ?", hash);
+                }
+                return true;
+            });
+            if (orphan[0]) {
+                try {
+                    Files.deleteIfExists(blobPath(hash));
+                    blobsDeleted.increment();
+                } catch (IOException e) {
+                    log.warn("[cas] failed to delete blob {}", hash, e);
+                }
+            }
+            if (Boolean.TRUE.equals(tracked)) released.increment();
+            return Boolean.TRUE.equals(tracked);
+        }
+    }
+
+    /* ===================== 마이그레이션 ===================== */
+
+    /**
+     * 기존 업로드 트리 중복 제거 — 참조가 없는 원본 파일을 해시해 blob 에 등록
+     * - blob 이 없으면 현재 파일을 blob 으로 하드링크(복사 없음)
+     * - 같은 내용의 blob 이 이미 있으면 현재 파일을 blob 하드링크로 원자적 교체 → 그 크기만큼 절감
+     * - 파생본(_d)/blob 폴더/임시 파일은 제외, 여러 번 실행해도 안전(이미 등록된 경로는 건너뜀)
+     * - cas 모드에서만 — plain 모드에서는 삭제 시 참조를 해제하지 않으므로 등록하면 참조/blob 이 남음
+     */
+    public MigrationReport migrate() throws IOException {
+        if (!enabled) throw new IllegalStateException("upload.store.mode=cas 에서만 중복 제거할 수 있습니다.");
+        if (!Files.isDirectory(root)) return new MigrationReport(0, 0, 0, 0, 0, 0);
+        long scanned = 0, tracked = 0, registered = 0, deduplicated = 0, bytesSaved = 0, failed = 0;
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile).filter(this::isMigratable).toList();
+        }
+        for (Path file : files) {
+            scanned++;
+            String savedName = root.relativize(file).toString().replace('\\', '/');
+            try {
+                Integer refs = jdbcTemplate.queryForObject(
+                        "select count(*) from file_blob_ref where saved_name = ?", Integer.class, savedName);
+                if (refs != null && refs > 0) {
+                    tracked++;
+                    continue;
+                }
+                long size = Files.size(file);
+                String hash;
+                try (InputStream in = Files.newInputStream(file)) {
+                    hash = hash(in);
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update(UPSERT_BLOB, hash, size);
+                    jdbcTemplate.update("insert into file_blob_ref (saved_name, hash) values (?, ?)", savedName, hash);
+                });
+                Path blob = blobPath(hash);
+                if (!Files.exists(blob)) {
+                    Files.createDirectories(blob.getParent());
+                    link(file, blob);
+                } else if (!Files.isSameFile(blob, file)) {
+                    Path tmp = file.resolveSibling(file.getFileName() + ".cas-tmp");
+                    Files.deleteIfExists(tmp);
+                    link(blob, tmp);
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    deduplicated++;
+                    bytesSaved += size;
+                }
+                registered++;
+            } catch (DuplicateKeyException race) {
+                tracked++; // 동시에 등록됨
+            } catch (IOException | RuntimeException e) {
+                failed++;
+                log.warn("[cas] migrate failed: {}", savedName, e);
+            }
+        }
+        MigrationReport report = new MigrationReport(scanned, tracked, registered, deduplicated, bytesSaved, failed);
+        log.info("[cas] migration done: {}", report);
+        return report;
+    }
+
+    /** 현재 절감량 보고 — logical = 참조 수 × 크기 합, physical = blob 크기 합 */
+    public Map<String, Object> report() {
+        Map<String, Object> row = jdbcTemplate.queryForMap("""
+                select count(*) as blobs,
+                       coalesce(sum(ref_count), 0) as refs,
+                       coalesce(sum(size), 0) as physical_bytes,
+                       coalesce(sum(size * ref_count), 0) as logical_bytes
+                  from file_blob
+                """);
+        long physical = ((Number) row.get("physical_bytes")).longValue();
+        long logical = ((Number) row.get("logical_bytes")).longValue();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("mode", enabled ? "cas" : "plain");
+        out.put("blobs", ((Number) row.get("blobs")).longValue());
+        out.put("references", ((Number) row.get("refs")).longValue());
+        out.put("physicalBytes", physical);
+        out.put("logicalBytes", logical);
+        out.put("bytesSaved", logical - physical);
+        out.put("stored", stored.sum());
+        out.put("reused", reused.sum());
+        out.put("released", released.sum());
+        out.put("blobsDeleted", blobsDeleted.sum());
+        out.put("linkFallbacks", linkFallbacks.sum());
+        return out;
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private Object lockOf(String hash) {
+        return hashLocks[Math.floorMod(hash.toLowerCase(Locale.ROOT).hashCode(), hashLocks.length)];
+    }
+
+    Path blobPath(String hash) {
+        String h = hash.toLowerCase(Locale.ROOT);
+        return root.resolve(BLOB_DIR).resolve(h.substring(0, 2)).resolve(h.substring(2, 4)).resolve(h);
+    }
+
+    /** link → existing 하드링크(미지원 파일시스템이면 복사) */
+    private void link(Path existing, Path link) throws IOException {
+        Files.createDirectories(link.getParent());
+        try {
+            Files.createLink(link, existing);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            if (e instanceof FileAlreadyExistsException) throw (FileAlreadyExistsException) e;
+            linkFallbacks.increment();
+            Files.copy(existing, link);
+        }
+    }
+
+    private boolean isMigratable(Path file) {
+        String rel = root.relativize(file).toString().replace('\\', '/');
+        return !rel.startsWith(BLOB_DIR + "/")
+                && !ImageDerivatives.isDerivative(rel)
+                && !rel.endsWith(".tmp")
+                && !rel.endsWith(".cas-tmp");
+    }
+
+    static String hash(InputStream in) throws IOException {
+        MessageDigest md = sha256();
+        try (DigestInputStream din = new DigestInputStream(in, md)) {
+            din.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
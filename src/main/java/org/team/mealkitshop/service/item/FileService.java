@@ -1,27 +1,79 @@
 package org.team.mealkitshop.service.item;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.team.mealkitshop.service.image.ImageDerivatives;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.*;
-import java.util.Locale;
-import java.util.Objects;
-import java.util.UUID;
-
-import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 업로드 파일 저장/삭제
+ * - 저장 이름(UUID+확장자)과 하위 폴더 규칙은 호출부가 URL/DB 에 그대로 사용
+ * - upload.store.mode=cas 이면 내용은 ContentAddressedStore 의 blob 1벌, 저장 이름은 그 하드링크
+ */
 @Service
 @Log4j2
 public class FileService {
 
     private final String uploadPath;
 
-    public FileService(@Value("${uploadPath}") String uploadPath) {
+    /** 내용 주소 저장소(null 또는 비활성 → 저장 이름에 바로 기록) */
+    private final ContentAddressedStore contentStore;
+
+    /** 다중 업로드 병렬 저장용 — 대기열이 차면 호출 스레드가 직접 저장(자연스러운 역압) */
+    private final ThreadPoolExecutor uploadExecutor;
+
+    /**
+     * 병렬 저장 결과 1건
+     * @param duplicateOf 같은 묶음 안에서 내용이 같은 앞선 항목의 인덱스(-1: 고유) — 중복이면 파일은 이미 지워짐
+     */
+    public record StoredFile(String originalName, String savedName, String sha256, long size, int duplicateOf) {
+        public boolean duplicate() { return duplicateOf >= 0; }
+    }
+
+    public FileService(String uploadPath) {
+        this(uploadPath, 4);
+    }
+
+    public FileService(String uploadPath, int parallelThreads) {
+        this(uploadPath, parallelThreads, null);
+    }
+
+    @Autowired
+    public FileService(@Value("${uploadPath}") String uploadPath,
+                       @Value("${upload.parallel-threads:4}") int parallelThreads,
+                       ContentAddressedStore contentStore) {
         this.uploadPath = uploadPath;
+        this.contentStore = contentStore;
+        int threads = Math.max(1, parallelThreads);
+        AtomicInteger seq = new AtomicInteger();
+        this.uploadExecutor = new ThreadPoolExecutor(threads, threads, 30L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                r -> {
+                    Thread t = new Thread(r, "upload-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.uploadExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void shutdownUploadExecutor() {
+        uploadExecutor.shutdown();
     }
 
     @PostConstruct
@@ -57,20 +109,96 @@ public class FileService {
         Files.createDirectories(dir);
 
         String saved = newSavedName(originalFileName);
-        Path target = safeResolve(dir, saved);
+        store(dir, saved, originalFileName, in);
+        return saved; // 파일명만 반환 (상위에서 subdir과 합쳐서 사용)
+    }
 
-        try (in) { Files.copy(in, target); }
-        catch (IOException e) {
-            Files.deleteIfExists(target);
-            throw e;
+    /** 지정한 저장 이름(루트 기준 상대 경로)으로 저장 — 게시판처럼 이름 규칙을 호출부가 정하는 경우 */
+    public String uploadFileAs(String savedFileName, InputStream in) throws IOException {
+        Objects.requireNonNull(in, "input stream must not be null");
+        Path target = resolveSaved(savedFileName);
+        Files.createDirectories(target.getParent());
+        store(target.getParent(), target.getFileName().toString(), savedFileName, in);
+        return relativeName(target);
+    }
+
+    /**
+     * ★ 여러 파일을 하위 폴더(subdir)에 병렬 저장 — 스트리밍 중 SHA-256 계산, 묶음 내 동일 내용은 첫 파일만 유지
+     * - 폴더 생성은 묶음당 1회
+     * - 하나라도 실패하면 이번 묶음에서 저장된 파일을 모두 지우고 첫 예외를 던짐
+     * @return 입력 순서대로의 결과(중복 항목은 duplicateOf 로 표시)
+     */
+    public List<StoredFile> uploadAllIn(String subdir, List<MultipartFile> files) throws IOException {
+        Objects.requireNonNull(subdir, "subdir must not be null");
+        if (files == null || files.isEmpty()) return List.of();
+
+        Path dir = getUploadRoot().resolve(subdir).normalize();
+        Files.createDirectories(dir);
+
+        List<Future<StoredFile>> futures = new ArrayList<>(files.size());
+        for (MultipartFile f : files) {
+            futures.add(uploadExecutor.submit(() -> writeHashed(dir, f)));
         }
-        log.info("Saved file: {}", target);
-        return saved; // 파일명만 반환 (상위에서 subdir과 합쳐서 사용)
+
+        List<StoredFile> written = new ArrayList<>(files.size());
+        Throwable failure = null;
+        for (Future<StoredFile> future : futures) {
+            try {
+                written.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) failure = e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) failure = e;
+            }
+        }
+        if (failure != null) {
+            for (StoredFile s : written) deleteQuietly(dir, s.savedName());
+            if (failure instanceof IOException io) throw io;
+            if (failure instanceof RuntimeException re) throw re;
+            throw new IOException("parallel upload failed", failure);
+        }
+
+        Map<String, Integer> firstByHash = new HashMap<>();
+        List<StoredFile> out = new ArrayList<>(written.size());
+        for (int i = 0; i < written.size(); i++) {
+            StoredFile s = written.get(i);
+            Integer first = firstByHash.putIfAbsent(s.sha256(), i);
+            if (first == null) {
+                out.add(s);
+            } else {
+                deleteQuietly(dir, s.savedName());
+                out.add(new StoredFile(s.originalName(), s.savedName(), s.sha256(), s.size(), first));
+            }
+        }
+        return out;
     }
 
-    /** 저장된 '파일명 또는 하위경로 포함 파일명'으로 삭제 */
+    /** 저장된 '파일명 또는 하위경로 포함 파일명'으로 삭제 (원본이면 파생본도 함께 삭제, 내용 주소 참조 해제) */
     public boolean deleteBySavedName(String savedFileName) throws IOException {
-        return deleteFileInternal(getUploadRoot(), savedFileName);
+        boolean deleted = deleteFileInternal(getUploadRoot(), savedFileName);
+        if (!ImageDerivatives.isDerivative(savedFileName)) deleteDerivatives(savedFileName);
+        return deleted;
+    }
+
+    /** 원본 기준 파생본(썸네일 등) 삭제 — 없으면 조용히 무시 */
+    public void deleteDerivatives(String savedFileName) {
+        Path root = getUploadRoot();
+        for (String path : ImageDerivatives.allPathsOf(savedFileName)) {
+            try {
+                if (Files.deleteIfExists(safeResolve(root, path))) log.info("Deleted derivative: {}", path);
+            } catch (IOException | SecurityException e) {
+                log.warn("Failed to delete derivative: {}", path, e);
+            }
+        }
+    }
+
+    /** 저장 상대 경로 → 실제 경로 (루트 밖 접근 차단) */
+    public Path resolveSaved(String savedFileName) {
+        Objects.requireNonNull(savedFileName, "savedFileName must not be null");
+        String safeName = savedFileName.replace('\\', '/');
+        if (safeName.startsWith("/")) safeName = safeName.substring(1);
+        return safeResolve(getUploadRoot(), safeName);
     }
 
     /* ================= 내부 유틸 ================= */
@@ -97,15 +225,57 @@ public class FileService {
         return UUID.randomUUID() + extractExt(originalFileName);
     }
 
+    /** 병렬 저장 작업 1건 (작업 스레드에서 실행) */
+    private StoredFile writeHashed(Path dir, MultipartFile file) throws IOException {
+        String ori = Objects.requireNonNull(file.getOriginalFilename(), "original filename is null");
+        return store(dir, newSavedName(ori), ori, file.getInputStream());
+    }
+
+    /**
+     * 공통 저장 — 스트리밍 중 SHA-256 계산
+     * - plain: 저장 이름에 바로 기록
+     * - cas  : blob 임시 파일에 기록 → 해시로 blob 확정 → 저장 이름을 하드링크로 연결
+     */
+    private StoredFile store(Path dir, String savedName, String originalName, InputStream in) throws IOException {
+        Path target = safeResolve(dir, savedName);
+        boolean cas = contentStore != null && contentStore.enabled();
+        Path sink = cas ? contentStore.newTempFile() : target;   // 임시 파일은 이미 생성돼 있음 → 덮어쓰기
+        CopyOption[] options = cas ? new CopyOption[]{StandardCopyOption.REPLACE_EXISTING} : new CopyOption[0];
+        MessageDigest md = ContentAddressedStore.sha256();
+        long size;
+        try (InputStream din = new DigestInputStream(in, md)) {
+            size = Files.copy(din, sink, options);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(sink);
+            throw e;
+        }
+        String hash = HexFormat.of().formatHex(md.digest());
+        if (cas) {
+            contentStore.commit(sink, hash, size, relativeName(target), target);
+        }
+        log.info("Saved file: {} ({} bytes)", target, size);
+        return new StoredFile(originalName, savedName, hash, size, -1);
+    }
+
+    private String relativeName(Path target) {
+        return getUploadRoot().relativize(target).toString().replace('\\', '/');
+    }
+
+    private void deleteQuietly(Path dir, String savedName) {
+        try {
+            deleteFileInternal(getUploadRoot(), relativeName(safeResolve(dir, savedName)));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to delete staged file: {}", savedName, e);
+        }
+    }
+
     private String uploadFileInternal(Path dir, String originalFileName, byte[] fileData) throws IOException {
         Objects.requireNonNull(originalFileName, "originalFileName must not be null");
         Objects.requireNonNull(fileData, "fileData must not be null");
 
         Files.createDirectories(dir);
         String saved = newSavedName(originalFileName);
-        Path target = safeResolve(dir, saved);
-        Files.write(target, fileData, CREATE_NEW);
-        log.info("Saved file: {} ({} bytes)", target, fileData.length);
+        store(dir, saved, originalFileName, new ByteArrayInputStream(fileData));
         return saved;
     }
 
@@ -115,20 +285,13 @@ public class FileService {
 
         Files.createDirectories(dir);
         String saved = newSavedName(originalFileName);
-        Path target = safeResolve(dir, saved);
-        try (in) {
-            Files.copy(in, target);
-        } catch (IOException e) {
-            Files.deleteIfExists(target);
-            throw e;
-        }
-        log.info("Saved file: {}", target);
+        store(dir, saved, originalFileName, in);
         return saved;
     }
 
     private boolean deleteFileInternal(Path dir, String savedFileName) throws IOException {
         Objects.requireNonNull(savedFileName, "savedFileName must not be null");
-        // ⬇️ 추가: 선행 슬래시 방어 (윈도우의 '\'도 방어)
+        // ⬇️ 추가: 선행 슬래시 방어 (윈도우의 '\\'도 방어)
         String safeName = savedFileName.replace('\\','/');
         if (safeName.startsWith("/")) safeName = safeName.substring(1);
 
@@ -136,6 +299,7 @@ public class FileService {
         boolean deleted = Files.deleteIfExists(target);
         if (deleted) log.info("Deleted file: {}", target);
         else log.info("File not found for delete: {}", target);
+        if (contentStore != null && contentStore.enabled()) contentStore.release(relativeName(target));
         return deleted;
     }
 }
@@ -2,11 +2,14 @@ package org.team.mealkitshop.service.item;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.team.mealkitshop.domain.item.Item;
 import org.team.mealkitshop.domain.item.ItemLike;
 import org.team.mealkitshop.domain.member.Member;
+import org.team.mealkitshop.event.ItemChangedEvent;
 import org.team.mealkitshop.exception.OutOfStockException;
 import org.team.mealkitshop.repository.item.ItemLikeRepository;
 import org.team.mealkitshop.repository.item.ItemRepository;
@@ -25,12 +28,22 @@ public class ItemActionService {
     private final ItemRepository itemRepository;
     private final ItemLikeRepository itemLikeRepository;
     private final MemberRepository memberRepository;
+    private final ItemViewCountBuffer itemViewCountBuffer;
+    private final ApplicationEventPublisher eventPublisher;
 
-    /** 상세 진입 시 조회수 +1 (원자 업데이트) */
+    /**
+     * 상세 진입 시 조회수 +1 — 메모리 버퍼에만 누적, DB 반영은 ItemViewCountBuffer 가 주기적으로 일괄 처리
+     * (상품 존재 여부는 호출 측의 상세 조회에서 검증)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void increaseViewCount(Long itemId) {
-        if (itemRepository.incrementView(itemId) == 0) {
-            throw new EntityNotFoundException("Item not found: " + itemId);
-        }
+        itemViewCountBuffer.increment(itemId);
+    }
+
+    /** 아직 DB 에 반영되지 않은 조회수(화면 표시 보정용) */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long pendingViewCount(Long itemId) {
+        return itemViewCountBuffer.pending(itemId);
     }
 
     /** 주문 시 재고 차감(음수 방지). 실패 시 예외 */
@@ -40,6 +53,7 @@ public class ItemActionService {
             // 기존: IllegalStateException -> 통일: OutOfStockException
             throw new OutOfStockException("재고 부족 또는 상품 없음 (id=" + itemId + ", qty=" + qty + ")");
         }
+        eventPublisher.publishEvent(ItemChangedEvent.of(itemId));
     }
 
     /** 좋아요 토글 (true=좋아요 설정, false=해제) — 회원 PK: mno */
@@ -47,6 +61,7 @@ public class ItemActionService {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new EntityNotFoundException("Item not found: " + itemId));
 
+        eventPublisher.publishEvent(ItemChangedEvent.of(itemId)); // 찜 수 변동 → 커밋 후 목록 갱신
         return itemLikeRepository.findByMember_MnoAndItem_Id(memberMno, itemId)
                 .map(existing -> {
                     itemLikeRepository.delete(existing);
@@ -0,0 +1,119 @@
+package org.team.mealkitshop.service.item;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.team.mealkitshop.config.ItemDetailCacheProperties;
+import org.team.mealkitshop.dto.item.ItemDTO;
+import org.team.mealkitshop.event.ItemChangedEvent;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 상세 DTO near-cache (상품 id → 조립 완료된 ItemDTO)
+ * - 무효화: ItemChangedEvent(상품/이미지/리뷰/주문 쓰기) 커밋 직후 해당 id 제거
+ * - 세대 번호: 로딩 시작 후 무효화가 끼어들면 로딩 결과를 저장하지 않음(늦게 도착한 옛 값 방지)
+ * - 캐시된 DTO 는 여러 요청이 공유하므로 호출 측에서 수정하지 않는다
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ItemDetailCache {
+
+    private final ItemDetailCacheProperties properties;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /* ===== 지표 ===== */
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder staleLoads = new LongAdder();
+
+    private record Entry(ItemDTO value, long expiresAtNanos, long createdAtNanos) { }
+
+    /** 캐시 조회 — 없거나 만료면 null */
+    public ItemDTO get(Long itemId) {
+        Entry e = entries.get(itemId);
+        if (e != null && e.expiresAtNanos() - System.nanoTime() > 0) {
+            hits.increment();
+            return e.value();
+        }
+        if (e != null) entries.remove(itemId, e);
+        misses.increment();
+        return null;
+    }
+
+    /** 로딩 시작 전 세대 번호 — 무효화된 적 없는 id 는 0 (조회만으로 항목을 만들지 않음) */
+    public long generation(Long itemId) {
+        AtomicLong g = generations.get(itemId);
+        return g == null ? 0L : g.get();
+    }
+
+    /** 로딩 결과 저장 — 로딩 중 무효화가 있었으면 버림 */
+    public void put(Long itemId, long generation, ItemDTO dto) {
+        if (dto == null) return;
+        if (generation(itemId) != generation) {
+            staleLoads.increment();
+            return;
+        }
+        long now = System.nanoTime();
+        entries.put(itemId, new Entry(dto, now + properties.ttl().toNanos(), now));
+        // 세대 재확인: put 직전에 끼어든 무효화 대응
+        if (generation(itemId) != generation) entries.remove(itemId);
+        if (entries.size() > properties.maxEntries()) trim();
+    }
+
+    /** 단건 무효화 — 세대 항목은 여기서만 생성 */
+    public void evict(Long itemId) {
+        generations.computeIfAbsent(itemId, k -> new AtomicLong()).incrementAndGet();
+        if (entries.remove(itemId) != null) evictions.increment();
+    }
+
+    /** 쓰기 트랜잭션 커밋 후 무효화 (트랜잭션 밖 발행이면 즉시) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        event.itemIds().forEach(this::evict);
+    }
+
+    public void clear() {
+        entries.keySet().forEach(this::evict);
+    }
+
+    /** 지표 스냅샷 */
+    public Map<String, Object> metrics() {
+        long h = hits.sum(), m = misses.sum();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("size", entries.size());
+        out.put("hits", h);
+        out.put("misses", m);
+        out.put("hitRatio", (h + m) == 0 ? 0.0 : (double) h / (h + m));
+        out.put("evictions", evictions.sum());
+        out.put("staleLoadsDiscarded", staleLoads.sum());
+        out.put("ttlSeconds", properties.ttl().toSeconds());
+        return out;
+    }
+
+    /** 용량 초과 시 만료 항목 → 오래된 항목 순으로 제거 */
+    private synchronized void trim() {
+        long now = System.nanoTime();
+        entries.entrySet().removeIf(en -> en.getValue().expiresAtNanos() - now <= 0);
+        int over = entries.size() - properties.maxEntries();
+        if (over <= 0) return;
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(en -> en.getValue().createdAtNanos()))
+                .limit(over)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(entries::remove);
+        log.debug("[item-detail-cache] trimmed {} entries", over);
+    }
+}
@@ -2,17 +2,31 @@ package org.team.mealkitshop.service.item;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.team.mealkitshop.domain.item.Item;
 import org.team.mealkitshop.domain.item.ItemImage;
 import org.team.mealkitshop.dto.item.ItemImgDTO;
+import org.team.mealkitshop.event.ImageStoredEvent;
+import org.team.mealkitshop.event.ItemChangedEvent;
 import org.team.mealkitshop.repository.item.ItemImgRepository;
 import org.team.mealkitshop.repository.item.ItemRepository;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -21,18 +35,27 @@ import java.util.stream.Collectors;
  * - 상품(갤러리) 이미지: /images/item/**, detail=false
  * - 상세(본문) 이미지 : /images/detail/**, detail=true
  * - 대표이미지는 상품 이미지(detail=false)만 대상
+ * - 다중 업로드(saveImages)는 단계형: 트랜잭션 밖 병렬 저장 → 짧은 트랜잭션에서 JDBC 배치 삽입
  */
 @Service
 @RequiredArgsConstructor
 @Transactional(rollbackFor = Exception.class)
 public class ItemImgService {
 
+    private static final String INSERT_GALLERY_SQL = """
+            insert into item_img (img_name, ori_img_name, img_url, repimg_yn, detail, item_id, reg_time, update_time)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
     @Value("${imageBasePath:/images/}")
     private String imageBasePath;
 
     private final FileService fileService;
     private final ItemImgRepository itemImgRepository;
     private final ItemRepository itemRepository;
+    private final ApplicationEventPublisher eventPublisher; // 대표 이미지 변경 → 목록 읽기 모델 갱신
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     /* ================= CREATE ================= */
 
@@ -47,37 +70,37 @@ public class ItemImgService {
             if (makeRep) itemImgRepository.clearRep(itemId);
 
             ItemImage e = uploadAndMakeEntity(item, file, makeRep, savedThisCall);
-            return toDTO(itemImgRepository.save(e));
+            ItemImage persisted = itemImgRepository.save(e);
+            ItemImgDTO saved = toDTO(persisted);
+            publishStored(persisted, itemId);
+            eventPublisher.publishEvent(ItemChangedEvent.of(itemId)); // 갤러리 변경 → 상세 캐시/목록 갱신
+            return saved;
         } catch (IOException | RuntimeException e) {
             cleanupSaved(savedThisCall);
             throw e;
         }
     }
 
-    /** 상품 이미지 다중 업로드(처음 1장 자동 대표 지정 가능) */
+    /**
+     * 상품 이미지 다중 업로드(처음 1장 자동 대표 지정 가능) — 단계형
+     * 1) 트랜잭션 없이 파일을 병렬 저장(묶음 내 같은 내용은 1장만)
+     * 2) 짧은 트랜잭션에서 대표 지정 + item_img 행을 JDBC 배치 1회로 삽입
+     * 2)가 실패하면 1)에서 저장한 파일 정리
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ItemImgDTO> saveImages(Long itemId, List<MultipartFile> files) throws IOException {
-        if (files == null || files.isEmpty()) return List.of();
-        Item item = getItem(itemId);
-
-        boolean alreadyHasRep = hasRep(itemId); // detail=false 기준
-        boolean setOnce = false;
-        List<ItemImage> batch = new ArrayList<>();
-        List<String> savedThisBatch = new ArrayList<>();
+        List<MultipartFile> valid = files == null ? List.of()
+                : files.stream().filter(f -> f != null && !f.isEmpty()).toList();
+        if (valid.isEmpty()) return List.of();
+        if (!itemRepository.existsById(itemId)) throw new NoSuchElementException("Item not found: " + itemId);
 
+        List<FileService.StoredFile> stored = fileService.uploadAllIn("item", valid).stream()
+                .filter(s -> !s.duplicate())
+                .toList();
         try {
-            for (MultipartFile f : files) {
-                if (f == null || f.isEmpty()) continue;
-                boolean makeRep = !alreadyHasRep && !setOnce;
-                if (makeRep) {
-                    itemImgRepository.clearRep(itemId);
-                    setOnce = true;
-                }
-                batch.add(uploadAndMakeEntity(item, f, makeRep, savedThisBatch));
-            }
-            if (batch.isEmpty()) return List.of();
-            return itemImgRepository.saveAll(batch).stream().map(this::toDTO).toList();
-        } catch (IOException | RuntimeException e) {
-            cleanupSaved(savedThisBatch);
+            return transactionTemplate.execute(status -> insertGallery(itemId, stored));
+        } catch (RuntimeException e) {
+            cleanupSaved(stored.stream().map(s -> "item/" + s.savedName()).toList());
             throw e;
         }
     }
@@ -100,7 +123,11 @@ public class ItemImgService {
         e.updateItemImg(ori, imgName, imgUrl);
         e.markDetail(); // detail=true
         item.addImage(e);
-        return toDTO(itemImgRepository.save(e));
+        ItemImage persisted = itemImgRepository.save(e);
+        ItemImgDTO dto = toDTO(persisted);
+        publishStored(persisted, itemId);
+        eventPublisher.publishEvent(ItemChangedEvent.of(itemId)); // 상세 URL 목록 변경 → 상세 캐시 무효화
+        return dto;
     }
 
     /* ================= READ ================= */
@@ -167,6 +194,7 @@ public class ItemImgService {
         if (updated == 0) {
             throw new IllegalStateException("Failed to set representative image: " + imageId);
         }
+        eventPublisher.publishEvent(ItemChangedEvent.of(itemId));
     }
 
     /* ================= DELETE ================= */
@@ -179,6 +207,7 @@ public class ItemImgService {
         Long itemId = e.getItem().getId();
         itemImgRepository.delete(e);
         ensureRep(itemId);
+        eventPublisher.publishEvent(ItemChangedEvent.of(itemId));
     }
 
     /** 다중 이미지 삭제(대표 재지정 포함) */
@@ -199,6 +228,7 @@ public class ItemImgService {
         }
         itemImgRepository.deleteAll(targets);
         ensureRep(itemId);
+        eventPublisher.publishEvent(ItemChangedEvent.of(itemId));
     }
 
     /* ================= Helpers ================= */
@@ -213,6 +243,7 @@ public class ItemImgService {
         try { fileService.deleteBySavedName(e.getImgName()); } catch (Exception ignore) {}
         itemImgRepository.delete(e);
         ensureRep(itemId);
+        eventPublisher.publishEvent(ItemChangedEvent.of(itemId));
     }
 
     /** 아이템 로딩(이미지 연관 포함) */
@@ -265,6 +296,62 @@ public class ItemImgService {
         return e;
     }
 
+    /** 저장된 파일들의 item_img 행 일괄 삽입(트랜잭션 안) — 대표가 없으면 첫 장을 대표로 */
+    private List<ItemImgDTO> insertGallery(Long itemId, List<FileService.StoredFile> stored) {
+        boolean makeRep = !hasRep(itemId);
+        if (makeRep) itemImgRepository.clearRep(itemId);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_GALLERY_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        String imgName = "item/" + stored.get(i).savedName();
+                        ps.setString(1, imgName);
+                        ps.setString(2, stored.get(i).originalName());
+                        ps.setString(3, buildPublicUrl(imgName));
+                        ps.setString(4, makeRep && i == 0 ? "Y" : "N");
+                        ps.setBoolean(5, false);                 // detail=false(본문 이미지 아님)
+                        ps.setLong(6, itemId);
+                        ps.setTimestamp(7, now);
+                        ps.setTimestamp(8, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return stored.size();
+                    }
+                },
+                keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        if (generated.size() != stored.size()) {
+            throw new IllegalStateException("generated keys " + generated.size() + " != rows " + stored.size());
+        }
+        List<ItemImgDTO> out = new ArrayList<>(stored.size());
+        for (int i = 0; i < stored.size(); i++) {
+            Long id = ((Number) generated.get(i).values().iterator().next()).longValue();
+            String imgName = "item/" + stored.get(i).savedName();
+            eventPublisher.publishEvent(ImageStoredEvent.item(id, imgName, itemId));
+            out.add(ItemImgDTO.builder()
+                    .id(id)
+                    .imgName(imgName)
+                    .oriImgName(stored.get(i).originalName())
+                    .imgUrl(buildPublicUrl(imgName))
+                    .repimgYn(makeRep && i == 0)
+                    .build());
+        }
+        eventPublisher.publishEvent(ItemChangedEvent.of(itemId));
+        return out;
+    }
+
+    /** 파생본(썸네일) 생성 요청 — 커밋 후 백그라운드 처리 */
+    private void publishStored(ItemImage e, Long itemId) {
+        eventPublisher.publishEvent(ImageStoredEvent.item(e.getId(), e.getImgName(), itemId));
+    }
+
     /** 업로드 중 생성된 파일 롤백 정리 */
     private void cleanupSaved(List<String> savedNames) {
         for (String fn : savedNames) {
@@ -0,0 +1,170 @@
+package org.team.mealkitshop.service.item;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.team.mealkitshop.common.OrderStatus;
+import org.team.mealkitshop.domain.item.Item;
+import org.team.mealkitshop.domain.item.ItemListing;
+import org.team.mealkitshop.domain.item.ItemReviewStats;
+import org.team.mealkitshop.event.ItemChangedEvent;
+import org.team.mealkitshop.repository.item.ItemImgRepository;
+import org.team.mealkitshop.repository.item.ItemListingRepository;
+import org.team.mealkitshop.repository.item.ItemReviewStatsRepository;
+import org.team.mealkitshop.repository.item.ItemRepository;
+import org.team.mealkitshop.repository.order.OrderItemRepository;
+import org.team.mealkitshop.service.ranking.RankingService;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 상품 목록 읽기 모델(item_listing) 유지 서비스
+ * - 쓰기 경로가 커밋된 뒤 ItemChangedEvent 를 받아 해당 상품 행만 재계산
+ * - rebuildAll(): 전체 재빌드(초기 적재/정합성 복구용)
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+@Transactional
+public class ItemListingService {
+
+    /** 판매량 집계 대상 주문 상태 (관리자 목록 정렬과 동일 기준) */
+    static final List<OrderStatus> SOLD_STATUSES =
+            List.of(OrderStatus.SHIPPED, OrderStatus.DELIVERED, OrderStatus.COMPLETED);
+
+    /** 재빌드 시 한 트랜잭션에서 처리할 상품 수 */
+    private static final int REBUILD_CHUNK = 500;
+
+    private final ItemListingRepository itemListingRepository;
+    private final ItemRepository itemRepository;
+    private final ItemImgRepository itemImgRepository;
+    private final ItemReviewStatsRepository itemReviewStatsRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RankingService rankingService;
+
+    /* ===================== 이벤트 ===================== */
+
+    /** 원본 트랜잭션 커밋 후 재계산 — 실패해도 원본 쓰기는 유지(재빌드로 복구), 건수 캐시 무효화보다 먼저 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.isEmpty()) return;
+        try {
+            refresh(event.itemIds());
+        } catch (RuntimeException e) {
+            log.warn("[item_listing] refresh failed: itemIds={}", event.itemIds(), e);
+        }
+    }
+
+    /* ===================== 갱신 ===================== */
+
+    /** 지정 상품들의 목록 행 재계산(없으면 생성, 원본이 삭제됐으면 행 삭제) — 집계는 상품 묶음 단위 4쿼리(리뷰 통계는 item_review_stats) */
+    public void refresh(Collection<Long> itemIds) {
+        if (itemIds == null || itemIds.isEmpty()) return;
+        Set<Long> ids = new LinkedHashSet<>(itemIds);
+
+        Map<Long, Item> items = itemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        Set<Long> removed = new HashSet<>(ids);
+        removed.removeAll(items.keySet());
+        if (!removed.isEmpty()) itemListingRepository.deleteByItemIdIn(removed);
+        if (items.isEmpty()) {
+            publishRankings(List.of(), removed);
+            return;
+        }
+
+        Collection<Long> live = items.keySet();
+        Map<Long, String> repUrls = itemImgRepository.findRepUrlsByItemIdIn(live).stream()
+                .collect(Collectors.toMap(
+                        ItemImgRepository.ItemRepProjection::getItemId,
+                        ItemImgRepository.ItemRepProjection::getImgUrl,
+                        (a, b) -> a));
+        Map<Long, ItemReviewStats> statsMap = itemReviewStatsRepository.findAllById(live).stream()
+                .collect(Collectors.toMap(ItemReviewStats::getItemId, Function.identity()));
+        Map<Long, Long> soldMap = orderItemRepository.sumSoldQuantityByItemIds(live, SOLD_STATUSES).stream()
+                .collect(Collectors.toMap(
+                        OrderItemRepository.ItemSoldQuantity::getItemId,
+                        v -> v.getSoldQuantity() != null ? v.getSoldQuantity() : 0L));
+
+        Map<Long, ItemListing> existing = itemListingRepository.findAllById(live).stream()
+                .collect(Collectors.toMap(ItemListing::getItemId, Function.identity()));
+
+        List<ItemListing> rows = new ArrayList<>(items.size());
+        for (Item item : items.values()) {
+            ItemListing row = existing.getOrDefault(item.getId(), ItemListing.of(item.getId()));
+            ItemReviewStats stats = statsMap.get(item.getId());
+            row.sync(item,
+                    repUrls.get(item.getId()),
+                    stats != null ? stats.avgRating() : 0.0,
+                    stats != null ? stats.getReviewCount() : 0L,
+                    soldMap.getOrDefault(item.getId(), 0L));
+            rows.add(row);
+        }
+        itemListingRepository.saveAll(rows);
+        publishRankings(rows, removed);
+    }
+
+    /** 홈/베스트 순위표(메모리) 반영 — 목록 행이 커밋된 뒤에만(롤백된 값이 순위에 남지 않도록) */
+    private void publishRankings(List<ItemListing> rows, Set<Long> removed) {
+        List<ItemListing> applied = List.copyOf(rows);
+        Set<Long> gone = Set.copyOf(removed);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rankingService.onItemsRefreshed(applied, gone);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rankingService.onItemsRefreshed(applied, gone);
+            }
+        });
+    }
+
+    /* ===================== 전체 재빌드 ===================== */
+
+    /**
+     * 전체 재빌드 — id 키셋으로 청크마다 별도 트랜잭션 처리 후 고아 행 정리
+     * @return 재계산한 상품 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAll() {
+        long started = System.currentTimeMillis();
+        int total = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Long> chunk = itemRepository.findIdsAfter(afterId, PageRequest.of(0, REBUILD_CHUNK));
+            if (chunk.isEmpty()) break;
+            transactionTemplate.executeWithoutResult(status -> refresh(chunk));
+            total += chunk.size();
+            afterId = chunk.get(chunk.size() - 1);
+        }
+        Integer orphans = transactionTemplate.execute(status -> {
+            List<Long> orphanIds = itemListingRepository.findOrphanItemIds();
+            return orphanIds.isEmpty() ? 0 : itemListingRepository.deleteByItemIdIn(orphanIds);
+        });
+        log.info("[item_listing] rebuilt {} rows, removed {} orphans in {} ms",
+                total, orphans, System.currentTimeMillis() - started);
+        return total;
+    }
+
+    /** 목록 테이블이 비어 있는지(최초 배포 여부 판단용) */
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return itemListingRepository.count() == 0;
+    }
+}
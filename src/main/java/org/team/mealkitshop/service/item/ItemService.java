@@ -6,27 +6,39 @@ import lombok.extern.log4j.Log4j2;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import org.team.mealkitshop.common.CursorSlice;
 import org.team.mealkitshop.common.ItemSellStatus;
+import org.team.mealkitshop.common.ItemSortType;
 import org.team.mealkitshop.config.ItemDeletePolicyProperties;
 import org.team.mealkitshop.domain.item.Item;
+import org.team.mealkitshop.domain.item.ItemImage;
+import org.team.mealkitshop.domain.item.ItemReviewStats;
 import org.team.mealkitshop.dto.item.ItemDTO;
 import org.team.mealkitshop.dto.item.ItemFormDTO;
 import org.team.mealkitshop.dto.item.ItemImgDTO;
 import org.team.mealkitshop.dto.item.ItemSearchDTO;
 import org.team.mealkitshop.dto.item.ListItemDTO;
+import org.team.mealkitshop.event.ItemChangedEvent;
+import org.team.mealkitshop.event.MemberHeaderChangedEvent;
 import org.team.mealkitshop.repository.cart.CartItemRepository;
 import org.team.mealkitshop.repository.item.ItemLikeRepository;
+import org.team.mealkitshop.repository.item.ItemListingRepository;
+import org.team.mealkitshop.repository.item.ItemReviewStatsRepository;
 import org.team.mealkitshop.repository.item.ItemRepository;
 import org.team.mealkitshop.repository.item.ReviewImageRepository;
 import org.team.mealkitshop.repository.item.ReviewRepository;
 import org.team.mealkitshop.repository.order.OrderItemRepository;
+import org.team.mealkitshop.service.ranking.RankingService;
+import org.team.mealkitshop.service.search.ItemSearchIndex;
 
 import java.util.*;
 import java.util.stream.StreamSupport;
@@ -47,11 +59,18 @@ public class ItemService {
 
     private final ItemRepository itemRepository;
     private final ReviewRepository reviewRepository;
+    private final ItemReviewStatsRepository itemReviewStatsRepository; // 상품별 리뷰 통계(미리 집계)
+    private final ReviewStatsService reviewStatsService;
     private final ReviewImageRepository reviewImageRepository;
     private final ItemLikeRepository itemLikeRepository;
     private final OrderItemRepository orderItemRepository; // 주문 참조 여부 확인
     private final CartItemRepository cartItemRepository;
     private final ItemDeletePolicyProperties deletePolicy; // STOP 정책
+    private final ItemListingRepository itemListingRepository; // 사용자 목록 읽기 모델
+    private final ApplicationEventPublisher eventPublisher;
+    private final ItemDetailCache itemDetailCache; // 상세 DTO near-cache
+    private final ItemSearchIndex itemSearchIndex; // 상품 검색 역색인
+    private final RankingService rankingService; // 홈/베스트 순위표(메모리 상위 K)
 
     // 이미지 CRUD 전담 서비스
     private final ItemImgService itemImgService;
@@ -82,43 +101,76 @@ public class ItemService {
 
         Item item = dto.createItem();
         item.syncSellStatusByStockIfNotStopped();
-        return itemRepository.save(item).getId();
+        Long id = itemRepository.save(item).getId();
+        eventPublisher.publishEvent(ItemChangedEvent.membershipOf(id));
+        return id;
     }
 
 
     /* ===================== READ ===================== */
 
-    /** 단건 조회(+대표/갤러리/상세/리뷰통계) — 갤러리는 detail=false만, 상세는 distinct */
-    @Transactional(readOnly = true)
+    /**
+     * 단건 조회(+대표/갤러리/상세/리뷰통계) — 갤러리는 detail=false만, 상세는 distinct
+     * - 조립 결과는 ItemDetailCache 에 보관(적중 시 DB 접근 없음), 쓰기 이벤트 커밋 후 무효화
+     * - 반환 DTO 는 공유 인스턴스이므로 호출 측에서 수정하지 않는다
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ItemDTO read(Long itemId) {
+        ItemDTO cached = itemDetailCache.get(itemId);
+        if (cached != null) return cached;
+
+        long generation = itemDetailCache.generation(itemId);
+        ItemDTO loaded = loadDetail(itemId);
+        itemDetailCache.put(itemId, generation, loaded);
+        return loaded;
+    }
+
+    /** 현재 재고 — 상세 캐시(ItemDTO)는 주문 직후 잠시 옛 값일 수 있어 DB 에서 직접 */
+    @Transactional(readOnly = true)
+    public int currentStock(Long itemId) {
+        return itemRepository.findStockNumberById(itemId)
+                .orElseThrow(() -> new EntityNotFoundException("Item not found: " + itemId));
+    }
+
+    /**
+     * 관리자 수정/상세 화면용 단건 조회 — 캐시를 거치지 않은 새 DTO(호출 측에서 수정해도 됨)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ItemDTO readForAdmin(Long itemId) {
+        return loadDetail(itemId);
+    }
+
+    /** 상세 번들 조립 — 이미지는 fetch 된 컬렉션에서 메모리 분류(추가 쿼리 없음) */
+    private ItemDTO loadDetail(Long itemId) {
         Item item = itemRepository.findDetailBundleById(itemId)
                 .orElseThrow(() -> new EntityNotFoundException("Item not found: " + itemId));
 
-        ItemDTO dto = toDTO(item);
-
-        // 갤러리: 상품 이미지(detail=false)만, 대표 먼저 정렬
-        List<ItemImgDTO> images = new ArrayList<>(itemImgService.listProduct(itemId));
-        images.sort((a, b) -> {
-            int repCmp = Boolean.compare(Boolean.TRUE.equals(b.getRepimgYn()), Boolean.TRUE.equals(a.getRepimgYn()));
-            if (repCmp != 0) return repCmp;
-            return Long.compare(
-                    a.getId() == null ? Long.MAX_VALUE : a.getId(),
-                    b.getId() == null ? Long.MAX_VALUE : b.getId()
-            );
-        });
+        ItemDTO dto = toBaseDTO(item);
+        List<ItemImage> all = item.getImages() == null ? List.of() : item.getImages();
+
+        // 갤러리: 상품 이미지(detail=false)만, 대표 먼저 → 등록순
+        List<ItemImgDTO> images = all.stream()
+                .filter(img -> !img.isDetail())
+                .map(ItemImgDTO::from)
+                .sorted((a, b) -> {
+                    int repCmp = Boolean.compare(Boolean.TRUE.equals(b.getRepimgYn()), Boolean.TRUE.equals(a.getRepimgYn()));
+                    if (repCmp != 0) return repCmp;
+                    return Long.compare(
+                            a.getId() == null ? Long.MAX_VALUE : a.getId(),
+                            b.getId() == null ? Long.MAX_VALUE : b.getId()
+                    );
+                })
+                .toList();
         dto.setItemImages(images);
 
-        // 대표 URL(상품 이미지 중)
-        images.stream()
-                .filter(img -> Boolean.TRUE.equals(img.getRepimgYn()))
-                .findFirst()
-                .ifPresent(rep -> dto.setRepImgUrl(rep.getImgUrl()));
-        if (dto.getRepImgUrl() == null && !images.isEmpty()) {
-            dto.setRepImgUrl(images.get(0).getImgUrl());
-        }
+        // 대표 URL(상품 이미지 중) — 정렬상 대표가 맨 앞, 없으면 첫 이미지
+        if (!images.isEmpty()) dto.setRepImgUrl(images.get(0).getImgUrl());
 
-        // 상세 이미지 URL: 중복 제거(distinct)
-        List<String> longImages = itemImgService.listDetailUrls(itemId).stream()
+        // 상세 이미지 URL: id 순, 중복 제거(distinct)
+        List<String> longImages = all.stream()
+                .filter(ItemImage::isDetail)
+                .sorted(Comparator.comparing(ItemImage::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(ItemImage::getImgUrl)
                 .filter(Objects::nonNull)
                 .map(String::trim)
                 .distinct()
@@ -130,6 +182,11 @@ public class ItemService {
         return dto;
     }
 
+    /** 상세 캐시 지표(관리자 모니터링) */
+    public Map<String, Object> detailCacheMetrics() {
+        return itemDetailCache.metrics();
+    }
+
     /** 관리자 목록(간단 조건) — 리뷰 통계 제외 */
     @Transactional(readOnly = true)
     public Page<ListItemDTO> list(String keyword, String itemSellStatus, Pageable pageable) {
@@ -142,7 +199,10 @@ public class ItemService {
             catch (IllegalArgumentException ignore) {}
         }
 
-        return itemRepository.getAdminItemPage(cond, safe);
+        List<Long> matched = searchIds(cond, EnumSet.of(ItemSearchIndex.Field.NAME));
+        return matched == null
+                ? itemRepository.getAdminItemPage(cond, safe)
+                : itemRepository.getAdminItemPage(cond, safe, matched);
     }
 
     /** 사용자/목록용 페이지 DTO — 대표 이미지/리뷰 통계 배치 설정(detail=false 기준 대표) */
@@ -156,23 +216,15 @@ public class ItemService {
 
         List<Long> ids = content.stream().map(Item::getId).toList();
 
-        var avgMap = reviewRepository.findAvgRatingByItemIds(ids).stream()
-                .collect(java.util.stream.Collectors.toMap(
-                        ReviewRepository.ItemAvgRating::getItemId,
-                        v -> v.getAvgRating() != null ? v.getAvgRating() : 0.0
-                ));
-        var cntMap = reviewRepository.findReviewCountByItemIds(ids).stream()
-                .collect(java.util.stream.Collectors.toMap(
-                        ReviewRepository.ItemReviewCount::getItemId,
-                        v -> v.getReviewCount() != null ? v.getReviewCount() : 0L
-                ));
+        // 리뷰 통계는 미리 집계된 행만 읽음(review 집계 없음)
+        var statsMap = itemReviewStatsRepository.findAllById(ids).stream()
+                .collect(java.util.stream.Collectors.toMap(ItemReviewStats::getItemId, s -> s));
 
         Map<Long, ItemImgDTO> repMap = itemImgService.getRepresentatives(ids); // detail=false 기준
 
         return page.map(item -> {
             ItemDTO dto = toDTO(item);
-            dto.setAvgRating(avgMap.getOrDefault(item.getId(), 0.0));
-            dto.setReviewCount(cntMap.getOrDefault(item.getId(), 0L));
+            applyReviewStats(dto, statsMap.get(item.getId()));
             ItemImgDTO rep = repMap.get(item.getId());
             if (rep != null) dto.setRepImgUrl(rep.getImgUrl());
             return dto;
@@ -203,6 +255,7 @@ public class ItemService {
         }
 
         item.updateItem(dto);
+        eventPublisher.publishEvent(ItemChangedEvent.membershipOf(id));
         return toDTO(item);
     }
 
@@ -224,6 +277,7 @@ public class ItemService {
         if (forceStopOnly) {
             if (item.getItemSellStatus() != ItemSellStatus.STOP) {
                 item.setItemSellStatus(ItemSellStatus.STOP);
+                eventPublisher.publishEvent(ItemChangedEvent.membershipOf(id));
                 return "soft";
             }
             hardDeleteInternal(item);
@@ -234,6 +288,7 @@ public class ItemService {
         ItemSellStatus cur = item.getItemSellStatus();
         if (cur != ItemSellStatus.STOP) {
             item.setItemSellStatus(ItemSellStatus.STOP);
+            eventPublisher.publishEvent(ItemChangedEvent.membershipOf(id));
             return "soft";
         }
 
@@ -278,6 +333,7 @@ public class ItemService {
         //  좋아요/장바구니 정리
         itemLikeRepository.deleteByItem_Id(id);
         cartItemRepository.deleteByItemId(id);
+        eventPublisher.publishEvent(MemberHeaderChangedEvent.all()); // 여러 회원 장바구니 개수 변동
 
         //  리뷰 이미지 삭제 (파일 + DB)
         var reviewImgs = reviewImageRepository.findByReview_Item_Id(id);
@@ -294,11 +350,13 @@ public class ItemService {
             reviewImageRepository.deleteByItemIdBulk(id);
         }
 
-        // 리뷰 삭제
+        // 리뷰 삭제 (통계 행도 함께)
         reviewRepository.deleteByItemId(id);
+        reviewStatsService.removeItem(id);
 
-        // 아이템 본체 삭제
+        // 아이템 본체 삭제 (목록 행은 커밋 후 이벤트에서 정리)
         itemRepository.delete(item);
+        eventPublisher.publishEvent(ItemChangedEvent.membershipOf(id));
     }
 
     /** STOP → 재개(기본 로직) */
@@ -306,6 +364,7 @@ public class ItemService {
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Item not found: " + id));
         item.setItemSellStatus(item.getStockNumber() > 0 ? ItemSellStatus.SELL : ItemSellStatus.SOLD_OUT);
+        eventPublisher.publishEvent(ItemChangedEvent.membershipOf(id));
     }
 
 
@@ -315,13 +374,85 @@ public class ItemService {
     @Transactional(readOnly = true)
     public Page<ListItemDTO> getAdminPage(ItemSearchDTO cond, Pageable pageable) {
         Pageable safe = sanitize(pageable);
-        return itemRepository.getAdminItemPage(cond, safe);
+        List<Long> matched = searchIds(cond, EnumSet.of(ItemSearchIndex.Field.NAME));
+        return matched == null
+                ? itemRepository.getAdminItemPage(cond, safe)
+                : itemRepository.getAdminItemPage(cond, safe, matched);
     }
 
-    /** 사용자 목록 페이지 전용 조회(컨디션/페이지 그대로 위임) */
+    /**
+     * 사용자 목록 페이지 전용 조회 — item_listing 읽기 모델(단일 테이블)에서 조회
+     * - 키워드는 상품명/품목/카테고리/상세 설명 색인으로 찾고 관련도순(정렬 미지정 시)
+     */
     @Transactional(readOnly = true)
     public Page<ListItemDTO> getListPage(ItemSearchDTO cond, Pageable pageable) {
-        return itemRepository.getListItemPage(cond, pageable);
+        List<Long> ranked = searchIds(cond, ItemSearchIndex.ALL_FIELDS);
+        return ranked == null
+                ? itemListingRepository.getListPage(cond, pageable)
+                : itemListingRepository.getListPage(cond, pageable, ranked);
+    }
+
+    /**
+     * 홈/베스트 영역 상품 순위 — 순위표 id 를 목록 읽기 모델로 채워 순위순 반환
+     * - 순위표 준비 전이면 같은 의미의 목록 정렬로 조회
+     */
+    @Transactional(readOnly = true)
+    public List<ListItemDTO> getRankedItems(RankingService.Ranking ranking, int limit) {
+        ItemSortType fallback = switch (ranking) {
+            case BEST_SELLING -> ItemSortType.SALES_DESC;
+            case MOST_VIEWED  -> ItemSortType.POPULAR_VIEW;
+            case NEWEST       -> ItemSortType.NEW;
+            case MOST_LIKED   -> ItemSortType.LIKE_DESC;
+            default -> throw new IllegalArgumentException("상품 순위가 아닙니다: " + ranking);
+        };
+        ItemSearchDTO cond = new ItemSearchDTO();
+        Optional<List<Long>> ranked = rankingService.top(ranking, limit);
+        if (ranked.isPresent()) {
+            cond.setSortType(ItemSortType.RELEVANCE); // id 목록 순서 그대로
+            return itemListingRepository.getListPage(cond, PageRequest.of(0, limit), ranked.get()).getContent();
+        }
+        cond.setSortType(fallback);
+        return itemListingRepository.getListPage(cond, PageRequest.of(0, limit)).getContent();
+    }
+
+    /**
+     * 사용자 목록 키셋(커서) 조회 — 깊은 페이지도 offset 스캔/전체 건수 없이
+     * - 조건/정렬/키워드 처리는 getListPage 와 같음
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ListItemDTO> getListSlice(ItemSearchDTO cond, String cursor, int size) {
+        return itemListingRepository.getListSlice(cond, cursor, CursorSlice.clampSize(size),
+                searchIds(cond, ItemSearchIndex.ALL_FIELDS));
+    }
+
+    /**
+     * 키워드 + (상품명/상세 설명 검색어) → 색인 결과(순위순 id, 두 조건 모두 만족)
+     * @return 텍스트 검색 조건이 없거나 색인 적재 전이면 null — 기존 LIKE 조회 사용
+     */
+    private List<Long> searchIds(ItemSearchDTO cond, Set<ItemSearchIndex.Field> keywordFields) {
+        if (cond == null) return null;
+        String keyword = StringUtils.hasText(cond.getKeyword()) ? cond.getKeyword().trim() : null;
+        Set<ItemSearchIndex.Field> byFields = switch (String.valueOf(cond.getSearchBy())) {
+            case "itemNm"     -> EnumSet.of(ItemSearchIndex.Field.NAME);
+            case "itemDetail" -> EnumSet.of(ItemSearchIndex.Field.DETAIL);
+            default           -> null;
+        };
+        String byQuery = byFields != null && StringUtils.hasText(cond.getSearchQuery()) ? cond.getSearchQuery().trim() : null;
+        if (keyword == null && byQuery == null) return null;
+        if (!itemSearchIndex.isReady()) return null;
+
+        List<Long> ranked = keyword == null ? null
+                : itemSearchIndex.search(keyword, keywordFields, ItemSearchIndex.MAX_HITS);
+        if (byQuery != null) {
+            List<Long> by = itemSearchIndex.search(byQuery, byFields, ItemSearchIndex.MAX_HITS);
+            if (ranked == null) {
+                ranked = by;
+            } else {
+                Set<Long> keep = new HashSet<>(by);
+                ranked = ranked.stream().filter(keep::contains).toList();
+            }
+        }
+        return ranked;
     }
 
     /* ===================== 내부 유틸 ===================== */
@@ -339,8 +470,8 @@ public class ItemService {
         return PageRequest.of(p.getPageNumber(), size, s);
     }
 
-    /** 상세설명 HTML sanitize — 필요 시 허용 목록 확장 */
-    private String sanitizeDetail(String html) {
+    /** 상세설명 HTML sanitize — 필요 시 허용 목록 확장 (벤치마크에서 직접 호출하도록 패키지 공개) */
+    static String sanitizeDetail(String html) {
         if (html == null) return null;
         if (html.isBlank()) return "";
         return html;
@@ -351,7 +482,7 @@ public class ItemService {
      * fileService.deleteBySavedName()에 사용할 저장 경로("detail/UUID.ext")로 반환.
      * - 절대/상대 URL 모두 대응, data: 무시
      */
-    private static Set<String> extractDetailSavedNames(String html) {
+    static Set<String> extractDetailSavedNames(String html) {
         Set<String> out = new HashSet<>();
         if (html == null || html.isBlank()) return out;
 
@@ -387,16 +518,34 @@ public class ItemService {
         }
     }
 
-    /** DTO에 리뷰 통계 세팅 */
+    /** DTO에 리뷰 통계 세팅 (item_review_stats 단건 조회) */
     private void fillReviewStats(ItemDTO dto, Long itemId) {
-        Double avg = reviewRepository.getAverageRatingByItemId(itemId);
-        long cnt = reviewRepository.countByItem_Id(itemId);
-        dto.setAvgRating(avg != null ? avg : 0.0);
-        dto.setReviewCount(cnt);
+        applyReviewStats(dto, itemReviewStatsRepository.findById(itemId).orElse(null));
+    }
+
+    /** 통계 행 → DTO (행이 없으면 리뷰 없음) */
+    private static void applyReviewStats(ItemDTO dto, ItemReviewStats stats) {
+        dto.setAvgRating(stats != null ? stats.avgRating() : 0.0);
+        dto.setReviewCount(stats != null ? stats.getReviewCount() : 0L);
+        dto.setRatingHistogram(stats != null ? stats.histogram() : List.of(0L, 0L, 0L, 0L, 0L));
     }
 
     /** 엔티티 → DTO 기본 매핑(대표/상세 URL은 후처리) */
     private ItemDTO toDTO(Item i) {
+        ItemDTO dto = toBaseDTO(i);
+        // 대표 이미지 URL(상품용만) — listWithStats에서 보강
+        dto.setRepImgUrl(
+                itemImgService.getRepresentative(i.getId())
+                        .map(ItemImgDTO::getImgUrl)
+                        .orElse(null)
+        );
+        // 상세 이미지 URL 목록
+        dto.setLongImages(itemImgService.listDetailUrls(i.getId()));
+        return dto;
+    }
+
+    /** 엔티티 스칼라 필드만 매핑(이미지 조회 없음) */
+    private ItemDTO toBaseDTO(Item i) {
         ItemDTO dto = new ItemDTO();
         dto.setId(i.getId());
         dto.setItemNm(i.getItemNm());
@@ -414,14 +563,6 @@ public class ItemService {
         dto.setUpdateTime(i.getUpdateTime());
         dto.setCreatedBy(i.getCreatedBy());
         dto.setModifiedBy(i.getModifiedBy());
-        // 대표 이미지 URL(상품용만) — read()/listWithStats에서 보강
-        dto.setRepImgUrl(
-                itemImgService.getRepresentative(i.getId())
-                        .map(ItemImgDTO::getImgUrl)
-                        .orElse(null)
-        );
-        // 상세 이미지 URL 목록 — read()에서 distinct로 보강
-        dto.setLongImages(itemImgService.listDetailUrls(i.getId()));
         return dto;
     }
 }
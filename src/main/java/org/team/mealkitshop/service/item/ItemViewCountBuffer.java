@@ -0,0 +1,143 @@
+package org.team.mealkitshop.service.item;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.team.mealkitshop.config.ViewCountProperties;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 조회수 write-behind 버퍼
+ * - 요청 스레드는 상품별 LongAdder 에 +1 만 하고 즉시 반환(행 잠금/영속성 컨텍스트 clear 없음)
+ * - 주기(items.view-count.flush-interval)/임계치(max-pending)/종료 시 누적분을 JDBC 배치 UPDATE 한 번으로 반영
+ * - 반영 실패 시 누적분을 버퍼에 되돌려 다음 주기에 재시도
+ * - 상품 수만큼만 카운터가 생기므로 엔트리는 제거하지 않음(제거 시 동시 증가분 유실 방지)
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class ItemViewCountBuffer {
+
+    private static final String UPDATE_ITEM =
+            "update item set item_view_cnt = item_view_cnt + ? where item_id = ?";
+    private static final String UPDATE_LISTING =
+            "update item_listing set item_view_cnt = item_view_cnt + ? where item_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ViewCountProperties properties;
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    private final LongAdder pendingTotal = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /* ===== 지표 ===== */
+    private final AtomicLong flushedTotal = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private volatile LocalDateTime lastFlushAt;
+
+    /** 조회수 +1 (메모리만) — 임계치 초과 시 현재 스레드가 flush 를 시도(이미 진행 중이면 건너뜀) */
+    public void increment(Long itemId) {
+        counters.computeIfAbsent(itemId, k -> new LongAdder()).increment();
+        pendingTotal.increment();
+        if (pendingTotal.sum() >= properties.maxPending()) {
+            flushIfIdle();
+        }
+    }
+
+    /** 특정 상품의 미반영 조회수(화면 표시 보정용) */
+    public long pending(Long itemId) {
+        LongAdder a = counters.get(itemId);
+        return a == null ? 0L : a.sum();
+    }
+
+    /** 전체 미반영 조회수(지표) */
+    public long pendingDelta() {
+        return pendingTotal.sum();
+    }
+
+    /** 주기 flush — 간격이 곧 최대 유실 구간 */
+    @Scheduled(fixedDelayString = "${items.view-count.flush-interval:5s}")
+    public void scheduledFlush() {
+        flushIfIdle();
+    }
+
+    /** 종료 시 남은 누적분 반영 (DataSource 보다 먼저 소멸) */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** 지표 스냅샷 */
+    public Map<String, Object> metrics() {
+        return Map.of(
+                "pendingDelta", pendingDelta(),
+                "trackedItems", counters.size(),
+                "flushedTotal", flushedTotal.get(),
+                "flushCount", flushCount.get(),
+                "failedFlushCount", failedFlushCount.get(),
+                "lastFlushAt", lastFlushAt == null ? "" : lastFlushAt.toString(),
+                "flushIntervalMs", properties.flushInterval().toMillis()
+        );
+    }
+
+    private void flushIfIdle() {
+        if (!flushLock.tryLock()) return;
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** 누적분 수거 → 배치 UPDATE (flushLock 보유 상태에서만 호출) */
+    private void flushLocked() {
+        List<Object[]> batch = new ArrayList<>();
+        long drained = 0;
+        for (Map.Entry<Long, LongAdder> e : counters.entrySet()) {
+            long delta = e.getValue().sumThenReset();
+            if (delta == 0) continue;
+            batch.add(new Object[]{ delta, e.getKey() });
+            drained += delta;
+        }
+        if (batch.isEmpty()) return;
+        pendingTotal.add(-drained);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPDATE_ITEM, batch);
+                jdbcTemplate.batchUpdate(UPDATE_LISTING, batch);
+            });
+            flushedTotal.addAndGet(drained);
+            flushCount.incrementAndGet();
+            lastFlushAt = LocalDateTime.now();
+            log.debug("[view-count] flushed {} views over {} items", drained, batch.size());
+        } catch (RuntimeException ex) {
+            // 되돌려 두고 다음 주기에 재시도
+            for (Object[] row : batch) {
+                counters.computeIfAbsent((Long) row[1], k -> new LongAdder()).add((Long) row[0]);
+            }
+            pendingTotal.add(drained);
+            failedFlushCount.incrementAndGet();
+            log.warn("[view-count] flush failed, {} views kept in buffer", drained, ex);
+        }
+    }
+}
@@ -2,12 +2,14 @@ package org.team.mealkitshop.service.item;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.team.mealkitshop.domain.item.Review;
 import org.team.mealkitshop.domain.item.ReviewImage;
 import org.team.mealkitshop.dto.item.ReviewImageDTO;
+import org.team.mealkitshop.event.ImageStoredEvent;
 import org.team.mealkitshop.repository.item.ReviewImageRepository;
 import org.team.mealkitshop.repository.item.ReviewRepository;
 
@@ -30,6 +32,7 @@ public class ReviewImageService {
     private final FileService fileService;               // 실제 파일 입출력 담당
     private final ReviewImageRepository reviewImageRepo; // 리뷰 이미지 DB 저장소
     private final ReviewRepository reviewRepo;           // 리뷰 참조용
+    private final ApplicationEventPublisher eventPublisher; // 파생본(썸네일) 생성 요청
 
     private static final int MAX_IMAGES_PER_REVIEW = 3;
     private static final long MAX_BYTES_PER_IMAGE = 3L * 1024 * 1024;
@@ -82,7 +85,11 @@ public class ReviewImageService {
                 throw new RuntimeException(ex);
             }
         }
-        if (!batch.isEmpty()) reviewImageRepo.saveAll(batch);
+        if (!batch.isEmpty()) {
+            for (ReviewImage saved : reviewImageRepo.saveAll(batch)) {
+                eventPublisher.publishEvent(ImageStoredEvent.review(saved.getId(), SUBDIR + "/" + saved.getImgName()));
+            }
+        }
 
         // ★ 경쟁 상황 재검증: 최종 개수 초과 시 롤백 유도
         long total = reviewImageRepo.countByReview_Id(reviewId);
@@ -0,0 +1,145 @@
+package org.team.mealkitshop.service.item;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+import org.team.mealkitshop.domain.item.Review;
+import org.team.mealkitshop.domain.item.ReviewReply;
+import org.team.mealkitshop.dto.item.ReviewDTO;
+import org.team.mealkitshop.dto.item.ReviewImageDTO;
+import org.team.mealkitshop.dto.item.ReviewReplyDTO;
+import org.team.mealkitshop.repository.item.ItemImgRepository;
+import org.team.mealkitshop.repository.item.ReviewReplyRepository;
+import org.team.mealkitshop.repository.member.MemberRepository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 리뷰 페이지 조립 — 페이지 행(상품만 페치)을 받아 페이지 크기와 무관한 고정 쿼리 수로 DTO 완성
+ * - 답변: 리뷰 id IN 1회 (작성 관리자는 FK 만 사용, 프록시 초기화 없음)
+ * - 이미지: 리뷰 id IN 1회
+ * - 작성자: 리뷰 작성자 + 답변 관리자 회원 번호 IN 1회 (이름만 프로젝션)
+ * - 상품 대표 썸네일: 페이지 내 상품 id IN 1회
+ * 회원/답변/이미지 연관은 행마다 지연 로딩하지 않음 — 매핑은 미리 읽은 맵만 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewPageAssembler {
+
+    static final String DEFAULT_THUMB = "/img/No_Image.jpg";
+
+    private final MemberRepository memberRepository;
+    private final ReviewReplyRepository reviewReplyRepository;
+    private final ReviewImageService reviewImageService;
+    private final ItemImgRepository itemImgRepository;
+
+    public Page<ReviewDTO> assemble(Page<Review> page, boolean withImages, boolean withReply) {
+        return new PageImpl<>(assemble(page.getContent(), withImages, withReply),
+                page.getPageable(), page.getTotalElements());
+    }
+
+    public List<ReviewDTO> assemble(List<Review> rows, boolean withImages, boolean withReply) {
+        // 빈 목록이면 즉시 매핑 종료
+        if (rows.isEmpty()) return List.of();
+
+        // == 1) ID 수집 (연관 엔티티는 FK 만 읽음) ==
+        final List<Long> reviewIds = rows.stream().map(Review::getId).toList();
+        final List<Long> itemIds = rows.stream()
+                .map(r -> r.getItem() != null ? r.getItem().getId() : null)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        // == 2) 답변 → 이미지 → 작성자(리뷰 작성자 + 답변 관리자) 순으로 일괄 조회 ==
+        final List<ReviewReply> replies = withReply ? reviewReplyRepository.findByReview_IdIn(reviewIds) : List.of();
+
+        final Map<Long, List<ReviewImageDTO>> imagesMap = withImages
+                ? reviewImageService.listByReviewIdsGrouped(reviewIds)
+                : Collections.emptyMap();
+
+        Set<Long> mnos = new HashSet<>();
+        rows.forEach(r -> { if (r.getMember() != null) mnos.add(r.getMember().getMno()); });
+        replies.forEach(rr -> { if (rr.getAdmin() != null) mnos.add(rr.getAdmin().getMno()); });
+        final Map<Long, String> names = mnos.isEmpty()
+                ? Collections.emptyMap()
+                : memberRepository.findNamesByMnoIn(mnos).stream()
+                .collect(Collectors.toMap(
+                        MemberRepository.MemberName::getMno,
+                        MemberRepository.MemberName::getMemberName,
+                        (a, b) -> a));
+
+        final Map<Long, ReviewReplyDTO> replyMap = replies.stream()
+                .collect(Collectors.toMap(
+                        rr -> rr.getReview().getId(),
+                        rr -> toReplyDTO(rr, rr.getAdmin() != null ? names.get(rr.getAdmin().getMno()) : null),
+                        (a, b) -> a));
+
+        // 대표 썸네일(detail=false 정책)
+        final Map<Long, String> itemThumbMap = itemIds.isEmpty()
+                ? Collections.emptyMap()
+                : itemImgRepository.findRepUrlsByItemIdIn(itemIds).stream()
+                .collect(Collectors.toMap(
+                        ItemImgRepository.ItemRepProjection::getItemId,
+                        ItemImgRepository.ItemRepProjection::getImgUrl,
+                        (a, b) -> a));
+
+        // == 3) DTO 매핑 ==
+        return rows.stream().map(r -> {
+            final ReviewDTO dto = toDTO(
+                    r,
+                    r.getMember() != null ? names.get(r.getMember().getMno()) : null,
+                    imagesMap.getOrDefault(r.getId(), List.of()),
+                    replyMap.get(r.getId()));
+
+            // null 이거나 /items/... 이면 기본 썸네일로 보정
+            if (dto.getItemId() != null) {
+                String t = itemThumbMap.get(dto.getItemId());
+                if (t == null || t.startsWith("/items/")) t = DEFAULT_THUMB;
+                dto.setItemThumbUrl(t);
+            }
+            return dto;
+        }).toList();
+    }
+
+    /** 엔티티 → DTO (작성자 이름은 호출 측에서 조회한 값) */
+    static ReviewDTO toDTO(Review r, String writerName, List<ReviewImageDTO> images, ReviewReplyDTO reply) {
+        ReviewDTO dto = new ReviewDTO();
+        dto.setId(r.getId());
+
+        if (r.getMember() != null) {
+            dto.setWriterMno(r.getMember().getMno());
+            dto.setWriterName(writerName);
+        }
+
+        if (r.getItem() != null) {
+            dto.setItemId(r.getItem().getId());
+            dto.setItemName(r.getItem().getItemNm());
+        }
+
+        dto.setContent(r.getContent());
+        dto.setRating(r.getRating());
+        dto.setRegTime(r.getRegTime());
+        dto.setUpdateTime(r.getUpdateTime());
+        dto.setReviewImages(images != null ? images : List.of());
+        dto.setReply(reply);
+
+        return dto;
+    }
+
+    /** 답변 엔티티 → DTO (관리자 이름은 호출 측에서 조회한 값) */
+    static ReviewReplyDTO toReplyDTO(ReviewReply rr, String adminName) {
+        ReviewReplyDTO dto = new ReviewReplyDTO();
+        dto.setId(rr.getId());
+        dto.setReviewId(rr.getReview().getId());
+        if (rr.getAdmin() != null) {
+            dto.setAdminId(rr.getAdmin().getMno());
+            dto.setAdminName(adminName);
+        }
+        dto.setContent(rr.getContent());
+        dto.setRegTime(rr.getRegTime());
+        dto.setUpdateTime(rr.getUpdateTime());
+        return dto;
+    }
+}
@@ -2,19 +2,22 @@
 package org.team.mealkitshop.service.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.team.mealkitshop.common.CursorSlice;
+import org.team.mealkitshop.common.KeysetCursor;
 import org.team.mealkitshop.domain.item.Item;
 import org.team.mealkitshop.domain.item.Review;
-import org.team.mealkitshop.domain.item.ReviewReply;
 import org.team.mealkitshop.domain.member.Member;
 import org.team.mealkitshop.dto.item.ReviewDTO;
 import org.team.mealkitshop.dto.item.ReviewImageDTO;
 import org.team.mealkitshop.dto.item.ReviewReplyDTO;
-import org.team.mealkitshop.repository.item.ItemImgRepository;
+import org.team.mealkitshop.event.ItemChangedEvent;
 import org.team.mealkitshop.repository.item.ItemRepository;
 import org.team.mealkitshop.repository.item.ReviewRepository;
 import org.team.mealkitshop.repository.item.ReviewReplyRepository;
@@ -22,7 +25,6 @@ import org.team.mealkitshop.repository.member.MemberRepository;
 import org.team.mealkitshop.repository.order.OrderRepository;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -32,10 +34,12 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
     private final ItemRepository itemRepository;
-    private final ItemImgRepository itemImgRepository;
     private final ReviewImageService reviewImageService;
     private final ReviewReplyRepository reviewReplyRepository;
     private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher; // 리뷰 통계 변경 → 목록 읽기 모델 갱신
+    private final ReviewStatsService reviewStatsService;     // 상품별 리뷰 통계 증분(같은 트랜잭션)
+    private final ReviewPageAssembler reviewPageAssembler;   // 페이지 조립(작성자/이미지/답변 일괄 조회)
 
     /* ==================== CREATE ==================== */
     @Transactional
@@ -63,10 +67,12 @@ public class ReviewService {
         review.changeRating(Objects.requireNonNull(dto.getRating(), "rating is null"));
 
         Review saved = reviewRepository.save(review);
+        reviewStatsService.added(itemId, saved.getRating());
 
         if (images != null && !images.isEmpty()) {
             reviewImageService.addImages(saved.getId(), images);
         }
+        eventPublisher.publishEvent(ItemChangedEvent.of(itemId));
         return saved.getId();
     }
 
@@ -84,7 +90,12 @@ public class ReviewService {
         }
 
         if (patch.getContent() != null) review.changeContent(patch.getContent());
-        if (patch.getRating() != null) review.changeRating(patch.getRating());
+        if (patch.getRating() != null && patch.getRating() != review.getRating()) {
+            int oldRating = review.getRating();
+            review.changeRating(patch.getRating());
+            reviewStatsService.changed(review.getItem().getId(), oldRating, review.getRating());
+            eventPublisher.publishEvent(ItemChangedEvent.of(review.getItem().getId()));
+        }
 
         if (replaceImages) {
             reviewImageService.replaceImages(reviewId, safeList(newImages));
@@ -97,10 +108,17 @@ public class ReviewService {
     @Transactional
     public void delete(Long reviewId) {
         Objects.requireNonNull(reviewId, "reviewId is null");
+        Review review = reviewRepository.findById(reviewId).orElse(null);
+        Long itemId = review != null ? review.getItem().getId() : null;
+        int rating = review != null ? review.getRating() : 0;
 
         reviewImageService.deleteByReview(reviewId);         // 이미지 메타 삭제
         reviewReplyRepository.deleteByReview_Id(reviewId);   // 관리자 답변 삭제
         reviewRepository.deleteById(reviewId);               // 리뷰 삭제
+        if (itemId != null) {
+            reviewStatsService.removed(itemId, rating);
+            eventPublisher.publishEvent(ItemChangedEvent.of(itemId));
+        }
     }
 
     /* ==================== READ / PAGE ==================== */
@@ -108,11 +126,9 @@ public class ReviewService {
         if (itemId == null) throw new IllegalArgumentException("itemId is null");
         if (pageable == null) throw new IllegalArgumentException("pageable is null");
 
-        Page<Review> page = withImages
-                ? reviewRepository.findWithImagesByItemId(itemId, pageable)
-                : reviewRepository.findByItem_Id(itemId, pageable);
-
-        return attachAndMap(page, withImages, withReply);
+        // 이미지는 조립 단계에서 일괄 조회 — 컬렉션 페치 조인 페이징(메모리 페이징) 회피
+        Page<Review> page = reviewRepository.findByItem_Id(itemId, pageable);
+        return reviewPageAssembler.assemble(page, withImages, withReply);
     }
 
     public Page<ReviewDTO> listByMember(Long mno, Pageable pageable, boolean withImages, boolean withReply) {
@@ -120,7 +136,29 @@ public class ReviewService {
         if (pageable == null) throw new IllegalArgumentException("pageable is null");
 
         Page<Review> page = reviewRepository.findByMember_Mno(mno, pageable);
-        return attachAndMap(page, withImages, withReply);
+        return reviewPageAssembler.assemble(page, withImages, withReply);
+    }
+
+    /** 아이템별 리뷰 커서 조회 (최신순, 전체 건수 없음) */
+    public CursorSlice<ReviewDTO> listByItemCursor(Long itemId, String cursor, int size, boolean withImages, boolean withReply) {
+        if (itemId == null) throw new IllegalArgumentException("itemId is null");
+        int limit = CursorSlice.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, "id");
+
+        List<Review> rows = reviewRepository.findSliceByItemId(itemId, after == null ? null : after.id(),
+                PageRequest.of(0, limit + 1));
+        return toSlice(rows, limit, withImages, withReply);
+    }
+
+    /** 회원별 리뷰 커서 조회 (최신순, 전체 건수 없음) */
+    public CursorSlice<ReviewDTO> listByMemberCursor(Long mno, String cursor, int size, boolean withImages, boolean withReply) {
+        if (mno == null) throw new IllegalArgumentException("mno is null");
+        int limit = CursorSlice.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor, "id");
+
+        List<Review> rows = reviewRepository.findSliceByMemberMno(mno, after == null ? null : after.id(),
+                PageRequest.of(0, limit + 1));
+        return toSlice(rows, limit, withImages, withReply);
     }
 
     @Transactional(readOnly = true)
@@ -136,71 +174,19 @@ public class ReviewService {
 
         List<ReviewImageDTO> images = withImages ? reviewImageService.listByReview(review.getId()) : List.of();
         ReviewReplyDTO replyDto = withReply
-                ? reviewReplyRepository.findByReview_Id(review.getId()).map(this::toReplyDTO).orElse(null)
+                ? reviewReplyRepository.findByReview_Id(review.getId())
+                        .map(rr -> ReviewPageAssembler.toReplyDTO(rr, rr.getAdmin().getMemberName()))
+                        .orElse(null)
                 : null;
 
-        return toDTO(review, images, replyDto);
+        return ReviewPageAssembler.toDTO(review, review.getMember().getMemberName(), images, replyDto);
     }
 
     /* ==================== INTERNAL HELPERS ==================== */
-    private Page<ReviewDTO> attachAndMap(Page<Review> page, boolean withImages, boolean withReply) {
-        // 빈 페이지면 즉시 매핑 종료
-        if (page.isEmpty()) return page.map(r -> toDTO(r, List.of(), null));
-
-        // == 1) ID 수집 ==
-        final List<Long> reviewIds = page.stream()
-                .map(Review::getId)
-                .toList();
-
-        // 페이지 내 리뷰들이 참조하는 itemId(중복 제거)
-        final List<Long> itemIds = page.stream()
-                .map(r -> r.getItem() != null ? r.getItem().getId() : null)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-
-        // == 2) 배치 로딩 (이미지/답변/대표썸네일) ==
-        final Map<Long, List<ReviewImageDTO>> imagesMap = withImages
-                ? reviewImageService.listByReviewIdsGrouped(reviewIds)
-                : Collections.emptyMap();
-
-        final Map<Long, ReviewReplyDTO> replyMap = withReply
-                ? reviewReplyRepository.findByReview_IdIn(reviewIds).stream()
-                .collect(Collectors.toMap(
-                        rr -> rr.getReview().getId(),
-                        this::toReplyDTO,
-                        (a, b) -> a
-                ))
-                : Collections.emptyMap();
-
-        // 대표 썸네일(detail=false 정책)
-        final Map<Long, String> itemThumbMap = itemIds.isEmpty()
-                ? Collections.emptyMap()
-                : itemImgRepository.findRepUrlsByItemIdIn(itemIds).stream()
-                .collect(Collectors.toMap(
-                        ItemImgRepository.ItemRepProjection::getItemId,
-                        ItemImgRepository.ItemRepProjection::getImgUrl,
-                        (a, b) -> a
-                ));
-
-        // == 3) DTO 매핑 ==
-        return page.map(r -> {
-            final ReviewDTO dto = toDTO(
-                    r,
-                    imagesMap.getOrDefault(r.getId(), List.of()),
-                    replyMap.get(r.getId())
-            );
-
-            // ★ 최소 수정: null 이거나 /items/... 이면 기본 썸네일로 보정
-            if (dto.getItemId() != null) {
-                String t = dto.getItemThumbUrl();
-                if (t == null) t = itemThumbMap.get(dto.getItemId());
-                if (t == null || t.startsWith("/items/")) t = "/img/No_Image.jpg";
-                dto.setItemThumbUrl(t);
-            }
-
-            return dto;
-        });
+    private CursorSlice<ReviewDTO> toSlice(List<Review> rows, int limit, boolean withImages, boolean withReply) {
+        CursorSlice<Review> slice = CursorSlice.of(rows, limit, r -> KeysetCursor.of("id", null, r.getId()));
+        List<ReviewDTO> content = reviewPageAssembler.assemble(slice.content(), withImages, withReply);
+        return new CursorSlice<>(content, slice.size(), slice.hasNext(), slice.nextCursor());
     }
 
     @Transactional(readOnly = true)
@@ -210,44 +196,6 @@ public class ReviewService {
         return review.getMember().getMno();
     }
 
-    private ReviewDTO toDTO(Review r, List<ReviewImageDTO> images, ReviewReplyDTO reply) {
-        ReviewDTO dto = new ReviewDTO();
-        dto.setId(r.getId());
-
-        if (r.getMember() != null) {
-            dto.setWriterMno(r.getMember().getMno());
-            dto.setWriterName(r.getMember().getMemberName());
-        }
-
-        if (r.getItem() != null) {
-            dto.setItemId(r.getItem().getId());
-            dto.setItemName(r.getItem().getItemNm());
-        }
-
-        dto.setContent(r.getContent());
-        dto.setRating(r.getRating());
-        dto.setRegTime(r.getRegTime());
-        dto.setUpdateTime(r.getUpdateTime());
-        dto.setReviewImages(images != null ? images : List.of());
-        dto.setReply(reply);
-
-        return dto;
-    }
-
-    private ReviewReplyDTO toReplyDTO(ReviewReply rr) {
-        ReviewReplyDTO dto = new ReviewReplyDTO();
-        dto.setId(rr.getId());
-        dto.setReviewId(rr.getReview().getId());
-        if (rr.getAdmin() != null) {
-            dto.setAdminId(rr.getAdmin().getMno());
-            dto.setAdminName(rr.getAdmin().getMemberName());
-        }
-        dto.setContent(rr.getContent());
-        dto.setRegTime(rr.getRegTime());
-        dto.setUpdateTime(rr.getUpdateTime());
-        return dto;
-    }
-
     private static <T> List<T> safeList(List<T> list) {
         return list == null ? List.of() : list;
     }
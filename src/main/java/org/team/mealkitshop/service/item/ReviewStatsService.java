@@ -0,0 +1,262 @@
+package org.team.mealkitshop.service.item;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.team.mealkitshop.config.ReviewStatsProperties;
+import org.team.mealkitshop.event.ItemChangedEvent;
+import org.team.mealkitshop.repository.item.ItemRepository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품별 리뷰 통계(item_review_stats) 유지
+ * - 증분: 리뷰 작성/평점 수정/삭제 시 호출 측 트랜잭션 안에서 (건수, 평점 합, 별점별 건수) 변화량을 upsert
+ *   · 리뷰 행과 같은 트랜잭션이라 롤백되면 함께 취소, 상품 행(item)은 건드리지 않음
+ * - 보정: 주기적으로 review 원본을 상품 id 구간 단위로 다시 집계해 어긋난 행만 고침
+ *   · 읽은 값과 같을 때만 덮어씀(compare-and-set) → 보정 중 들어온 증분은 잃지 않고 다음 보정으로 미룸
+ *   · 고친 상품은 ItemChangedEvent 로 목록 읽기 모델/캐시에 전파
+ * - 백필: 기동 시 통계가 비어 있고 리뷰가 있으면 보정 1회로 채움
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class ReviewStatsService {
+
+    /** 통계 컬럼 수: review_count, rating_sum, star1~5 */
+    static final int WIDTH = 7;
+
+    private static final String COLUMNS =
+            "review_count, rating_sum, star1_count, star2_count, star3_count, star4_count, star5_count";
+
+    private static final String UPSERT_SQL = """
+            insert into item_review_stats (item_id, %s, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, now())
+            on duplicate key update
+                review_count = review_count + values(review_count),
+                rating_sum   = rating_sum + values(rating_sum),
+                star1_count  = star1_count + values(star1_count),
+                star2_count  = star2_count + values(star2_count),
+                star3_count  = star3_count + values(star3_count),
+                star4_count  = star4_count + values(star4_count),
+                star5_count  = star5_count + values(star5_count),
+                updated_at   = now()
+            """.formatted(COLUMNS);
+
+    private static final String STORED_SQL =
+            "select item_id, %s from item_review_stats where item_id between ? and ?".formatted(COLUMNS);
+
+    private static final String ACTUAL_SQL = """
+            select item_id, count(*), coalesce(sum(rating), 0),
+                   sum(rating = 1), sum(rating = 2), sum(rating = 3), sum(rating = 4), sum(rating = 5)
+              from review
+             where item_id between ? and ?
+             group by item_id
+            """;
+
+    private static final String INSERT_IGNORE_SQL = """
+            insert ignore into item_review_stats (item_id, %s, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, now())
+            """.formatted(COLUMNS);
+
+    private static final String CAS_UPDATE_SQL = """
+            update item_review_stats
+               set review_count = ?, rating_sum = ?, star1_count = ?, star2_count = ?,
+                   star3_count = ?, star4_count = ?, star5_count = ?, updated_at = now()
+             where item_id = ?
+               and review_count = ? and rating_sum = ? and star1_count = ? and star2_count = ?
+               and star3_count = ? and star4_count = ? and star5_count = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemRepository itemRepository;
+    private final ReviewStatsProperties properties;
+    private final ApplicationEventPublisher eventPublisher; // 보정된 상품 → 목록 읽기 모델/상세 캐시 갱신
+
+    /* ===== 지표 ===== */
+    private final LongAdder appliedDeltas = new LongAdder();
+    private final LongAdder reconcileRuns = new LongAdder();
+    private final LongAdder checkedItems = new LongAdder();
+    private final LongAdder driftedItems = new LongAdder();
+    private final LongAdder racedItems = new LongAdder();
+
+    /* ===================== 증분 ===================== */
+
+    /** 리뷰 작성 */
+    public void added(Long itemId, int rating) {
+        apply(itemId, null, rating);
+    }
+
+    /** 평점 수정 (같은 값이면 무시) */
+    public void changed(Long itemId, int oldRating, int newRating) {
+        if (oldRating == newRating) return;
+        apply(itemId, oldRating, newRating);
+    }
+
+    /** 리뷰 삭제 */
+    public void removed(Long itemId, int rating) {
+        apply(itemId, rating, null);
+    }
+
+    /**
+     * 변화량 반영 — 호출 측 트랜잭션에 참여(리뷰 저장/삭제와 원자적)
+     * @param oldRating 이전 평점(작성이면 null)
+     * @param newRating 이후 평점(삭제면 null)
+     */
+    void apply(Long itemId, Integer oldRating, Integer newRating) {
+        if (itemId == null) return;
+        long[] d = delta(oldRating, newRating);
+        if (Arrays.stream(d).allMatch(v -> v == 0)) return;
+        jdbcTemplate.update(UPSERT_SQL, itemId, d[0], d[1], d[2], d[3], d[4], d[5], d[6]);
+        appliedDeltas.increment();
+    }
+
+    /** 상품 하드 삭제 시 통계 행 제거 */
+    public void removeItem(Long itemId) {
+        if (itemId == null) return;
+        jdbcTemplate.update("delete from item_review_stats where item_id = ?", itemId);
+    }
+
+    /** (건수, 평점 합, 1~5점 건수) 변화량 — 범위 밖 평점은 IllegalArgumentException */
+    static long[] delta(Integer oldRating, Integer newRating) {
+        long[] d = new long[WIDTH];
+        if (oldRating != null) {
+            d[0]--;
+            d[1] -= oldRating;
+            d[1 + star(oldRating)]--;
+        }
+        if (newRating != null) {
+            d[0]++;
+            d[1] += newRating;
+            d[1 + star(newRating)]++;
+        }
+        return d;
+    }
+
+    private static int star(int rating) {
+        if (rating < 1 || rating > 5) throw new IllegalArgumentException("평점은 1~5 사이여야 합니다. rating=" + rating);
+        return rating;
+    }
+
+    /* ===================== 백필/보정 ===================== */
+
+    /** 기동 시 통계가 비어 있고 리뷰가 있으면 전체 보정으로 채움 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!properties.backfillOnStartup()) return;
+        try {
+            Integer rows = jdbcTemplate.queryForObject("select count(*) from item_review_stats", Integer.class);
+            if (rows != null && rows > 0) return;
+            Integer reviews = jdbcTemplate.queryForObject("select count(*) from review", Integer.class);
+            if (reviews == null || reviews == 0) return;
+            int drifted = reconcile();
+            log.info("[review-stats] initial backfill done: {} items", drifted);
+        } catch (RuntimeException ex) {
+            log.warn("[review-stats] initial backfill failed", ex);
+        }
+    }
+
+    @Scheduled(cron = "${items.review-stats.reconcile-cron:0 10 4 * * *}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException ex) {
+            log.warn("[review-stats] reconcile failed", ex);
+        }
+    }
+
+    /**
+     * review 원본과 통계를 상품 id 구간(chunkSize) 단위로 비교해 어긋난 행만 고침
+     * - 통계를 먼저 읽고 원본을 집계 → 그 사이 증분이 들어오면 CAS 가 실패(raced)하고 다음 보정에서 처리
+     * - 상품이 사라진 통계 행은 마지막에 정리
+     * @return 고친 상품 수
+     */
+    public int reconcile() {
+        int chunk = Math.max(1, properties.chunkSize());
+        int fixed = 0;
+        long after = 0L;
+        while (true) {
+            List<Long> ids = itemRepository.findIdsAfter(after, PageRequest.of(0, chunk));
+            if (ids.isEmpty()) break;
+            long lo = ids.get(0), hi = ids.get(ids.size() - 1);
+            fixed += reconcileRange(lo, hi);
+            after = hi;
+            if (ids.size() < chunk) break;
+        }
+        int orphans = jdbcTemplate.update(
+                "delete from item_review_stats where item_id not in (select item_id from item)");
+        reconcileRuns.increment();
+        log.info("[review-stats] reconciled — fixed {} items, removed {} orphan rows", fixed, orphans);
+        return fixed;
+    }
+
+    private int reconcileRange(long lo, long hi) {
+        Map<Long, long[]> stored = load(STORED_SQL, lo, hi);
+        Map<Long, long[]> actual = load(ACTUAL_SQL, lo, hi);
+
+        Set<Long> itemIds = new TreeSet<>(actual.keySet());
+        itemIds.addAll(stored.keySet());
+        List<Long> fixed = new ArrayList<>();
+        for (Long itemId : itemIds) {
+            checkedItems.increment();
+            long[] want = actual.getOrDefault(itemId, new long[WIDTH]);
+            long[] have = stored.get(itemId);
+            if (have == null ? Arrays.stream(want).allMatch(v -> v == 0) : Arrays.equals(have, want)) continue;
+
+            driftedItems.increment();
+            int updated = have == null
+                    ? jdbcTemplate.update(INSERT_IGNORE_SQL, args(itemId, want))
+                    : jdbcTemplate.update(CAS_UPDATE_SQL, args(want, itemId, have));
+            if (updated == 0) racedItems.increment();
+            else fixed.add(itemId);
+        }
+        if (!fixed.isEmpty()) eventPublisher.publishEvent(ItemChangedEvent.of(fixed));
+        return fixed.size();
+    }
+
+    private Map<Long, long[]> load(String sql, long lo, long hi) {
+        Map<Long, long[]> out = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> out.put(rs.getLong(1), row(rs)), lo, hi);
+        return out;
+    }
+
+    private static long[] row(ResultSet rs) throws SQLException {
+        long[] v = new long[WIDTH];
+        for (int i = 0; i < WIDTH; i++) v[i] = rs.getLong(i + 2);
+        return v;
+    }
+
+    /** SQL 인자 — long[] 은 펼쳐서 이어 붙임 */
+    static Object[] args(Object... parts) {
+        List<Object> out = new ArrayList<>();
+        for (Object p : parts) {
+            if (p instanceof long[] values) {
+                for (long v : values) out.add(v);
+            } else {
+                out.add(p);
+            }
+        }
+        return out.toArray();
+    }
+
+    /** 지표 스냅샷 */
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("appliedDeltas", appliedDeltas.sum());
+        out.put("reconcileRuns", reconcileRuns.sum());
+        out.put("checkedItems", checkedItems.sum());
+        out.put("driftedItems", driftedItems.sum());
+        out.put("racedItems", racedItems.sum());
+        return out;
+    }
+}
@@ -0,0 +1,313 @@
+package org.team.mealkitshop.service.item;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.team.mealkitshop.config.UploadGcProperties;
+import org.team.mealkitshop.service.image.ImageDerivatives;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 폴더 고아 파일 정리(mark-and-sweep)
+ * - mark: 상품/리뷰/게시판/TIP 이미지 행과 상품 상세 HTML 에서 참조 중인 저장 이름을 키셋 페이지로 읽어 집합 구성
+ * - sweep: 대상 폴더를 Files.walk 로 훑어 참조 없고 유예 기간이 지난 파일만 후보로 수집
+ * - 삭제 직전 후보를 묶음 단위로 DB 에 다시 확인(표시 이후 커밋된 업로드 보호) 후 FileService 로 삭제(파생본/내용 주소 참조 함께 정리)
+ * - 파생본(_d)은 원본이 참조되는 동안 보존, 원본이 없어진 파생본만 후보
+ * - blob 폴더(_blobs)·배너 등 관리 대상이 아닌 폴더는 건드리지 않음
+ */
+@Service
+@Log4j2
+public class UploadGarbageCollector {
+
+    /** 게시판 업로드(루트 직속): UUID_원본이름, 구 썸네일 s_UUID_원본이름 */
+    private static final Pattern BOARD_FILE = Pattern.compile(
+            "^(s_)?[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}_.+$");
+
+    /** 참조 원천: 테이블, PK, 저장 이름/URL 컬럼(최대 2개) */
+    private record Source(String table, String id, String first, String second) { }
+
+    private static final List<Source> SOURCES = List.of(
+            new Source("item_img", "item_img_id", "img_name", "img_url"),
+            new Source("review_img", "review_img_id", "img_url", null),
+            new Source("board_image", "file_id", "file_name", null),
+            new Source("tip_board_image", "id", "file_name", null),
+            new Source("review_board_image", "id", "file_name", null));
+
+    /** 키셋 페이지 1행 */
+    record Row(long id, String first, String second) { }
+
+    private static final RowMapper<Row> ROW = (rs, n) ->
+            new Row(rs.getLong(1), rs.getString(2), rs.getString(3));
+
+    /** 1회 실행 결과 */
+    public record GcReport(boolean dryRun, long scanned, long referenced, long young, long orphans,
+                           long deleted, long bytes, long failed, long rescued, boolean truncated, long millis) { }
+
+    private final FileService fileService;
+    private final JdbcTemplate jdbcTemplate;
+    private final UploadGcProperties properties;
+    private final Path root;
+    private final String imageBasePath;
+
+    /* ===== 지표 ===== */
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder deletedTotal = new LongAdder();
+    private final LongAdder bytesTotal = new LongAdder();
+    private final AtomicReference<GcReport> last = new AtomicReference<>();
+
+    public UploadGarbageCollector(FileService fileService,
+                                  JdbcTemplate jdbcTemplate,
+                                  UploadGcProperties properties,
+                                  @Value("${uploadPath}") String uploadPath,
+                                  @Value("${imageBasePath:/images/}") String imageBasePath) {
+        this.fileService = fileService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.root = Paths.get(uploadPath).toAbsolutePath().normalize();
+        this.imageBasePath = imageBasePath.endsWith("/") ? imageBasePath : imageBasePath + "/";
+    }
+
+    @Scheduled(cron = "${upload.gc.cron:0 15 4 * * *}")
+    public void scheduledRun() {
+        if (!properties.enabled()) return;
+        try {
+            run(properties.dryRun());
+        } catch (IOException | RuntimeException e) {
+            log.warn("[upload-gc] scheduled run failed", e);
+        }
+    }
+
+    /** 1회 실행 — 참조 집합을 못 읽으면 예외(아무것도 지우지 않음) */
+    public synchronized GcReport run(boolean dryRun) throws IOException {
+        long started = System.currentTimeMillis();
+        long cutoff = started - properties.gracePeriod().toMillis();
+        References refs = loadReferences();
+
+        Sweep sweep = new Sweep(cutoff, refs);
+        for (String dir : properties.dirs()) {
+            Path base = root.resolve(dir).normalize();
+            if (!base.startsWith(root) || base.equals(root) || !Files.isDirectory(base)) continue;
+            if (base.startsWith(root.resolve(ContentAddressedStore.BLOB_DIR))) continue;
+            try (Stream<Path> walk = Files.walk(base)) {
+                walk.forEach(sweep::consider);
+            }
+        }
+        if (Files.isDirectory(root)) {
+            try (Stream<Path> top = Files.list(root)) {
+                top.filter(p -> BOARD_FILE.matcher(p.getFileName().toString()).matches())
+                        .forEach(sweep::consider);
+            }
+        }
+        Path boardDerivatives = root.resolve(ImageDerivatives.DIR);   // 게시판 원본(루트 직속)의 파생본: _d/{variant}/UUID_이름
+        if (Files.isDirectory(boardDerivatives)) {
+            try (Stream<Path> walk = Files.walk(boardDerivatives)) {
+                walk.filter(p -> BOARD_FILE.matcher(p.getFileName().toString()).matches())
+                        .forEach(sweep::consider);
+            }
+        }
+
+        long deleted = 0, bytes = 0, failed = 0, rescued = 0;
+        List<Sweep.Candidate> candidates = sweep.candidates;
+        int batch = Math.max(1, properties.batchSize());
+        for (int from = 0; from < candidates.size(); from += batch) {
+            List<Sweep.Candidate> chunk = candidates.subList(from, Math.min(candidates.size(), from + batch));
+            Set<String> live = recheck(chunk.stream().map(Sweep.Candidate::name)
+                    .filter(n -> !ImageDerivatives.isDerivative(n)).toList());
+            for (Sweep.Candidate c : chunk) {
+                if (live.contains(c.name())) {
+                    rescued++;
+                    continue;
+                }
+                bytes += c.size();
+                if (dryRun) continue;
+                try {
+                    if (fileService.deleteBySavedName(c.name())) deleted++;
+                } catch (IOException | SecurityException e) {
+                    failed++;
+                    log.warn("[upload-gc] delete failed: {}", c.name(), e);
+                }
+            }
+        }
+
+        GcReport report = new GcReport(dryRun, sweep.scanned, sweep.referenced, sweep.young,
+                candidates.size() - rescued, deleted, bytes, failed, rescued, sweep.truncated,
+                System.currentTimeMillis() - started);
+        runs.increment();
+        deletedTotal.add(deleted);
+        if (!dryRun) bytesTotal.add(bytes);
+        last.set(report);
+        log.info("[upload-gc] {}", report);
+        return report;
+    }
+
+    /** 지표 스냅샷 */
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("enabled", properties.enabled());
+        out.put("dryRun", properties.dryRun());
+        out.put("gracePeriod", properties.gracePeriod().toString());
+        out.put("runs", runs.sum());
+        out.put("deletedTotal", deletedTotal.sum());
+        out.put("bytesReclaimed", bytesTotal.sum());
+        out.put("lastRun", last.get());
+        return out;
+    }
+
+    /* ===================== mark ===================== */
+
+    /** 참조 중인 저장 이름(원본)과 파생본 판정용 "폴더/이름(확장자 제외)" 집합 */
+    static final class References {
+        final Set<String> names = new HashSet<>();
+        final Set<String> stems = new HashSet<>();
+
+        void add(String savedName) {
+            if (savedName == null || savedName.isEmpty()) return;
+            names.add(savedName);
+            stems.add(stemKey(savedName));
+        }
+
+        boolean isLive(String relative) {
+            if (ImageDerivatives.isDerivative(relative)) {
+                return stems.contains(derivativeKey(relative));
+            }
+            if (names.contains(relative)) return true;
+            return relative.startsWith("s_") && names.contains(relative.substring(2)); // 구 게시판 썸네일
+        }
+    }
+
+    References loadReferences() {
+        References refs = new References();
+        int batch = Math.max(1, properties.batchSize());
+        for (Source s : SOURCES) {
+            String sql = "select %s, %s, %s from %s where %s > ? order by %s limit ?".formatted(
+                    s.id(), s.first(), s.second() == null ? "null" : s.second(), s.table(), s.id(), s.id());
+            long lastId = 0;
+            while (true) {
+                List<Row> rows = jdbcTemplate.query(sql, ROW, lastId, batch);
+                for (Row r : rows) {
+                    refs.add(toSavedName(r.first()));
+                    refs.add(toSavedName(r.second()));
+                }
+                if (rows.size() < batch) break;
+                lastId = rows.get(rows.size() - 1).id();
+            }
+        }
+        // 상품 상세 HTML 의 <img src="/images/detail/...">
+        String sql = "select item_id, item_detail, null from item where item_id > ? order by item_id limit ?";
+        long lastId = 0;
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(sql, ROW, lastId, batch);
+            for (Row r : rows) {
+                for (String name : ItemService.extractDetailSavedNames(r.first())) refs.add(name);
+            }
+            if (rows.size() < batch) break;
+            lastId = rows.get(rows.size() - 1).id();
+        }
+        return refs;
+    }
+
+    /** 삭제 직전 재확인 — 표시 이후 커밋된 행이 참조하는 후보 이름 */
+    private Set<String> recheck(List<String> names) {
+        if (names.isEmpty()) return Set.of();
+        String marks = String.join(",", Collections.nCopies(names.size(), "?"));
+        String sql = """
+                select img_url from item_img where img_url in (%1$s)
+                union all select img_url from review_img where img_url in (%1$s)
+                union all select file_name from board_image where file_name in (%2$s)
+                union all select file_name from tip_board_image where file_name in (%2$s)
+                union all select file_name from review_board_image where file_name in (%2$s)
+                """.formatted(marks, marks);
+        List<Object> args = new ArrayList<>(names.size() * 5);
+        List<String> urls = names.stream().map(n -> imageBasePath + n).toList();
+        args.addAll(urls);
+        args.addAll(urls);
+        for (int i = 0; i < 3; i++) args.addAll(names);
+        Set<String> live = new HashSet<>();
+        for (String v : jdbcTemplate.queryForList(sql, String.class, args.toArray())) {
+            String name = toSavedName(v);
+            if (name != null) live.add(name);
+        }
+        return live;
+    }
+
+    /** 저장 이름 또는 공개 URL → 업로드 루트 기준 상대 경로 */
+    String toSavedName(String value) {
+        if (value == null || value.isBlank()) return null;
+        String v = value.trim().replace('\\', '/');
+        int pivot = v.indexOf(imageBasePath);
+        if (pivot >= 0) v = v.substring(pivot + imageBasePath.length());
+        int q = v.indexOf('?'); if (q >= 0) v = v.substring(0, q);
+        int h = v.indexOf('#'); if (h >= 0) v = v.substring(0, h);
+        while (v.startsWith("/")) v = v.substring(1);
+        return v.isEmpty() ? null : v;
+    }
+
+    /** "item/abc.png" → "item/abc" */
+    static String stemKey(String savedName) {
+        int slash = savedName.lastIndexOf('/');
+        int dot = savedName.lastIndexOf('.');
+        return dot > slash + 1 ? savedName.substring(0, dot) : savedName;
+    }
+
+    /** "item/_d/card/abc.jpg" → "item/abc" */
+    static String derivativeKey(String relative) {
+        int d = relative.startsWith(ImageDerivatives.DIR + "/") ? 0
+                : relative.indexOf("/" + ImageDerivatives.DIR + "/") + 1;
+        String dir = relative.substring(0, d);
+        return dir + stemKey(relative.substring(relative.lastIndexOf('/') + 1));
+    }
+
+    /* ===================== sweep ===================== */
+
+    /** 폴더 순회 상태 — 후보는 삭제 상한까지만 보관 */
+    private final class Sweep {
+        record Candidate(String name, long size) { }
+
+        final long cutoff;
+        final References refs;
+        final List<Candidate> candidates = new ArrayList<>();
+        long scanned, referenced, young;
+        boolean truncated;
+
+        Sweep(long cutoff, References refs) {
+            this.cutoff = cutoff;
+            this.refs = refs;
+        }
+
+        void consider(Path path) {
+            BasicFileAttributes attrs;
+            try {
+                attrs = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (IOException e) {
+                return; // 순회 중 삭제됨
+            }
+            if (!attrs.isRegularFile()) return;
+            scanned++;
+            String relative = root.relativize(path).toString().replace('\\', '/');
+            if (refs.isLive(relative)) {
+                referenced++;
+                return;
+            }
+            if (attrs.lastModifiedTime().toMillis() > cutoff) {
+                young++;
+                return;
+            }
+            if (candidates.size() >= properties.maxDeletesPerRun()) {
+                truncated = true;
+                return;
+            }
+            candidates.add(new Candidate(relative, attrs.size()));
+        }
+    }
+}
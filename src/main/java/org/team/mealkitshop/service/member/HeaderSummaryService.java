@@ -0,0 +1,153 @@
+package org.team.mealkitshop.service.member;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.domain.member.Member;
+import org.team.mealkitshop.event.MemberHeaderChangedEvent;
+import org.team.mealkitshop.repository.cart.CartItemRepository;
+import org.team.mealkitshop.repository.member.MemberRepository;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 화면 공통 헤더 요약(이름/등급/장바구니 개수) — 세션 보관 + 이벤트 무효화
+ * - 세션에 요약을 두고, 회원별 버전 번호가 같으면 DB 조회 없이 재사용
+ * - MemberHeaderChangedEvent 커밋 후 해당 회원 버전 증가 → 다음 요청에서 1회 재조회
+ * - 한 요청 안에서는 request attribute 로 한 번만 계산(loginMember/cartCount 공용)
+ */
+@Service
+@RequiredArgsConstructor
+public class HeaderSummaryService {
+
+    static final String SESSION_ATTR = HeaderSummaryService.class.getName() + ".SUMMARY";
+    private static final String REQUEST_ATTR = HeaderSummaryService.class.getName() + ".REQUEST";
+    private static final Object NONE = new Object(); // 요청 내 "요약 없음" 표식
+
+    private final MemberRepository memberRepository;
+    private final CartItemRepository cartItemRepository;
+
+    /** 회원별 변경 버전(변경 이력이 있는 회원만 보관) + 전체 무효화 세대 */
+    private final ConcurrentHashMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final AtomicLong globalEpoch = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /** 헤더 요약 — 세션 보관 대상(직렬화 가능) */
+    public record HeaderSummary(Long memberId, String principalKey, String name,
+                                Grade grade, int cartCount, long version) implements Serializable { }
+
+    /** 현재 인증 사용자의 헤더 요약(비로그인/식별 불가면 null) */
+    public HeaderSummary resolve(Authentication auth, HttpServletRequest request) {
+        Object memo = request.getAttribute(REQUEST_ATTR);
+        if (memo == NONE) return null;
+        if (memo instanceof HeaderSummary s) return s;
+
+        HeaderSummary summary = compute(auth, request);
+        request.setAttribute(REQUEST_ATTR, summary != null ? summary : NONE);
+        return summary;
+    }
+
+    /** 회원 헤더 값 변경 → 커밋 후 버전 증가 (트랜잭션 밖 발행이면 즉시) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberHeaderChanged(MemberHeaderChangedEvent event) {
+        if (event.isAll()) {
+            globalEpoch.incrementAndGet();
+            return;
+        }
+        versions.computeIfAbsent(event.memberId(), k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /** 지표 스냅샷 */
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("hits", hits.sum());
+        out.put("misses", misses.sum());
+        out.put("trackedMembers", versions.size());
+        return out;
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private HeaderSummary compute(Authentication auth, HttpServletRequest request) {
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) return null;
+
+        Object principal = auth.getPrincipal();
+        String email = null;
+        String socialNameAttr = null;
+
+        // 1) 로컬 로그인 (UserDetails) — username 이 이메일
+        if (principal instanceof UserDetails ud) {
+            email = ud.getUsername();
+        }
+        // 2) 소셜 로그인 (OAuth2User)
+        else if (principal instanceof OAuth2User ou) {
+            Map<String, Object> attrs = ou.getAttributes();
+            if (attrs.get("email") instanceof String s && !s.isBlank()) email = s;
+            if (attrs.get("name") instanceof String s2 && !s2.isBlank()) socialNameAttr = s2; // 폴백용 닉네임
+        } else {
+            return null; // anonymousUser 등
+        }
+
+        // 이메일이 없으면 소셜 닉네임이라도 표기(캐시하지 않음)
+        if (email == null || email.isBlank()) {
+            return socialNameAttr != null ? fallback(socialNameAttr) : null;
+        }
+
+        HttpSession session = request.getSession(false);
+        HeaderSummary cached = session != null && session.getAttribute(SESSION_ATTR) instanceof HeaderSummary s
+                && email.equals(s.principalKey()) ? s : null;
+        if (cached != null && cached.version() == currentVersion(cached.memberId())) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        // 버전은 회원 조회 전에 읽어야 도중 변경을 놓치지 않음 → 회원 번호부터(세션 요약에 있으면 재사용)
+        Long mno = cached != null ? cached.memberId() : memberRepository.findMnoByEmail(email).orElse(null);
+        long version = currentVersion(mno);
+        Optional<Member> opt = mno == null ? Optional.empty() : memberRepository.findByEmail(email);
+        if (opt.isEmpty()) {
+            // DB에 아직 없는데 소셜 name만 있는 경우 폴백(온보딩 전 — 캐시하지 않음)
+            return socialNameAttr != null ? fallback(socialNameAttr) : null;
+        }
+
+        Member m = opt.get();
+        if (!m.getMno().equals(mno)) version = -1L; // 두 조회 사이 이메일 주인이 바뀜 — 다음 요청에서 다시 조회
+        String name = (m.getMemberName() != null && !m.getMemberName().isBlank())
+                ? m.getMemberName()
+                : (socialNameAttr != null ? socialNameAttr : "고객");
+        Grade grade = (m.getGrade() != null) ? m.getGrade() : Grade.BASIC;
+        int cartCount = cartItemRepository.countByCart_Member_Mno(m.getMno());
+
+        HeaderSummary summary = new HeaderSummary(m.getMno(), email, name, grade, cartCount, version);
+        if (session != null) session.setAttribute(SESSION_ATTR, summary);
+        return summary;
+    }
+
+    /** 두 단조 증가 카운터의 합 — 어느 쪽이 올라가도 값이 바뀜 */
+    private long currentVersion(Long memberId) {
+        if (memberId == null) return 0L;
+        AtomicLong v = versions.get(memberId);
+        return globalEpoch.get() + (v == null ? 0L : v.get());
+    }
+
+    private static HeaderSummary fallback(String name) {
+        return new HeaderSummary(null, null, name, Grade.BASIC, 0, 0L);
+    }
+}
@@ -6,6 +6,7 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -19,6 +20,7 @@ import org.team.mealkitshop.domain.member.Member;
 import org.team.mealkitshop.domain.member.QMember;
 import org.team.mealkitshop.dto.member.MemberAdminDetailDTO;
 import org.team.mealkitshop.dto.member.MemberDetailDTO;
+import org.team.mealkitshop.event.MemberHeaderChangedEvent;
 import org.team.mealkitshop.repository.member.MemberRepository;
 
 import java.util.*;
@@ -31,6 +33,7 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder; // BCrypt
+    private final ApplicationEventPublisher eventPublisher; // 헤더 요약(이름/등급) 무효화
 
     @PersistenceContext
     private EntityManager em;
@@ -58,7 +61,9 @@ public class MemberService {
         if (member.getGrade() == null) member.setGrade(Grade.BASIC);
         if (member.getPoints() == null) member.setPoints(0);
 
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        eventPublisher.publishEvent(MemberHeaderChangedEvent.of(saved.getMno())); // 관리자 목록 건수 등
+        return saved;
     }
 
     public boolean existsByEmail(String email) {
@@ -204,6 +209,7 @@ public class MemberService {
         if (grade != null) {
             m.setGrade(grade);
         }
+        eventPublisher.publishEvent(MemberHeaderChangedEvent.of(mno));
     }
 
     /* === ✅ 관리자: 포인트 수정 === */
@@ -220,11 +226,13 @@ public class MemberService {
     public void adminDeleteOrWithdraw(Long mno, boolean drop, Status newStatus) {
         if (drop) {
             memberRepository.deleteById(mno);
+            eventPublisher.publishEvent(MemberHeaderChangedEvent.of(mno));
             return;
         }
         Member m = memberRepository.findById(mno)
                 .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("회원 없음: " + mno));
         if (newStatus == null) throw new IllegalArgumentException("상태값이 필요합니다.");
         m.setStatus(newStatus);
+        eventPublisher.publishEvent(MemberHeaderChangedEvent.of(mno));
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package org.team.mealkitshop.service.member;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +13,7 @@ import org.team.mealkitshop.domain.member.Member;
 import org.team.mealkitshop.dto.member.MemberDeleteDTO;
 import org.team.mealkitshop.dto.member.MemberUpdateDTO;
 import org.team.mealkitshop.dto.member.SocialJoinDTO;
+import org.team.mealkitshop.event.MemberHeaderChangedEvent;
 import org.team.mealkitshop.repository.member.MemberRepository;
 
 @Service
@@ -21,6 +23,7 @@ public class MemberUpdateService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher; // 헤더 요약(이름/등급) 무효화
 
     /* =========================
      *  소셜 추가입력(온보딩)
@@ -45,6 +48,8 @@ public class MemberUpdateService {
         if (m.getRole() == null)     m.setRole(Role.USER);
         if (m.getStatus() == null)   m.setStatus(Status.ACTIVE);
         if (m.getGrade() == null)    m.setGrade(Grade.BASIC);
+
+        eventPublisher.publishEvent(MemberHeaderChangedEvent.of(memberId));
     }
 
     @Transactional
@@ -73,7 +78,8 @@ public class MemberUpdateService {
 
         m.setMarketingYn(dto.isMarketingYn());
 
-        memberRepository.save(m);
+        Member saved = memberRepository.save(m);
+        eventPublisher.publishEvent(MemberHeaderChangedEvent.of(saved.getMno()));
     }
 
     /* =========================
@@ -96,6 +102,8 @@ public class MemberUpdateService {
             }
             m.setPassword(passwordEncoder.encode(memberDto.getNewPassword()));
         }
+
+        eventPublisher.publishEvent(MemberHeaderChangedEvent.of(memberId));
     }
 
     /* =========================
@@ -121,6 +129,8 @@ public class MemberUpdateService {
         // 실제 운영에선 unique 제약/복구정책 등 고려 필요
         m.setEmail("withdrawn_" + m.getMno() + "@deleted.local");
         m.setMemberName("탈퇴회원" + m.getMno());
+
+        eventPublisher.publishEvent(MemberHeaderChangedEvent.of(memberId));
     }
 
     /* =========================
@@ -0,0 +1,291 @@
+package org.team.mealkitshop.service.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.team.mealkitshop.config.FlashSaleProperties;
+import org.team.mealkitshop.exception.OutOfStockException;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 플래시 세일 입장 제어 (상품별, 메모리)
+ * - 재고 토큰: 세일 시작 시 min(요청 수량, 현재 재고)만큼 미리 배정 → 소진되면 DB 접근 없이 즉시 품절 거절
+ * - 토큰 버킷(GCRA, CAS 한 번): 초당 시도 수 제한, 초과 시 즉시 거절
+ * - 동시 진입 제한(Semaphore) + 유한 대기열: 같은 상품 행 잠금 경합을 maxInFlight 로 묶음
+ * - 주문 트랜잭션이 롤백되면 토큰 반환, 커밋되면 소비
+ * - 커밋된 주문이 취소/만료/환불로 재고를 돌려주면 토큰도 반환(배정 수 상한)
+ *   · 입장 대기는 트랜잭션 밖(OrderPlacementService)에서 — 대기 중 DB 커넥션을 잡지 않음
+ *   · 트랜잭션 안에서는 verifyAdmitted 로 입장 수량만 재확인
+ * - DB 재고 조건부 차감(StockReservationService)이 최종 판정이며, 이 게이트는 앞단 부하 차단용
+ */
+@Component
+@Log4j2
+@RequiredArgsConstructor
+public class FlashSaleGate {
+
+    private final FlashSaleProperties properties;
+
+    private final ConcurrentHashMap<Long, Sale> sales = new ConcurrentHashMap<>();
+
+    /** 세일 시작(이미 진행 중이면 교체) — 배정 토큰 수 반환 */
+    public int open(Long itemId, int tokens, Integer permitsPerSecond, Integer burst) {
+        if (tokens < 0) throw new IllegalArgumentException("토큰 수는 0 이상이어야 합니다.");
+        int rate = permitsPerSecond != null && permitsPerSecond > 0 ? permitsPerSecond : properties.permitsPerSecond();
+        int b = burst != null && burst > 0 ? burst : properties.burst();
+        sales.put(itemId, new Sale(tokens, rate, b, properties.maxInFlight()));
+        log.info("[flash-sale] open item={} tokens={} rate={}/s burst={}", itemId, tokens, rate, b);
+        return tokens;
+    }
+
+    /** 세일 종료 — 남은 토큰은 버림(DB 재고는 그대로) */
+    public boolean close(Long itemId) {
+        return sales.remove(itemId) != null;
+    }
+
+    public boolean isOpen(Long itemId) {
+        return sales.containsKey(itemId);
+    }
+
+    /** 진행 중인 세일 존재 여부 — 없으면 주문 전 수량 확인/입장 생략 */
+    public boolean hasOpenSales() {
+        return !sales.isEmpty();
+    }
+
+    /**
+     * 주문 트랜잭션 안 재확인 — 세일 상품 라인이 입장 때 받은 수량을 넘으면 거절
+     * (입장 후 장바구니가 바뀌었거나, 입장 절차 없이 들어온 주문)
+     */
+    public void verifyAdmitted(Map<Long, Integer> quantities, Map<Long, Integer> admitted) {
+        for (Map.Entry<Long, Integer> e : quantities.entrySet()) {
+            if (isOpen(e.getKey()) && e.getValue() > admitted.getOrDefault(e.getKey(), 0)) {
+                throw new IllegalStateException("주문 수량이 변경되었습니다. 다시 시도해주세요.");
+            }
+        }
+    }
+
+    /**
+     * 주문 입장 — 세일 상품이 없으면 아무 것도 하지 않음
+     * - 품절/유량 초과/대기열 초과 시 예외(DB 접근 전)
+     * - 트랜잭션 안이면 완료 시 자동 정산, 아니면 반환된 Admission 으로 직접 정산
+     */
+    public Admission admit(Map<Long, Integer> quantities) {
+        List<Map.Entry<Sale, Integer>> targets = new ArrayList<>();
+        for (Map.Entry<Long, Integer> e : new TreeMap<>(quantities).entrySet()) {
+            Sale sale = sales.get(e.getKey());
+            if (sale != null) targets.add(Map.entry(sale, e.getValue()));
+        }
+        if (targets.isEmpty()) return Admission.NONE;
+
+        // 1) 품절 즉시 거절
+        for (Map.Entry<Sale, Integer> t : targets) {
+            if (t.getKey().tokens.get() < t.getValue()) {
+                t.getKey().rejectedSoldOut.increment();
+                throw new OutOfStockException("준비된 수량이 모두 소진되었습니다.");
+            }
+        }
+        // 2) 유량 제한
+        for (Map.Entry<Sale, Integer> t : targets) {
+            if (!t.getKey().tryRate()) {
+                t.getKey().rejectedBusy.increment();
+                throw new IllegalStateException("주문이 몰리고 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+        // 3) 토큰 확보 → 4) 동시 진입 확보 (실패 시 앞서 확보한 것 되돌림)
+        Admission admission = new Admission();
+        try {
+            for (Map.Entry<Sale, Integer> t : targets) {
+                if (!t.getKey().takeTokens(t.getValue())) {
+                    t.getKey().rejectedSoldOut.increment();
+                    throw new OutOfStockException("준비된 수량이 모두 소진되었습니다.");
+                }
+                admission.tokens.add(t);
+            }
+            for (Map.Entry<Sale, Integer> t : targets) {
+                if (!t.getKey().enter(properties.maxQueue(), properties.queueTimeout().toNanos())) {
+                    t.getKey().rejectedBusy.increment();
+                    throw new IllegalStateException("주문이 몰리고 있습니다. 잠시 후 다시 시도해주세요.");
+                }
+                admission.permits.add(t.getKey());
+            }
+        } catch (RuntimeException e) {
+            admission.complete(false);
+            throw e;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    admission.complete(status == STATUS_COMMITTED);
+                }
+            });
+        }
+        return admission;
+    }
+
+    /**
+     * 취소/만료/환불로 DB 재고가 반환될 때 세일 토큰도 반환
+     * - 트랜잭션 안이면 커밋 후에만 반영(롤백되면 재고도 그대로이므로)
+     * - 세일 시작 전 주문이 반환되어도 배정 토큰 수를 넘지 않음
+     */
+    public void release(Map<Long, Integer> quantities) {
+        if (sales.isEmpty() || quantities == null || quantities.isEmpty()) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<Long, Integer> lines = Map.copyOf(quantities);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    releaseNow(lines);
+                }
+            });
+        } else {
+            releaseNow(quantities);
+        }
+    }
+
+    private void releaseNow(Map<Long, Integer> quantities) {
+        quantities.forEach((itemId, qty) -> {
+            Sale sale = sales.get(itemId);
+            if (sale != null && qty != null && qty > 0) sale.giveBack(qty);
+        });
+    }
+
+    /** 상품별 지표 */
+    public Map<Long, Map<String, Object>> metrics() {
+        Map<Long, Map<String, Object>> out = new TreeMap<>();
+        sales.forEach((id, s) -> {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("openedAt", s.openedAt);
+            m.put("allocatedTokens", s.allocated);
+            m.put("remainingTokens", s.tokens.get());
+            m.put("admitted", s.admitted.sum());
+            m.put("committed", s.committed.sum());
+            m.put("returnedTokens", s.returned.sum());
+            m.put("releasedTokens", s.released.sum());
+            m.put("rejectedSoldOut", s.rejectedSoldOut.sum());
+            m.put("rejectedBusy", s.rejectedBusy.sum());
+            m.put("inFlight", s.maxInFlight - s.inFlight.availablePermits());
+            m.put("queued", s.waiting.get());
+            m.put("permitsPerSecond", s.permitsPerSecond);
+            out.put(id, m);
+        });
+        return out;
+    }
+
+    /* ===================== 내부 ===================== */
+
+    /** 입장 결과 — 커밋이면 토큰 소비, 롤백이면 토큰 반환. 동시 진입 허가는 항상 반납 */
+    public static final class Admission {
+        static final Admission NONE = new Admission();
+
+        private final List<Map.Entry<Sale, Integer>> tokens = new ArrayList<>();
+        private final List<Sale> permits = new ArrayList<>();
+        private boolean completed;
+
+        public synchronized void complete(boolean committed) {
+            if (completed) return;
+            completed = true;
+            for (Sale s : permits) s.inFlight.release();
+            for (Map.Entry<Sale, Integer> t : tokens) {
+                if (committed) {
+                    t.getKey().committed.increment();
+                } else {
+                    t.getKey().tokens.addAndGet(t.getValue());
+                    t.getKey().returned.add(t.getValue());
+                }
+            }
+        }
+    }
+
+    static final class Sale {
+        final LocalDateTime openedAt = LocalDateTime.now();
+        final int allocated;
+        final int permitsPerSecond;
+        final int maxInFlight;
+        final AtomicInteger tokens;
+        final Semaphore inFlight;
+        final AtomicInteger waiting = new AtomicInteger();
+
+        /* GCRA: 다음 요청이 "이론상" 도착해야 하는 시각(ns) */
+        private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+        private final long intervalNanos;
+        private final long toleranceNanos;
+
+        final LongAdder admitted = new LongAdder();
+        final LongAdder committed = new LongAdder();
+        final LongAdder returned = new LongAdder();
+        final LongAdder released = new LongAdder();
+        final LongAdder rejectedSoldOut = new LongAdder();
+        final LongAdder rejectedBusy = new LongAdder();
+
+        Sale(int tokens, int permitsPerSecond, int burst, int maxInFlight) {
+            this.allocated = tokens;
+            this.permitsPerSecond = permitsPerSecond;
+            this.maxInFlight = maxInFlight;
+            this.tokens = new AtomicInteger(tokens);
+            this.inFlight = new Semaphore(maxInFlight, true);
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+            this.toleranceNanos = intervalNanos * burst;
+        }
+
+        boolean tryRate() {
+            while (true) {
+                long now = System.nanoTime();
+                long tat = theoreticalArrival.get();
+                long next = Math.max(tat, now) + intervalNanos;
+                if (next - now > toleranceNanos) return false;
+                if (theoreticalArrival.compareAndSet(tat, next)) return true;
+            }
+        }
+
+        boolean takeTokens(int qty) {
+            while (true) {
+                int cur = tokens.get();
+                if (cur < qty) return false;
+                if (tokens.compareAndSet(cur, cur - qty)) {
+                    admitted.increment();
+                    return true;
+                }
+            }
+        }
+
+        /** 커밋 후 반환 — 배정 수를 넘는 만큼은 버림 */
+        void giveBack(int qty) {
+            while (true) {
+                int cur = tokens.get();
+                int next = Math.min(allocated, cur + qty);
+                if (next == cur) return;
+                if (tokens.compareAndSet(cur, next)) {
+                    released.add(next - cur);
+                    return;
+                }
+            }
+        }
+
+        boolean enter(int maxQueue, long timeoutNanos) {
+            if (inFlight.tryAcquire()) return true;
+            if (waiting.incrementAndGet() > maxQueue) {
+                waiting.decrementAndGet();
+                return false;
+            }
+            try {
+                return inFlight.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+    }
+}
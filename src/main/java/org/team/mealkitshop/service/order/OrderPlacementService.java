@@ -0,0 +1,52 @@
+package org.team.mealkitshop.service.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.team.mealkitshop.common.Pay;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 주문 생성 진입점(트랜잭션 없음)
+ * - 플래시 세일 입장(FlashSaleGate#admit)의 대기열 대기를 DB 커넥션 점유 전에 처리
+ *   → 세일 중 대기자가 커넥션 풀을 잡고 있지 않음
+ * - 주문 트랜잭션(OrderService)이 끝나면 커밋이면 토큰 소비, 예외(롤백)면 토큰 반환
+ * - 진행 중인 세일이 없으면 입장 절차 없이 바로 주문 생성
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderPlacementService {
+
+    private final OrderService orderService;
+    private final FlashSaleGate flashSaleGate;
+
+    /** 장바구니 전체 주문 */
+    public Long createOrder(Long memberId, Long addressId, Pay payMethod) {
+        return place(memberId, null,
+                admitted -> orderService.createOrder(memberId, addressId, payMethod, admitted));
+    }
+
+    /** 선택 항목 주문 */
+    public Long createSelectedOrder(Long memberId, List<Long> cartItemIds, Long addressId, Pay payMethod) {
+        return place(memberId, cartItemIds,
+                admitted -> orderService.createSelectedOrder(memberId, cartItemIds, addressId, payMethod, admitted));
+    }
+
+    private Long place(Long memberId, List<Long> cartItemIds, Function<Map<Long, Integer>, Long> create) {
+        if (!flashSaleGate.hasOpenSales()) return create.apply(Map.of());
+
+        // 짧은 읽기 트랜잭션으로 수량만 확인 → 커넥션 반납 후 입장 대기
+        Map<Long, Integer> quantities = orderService.cartQuantities(memberId, cartItemIds);
+        FlashSaleGate.Admission admission = flashSaleGate.admit(quantities);
+        boolean committed = false;
+        try {
+            Long orderId = create.apply(quantities);
+            committed = true;
+            return orderId;
+        } finally {
+            admission.complete(committed);
+        }
+    }
+}
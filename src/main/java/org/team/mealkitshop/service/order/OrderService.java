@@ -3,10 +3,10 @@ package org.team.mealkitshop.service.order;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.team.mealkitshop.common.Grade;
 import org.team.mealkitshop.common.OrderStatus;
 import org.team.mealkitshop.common.Pay;
 import org.team.mealkitshop.common.RefundReason;
@@ -19,17 +19,27 @@ import org.team.mealkitshop.domain.order.OrderItem;
 import org.team.mealkitshop.domain.order.OrderRefund;
 import org.team.mealkitshop.dto.checkout.OrderDetailResponse;
 import org.team.mealkitshop.dto.checkout.RefundListDTO;
+import org.team.mealkitshop.event.ItemChangedEvent;
+import org.team.mealkitshop.event.MemberHeaderChangedEvent;
+import org.team.mealkitshop.event.OrderStatusChangedEvent;
 import org.team.mealkitshop.repository.address.AddressRepository;
 import org.team.mealkitshop.repository.cart.CartItemRepository;
 import org.team.mealkitshop.repository.cart.CartRepository;
 import org.team.mealkitshop.repository.member.MemberRepository;
 import org.team.mealkitshop.repository.order.OrderRefundRepository;
 import org.team.mealkitshop.repository.order.OrderRepository;
+import org.team.mealkitshop.service.cart.CartPricingSnapshot;
+import org.team.mealkitshop.service.pricing.PricingEngine;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 
 @Service
@@ -44,6 +54,10 @@ public class OrderService {
     private final CartItemRepository cartItemRepository;
     private final AddressRepository addressRepository;
     private final OrderRefundRepository orderRefundRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockReservationService stockReservationService; // 재고 조건부 차감/반환
+    private final FlashSaleGate flashSaleGate; // 플래시 세일 입장 수량 재확인(입장은 OrderPlacementService)
+    private final PricingEngine pricingEngine; // 할인/배송 규칙 스냅샷(장바구니 화면과 공유)
 
     /** ✅ 회원의 환불/취소 내역 가져오기 */
     @Transactional(readOnly = true)
@@ -58,15 +72,31 @@ public class OrderService {
     }
 
 
-    public Long createOrder(Long memberId, Pay payMethod) {
-        return createOrderInternal(memberId, null, payMethod);
+    /**
+     * 장바구니(또는 선택 항목) 수량 — 상품 id → 합계 (플래시 세일 입장용, 짧은 읽기 트랜잭션)
+     * @param cartItemIds null 이면 장바구니 전체
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> cartQuantities(Long memberId, List<Long> cartItemIds) {
+        Set<Long> selected = cartItemIds != null ? new HashSet<>(cartItemIds) : null;
+        Map<Long, Integer> out = new TreeMap<>();
+        for (CartItem ci : getCart(memberId).getItems()) {
+            if (selected == null || selected.contains(ci.getCartItemId())) {
+                out.merge(ci.getItem().getId(), ci.getQuantity(), Integer::sum);
+            }
+        }
+        return out;
     }
 
-    public Long createOrder(Long memberId, Long addressId, Pay payMethod) {
-        return createOrderInternal(memberId, addressId, payMethod);
+    /**
+     * 장바구니 전체 주문
+     * @param admitted 플래시 세일 입장 수량(OrderPlacementService) — 세일 상품이 없으면 빈 맵
+     */
+    public Long createOrder(Long memberId, Long addressId, Pay payMethod, Map<Long, Integer> admitted) {
+        return createOrderInternal(memberId, addressId, payMethod, admitted);
     }
 
-    private Long createOrderInternal(Long memberId, Long addressId, Pay payMethod) {
+    private Long createOrderInternal(Long memberId, Long addressId, Pay payMethod, Map<Long, Integer> admitted) {
         Member member = getMember(memberId);
         Cart cart = getCart(memberId);
         List<CartItem> cartItems = getCartItems(cart);
@@ -77,13 +107,16 @@ public class OrderService {
                 : addressRepository.findFirstByMember_MnoAndIsDefaultTrue(member.getMno())
                 .orElseThrow(() -> new IllegalStateException("배송지를 선택하거나 기본 배송지를 설정해야 합니다."));
 
-        Order order = buildOrder(member, cartItems, address, payMethod);
+        Order order = buildOrder(member, cartItems, address, payMethod, admitted);
         Order savedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.created(savedOrder)); // 일별 매출 롤업
 
         cartItemRepository.deleteAll(cartItems);
         cartItemRepository.flush();
         cart.getItems().clear();
 
+        publishItemsChanged(savedOrder);
+        eventPublisher.publishEvent(MemberHeaderChangedEvent.of(memberId)); // 장바구니 비움 → 헤더 개수
         return savedOrder.getOrderId();
     }
 
@@ -97,15 +130,17 @@ public class OrderService {
                 .orElseThrow(() -> new IllegalArgumentException("장바구니 없음: " + memberId));
     }
 
+    /** 카트 조회 시 라인+상품까지 함께 로딩되어 있으므로 추가 조회 없이 복사본 사용 */
     private List<CartItem> getCartItems(Cart cart) {
-        List<CartItem> cartItems = cartItemRepository.findAllByCart(cart);
+        List<CartItem> cartItems = new ArrayList<>(cart.getItems());
         if (cartItems.isEmpty()) {
             throw new IllegalStateException("장바구니가 비어있음");
         }
         return cartItems;
     }
 
-    private Order buildOrder(Member member, List<CartItem> cartItems, Address address, Pay payMethod) {
+    private Order buildOrder(Member member, List<CartItem> cartItems, Address address, Pay payMethod,
+                             Map<Long, Integer> admitted) {
         String orderNo = generateOrderNo();
 
         Order order = Order.builder()
@@ -120,39 +155,17 @@ public class OrderService {
                 .discountTotal(0)
                 .build();
 
-        int total = 0;
-        for (CartItem ci : cartItems) {
-            var item = ci.getItem();
-            int qty = ci.getQuantity();
-
-            item.decreaseStock(qty);
-            OrderItem oi = OrderItem.of(item, qty);
-            order.addItem(oi);
-
-            total += ci.getLinePayable(); // ✅ 할인 기준: 세일가 × 수량
-        }
-        order.setProductsTotal(total); // 실제 주문 금액 기준 설정
-
-        int percent = switch (member.getGrade()) {
-            case VIP -> 10;
-            case GOLD -> 7;
-            case SILVER -> 5;
-            default -> 0;
-        };
-
-        int discount = Math.min((int) Math.round(total * (percent / 100.0)), total);
-        order.setDiscountTotal(discount);
-
-        int afterDiscount = total - discount;
-        int shippingFee = 0;
-        if (afterDiscount < 50_000 && afterDiscount > 0) shippingFee += 3_000;
+        // 금액: 장바구니 화면과 같은 스냅샷 계산(한 번 순회) → 표시 금액 = 결제 금액
         String zip = (address != null ? address.getZipCode() : null);
-        if (zip != null && zip.startsWith("63")) shippingFee += 5_000;
-        if (member.getGrade() == Grade.VIP) shippingFee = 0;
-        order.setShippingFee(shippingFee);
+        CartPricingSnapshot pricing = CartPricingSnapshot.price(
+                cartItems, pricingEngine.rules(), member.getGrade(), zip, Map.of());
+        applyPricing(order, pricing);
+        int payableAmount = order.getPayableAmount();
 
-        int payableAmount = afterDiscount + shippingFee;
-        order.setPayableAmount(payableAmount);
+        // 재고: 플래시 세일 상품은 트랜잭션 전에 받은 입장 수량 이내인지 확인 → 전체 라인 조건부 일괄 차감
+        Map<Long, Integer> quantities = StockReservationService.quantitiesOf(order.getOrderItems());
+        flashSaleGate.verifyAdmitted(quantities, admitted);
+        stockReservationService.reserve(quantities);
 
         switch (payMethod) {
             case POINT -> {
@@ -162,13 +175,28 @@ public class OrderService {
                 member.setPoints(member.getPoints() - payableAmount);
                 order.setStatus(OrderStatus.PREPARING);
             }
-            case BANK_TRANSFER, TOSSPAY -> order.setStatus(OrderStatus.CREATED);
+            case BANK_TRANSFER, TOSSPAY -> {
+                order.setStatus(OrderStatus.CREATED);
+                order.setReservedUntil(stockReservationService.reservationDeadline(payMethod)); // 미결제 점유 기한
+            }
             default -> throw new IllegalArgumentException("지원하지 않는 결제수단: " + payMethod);
         }
 
         return order;
     }
 
+    /** 가격 스냅샷 → 주문 라인(적용 단가) + 주문 금액 반영 (DB 접근 없음, 벤치마크 대상) */
+    static void applyPricing(Order order, CartPricingSnapshot pricing) {
+        for (CartPricingSnapshot.Line line : pricing.lines()) {
+            order.addItem(OrderItem.of(line.item(), line.quantity(), line.salePrice()));
+        }
+        CartPricingSnapshot.Totals totals = pricing.all();
+        order.setProductsTotal(totals.saleTotal()); // ✅ 할인 기준: 적용 단가 × 수량
+        order.setDiscountTotal(totals.couponDiscount());
+        order.setShippingFee(totals.shippingFee());
+        order.setPayableAmount(totals.payableAmount());
+    }
+
     private String generateOrderNo() {
         String date = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
         String random = UUID.randomUUID().toString().substring(0, 6).toUpperCase();
@@ -220,22 +248,27 @@ public class OrderService {
             throw new IllegalStateException("결제 대기 상태가 아님");
         }
 
-        order.setStatus(OrderStatus.PREPARING);
+        transitionOrThrow(order, OrderStatus.PREPARING); // 만료 정리와 경합 시 한쪽만 성공
     }
 
     @Transactional
     public void updateOrderStatus(Long orderId, OrderStatus status) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new EntityNotFoundException("주문 없음: " + orderId));
-        order.setStatus(status);
+        transitionOrThrow(order, status);
+        publishItemsChanged(order);
     }
 
     @Transactional
-    public Long createSelectedOrder(Long memberId, List<Long> cartItemIds, Long addressId, Pay payMethod) {
+    public Long createSelectedOrder(Long memberId, List<Long> cartItemIds, Long addressId, Pay payMethod,
+                                    Map<Long, Integer> admitted) {
         Member member = getMember(memberId);
         Cart cart = getCart(memberId);
 
-        List<CartItem> selectedItems = cartItemRepository.findByCartAndCartItemIdIn(cart, cartItemIds);
+        Set<Long> selectedIds = new HashSet<>(cartItemIds);
+        List<CartItem> selectedItems = cart.getItems().stream()
+                .filter(ci -> selectedIds.contains(ci.getCartItemId()))
+                .toList();
         if (selectedItems.isEmpty()) throw new IllegalStateException("선택된 장바구니 항목이 없습니다.");
 
         Address address = (addressId != null)
@@ -244,13 +277,16 @@ public class OrderService {
                 : addressRepository.findFirstByMember_MnoAndIsDefaultTrue(member.getMno())
                 .orElseThrow(() -> new IllegalStateException("기본 배송지가 설정되어 있지 않습니다."));
 
-        Order order = buildOrder(member, selectedItems, address, payMethod);
+        Order order = buildOrder(member, selectedItems, address, payMethod, admitted);
         Order savedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.created(savedOrder)); // 일별 매출 롤업
 
         cartItemRepository.deleteAllByCartAndCartItemIdIn(cart, cartItemIds);
         cartItemRepository.flush();
         cart.getItems().removeIf(ci -> cartItemIds.contains(ci.getCartItemId()));
 
+        publishItemsChanged(savedOrder);
+        eventPublisher.publishEvent(MemberHeaderChangedEvent.of(memberId));
         return savedOrder.getOrderId();
     }
 
@@ -272,7 +308,10 @@ public class OrderService {
             throw new IllegalStateException("취소 불가 상태");
         }
 
-        // 1) 포인트 환급 (POINT 결제만)
+        // 1) 상태 전이(조건부) — 만료 정리가 먼저 취소했다면 여기서 중단(재고 이중 반환 방지)
+        transitionOrThrow(order, OrderStatus.CANCELED);
+
+        // 2) 포인트 환급 (POINT 결제만)
         if (order.getPayMethod() == Pay.POINT) {
             Member member = order.getMember();
             int refund = order.getPayableAmount();
@@ -286,13 +325,9 @@ public class OrderService {
             log.info("PG 결제 주문 취소(도메인 상태만 변경): orderId={}, pay={}", orderId, order.getPayMethod());
         }
 
-        // 2) 재고 복원
-        for (OrderItem oi : order.getOrderItems()) {
-            oi.getItem().increaseStock(oi.getQuantity());
-        }
-
-        // 3) 상태 전이
-        order.setStatus(OrderStatus.CANCELED);
+        // 3) 재고 반환
+        stockReservationService.release(StockReservationService.quantitiesOf(order.getOrderItems()));
+        publishItemsChanged(order);
     }
 
     @Transactional
@@ -314,6 +349,25 @@ public class OrderService {
                 .build();
         orderRefundRepository.save(refund);
 
+        OrderStatus from = order.getStatus();
         order.setStatus(OrderStatus.REFUND_REQUESTED);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.of(order, from, OrderStatus.REFUND_REQUESTED));
+        publishItemsChanged(order);
+    }
+
+    /** 현재 상태에서 to 로 조건부 전이 — 그 사이 다른 트랜잭션이 상태를 바꿨으면 예외 */
+    private void transitionOrThrow(Order order, OrderStatus to) {
+        OrderStatus from = order.getStatus();
+        if (orderRepository.transitionStatus(order.getOrderId(), from, to) == 0) {
+            throw new IllegalStateException("주문 상태가 이미 변경되었습니다. 다시 확인해주세요.");
+        }
+        order.setStatus(to);
+        eventPublisher.publishEvent(OrderStatusChangedEvent.of(order, from, to));
+    }
+
+    /** 재고/판매량이 바뀐 주문 상품 → 목록 읽기 모델 갱신 (커밋 후 처리) */
+    private void publishItemsChanged(Order order) {
+        eventPublisher.publishEvent(ItemChangedEvent.of(
+                order.getOrderItems().stream().map(oi -> oi.getItem().getId()).toList()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+package org.team.mealkitshop.service.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.team.mealkitshop.common.OrderStatus;
+import org.team.mealkitshop.common.Pay;
+import org.team.mealkitshop.config.StockReservationProperties;
+import org.team.mealkitshop.domain.order.OrderItem;
+import org.team.mealkitshop.event.ItemChangedEvent;
+import org.team.mealkitshop.event.OrderStatusChangedEvent;
+import org.team.mealkitshop.exception.OutOfStockException;
+import org.team.mealkitshop.repository.order.OrderItemRepository;
+import org.team.mealkitshop.repository.order.OrderRepository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 주문 재고 예약/반환
+ * - 예약: 주문 전체 라인을 UPDATE 한 문장으로 조건부 차감(stock >= qty 인 행만) → 영향 행 수가 라인 수와 다르면 재고 부족
+ *   (엔티티 read-modify-write 가 아니므로 동시 주문 간 lost update 없음, 행 잠금은 PK 순서로 잡혀 교착 없음)
+ * - 반환: 취소/만료/환불 시 한 문장으로 가산(플래시 세일 상품이면 커밋 후 게이트 토큰도 반환)
+ * - 판매 상태가 실제로 바뀐 상품(SELL → SOLD_OUT, SOLD_OUT → SELL)만 ItemChangedEvent.membershipOf 발행
+ *   (판매 상태 필터 건수 캐시 무효화 — 표시 값 갱신은 호출자가 ItemChangedEvent.of 로 발행)
+ * - 미결제 무통장/토스페이 주문은 reserved_until 까지만 점유 → 주기 정리에서 자동 취소 + 재고 반환
+ * - 호출자 트랜잭션에 참여하므로 주문 저장 실패/예외 시 차감도 함께 롤백
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockReservationProperties properties;
+    private final FlashSaleGate flashSaleGate;
+
+    /* ===== 지표 ===== */
+    private final LongAdder reservedOrders = new LongAdder();
+    private final LongAdder rejectedOrders = new LongAdder();
+    private final LongAdder releasedLines = new LongAdder();
+    private final LongAdder expiredOrders = new LongAdder();
+
+    /** 주문 상품 → 상품별 수량(동일 상품 합산, 상품 ID 오름차순) */
+    public static Map<Long, Integer> quantitiesOf(Collection<OrderItem> orderItems) {
+        Map<Long, Integer> out = new TreeMap<>();
+        for (OrderItem oi : orderItems) {
+            out.merge(oi.getItem().getId(), oi.getQuantity(), Integer::sum);
+        }
+        return out;
+    }
+
+    /** 결제수단별 재고 점유 기한(즉시 결제 수단은 null) */
+    public LocalDateTime reservationDeadline(Pay payMethod) {
+        return switch (payMethod) {
+            case BANK_TRANSFER -> LocalDateTime.now().plus(properties.bankTransferTtl());
+            case TOSSPAY -> LocalDateTime.now().plus(properties.tossPayTtl());
+            default -> null;
+        };
+    }
+
+    /**
+     * 재고 일괄 차감 — 한 라인이라도 부족하면 OutOfStockException(트랜잭션 롤백으로 전부 취소)
+     * - 차감 후 0 이 되면 SOLD_OUT(관리자 STOP 은 유지)
+     */
+    @Transactional
+    public void reserve(Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> lines = validated(quantities);
+        if (lines.isEmpty()) return;
+
+        String qtyCase = qtyCase(lines.size());
+        String sql = "update item"
+                + " set item_sell_status = case when item_sell_status <> 'STOP' and stock_number = " + qtyCase
+                + " then 'SOLD_OUT' else item_sell_status end,"
+                + " stock_number = stock_number - " + qtyCase
+                + " where item_id in (" + placeholders(lines.size()) + ")"
+                + " and stock_number >= " + qtyCase;
+
+        List<Object> args = new ArrayList<>();
+        appendCaseArgs(args, lines);               // SOLD_OUT 판정
+        appendCaseArgs(args, lines);               // 차감량
+        args.addAll(lines.keySet());               // 대상
+        appendCaseArgs(args, lines);               // 재고 조건
+
+        int updated = jdbcTemplate.update(sql, args.toArray());
+        if (updated != lines.size()) {
+            rejectedOrders.increment();
+            throw new OutOfStockException("재고 부족: 주문 상품 중 재고가 부족한 상품이 있습니다. (요청 상품 " + lines.keySet() + ")");
+        }
+        reservedOrders.increment();
+
+        // 이번 차감으로 0 이 된 행만 SOLD_OUT 으로 바뀜(행 잠금은 이 트랜잭션이 보유)
+        publishStatusFlips(jdbcTemplate.queryForList(
+                "select item_id from item where item_id in (" + placeholders(lines.size()) + ")"
+                        + " and stock_number = 0 and item_sell_status = 'SOLD_OUT'",
+                Long.class, lines.keySet().toArray()));
+    }
+
+    /** 재고 일괄 반환 — SOLD_OUT 이던 상품은 SELL 로 복구 */
+    @Transactional
+    public void release(Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> lines = validated(quantities);
+        if (lines.isEmpty()) return;
+
+        String qtyCase = qtyCase(lines.size());
+        String sql = "update item"
+                + " set item_sell_status = case when item_sell_status = 'SOLD_OUT' then 'SELL' else item_sell_status end,"
+                + " stock_number = stock_number + " + qtyCase
+                + " where item_id in (" + placeholders(lines.size()) + ")";
+
+        // SELL 로 복구될 행 — 잠금을 먼저 잡아 UPDATE 까지 상태가 바뀌지 않게 함
+        List<Long> restocked = jdbcTemplate.queryForList(
+                "select item_id from item where item_id in (" + placeholders(lines.size()) + ")"
+                        + " and item_sell_status = 'SOLD_OUT' for update",
+                Long.class, lines.keySet().toArray());
+
+        List<Object> args = new ArrayList<>();
+        appendCaseArgs(args, lines);
+        args.addAll(lines.keySet());
+
+        jdbcTemplate.update(sql, args.toArray());
+        releasedLines.add(lines.size());
+        flashSaleGate.release(lines);
+        publishStatusFlips(restocked);
+    }
+
+    /** 점유 기한이 지난 미결제 주문 정리(주문별 독립 트랜잭션) */
+    @Scheduled(fixedDelayString = "${orders.reservation.sweep-interval:1m}")
+    public void expireOverdue() {
+        List<Long> ids = orderRepository.findExpiredReservationIds(
+                OrderStatus.CREATED, LocalDateTime.now(), PageRequest.of(0, properties.sweepBatchSize()));
+        int expired = 0;
+        for (Long orderId : ids) {
+            try {
+                Boolean done = transactionTemplate.execute(status -> expire(orderId));
+                if (Boolean.TRUE.equals(done)) expired++;
+            } catch (RuntimeException e) {
+                log.warn("[stock-reservation] expire failed: orderId={}", orderId, e);
+            }
+        }
+        if (expired > 0) log.info("[stock-reservation] expired {} unpaid orders", expired);
+    }
+
+    /** 지표 스냅샷 */
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("reservedOrders", reservedOrders.sum());
+        out.put("rejectedOrders", rejectedOrders.sum());
+        out.put("releasedLines", releasedLines.sum());
+        out.put("expiredOrders", expiredOrders.sum());
+        return out;
+    }
+
+    /* ===================== 내부 ===================== */
+
+    /** CREATED → CANCELED 조건부 전이에 성공한 경우에만 재고 반환(결제 확인/사용자 취소와 경합 시 한쪽만 성공) */
+    private boolean expire(Long orderId) {
+        if (orderRepository.transitionStatus(orderId, OrderStatus.CREATED, OrderStatus.CANCELED) == 0) {
+            return false;
+        }
+        Map<Long, Integer> lines = new TreeMap<>();
+        for (OrderItemRepository.OrderLineQuantity l : orderItemRepository.findLineQuantitiesByOrderId(orderId)) {
+            lines.merge(l.getItemId(), l.getQuantity(), Integer::sum);
+        }
+        release(lines);
+        eventPublisher.publishEvent(ItemChangedEvent.of(lines.keySet()));
+        orderRepository.findById(orderId).ifPresent(o -> eventPublisher.publishEvent(
+                OrderStatusChangedEvent.of(o, OrderStatus.CREATED, OrderStatus.CANCELED))); // 일별 매출 롤업
+        expiredOrders.increment();
+        log.info("[stock-reservation] order {} expired, released {}", orderId, lines);
+        return true;
+    }
+
+    /** 판매 상태가 바뀐 상품 → 커밋 후 건수 캐시 무효화 + 목록 갱신 */
+    private void publishStatusFlips(List<Long> itemIds) {
+        if (!itemIds.isEmpty()) eventPublisher.publishEvent(ItemChangedEvent.membershipOf(itemIds));
+    }
+
+    private static SortedMap<Long, Integer> validated(Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> lines = new TreeMap<>();
+        if (quantities == null) return lines;
+        quantities.forEach((itemId, qty) -> {
+            Objects.requireNonNull(itemId, "itemId must not be null");
+            if (qty == null || qty < 1) throw new IllegalArgumentException("수량은 1 이상이어야 합니다.");
+            lines.merge(itemId, qty, Integer::sum);
+        });
+        return lines;
+    }
+
+    /** case item_id when ? then ? ... end */
+    private static String qtyCase(int n) {
+        return "(case item_id" + " when ? then ?".repeat(n) + " end)";
+    }
+
+    private static String placeholders(int n) {
+        return String.join(",", Collections.nCopies(n, "?"));
+    }
+
+    private static void appendCaseArgs(List<Object> args, SortedMap<Long, Integer> lines) {
+        lines.forEach((id, qty) -> {
+            args.add(id);
+            args.add(qty);
+        });
+    }
+}
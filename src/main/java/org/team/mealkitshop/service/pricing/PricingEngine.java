@@ -0,0 +1,52 @@
+package org.team.mealkitshop.service.pricing;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.team.mealkitshop.config.PricingProperties;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 가격 규칙 엔진
+ * - 규칙 정의(PricingRuleSet)를 PricingRules 로 한 번 컴파일해 보관, 평가는 스냅샷에서 정수 연산만 수행
+ * - 규칙 변경 시 새 스냅샷을 컴파일한 뒤 원자적으로 교체 → 계산 중인 요청은 기존 스냅샷으로 끝까지 일관
+ * - CartService(화면)와 OrderService(주문 생성)가 같은 스냅샷을 사용 → 표시 금액 = 결제 금액
+ */
+@Log4j2
+@Component
+public class PricingEngine {
+
+    private final AtomicReference<PricingRules> current;
+
+    public PricingEngine(PricingProperties props) {
+        this.current = new AtomicReference<>(PricingRules.compile(initial(props), 1L));
+    }
+
+    /** 현재 규칙 스냅샷 (호출 단위로 한 번 읽어 사용할 것) */
+    public PricingRules rules() {
+        return current.get();
+    }
+
+    /** 규칙 교체: 컴파일(검증) 성공 시에만 반영, 실패하면 IllegalArgumentException */
+    public PricingRules update(PricingRuleSet definition) {
+        PricingRules next = current.updateAndGet(prev -> PricingRules.compile(definition, prev.version() + 1));
+        log.info("[PRICING] 규칙 교체 version={} rules={}", next.version(), definition);
+        return next;
+    }
+
+    private static PricingRuleSet initial(PricingProperties props) {
+        PricingRuleSet defaults = PricingRuleSet.defaults();
+        if (props == null) return defaults;
+        return new PricingRuleSet(
+                isEmpty(props.gradeDiscountPercent()) ? defaults.gradeDiscountPercent() : props.gradeDiscountPercent(),
+                props.freeShippingGrades() == null ? defaults.freeShippingGrades() : props.freeShippingGrades(),
+                props.freeShippingThreshold(),
+                props.baseShippingFee(),
+                props.shippingZoneFees() == null ? defaults.shippingZoneFees() : props.shippingZoneFees(),
+                props.itemDiscountPercent());
+    }
+
+    private static boolean isEmpty(java.util.Map<?, ?> m) {
+        return m == null || m.isEmpty();
+    }
+}
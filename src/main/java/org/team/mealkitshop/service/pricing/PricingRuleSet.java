@@ -0,0 +1,43 @@
+package org.team.mealkitshop.service.pricing;
+
+import org.team.mealkitshop.common.Grade;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 가격/프로모션 규칙 정의(사람이 읽고 쓰는 형태) — PricingRules 로 컴파일되어 사용됨
+ * @param gradeDiscountPercent  등급별 쿠폰 할인율(%)
+ * @param freeShippingGrades    무료배송 등급
+ * @param freeShippingThreshold 이 금액 이상이면 기본 배송비 면제(원)
+ * @param baseShippingFee       기본 배송비(원)
+ * @param shippingZoneFees      우편번호 접두사별 추가 배송비(원) — 가장 긴 접두사 우선
+ * @param itemDiscountPercent   상품별 추가 할인율(%) — 판매가에서 추가 차감
+ */
+public record PricingRuleSet(
+        Map<Grade, Integer> gradeDiscountPercent,
+        Set<Grade> freeShippingGrades,
+        int freeShippingThreshold,
+        int baseShippingFee,
+        Map<String, Integer> shippingZoneFees,
+        Map<Long, Integer> itemDiscountPercent
+) {
+
+    public PricingRuleSet {
+        gradeDiscountPercent = gradeDiscountPercent == null ? Map.of() : Map.copyOf(gradeDiscountPercent);
+        freeShippingGrades = freeShippingGrades == null ? Set.of() : Set.copyOf(freeShippingGrades);
+        shippingZoneFees = shippingZoneFees == null ? Map.of() : Map.copyOf(shippingZoneFees);
+        itemDiscountPercent = itemDiscountPercent == null ? Map.of() : Map.copyOf(itemDiscountPercent);
+    }
+
+    /** 기존 하드코딩 정책과 동일한 기본 규칙 */
+    public static PricingRuleSet defaults() {
+        return new PricingRuleSet(
+                Map.of(Grade.SILVER, 5, Grade.GOLD, 7, Grade.VIP, 10),
+                Set.of(Grade.VIP),
+                50_000,
+                3_000,
+                Map.of("63", 5_000),   // 제주
+                Map.of());
+    }
+}
@@ -0,0 +1,155 @@
+package org.team.mealkitshop.service.pricing;
+
+import org.team.mealkitshop.common.Grade;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 컴파일된 가격 규칙 스냅샷 (불변, 스레드 안전)
+ * - 평가 경로는 정수 연산 + 배열 조회만 사용(박싱/객체 생성 없음)
+ *   · 등급: ordinal 인덱스 배열(basis point)
+ *   · 상품 할인: 정렬된 long[] 이진 탐색
+ *   · 배송 권역: 우편번호 숫자 트라이(가장 긴 접두사 우선)
+ * - 금액 반올림은 half-up: (금액 × bps + 5000) / 10000
+ */
+public final class PricingRules {
+
+    private static final int BPS = 10_000;
+    private static final int NO_FEE = -1;
+
+    private final PricingRuleSet definition;
+    private final long version;
+
+    private final int[] gradeDiscountBps;
+    private final boolean[] freeShippingGrade;
+    private final int freeShippingThreshold;
+    private final int baseShippingFee;
+
+    /* 배송 권역 트라이: zoneNext[node * 10 + digit] = 자식 노드(0 = 없음, 루트는 0) */
+    private final int[] zoneNext;
+    private final int[] zoneFee;
+
+    /* 상품별 추가 할인 */
+    private final long[] promoItemIds;
+    private final int[] promoBps;
+
+    private PricingRules(PricingRuleSet definition, long version) {
+        this.definition = definition;
+        this.version = version;
+
+        Grade[] grades = Grade.values();
+        this.gradeDiscountBps = new int[grades.length];
+        this.freeShippingGrade = new boolean[grades.length];
+        for (Grade g : grades) {
+            gradeDiscountBps[g.ordinal()] = percentToBps(definition.gradeDiscountPercent().getOrDefault(g, 0), "등급 할인율");
+            freeShippingGrade[g.ordinal()] = definition.freeShippingGrades().contains(g);
+        }
+
+        if (definition.freeShippingThreshold() < 0 || definition.baseShippingFee() < 0) {
+            throw new IllegalArgumentException("배송비/무료배송 기준은 0 이상이어야 합니다.");
+        }
+        this.freeShippingThreshold = definition.freeShippingThreshold();
+        this.baseShippingFee = definition.baseShippingFee();
+
+        // 트라이 컴파일
+        int maxNodes = 1 + definition.shippingZoneFees().keySet().stream().mapToInt(String::length).sum();
+        int[] next = new int[maxNodes * 10];
+        int[] fee = new int[maxNodes];
+        Arrays.fill(fee, NO_FEE);
+        int nodes = 1;
+        for (Map.Entry<String, Integer> e : definition.shippingZoneFees().entrySet()) {
+            String prefix = e.getKey();
+            if (prefix == null || prefix.isEmpty() || !prefix.chars().allMatch(Character::isDigit)) {
+                throw new IllegalArgumentException("우편번호 접두사는 숫자여야 합니다: " + prefix);
+            }
+            if (e.getValue() == null || e.getValue() < 0) {
+                throw new IllegalArgumentException("권역 추가 배송비는 0 이상이어야 합니다: " + prefix);
+            }
+            int node = 0;
+            for (int i = 0; i < prefix.length(); i++) {
+                int slot = node * 10 + (prefix.charAt(i) - '0');
+                if (next[slot] == 0) next[slot] = nodes++;
+                node = next[slot];
+            }
+            fee[node] = e.getValue();
+        }
+        this.zoneNext = Arrays.copyOf(next, nodes * 10);
+        this.zoneFee = Arrays.copyOf(fee, nodes);
+
+        // 상품 할인 컴파일(아이디 오름차순)
+        long[] ids = definition.itemDiscountPercent().keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        int[] bps = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            bps[i] = percentToBps(definition.itemDiscountPercent().get(ids[i]), "상품 할인율");
+        }
+        this.promoItemIds = ids;
+        this.promoBps = bps;
+    }
+
+    /** 규칙 정의 → 평가용 스냅샷 (검증 실패 시 IllegalArgumentException) */
+    public static PricingRules compile(PricingRuleSet definition, long version) {
+        return new PricingRules(definition, version);
+    }
+
+    /* ===================== 평가 ===================== */
+
+    /** 상품 추가 할인 적용 후 단가 */
+    public int effectiveUnitPrice(long itemId, int salePrice) {
+        int unit = Math.max(0, salePrice);
+        int idx = Arrays.binarySearch(promoItemIds, itemId);
+        if (idx < 0) return unit;
+        return unit - applyBps(unit, promoBps[idx]);
+    }
+
+    /** 등급 쿠폰 할인액(기준 금액을 넘지 않음) */
+    public int couponDiscount(int base, Grade grade) {
+        if (base <= 0 || grade == null) return 0;
+        return Math.min(applyBps(base, gradeDiscountBps[grade.ordinal()]), base);
+    }
+
+    /** 등급 쿠폰 할인율(%) — 표시용 */
+    public int couponPercent(Grade grade) {
+        return grade == null ? 0 : gradeDiscountBps[grade.ordinal()] / 100;
+    }
+
+    /** 배송비: 상품 합계 0 또는 무료배송 등급이면 0, 기준 미만 기본료 + 권역 추가료 */
+    public int shippingFee(int productTotal, CharSequence zipcode, Grade grade) {
+        if (productTotal <= 0) return 0;
+        if (grade != null && freeShippingGrade[grade.ordinal()]) return 0;
+        int fee = productTotal < freeShippingThreshold ? baseShippingFee : 0;
+        return fee + zoneFee(zipcode);
+    }
+
+    /** 우편번호 권역 추가료(가장 긴 일치 접두사, 없으면 0) */
+    public int zoneFee(CharSequence zipcode) {
+        if (zipcode == null) return 0;
+        int node = 0, found = 0;
+        for (int i = 0, n = zipcode.length(); i < n; i++) {
+            int d = zipcode.charAt(i) - '0';
+            if (d < 0 || d > 9) break;
+            node = zoneNext[node * 10 + d];
+            if (node == 0) break;
+            if (zoneFee[node] != NO_FEE) found = zoneFee[node];
+        }
+        return found;
+    }
+
+    /* ===================== 조회 ===================== */
+
+    public PricingRuleSet definition() { return definition; }
+
+    public long version() { return version; }
+
+    /* ===================== 내부 ===================== */
+
+    private static int applyBps(int amount, int bps) {
+        return (int) (((long) amount * bps + BPS / 2) / BPS);
+    }
+
+    private static int percentToBps(Integer percent, String label) {
+        int p = percent == null ? 0 : percent;
+        if (p < 0 || p > 100) throw new IllegalArgumentException(label + "은(는) 0~100 사이여야 합니다: " + p);
+        return p * 100;
+    }
+}
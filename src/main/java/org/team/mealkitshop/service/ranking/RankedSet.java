@@ -0,0 +1,170 @@
+package org.team.mealkitshop.service.ranking;
+
+import java.util.*;
+
+/**
+ * 한 순위표의 상위 후보 집합 — 점수 내림차순(동점은 id 내림차순)
+ * - 최대 capacity(= 노출 K + 여유분) 건만 보관, 넘치면 꼴찌를 밀어냄
+ * - boundary: 보관하지 않은 항목은 모두 이 키 이하라는 보장(밀려난 항목 중 최상위, reseed 시 마지막 행)
+ *   → boundary 이상인 보관 항목만 "확정 순위"로 노출(점수가 내려간 항목은 밀려난 항목보다 낮을 수 있음)
+ * - 확정 항목이 K 보다 적어지면 stale 표시 → 다음 스냅샷(reseed)에서 DB 상위 목록으로 다시 채움
+ * - 쓰기는 synchronized(이벤트/스냅샷), 읽기는 불변 top 목록을 volatile 로 교체 발행(잠금 없음)
+ * - reseed 는 조회 시작~반영 사이에 들어온 갱신을 보존(조회 결과보다 최신)
+ */
+final class RankedSet {
+
+    record Entry(long id, long score) { }
+
+    private static final Comparator<Entry> ORDER =
+            Comparator.comparingLong(Entry::score).reversed().thenComparing(Comparator.comparingLong(Entry::id).reversed());
+
+    private final int k;
+    private final int capacity;
+
+    private final Map<Long, Entry> byId = new HashMap<>();
+    private final TreeSet<Entry> ranked = new TreeSet<>(ORDER);
+    private Entry boundary;              // null 이면 전체를 알고 있음
+    private volatile boolean seeded;
+    private boolean stale;
+    private long version;                // 갱신마다 +1 (reseed 경합 판정)
+    private boolean reseeding;
+    private final Map<Long, Long> touchedAt = new HashMap<>(); // reseed 진행 중 갱신된 id → version
+    private final Map<Long, Entry> latest = new HashMap<>();   // reseed 진행 중 update 된 최신 값(경계 아래여도 기록)
+    private final Set<Long> tombstones = new HashSet<>();      // reseed 진행 중 remove 된 id
+
+    private volatile List<Long> top = List.of();
+
+    RankedSet(int k, int slack) {
+        this.k = Math.max(1, k);
+        this.capacity = this.k + Math.max(0, slack);
+    }
+
+    /** 확정 상위 id (불변, 잠금 없음) */
+    List<Long> top() {
+        return top;
+    }
+
+    boolean isSeeded() {
+        return seeded;
+    }
+
+    synchronized boolean isStale() {
+        return stale;
+    }
+
+    synchronized int size() {
+        return byId.size();
+    }
+
+    /** 항목 점수 반영(신규/변경) */
+    synchronized void update(long id, long score) {
+        touch(id);
+        Entry old = byId.remove(id);
+        if (old != null) ranked.remove(old);
+
+        Entry e = new Entry(id, score);
+        if (reseeding) {
+            latest.put(id, e);
+            tombstones.remove(id);
+        }
+        if (boundary == null || ORDER.compare(e, boundary) <= 0) {
+            byId.put(id, e);
+            ranked.add(e);
+            trim();
+        }
+        publish();
+    }
+
+    /** 항목 제외(삭제/비노출) */
+    synchronized void remove(long id) {
+        touch(id);
+        if (reseeding) {
+            latest.remove(id);
+            tombstones.add(id);
+        }
+        Entry old = byId.remove(id);
+        if (old == null) return;
+        ranked.remove(old);
+        publish();
+    }
+
+    /** reseed 시작 — 반환값을 finishReseed 에 넘김 */
+    synchronized long beginReseed() {
+        clearTouched();
+        reseeding = true;
+        return version;
+    }
+
+    /** reseed 조회 실패 — 현재 집합 유지 */
+    synchronized void cancelReseed() {
+        clearTouched();
+        reseeding = false;
+    }
+
+    /**
+     * DB 상위 목록으로 교체 (rows 는 점수 내림차순, 최대 capacity 건)
+     * - 조회 이후 갱신된 id 는 마지막 update 값 유지(옛 경계 아래라 보관하지 않았던 값 포함), remove 된 id 는 제외
+     */
+    synchronized void finishReseed(long token, List<Entry> rows) {
+        Map<Long, Entry> newer = new HashMap<>();
+        Set<Long> removedSince = new HashSet<>();
+        touchedAt.forEach((id, v) -> {
+            if (v <= token) return;
+            if (tombstones.contains(id)) removedSince.add(id);
+            else newer.put(id, latest.get(id));
+        });
+
+        byId.clear();
+        ranked.clear();
+        boundary = null;
+        List<Entry> limited = rows.size() > capacity ? rows.subList(0, capacity) : rows;
+        for (Entry e : limited) {
+            if (newer.containsKey(e.id()) || removedSince.contains(e.id())) continue;
+            byId.put(e.id(), e);
+            ranked.add(e);
+        }
+        // 가득 찼다면 그 아래 항목이 더 있을 수 있음 → 마지막 행이 경계
+        if (rows.size() >= capacity && !limited.isEmpty()) boundary = limited.get(limited.size() - 1);
+        for (Entry e : newer.values()) {
+            if (boundary == null || ORDER.compare(e, boundary) <= 0) {
+                byId.put(e.id(), e);
+                ranked.add(e);
+            }
+        }
+        trim();
+        clearTouched();
+        reseeding = false;
+        seeded = true;
+        publish();
+    }
+
+    private void touch(long id) {
+        version++;
+        if (reseeding) touchedAt.put(id, version);
+    }
+
+    private void clearTouched() {
+        touchedAt.clear();
+        latest.clear();
+        tombstones.clear();
+    }
+
+    private void trim() {
+        while (ranked.size() > capacity) {
+            Entry out = ranked.pollLast();
+            byId.remove(out.id());
+            if (boundary == null || ORDER.compare(out, boundary) < 0) boundary = out;
+        }
+    }
+
+    private void publish() {
+        List<Long> out = new ArrayList<>(k);
+        for (Entry e : ranked) {
+            if (out.size() == k) break;
+            if (boundary != null && ORDER.compare(e, boundary) > 0) break;
+            out.add(e.id());
+        }
+        stale = boundary != null && out.size() < k;
+        top = List.copyOf(out);
+    }
+}
@@ -0,0 +1,241 @@
+package org.team.mealkitshop.service.ranking;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.team.mealkitshop.common.ItemSellStatus;
+import org.team.mealkitshop.config.RankingProperties;
+import org.team.mealkitshop.domain.item.ItemListing;
+import org.team.mealkitshop.event.BoardReactionChangedEvent;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 홈/베스트 영역 순위표 — 순위표마다 메모리 상위 K(+여유분)를 유지하고 잠금 없이 제공
+ * - 상품(판매량/조회수/찜/신상품): 목록 읽기 모델 갱신(ItemChangedEvent → ItemListingService) 직후 바뀐 행만 반영
+ * - 후기 도움돼요/TIP 좋아요: BoardReactionChangedEvent 커밋 후 해당 글 1건만 다시 읽어 반영
+ * - 스냅샷: 기동 시와 주기(ranking.snapshot-interval)마다 DB 상위 목록으로 다시 맞춤
+ *   · 조회수(버퍼 flush)처럼 이벤트 없이 바뀌는 값, TIP 기간 만료, 후보 부족(stale)을 보정
+ * - 첫 스냅샷 전이거나 확정 순위가 요청 수보다 적으면 빈 Optional → 호출 측은 기존 조회로 대체
+ */
+@Service
+@Log4j2
+public class RankingService {
+
+    public enum Ranking {
+        BEST_SELLING,     // 판매량(배송 이후 상태 수량 합)
+        MOST_VIEWED,      // 조회수
+        MOST_LIKED,       // 찜 수
+        NEWEST,           // 등록일
+        HELPFUL_REVIEWS,  // 후기 게시판 도움돼요
+        LIKED_TIPS        // TIP 좋아요(최근 tipWindow 등록분)
+    }
+
+    private static final Set<Ranking> ITEM_RANKINGS =
+            EnumSet.of(Ranking.BEST_SELLING, Ranking.MOST_VIEWED, Ranking.MOST_LIKED, Ranking.NEWEST);
+
+    /** 사용자 목록에 보이는 상태만 순위 대상 */
+    private static final Set<ItemSellStatus> VISIBLE = EnumSet.of(ItemSellStatus.SELL, ItemSellStatus.SOLD_OUT);
+
+    private static final String ITEM_TOP_SQL = """
+            select item_id, %s from item_listing
+             where item_sell_status in ('SELL', 'SOLD_OUT')
+             order by %s desc, item_id desc
+             limit ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RankingProperties properties;
+    private final int capacity;
+    private final Map<Ranking, RankedSet> sets = new EnumMap<>(Ranking.class);
+
+    /* ===== 지표 ===== */
+    private final LongAdder itemUpdates = new LongAdder();
+    private final LongAdder boardUpdates = new LongAdder();
+    private final LongAdder snapshots = new LongAdder();
+    private final LongAdder served = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public RankingService(JdbcTemplate jdbcTemplate, RankingProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        int k = Math.max(1, properties.topK());
+        this.capacity = k + Math.max(0, properties.slack());
+        for (Ranking r : Ranking.values()) sets.put(r, new RankedSet(k, properties.slack()));
+    }
+
+    /* ===================== 조회 ===================== */
+
+    /**
+     * 확정 상위 id (잠금 없음)
+     * @return 첫 스냅샷 전이거나 확정 항목이 limit 보다 적은데 후보가 부족한 상태면 empty
+     */
+    public Optional<List<Long>> top(Ranking ranking, int limit) {
+        RankedSet set = sets.get(ranking);
+        List<Long> ids = set.top();
+        if (!set.isSeeded() || (ids.size() < limit && set.isStale())) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+        served.increment();
+        return Optional.of(ids.size() > limit ? ids.subList(0, Math.max(0, limit)) : ids);
+    }
+
+    /** id 로 읽어 온 행을 순위 순서로 정렬(사라진 행은 제외) */
+    public static <T> List<T> inRankOrder(List<Long> ids, Collection<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T row : rows) byId.put(idOf.apply(row), row);
+        List<T> out = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = byId.get(id);
+            if (row != null) out.add(row);
+        }
+        return out;
+    }
+
+    /* ===================== 상품 ===================== */
+
+    /**
+     * 목록 읽기 모델 행 갱신 직후 호출(ItemListingService#refresh)
+     * @param rows    다시 계산된 행
+     * @param removed 원본이 삭제되어 지운 상품 id
+     */
+    public void onItemsRefreshed(Collection<ItemListing> rows, Collection<Long> removed) {
+        for (ItemListing row : rows) {
+            long id = row.getItemId();
+            if (!VISIBLE.contains(row.getItemSellStatus())) {
+                ITEM_RANKINGS.forEach(r -> sets.get(r).remove(id));
+                continue;
+            }
+            sets.get(Ranking.BEST_SELLING).update(id, row.getSoldQuantity());
+            sets.get(Ranking.MOST_VIEWED).update(id, row.getItemViewCnt());
+            sets.get(Ranking.MOST_LIKED).update(id, row.getItemLike());
+            sets.get(Ranking.NEWEST).update(id, epochMillis(row.getRegTime()));
+            itemUpdates.increment();
+        }
+        for (Long id : removed) {
+            ITEM_RANKINGS.forEach(r -> sets.get(r).remove(id));
+            itemUpdates.increment();
+        }
+    }
+
+    /* ===================== 게시판 ===================== */
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardReactionChanged(BoardReactionChangedEvent e) {
+        try {
+            switch (e.board()) {
+                case REVIEW_BOARD -> {
+                    List<Long> counts = jdbcTemplate.queryForList(
+                            "select helpful_count from review_board where bno = ?", Long.class, e.bno());
+                    RankedSet set = sets.get(Ranking.HELPFUL_REVIEWS);
+                    if (counts.isEmpty()) set.remove(e.bno());
+                    else set.update(e.bno(), counts.get(0));
+                }
+                case TIP_BOARD -> {
+                    List<Long> counts = jdbcTemplate.queryForList(
+                            "select like_count from tip_board where bno = ? and reg_time >= ?",
+                            Long.class, e.bno(), Timestamp.valueOf(tipSince()));
+                    RankedSet set = sets.get(Ranking.LIKED_TIPS);
+                    if (counts.isEmpty()) set.remove(e.bno()); // 삭제됐거나 기간 밖
+                    else set.update(e.bno(), counts.get(0));
+                }
+            }
+            boardUpdates.increment();
+        } catch (RuntimeException ex) {
+            log.warn("[ranking] board update failed: {}", e, ex);
+        }
+    }
+
+    /* ===================== 스냅샷 ===================== */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        snapshot();
+    }
+
+    @Scheduled(fixedDelayString = "${ranking.snapshot-interval:5m}", initialDelayString = "${ranking.snapshot-interval:5m}")
+    public void scheduledSnapshot() {
+        snapshot();
+    }
+
+    /**
+     * 순위표마다 DB 상위 capacity 건으로 다시 맞춤(조회 중 들어온 이벤트 값은 유지)
+     * @return 성공한 순위표 수
+     */
+    public int snapshot() {
+        int done = 0;
+        for (Ranking r : Ranking.values()) {
+            RankedSet set = sets.get(r);
+            try {
+                long token = set.beginReseed();
+                set.finishReseed(token, load(r));
+                done++;
+            } catch (RuntimeException ex) {
+                set.cancelReseed();
+                log.warn("[ranking] snapshot failed: {}", r, ex);
+            }
+        }
+        snapshots.increment();
+        log.debug("[ranking] snapshot done: {}/{}", done, Ranking.values().length);
+        return done;
+    }
+
+    private List<RankedSet.Entry> load(Ranking r) {
+        return switch (r) {
+            case BEST_SELLING -> loadItems("sold_quantity");
+            case MOST_VIEWED -> loadItems("item_view_cnt");
+            case MOST_LIKED -> loadItems("item_like");
+            case NEWEST -> jdbcTemplate.query(ITEM_TOP_SQL.formatted("reg_time", "reg_time"),
+                    (rs, i) -> new RankedSet.Entry(rs.getLong(1), epochMillis(rs.getTimestamp(2))), capacity);
+            case HELPFUL_REVIEWS -> jdbcTemplate.query(
+                    "select bno, helpful_count from review_board order by helpful_count desc, bno desc limit ?",
+                    (rs, i) -> new RankedSet.Entry(rs.getLong(1), rs.getLong(2)), capacity);
+            case LIKED_TIPS -> jdbcTemplate.query(
+                    "select bno, like_count from tip_board where reg_time >= ? order by like_count desc, bno desc limit ?",
+                    (rs, i) -> new RankedSet.Entry(rs.getLong(1), rs.getLong(2)),
+                    Timestamp.valueOf(tipSince()), capacity);
+        };
+    }
+
+    private List<RankedSet.Entry> loadItems(String column) {
+        return jdbcTemplate.query(ITEM_TOP_SQL.formatted(column, column),
+                (rs, i) -> new RankedSet.Entry(rs.getLong(1), rs.getLong(2)), capacity);
+    }
+
+    private LocalDateTime tipSince() {
+        return LocalDateTime.now().minus(properties.tipWindow());
+    }
+
+    private static long epochMillis(LocalDateTime t) {
+        return t == null ? 0L : Timestamp.valueOf(t).getTime();
+    }
+
+    private static long epochMillis(Timestamp t) {
+        return t == null ? 0L : t.getTime();
+    }
+
+    /** 지표 스냅샷 */
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("itemUpdates", itemUpdates.sum());
+        out.put("boardUpdates", boardUpdates.sum());
+        out.put("snapshots", snapshots.sum());
+        out.put("served", served.sum());
+        out.put("fallbacks", fallbacks.sum());
+        Map<String, Object> sizes = new LinkedHashMap<>();
+        sets.forEach((r, s) -> sizes.put(r.name(), Map.of(
+                "tracked", s.size(), "exact", s.top().size(), "stale", s.isStale(), "seeded", s.isSeeded())));
+        out.put("rankings", sizes);
+        return out;
+    }
+}
@@ -0,0 +1,84 @@
+package org.team.mealkitshop.service.search;
+
+/**
+ * 한글 자모 분해 — 상태 없는 유틸
+ * - 완성형 음절/호환 자모/조합형 자모를 호환 자모 나열로 통일 ("닭" → "ㄷㅏㄹㄱ")
+ * - 겹받침·이중모음도 낱자로 분해 → 입력 중인 음절("달", "닭ㄱ", "갓")이 완성된 단어의 접두가 됨
+ * - 초성만 뽑기 ("닭가슴살" → "ㄷㄱㅅㅅ")
+ * - 한글이 아닌 문자는 그대로 둠
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_FIRST = 0xAC00, SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21, JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    /** 겹자모 → 낱자 (호환 자모 기준) */
+    private static final String COMPOUND = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"};
+
+    private HangulJamo() { }
+
+    /** 낱자 나열로 분해 */
+    public static String decompose(String text) {
+        if (text == null || text.isEmpty()) return "";
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                int idx = c - SYLLABLE_FIRST;
+                sb.append(CHO.charAt(idx / (JUNG_COUNT * JONG_COUNT)));
+                appendJamo(sb, JUNG.charAt(idx % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT));
+                int jong = idx % JONG_COUNT;
+                if (jong > 0) appendJamo(sb, JONG.charAt(jong));
+            } else {
+                appendJamo(sb, toCompat(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 초성만 (음절이 아닌 문자는 그대로) */
+    public static String initials(String text) {
+        if (text == null || text.isEmpty()) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                sb.append(CHO.charAt((c - SYLLABLE_FIRST) / (JUNG_COUNT * JONG_COUNT)));
+            } else {
+                sb.append(toCompat(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 자음(호환 자모)만으로 이루어졌는지 — 초성 검색 판정 */
+    public static boolean isConsonantsOnly(String jamo) {
+        if (jamo.isEmpty()) return false;
+        for (int i = 0; i < jamo.length(); i++) {
+            char c = jamo.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') return false;
+        }
+        return true;
+    }
+
+    private static void appendJamo(StringBuilder sb, char c) {
+        int k = COMPOUND.indexOf(c);
+        if (k >= 0) sb.append(COMPOUND_PARTS[k]);
+        else sb.append(c);
+    }
+
+    /** 조합형 자모(NFKC 정규화 결과)를 호환 자모로 */
+    private static char toCompat(char c) {
+        if (c >= 0x1100 && c < 0x1100 + CHO.length()) return CHO.charAt(c - 0x1100);
+        if (c >= 0x1161 && c < 0x1161 + JUNG_COUNT) return JUNG.charAt(c - 0x1161);
+        if (c >= 0x11A8 && c < 0x11A8 + JONG_COUNT - 1) return JONG.charAt(c - 0x11A8 + 1);
+        return c;
+    }
+}
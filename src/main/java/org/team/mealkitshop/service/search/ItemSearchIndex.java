@@ -0,0 +1,356 @@
+package org.team.mealkitshop.service.search;
+
+import lombok.extern.log4j.Log4j2;
+import org.jsoup.Jsoup;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.team.mealkitshop.common.Category;
+import org.team.mealkitshop.common.FoodItem;
+import org.team.mealkitshop.event.ItemChangedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * 상품 검색용 내장 역색인 (LIKE '%q%' 전체 스캔 대체)
+ * - 필드: 상품명 / 품목(FoodItem) / 카테고리 / 상세 설명(HTML 태그 제거 텍스트), 필드별 가중치
+ * - 토큰: KoreanNgram 1·2-gram, 질의 gram 은 모두 포함해야 일치(AND)
+ * - 점수: Σ idf(gram) × Σ 필드 가중치 × (1 + ln tf), 상품명에 질의가 그대로 들어 있으면 2배
+ * - 유지: 기동 시 전체 적재(키셋 청크) + 상품 변경 커밋 후 해당 행만 재색인
+ *   (이름/분류/상세 CRC32 지문이 같으면 건너뜀 — 주문/리뷰로 인한 변경 이벤트는 상세 본문을 읽지 않음)
+ * - 판매 상태는 보지 않음(목록 조회 쪽 조건으로 거름)
+ */
+@Service
+@Log4j2
+public class ItemSearchIndex {
+
+    /** 색인 필드와 가중치 */
+    public enum Field {
+        NAME(5), FOOD_ITEM(3), CATEGORY(2), DETAIL(1);
+
+        final int weight;
+
+        Field(int weight) { this.weight = weight; }
+    }
+
+    public static final Set<Field> ALL_FIELDS = Collections.unmodifiableSet(EnumSet.allOf(Field.class));
+
+    /** 한 번에 돌려주는 최대 결과 수(순위 상위) */
+    public static final int MAX_HITS = 1000;
+
+    private static final int LOAD_CHUNK = 500;
+    private static final Field[] FIELDS = Field.values();
+
+    private static final String COLUMNS = "select item_id, item_nm, category, food_item, %s from item ";
+
+    /** 원본 행(상세는 본문 또는 CRC 만) */
+    record Source(long id, String name, String category, String foodItem, String detail, long detailCrc) { }
+
+    /** 문서 — 재색인 시 gram 제거용 목록과 지문 */
+    private record Doc(String compactName, long fingerprint, Set<String> grams) { }
+
+    /** 색인 상태 — 재빌드는 새 상태를 만든 뒤 교체 */
+    private static final class State {
+        final Map<String, Map<Long, int[]>> postings = new HashMap<>();
+        final Map<Long, Doc> docs = new HashMap<>();
+    }
+
+    private static final RowMapper<Source> FULL_ROW = (rs, n) -> {
+        String detail = rs.getString(5);
+        return new Source(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), detail, crc32(detail));
+    };
+
+    private static final RowMapper<Source> CRC_ROW = (rs, n) ->
+            new Source(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), null, rs.getLong(5));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    private volatile boolean ready;
+    /** 재빌드 중 들어온 변경 — 교체 후 다시 반영 */
+    private Set<Long> changedDuringRebuild;
+
+    /* ===== 지표 ===== */
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder searchNanos = new LongAdder();
+    private final LongAdder reindexed = new LongAdder();
+    private final LongAdder skippedUnchanged = new LongAdder();
+    private volatile long lastRebuildMillis;
+
+    public ItemSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** 초기 적재 전이면 false — 호출부는 기존 LIKE 조회로 대체 */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /* ===================== 검색 ===================== */
+
+    /**
+     * 순위순 상품 id (최대 limit 건)
+     * @param fields 이 필드들에서만 일치/점수 계산
+     */
+    public List<Long> search(String query, Set<Field> fields, int limit) {
+        long started = System.nanoTime();
+        List<String> grams = KoreanNgram.queryGrams(query);
+        if (grams.isEmpty() || fields.isEmpty()) return List.of();
+        String compactQuery = KoreanNgram.compact(query);
+
+        lock.readLock().lock();
+        try {
+            State s = state;
+            List<Map<Long, int[]>> lists = new ArrayList<>(grams.size());
+            for (String g : grams) {
+                Map<Long, int[]> p = s.postings.get(g);
+                if (p == null) return List.of();
+                lists.add(p);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+            double n = s.docs.size();
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < idf.length; i++) idf[i] = Math.log(1 + n / lists.get(i).size());
+
+            List<Map.Entry<Long, Double>> hits = new ArrayList<>();
+            candidates:
+            for (Long id : lists.get(0).keySet()) {
+                double score = 0;
+                for (int i = 0; i < lists.size(); i++) {
+                    int[] tf = lists.get(i).get(id);
+                    double w = tf == null ? 0 : fieldScore(tf, fields);
+                    if (w == 0) continue candidates;
+                    score += idf[i] * w;
+                }
+                if (fields.contains(Field.NAME) && s.docs.get(id).compactName().contains(compactQuery)) score *= 2;
+                hits.add(Map.entry(id, score));
+            }
+            hits.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()));
+            List<Long> out = new ArrayList<>(Math.min(limit, hits.size()));
+            for (int i = 0; i < hits.size() && i < limit; i++) out.add(hits.get(i).getKey());
+            return out;
+        } finally {
+            lock.readLock().unlock();
+            searches.increment();
+            searchNanos.add(System.nanoTime() - started);
+        }
+    }
+
+    private static double fieldScore(int[] tf, Set<Field> fields) {
+        double w = 0;
+        for (Field f : FIELDS) {
+            int c = tf[f.ordinal()];
+            if (c > 0 && fields.contains(f)) w += f.weight * (1 + Math.log(c));
+        }
+        return w;
+    }
+
+    /* ===================== 유지 ===================== */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("[item-search] initial build failed — LIKE fallback until next rebuild", e);
+        }
+    }
+
+    /** 전체 재빌드 — 키셋 청크로 읽어 새 상태를 만든 뒤 교체 */
+    public synchronized int rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        State next = new State();
+        long lastId = 0;
+        String sql = COLUMNS.formatted("item_detail") + "where item_id > ? order by item_id limit ?";
+        try {
+            while (true) {
+                List<Source> rows = jdbcTemplate.query(sql, FULL_ROW, lastId, LOAD_CHUNK);
+                for (Source row : rows) put(next, row);
+                if (rows.size() < LOAD_CHUNK) break;
+                lastId = rows.get(rows.size() - 1).id();
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null; // 기존 상태 유지
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        Set<Long> replay;
+        lock.writeLock().lock();
+        try {
+            state = next;
+            replay = changedDuringRebuild;
+            changedDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!replay.isEmpty()) reindex(replay);
+        lastRebuildMillis = System.currentTimeMillis() - started;
+        log.info("[item-search] indexed {} items ({} grams) in {} ms",
+                next.docs.size(), next.postings.size(), lastRebuildMillis);
+        return next.docs.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.isEmpty()) return;
+        try {
+            reindex(event.itemIds());
+        } catch (RuntimeException e) {
+            log.warn("[item-search] reindex failed: itemIds={}", event.itemIds(), e);
+        }
+    }
+
+    /** 지정 상품 재색인 — 지문이 바뀐 행만 상세 본문을 읽음, 원본이 없으면 제거 */
+    public void reindex(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) return;
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) changedDuringRebuild.addAll(itemIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(itemIds));
+        List<Source> light = jdbcTemplate.query(
+                COLUMNS.formatted("crc32(coalesce(item_detail, ''))") + "where item_id in (" + marks(ids.size()) + ")",
+                CRC_ROW, ids.toArray());
+
+        Set<Long> missing = new HashSet<>(ids);
+        List<Long> changed = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Source row : light) {
+                missing.remove(row.id());
+                Doc doc = state.docs.get(row.id());
+                if (doc != null && doc.fingerprint() == fingerprint(row)) {
+                    skippedUnchanged.increment();
+                } else {
+                    changed.add(row.id());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Source> full = changed.isEmpty() ? List.of() : jdbcTemplate.query(
+                COLUMNS.formatted("item_detail") + "where item_id in (" + marks(changed.size()) + ")",
+                FULL_ROW, changed.toArray());
+        lock.writeLock().lock();
+        try {
+            for (Long id : missing) remove(state, id);
+            for (Source row : full) {
+                remove(state, row.id());
+                put(state, row);
+                reindexed.increment();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 지표 스냅샷 */
+    public Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            out.put("ready", ready);
+            out.put("documents", state.docs.size());
+            out.put("grams", state.postings.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        long n = searches.sum();
+        out.put("searches", n);
+        out.put("avgSearchMicros", n == 0 ? 0 : searchNanos.sum() / n / 1000);
+        out.put("reindexed", reindexed.sum());
+        out.put("skippedUnchanged", skippedUnchanged.sum());
+        out.put("lastRebuildMillis", lastRebuildMillis);
+        return out;
+    }
+
+    /* ===================== 내부 ===================== */
+
+    private static void put(State s, Source row) {
+        Map<String, int[]> tf = new HashMap<>();
+        addField(tf, Field.NAME, row.name());
+        addField(tf, Field.CATEGORY, categoryText(row.category()));
+        addField(tf, Field.FOOD_ITEM, foodItemText(row.foodItem()));
+        if (row.detail() != null && !row.detail().isBlank()) {
+            addField(tf, Field.DETAIL, Jsoup.parse(row.detail()).text());
+        }
+        for (Map.Entry<String, int[]> e : tf.entrySet()) {
+            s.postings.computeIfAbsent(e.getKey(), k -> new HashMap<>()).put(row.id(), e.getValue());
+        }
+        s.docs.put(row.id(), new Doc(KoreanNgram.compact(row.name()), fingerprint(row), Set.copyOf(tf.keySet())));
+    }
+
+    private static void remove(State s, long id) {
+        Doc doc = s.docs.remove(id);
+        if (doc == null) return;
+        for (String g : doc.grams()) {
+            Map<Long, int[]> p = s.postings.get(g);
+            if (p == null) continue;
+            p.remove(id);
+            if (p.isEmpty()) s.postings.remove(g);
+        }
+    }
+
+    private static void addField(Map<String, int[]> tf, Field field, String text) {
+        if (text == null || text.isEmpty()) return;
+        KoreanNgram.indexGrams(text, g -> tf.computeIfAbsent(g, k -> new int[FIELDS.length])[field.ordinal()]++);
+    }
+
+    /** 카테고리: 코드 + 한글 이름 ("FROZEN 냉동") */
+    private static String categoryText(String code) {
+        if (code == null) return null;
+        try {
+            return code + " " + Category.valueOf(code).getLabel();
+        } catch (IllegalArgumentException e) {
+            return code;
+        }
+    }
+
+    /** 품목: 한글 이름만 ("CHICKEN_BREAST" 의 영문 조각은 검색어로 쓰이지 않음) */
+    private static String foodItemText(String code) {
+        if (code == null) return null;
+        try {
+            return FoodItem.valueOf(code).getLabel();
+        } catch (IllegalArgumentException e) {
+            return code;
+        }
+    }
+
+    private static long fingerprint(Source row) {
+        return 31L * Objects.hash(row.name(), row.category(), row.foodItem()) + row.detailCrc();
+    }
+
+    /** MariaDB CRC32(utf8mb4 컬럼) 와 같은 값 */
+    static long crc32(String text) {
+        CRC32 crc = new CRC32();
+        if (text != null) crc.update(text.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private static String marks(int n) {
+        return String.join(",", Collections.nCopies(n, "?"));
+    }
+}
@@ -0,0 +1,284 @@
+package org.team.mealkitshop.service.search;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.team.mealkitshop.common.ItemSellStatus;
+import org.team.mealkitshop.config.ItemSuggestProperties;
+import org.team.mealkitshop.event.ItemChangedEvent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검색창 자동완성 — 키 입력마다 DB 를 보지 않음
+ * - 후보: 목록에 보이는 상품명(판매/품절) + 인기 검색어(실제 결과가 있었던 키워드)
+ * - 키: 자모 분해("닭" → "ㄷㅏㄹㄱ") + 초성, 상품명의 각 단어 시작 위치부터의 접미도 키로 넣음("샐러" → "닭가슴살 샐러드")
+ * - 오타: 정확 접두 일치로 다 못 채우면 자모 편집 거리 1~2 이내 접두 일치로 보충
+ * - 점수: 상품은 조회수, 검색어는 검색 횟수 기준(로그), 품절은 절반
+ * - 유지: 기동 시 적재, 상품 변경 커밋 후 이름/상태가 바뀐 경우만 트라이 재구성,
+ *   주기마다 조회수·인기 검색어 반영(검색 횟수 반감 — 최근 검색어 우선)
+ */
+@Service
+@Log4j2
+public class ItemSuggestService {
+
+    /** 제안 한 건 — type: ITEM(상품명, itemId 있음) | QUERY(인기 검색어) */
+    public record Suggestion(String text, String type, Long itemId) { }
+
+    /** 상품 원본(자동완성 재료) */
+    record ItemRow(long id, String name, long viewCnt, String sellStatus) { }
+
+    private record Snapshot(SuggestTrie trie, List<Suggestion> entries) { }
+
+    private record Candidate(Suggestion suggestion, double score) { }
+
+    private static final int LOAD_CHUNK = 1000;
+    private static final int MAX_WORD_STARTS = 4;
+    private static final int FUZZY_VISIT_LIMIT = 50_000;
+    private static final int MIN_QUERY_LENGTH = 2, MAX_QUERY_LENGTH = 30;
+    private static final Set<String> LISTED = Set.of(ItemSellStatus.SELL.name(), ItemSellStatus.SOLD_OUT.name());
+
+    private static final String COLUMNS = "select item_id, item_nm, item_view_cnt, item_sell_status from item ";
+
+    private static final RowMapper<ItemRow> ROW = (rs, n) ->
+            new ItemRow(rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getString(4));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemSuggestProperties props;
+
+    private volatile Snapshot snapshot = new Snapshot(new SuggestTrie.Builder().build(1), List.of());
+    private volatile boolean ready;
+    /** 상품 원본 — synchronized 메서드에서만 갱신 */
+    private Map<Long, ItemRow> items = new HashMap<>();
+    /** 인기 검색어(마지막 주기 기준) */
+    private List<Map.Entry<String, Long>> popular = List.of();
+    /** 검색어 → 횟수(주기마다 반감) */
+    private final ConcurrentHashMap<String, Long> queryCounts = new ConcurrentHashMap<>();
+
+    /* ===== 지표 ===== */
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder fuzzyRequests = new LongAdder();
+    private final LongAdder droppedQueries = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    /** 응답 시간 히스토그램 — i 번째 칸: 2^(i-1) ≤ µs < 2^i */
+    private final LongAdder[] latency = new LongAdder[24];
+
+    public ItemSuggestService(JdbcTemplate jdbcTemplate, ItemSuggestProperties props) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.props = props;
+        for (int i = 0; i < latency.length; i++) latency[i] = new LongAdder();
+    }
+
+    /* ===================== 조회 ===================== */
+
+    /** 입력 중인 검색어에 대한 제안(최대 limit 건, maxResults 로 제한) */
+    public List<Suggestion> suggest(String input, int limit) {
+        long started = System.nanoTime();
+        try {
+            String key = HangulJamo.decompose(KoreanNgram.compact(capped(input)));
+            if (key.isEmpty()) return List.of();
+            int n = Math.max(1, Math.min(limit, props.maxResults()));
+            int edits = maxEdits(key);
+            if (edits > 0) fuzzyRequests.increment();
+
+            Snapshot s = snapshot;
+            int[] hits = s.trie().lookup(key, edits, n, FUZZY_VISIT_LIMIT);
+            List<Suggestion> out = new ArrayList<>(hits.length);
+            for (int e : hits) out.add(s.entries().get(e));
+            return out;
+        } finally {
+            requests.increment();
+            long micros = (System.nanoTime() - started) / 1000;
+            latency[Math.min(latency.length - 1, 64 - Long.numberOfLeadingZeros(micros))].increment();
+        }
+    }
+
+    /** 입력 길이 상한(MAX_QUERY_LENGTH) — 분해/정규화 비용을 요청 크기와 무관하게 묶음 */
+    static String capped(String input) {
+        if (input == null || input.length() <= MAX_QUERY_LENGTH) return input;
+        int end = Character.isHighSurrogate(input.charAt(MAX_QUERY_LENGTH - 1)) ? MAX_QUERY_LENGTH - 1 : MAX_QUERY_LENGTH;
+        return input.substring(0, end);
+    }
+
+    /** 짧은 입력은 정확 접두만, 길수록 오타 허용 폭을 늘림(초성 입력은 항상 정확 일치) */
+    static int maxEdits(String jamoKey) {
+        if (HangulJamo.isConsonantsOnly(jamoKey)) return 0;
+        if (jamoKey.length() < 4) return 0;
+        return jamoKey.length() < 9 ? 1 : 2;
+    }
+
+    /** 결과가 있었던 사용자 검색어 기록 — 다음 주기부터 자동완성 후보 */
+    public void recordQuery(String keyword) {
+        if (keyword == null) return;
+        String q = String.join(" ", KoreanNgram.normalize(keyword).trim().split("\\s+"));
+        if (q.length() < MIN_QUERY_LENGTH || q.length() > MAX_QUERY_LENGTH) return;
+        if (!queryCounts.containsKey(q) && queryCounts.size() >= props.maxTrackedQueries()) {
+            droppedQueries.increment();
+            return;
+        }
+        queryCounts.merge(q, 1L, Long::sum);
+    }
+
+    /* ===================== 유지 ===================== */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("[item-suggest] initial build failed — suggestions empty until next refresh", e);
+        }
+    }
+
+    /** 주기 갱신: 조회수 재적재 + 인기 검색어 반영 후 검색 횟수 반감 */
+    @Scheduled(fixedDelayString = "${items.suggest.refresh-interval:5m}",
+            initialDelayString = "${items.suggest.refresh-interval:5m}")
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("[item-suggest] refresh failed", e);
+        } finally {
+            queryCounts.replaceAll((q, c) -> c / 2);
+            queryCounts.values().removeIf(c -> c == 0);
+        }
+    }
+
+    /** 전체 재구성 — 상품 원본(가벼운 컬럼만) 키셋 적재 + 인기 검색어 선정 */
+    public synchronized int rebuild() {
+        Map<Long, ItemRow> next = new HashMap<>();
+        long lastId = 0;
+        String sql = COLUMNS + "where item_id > ? order by item_id limit ?";
+        while (true) {
+            List<ItemRow> rows = jdbcTemplate.query(sql, ROW, lastId, LOAD_CHUNK);
+            for (ItemRow row : rows) next.put(row.id(), row);
+            if (rows.size() < LOAD_CHUNK) break;
+            lastId = rows.get(rows.size() - 1).id();
+        }
+        items = next;
+        popular = queryCounts.entrySet().stream()
+                .filter(e -> e.getValue() >= props.minQueryCount())
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.<String, Long>comparingByKey()))
+                .limit(props.popularQueries())
+                .map(e -> Map.entry(e.getKey(), e.getValue()))
+                .toList();
+        return rebuildTrie();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.isEmpty() || !ready) return;
+        try {
+            apply(event.itemIds());
+        } catch (RuntimeException e) {
+            log.warn("[item-suggest] update failed: itemIds={}", event.itemIds(), e);
+        }
+    }
+
+    /** 지정 상품만 다시 읽어 이름/판매 상태가 바뀌었거나 삭제됐을 때만 트라이 재구성(조회수만 바뀐 건 주기 갱신에서) */
+    synchronized void apply(Collection<Long> itemIds) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(itemIds));
+        List<ItemRow> rows = jdbcTemplate.query(
+                COLUMNS + "where item_id in (" + String.join(",", Collections.nCopies(ids.size(), "?")) + ")",
+                ROW, ids.toArray());
+
+        Map<Long, ItemRow> next = new HashMap<>(items);
+        boolean changed = false;
+        Set<Long> missing = new HashSet<>(ids);
+        for (ItemRow row : rows) {
+            missing.remove(row.id());
+            ItemRow old = next.put(row.id(), row);
+            if (old == null || !Objects.equals(old.name(), row.name())
+                    || !Objects.equals(old.sellStatus(), row.sellStatus())) {
+                changed = true;
+            }
+        }
+        for (Long id : missing) changed |= next.remove(id) != null;
+        items = next;
+        if (changed) rebuildTrie();
+    }
+
+    private int rebuildTrie() {
+        List<Candidate> candidates = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (ItemRow row : items.values()) {
+            if (row.name() == null || !LISTED.contains(row.sellStatus())) continue;
+            double score = Math.log(2 + row.viewCnt());
+            if (ItemSellStatus.SOLD_OUT.name().equals(row.sellStatus())) score /= 2;
+            candidates.add(new Candidate(new Suggestion(row.name(), "ITEM", row.id()), score));
+            names.add(KoreanNgram.compact(row.name()));
+        }
+        for (Map.Entry<String, Long> q : popular) {
+            if (names.contains(KoreanNgram.compact(q.getKey()))) continue; // 상품명과 같으면 상품으로만
+            candidates.add(new Candidate(new Suggestion(q.getKey(), "QUERY", null), Math.log(2 + q.getValue())));
+        }
+        candidates.sort(Comparator.comparingDouble(Candidate::score).reversed()
+                .thenComparing(c -> c.suggestion().text()));
+
+        SuggestTrie.Builder builder = new SuggestTrie.Builder();
+        List<Suggestion> entries = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Suggestion s = candidates.get(i).suggestion();
+            entries.add(s);
+            for (String key : keys(s.text())) builder.add(key, i);
+        }
+        SuggestTrie trie = builder.build(props.maxResults());
+        snapshot = new Snapshot(trie, List.copyOf(entries));
+        ready = true;
+        rebuilds.increment();
+        log.debug("[item-suggest] rebuilt: entries={}, nodes={}", entries.size(), trie.nodeCount());
+        return entries.size();
+    }
+
+    /** 색인 키: 각 단어 시작 위치부터의 접미(공백 제거)를 자모 분해 + 초성 */
+    static Set<String> keys(String text) {
+        List<String> words = KoreanNgram.words(text);
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < words.size() && i < MAX_WORD_STARTS; i++) {
+            String rest = String.join("", words.subList(i, words.size()));
+            keys.add(HangulJamo.decompose(rest));
+            String initials = HangulJamo.initials(rest);
+            if (!initials.equals(rest)) keys.add(initials);
+        }
+        return keys;
+    }
+
+    /** 지표 스냅샷 — p99 는 히스토그램 칸 상한(µs) */
+    public Map<String, Object> metrics() {
+        Snapshot s = snapshot;
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("ready", ready);
+        out.put("entries", s.entries().size());
+        out.put("nodes", s.trie().nodeCount());
+        out.put("trackedQueries", queryCounts.size());
+        out.put("popularQueries", popular.size());
+        out.put("requests", requests.sum());
+        out.put("fuzzyRequests", fuzzyRequests.sum());
+        out.put("droppedQueries", droppedQueries.sum());
+        out.put("rebuilds", rebuilds.sum());
+        out.put("p50MicrosUpperBound", percentileMicros(0.50));
+        out.put("p99MicrosUpperBound", percentileMicros(0.99));
+        return out;
+    }
+
+    private long percentileMicros(double p) {
+        long total = 0;
+        long[] counts = new long[latency.length];
+        for (int i = 0; i < latency.length; i++) total += counts[i] = latency[i].sum();
+        if (total == 0) return 0;
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= Math.ceil(total * p)) return 1L << i;
+        }
+        return 1L << (counts.length - 1);
+    }
+}
@@ -0,0 +1,84 @@
+package org.team.mealkitshop.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 한글 n-gram 토크나이저 — 상태 없는 유틸
+ * - 정규화: NFKC(전각/호환 문자 통일) + 소문자
+ * - 단어: 같은 문자 종류(한글/숫자/그 외 문자)가 이어진 구간 — "500g닭가슴살" → "500", "g", "닭가슴살"
+ * - 색인: 단어마다 1-gram + 2-gram (띄어쓰기 없는 합성어/조사 붙은 말도 부분 일치)
+ * - 질의: 단어 길이 1이면 1-gram, 아니면 2-gram 전부(AND) — LIKE '%q%' 의 상위 집합
+ */
+public final class KoreanNgram {
+
+    private static final int NONE = 0, HANGUL = 1, DIGIT = 2, LETTER = 3;
+
+    private KoreanNgram() { }
+
+    public static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /** 정규화 후 단어 목록 */
+    public static List<String> words(String text) {
+        String s = normalize(text);
+        List<String> out = new ArrayList<>();
+        int start = -1, kind = NONE;
+        for (int i = 0; i < s.length(); ) {
+            int cp = s.codePointAt(i);
+            int k = kind(cp);
+            if (k != kind) {
+                if (kind != NONE) out.add(s.substring(start, i));
+                start = i;
+                kind = k;
+            }
+            i += Character.charCount(cp);
+        }
+        if (kind != NONE) out.add(s.substring(start));
+        return out;
+    }
+
+    /** 색인용 gram(중복 포함 — 빈도 계산용) */
+    public static void indexGrams(String text, Consumer<String> sink) {
+        for (String word : words(text)) {
+            int[] cps = word.codePoints().toArray();
+            for (int i = 0; i < cps.length; i++) {
+                sink.accept(new String(cps, i, 1));
+                if (i + 1 < cps.length) sink.accept(new String(cps, i, 2));
+            }
+        }
+    }
+
+    /** 질의용 gram(중복 제거, 등장 순서 유지) */
+    public static List<String> queryGrams(String query) {
+        Set<String> out = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            int[] cps = word.codePoints().toArray();
+            if (cps.length == 1) {
+                out.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < cps.length; i++) out.add(new String(cps, i, 2));
+        }
+        return new ArrayList<>(out);
+    }
+
+    /** 공백/기호를 뺀 정규화 문자열(정확 일치 가산점 판정용) */
+    public static String compact(String text) {
+        return String.join("", words(text));
+    }
+
+    private static int kind(int cp) {
+        if (Character.isDigit(cp)) return DIGIT;
+        if (Character.UnicodeScript.of(cp) == Character.UnicodeScript.HANGUL) return HANGUL;
+        if (Character.isLetter(cp)) return LETTER;
+        return NONE;
+    }
+}
@@ -0,0 +1,125 @@
+package org.team.mealkitshop.service.search;
+
+import java.util.*;
+
+/**
+ * 자동완성용 접두 트라이 — 불변, 재구성 시 통째로 교체
+ * - 항목 번호는 점수 내림차순으로 매겨 넣음 → 번호가 작을수록 상위
+ * - 노드마다 하위 항목 상위 K개 번호를 미리 계산 → 정확 접두 일치는 키 길이만큼 내려가면 끝
+ * - 오타 허용: 레벤슈타인 DP 행을 들고 트라이를 훑어 편집 거리 이내로 접두가 맞는 노드를 수집
+ */
+final class SuggestTrie {
+
+    private static final Node[] NO_KIDS = new Node[0];
+
+    private record Node(char[] labels, Node[] kids, int[] top) {
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i < 0 ? null : kids[i];
+        }
+    }
+
+    private final Node root;
+    private final int nodeCount;
+
+    private SuggestTrie(Node root, int nodeCount) {
+        this.root = root;
+        this.nodeCount = nodeCount;
+    }
+
+    int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * 항목 번호 목록(편집 거리 → 번호 순)
+     * @param maxEdits   0 이면 정확 접두 일치만, 정확 일치로 limit 을 채우면 오타 탐색 생략
+     * @param visitLimit 오타 탐색 시 방문 노드 상한(최악 지연 제한)
+     */
+    int[] lookup(String key, int maxEdits, int limit, int visitLimit) {
+        Map<Integer, Integer> best = new HashMap<>();
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) node = node.child(key.charAt(i));
+        if (node != null) for (int e : node.top()) best.put(e, 0);
+
+        if (maxEdits > 0 && best.size() < limit) {
+            int[] row = new int[key.length() + 1];
+            for (int j = 0; j < row.length; j++) row[j] = j;
+            fuzzy(root, key, row, maxEdits, best, new int[]{visitLimit});
+        }
+        return best.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Integer>comparingByValue().thenComparing(Map.Entry.<Integer, Integer>comparingByKey()))
+                .limit(limit)
+                .mapToInt(Map.Entry::getKey)
+                .toArray();
+    }
+
+    private static void fuzzy(Node node, String q, int[] row, int maxEdits,
+                              Map<Integer, Integer> best, int[] budget) {
+        int n = q.length();
+        for (int c = 0; c < node.labels().length; c++) {
+            if (--budget[0] < 0) return;
+            char ch = node.labels()[c];
+            int[] next = new int[n + 1];
+            next[0] = row[0] + 1;
+            int min = next[0];
+            for (int j = 1; j <= n; j++) {
+                int replace = row[j - 1] + (q.charAt(j - 1) == ch ? 0 : 1);
+                next[j] = Math.min(replace, Math.min(next[j - 1], row[j]) + 1);
+                min = Math.min(min, next[j]);
+            }
+            Node kid = node.kids()[c];
+            if (next[n] <= maxEdits) {
+                for (int e : kid.top()) best.merge(e, next[n], Math::min);
+            }
+            // 행 최솟값은 깊이 따라 줄지 않음 — 더 가까운 일치가 나올 여지가 있을 때만 내려감
+            if (min <= maxEdits && min < next[n]) fuzzy(kid, q, next, maxEdits, best, budget);
+        }
+    }
+
+    /** 빌더 — add 로 (키, 항목 번호) 를 넣고 build 로 고정 */
+    static final class Builder {
+
+        private static final class MutableNode {
+            final TreeMap<Character, MutableNode> kids = new TreeMap<>();
+            final List<Integer> entries = new ArrayList<>(1);
+        }
+
+        private final MutableNode root = new MutableNode();
+
+        Builder add(String key, int entry) {
+            if (key == null || key.isEmpty()) return this;
+            MutableNode n = root;
+            for (int i = 0; i < key.length(); i++) n = n.kids.computeIfAbsent(key.charAt(i), c -> new MutableNode());
+            n.entries.add(entry);
+            return this;
+        }
+
+        SuggestTrie build(int topK) {
+            int[] count = {0};
+            return new SuggestTrie(freeze(root, Math.max(1, topK), count), count[0]);
+        }
+
+        private static Node freeze(MutableNode m, int k, int[] count) {
+            count[0]++;
+            char[] labels = new char[m.kids.size()];
+            Node[] kids = m.kids.isEmpty() ? NO_KIDS : new Node[m.kids.size()];
+            int i = 0;
+            for (Map.Entry<Character, MutableNode> e : m.kids.entrySet()) {
+                labels[i] = e.getKey();
+                kids[i++] = freeze(e.getValue(), k, count);
+            }
+            // 한 갈래로 이어지는 구간은 자식 배열을 그대로 공유
+            if (m.entries.isEmpty() && kids.length == 1) return new Node(labels, kids, kids[0].top());
+
+            TreeSet<Integer> top = new TreeSet<>(m.entries);
+            for (Node kid : kids) {
+                for (int e : kid.top()) top.add(e);
+                while (top.size() > k) top.pollLast();
+            }
+            while (top.size() > k) top.pollLast();
+            return new Node(labels, kids, top.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+}
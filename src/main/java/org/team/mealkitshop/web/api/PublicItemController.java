@@ -4,6 +4,9 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -11,8 +14,11 @@ import java.time.LocalDateTime;
 import java.util.*;
 
 // ⛳️ ⬇⬇⬇ 여기를 당신 프로젝트의 실제 패키지로 변경 ⬇⬇⬇
+import org.team.mealkitshop.component.CountCache;
 import org.team.mealkitshop.domain.item.Item;
 import org.team.mealkitshop.domain.item.ItemImage;
+import org.team.mealkitshop.service.search.ItemSearchIndex;
+import org.team.mealkitshop.service.search.ItemSuggestService;
 // ⛳️ ⬆⬆⬆ Item / ItemImage 의 실제 패키지로 교체 ⬆⬆⬆
 
 @RestController
@@ -22,6 +28,15 @@ public class PublicItemController {
     @PersistenceContext
     private EntityManager em;
 
+    @Autowired
+    private ItemSearchIndex itemSearchIndex; // 키워드 검색 역색인
+
+    @Autowired
+    private ItemSuggestService itemSuggestService; // 결과 있는 검색어 → 자동완성 후보
+
+    @Autowired
+    private CountCache countCache; // 총건수 캐시/생략 (paging.count.modes.item-public)
+
     // ============ 목록 ============
     @GetMapping
     @Transactional
@@ -38,24 +53,54 @@ public class PublicItemController {
         Set<String> allow = Set.of("regTime", "price", "itemNm", "id");
         if (!allow.contains(sortKey)) sortKey = "regTime";
 
-        // where절
-        String where = " where 1=1";
-        if (keyword != null && !keyword.isBlank()) where += " and lower(i.itemNm) like :kw";
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        // 키워드: 색인 결과(순위순 id) — 색인 적재 전이면 기존 LIKE
+        List<Long> ranked = hasKeyword && itemSearchIndex.isReady()
+                ? itemSearchIndex.search(keyword.trim(), ItemSearchIndex.ALL_FIELDS, ItemSearchIndex.MAX_HITS)
+                : null;
 
-        String base = " from Item i" + where;
-        String orderBy = " order by i." + sortKey + " " + sortDir;
+        long total;
+        boolean hasNext;
+        List<Item> items;
+        if (ranked != null && "regTime".equals(sortKey) && "DESC".equals(sortDir)) {
+            // 기본 정렬이면 관련도순: 순위에서 페이지 구간만 잘라 조회
+            total = ranked.size();
+            int from = (int) Math.min((long) page * size, ranked.size());
+            hasNext = from + size < ranked.size();
+            List<Long> pageIds = ranked.subList(from, Math.min(from + size, ranked.size()));
+            items = pageIds.isEmpty() ? List.of() : orderByIds(pageIds,
+                    em.createQuery("select i from Item i where i.id in :ids", Item.class)
+                            .setParameter("ids", pageIds)
+                            .getResultList());
+        } else if (ranked != null && ranked.isEmpty()) {
+            total = 0;
+            hasNext = false;
+            items = List.of();
+        } else {
+            // where절
+            String where = " where 1=1";
+            if (ranked != null) where += " and i.id in :ids";
+            else if (hasKeyword) where += " and lower(i.itemNm) like :kw";
 
-        // 총건수
-        TypedQuery<Long> cq = em.createQuery("select count(i)" + base, Long.class);
-        if (keyword != null && !keyword.isBlank()) cq.setParameter("kw", "%" + keyword.toLowerCase() + "%");
-        long total = cq.getSingleResult();
+            String base = " from Item i" + where;
+            String orderBy = " order by i." + sortKey + " " + sortDir;
+
+            String kw = (ranked == null && hasKeyword) ? "%" + keyword.toLowerCase() + "%" : null;
+
+            // 목록 + 총건수(같은 조건이면 캐시, 설정에 따라 생략)
+            Page<Item> result = countCache.page("item-public", PageRequest.of(page, size),
+                    limit -> bind(em.createQuery("select i" + base + orderBy, Item.class), ranked, kw)
+                            .setFirstResult(page * size)
+                            .setMaxResults(limit)
+                            .getResultList(),
+                    CountCache.key("kw", hasKeyword ? keyword : null, "index", ranked != null),
+                    () -> bind(em.createQuery("select count(i)" + base, Long.class), ranked, kw).getSingleResult());
+            total = result.getTotalElements();
+            hasNext = result.hasNext();
+            items = result.getContent();
+        }
 
-        // 목록
-        TypedQuery<Item> q = em.createQuery("select i" + base + orderBy, Item.class)
-                .setFirstResult(page * size)
-                .setMaxResults(size);
-        if (keyword != null && !keyword.isBlank()) q.setParameter("kw", "%" + keyword.toLowerCase() + "%");
-        List<Item> items = q.getResultList();
+        if (hasKeyword && total > 0) itemSuggestService.recordQuery(keyword);
 
         // 대표이미지 (itemId -> url) 한번에
         List<Long> ids = items.stream().map(Item::getId).filter(Objects::nonNull).toList();
@@ -81,7 +126,7 @@ public class PublicItemController {
         }
 
         int totalPages = (int) Math.max(1, Math.ceil(total / (double) size));
-        PageResponse<MainItemCard> body = new PageResponse<>(content, total, totalPages, page, size);
+        PageResponse<MainItemCard> body = new PageResponse<>(content, total, totalPages, page, size, hasNext);
         return ResponseEntity.ok(body);
     }
 
@@ -135,10 +180,29 @@ public class PublicItemController {
         return ResponseEntity.ok(view);
     }
 
-    // --- 대표이미지 맵 조회 (itemId -> url) ---
+    // --- 목록/건수 쿼리 공통 파라미터 ---
+    private static <T> TypedQuery<T> bind(TypedQuery<T> q, List<Long> ranked, String kw) {
+        if (ranked != null) q.setParameter("ids", ranked);
+        else if (kw != null) q.setParameter("kw", kw);
+        return q;
+    }
+
+    // --- id 목록 순서대로 재정렬 ---
+    private static List<Item> orderByIds(List<Long> ids, List<Item> items) {
+        Map<Long, Item> byId = new HashMap<>();
+        for (Item it : items) byId.put(it.getId(), it);
+        List<Item> out = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Item it = byId.get(id);
+            if (it != null) out.add(it);
+        }
+        return out;
+    }
+
+    // --- 대표이미지 맵 조회 (itemId -> url, 목록 카드 파생본 우선) ---
     private Map<Long, String> loadRepImageMap(List<Long> ids) {
         TypedQuery<Object[]> tq = em.createQuery(
-                "select ii.item.id, ii.imgUrl from ItemImage ii " +
+                "select ii.item.id, coalesce(ii.cardUrl, ii.imgUrl) from ItemImage ii " +
                         "where ii.item.id in :ids and ii.repimgYn = true", Object[].class);
         List<Object[]> rows = tq.setParameter("ids", ids).getResultList();
         Map<Long, String> map = new HashMap<>();
@@ -166,9 +230,10 @@ public class PublicItemController {
         public int totalPages;
         public int number;
         public int size;
-        public PageResponse(List<T> content, long totalElements, int totalPages, int number, int size) {
+        public boolean hasNext; // 총건수 생략(NONE) 모드에서도 정확
+        public PageResponse(List<T> content, long totalElements, int totalPages, int number, int size, boolean hasNext) {
             this.content = content; this.totalElements = totalElements;
-            this.totalPages = totalPages; this.number = number; this.size = size;
+            this.totalPages = totalPages; this.number = number; this.size = size; this.hasNext = hasNext;
         }
     }
     public static class MainItemCard {
@@ -0,0 +1,111 @@
+package org.team.mealkitshop.web.image;
+
+import org.springframework.stereotype.Component;
+import org.team.mealkitshop.config.ImageServingProperties;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이미지 메타/본문 LRU 캐시
+ * - 항목: 크기·수정시각(유효성 확인용), 강한 ETag(내용 해시), Content-Type, 작은 파일이면 본문 byte[]
+ * - 본문 총량이 예산을 넘으면 오래된 항목부터 본문만 내려놓음(메타/ETag 는 유지)
+ * - 항목 수가 상한을 넘으면 오래된 항목 제거
+ * - 접근 순서 LinkedHashMap + 단일 잠금(조회 경로는 짧은 임계 구역)
+ */
+@Component
+public class ImageCache {
+
+    /** 캐시 항목 — body 가 null 이면 메타만 */
+    public record Entry(long size, long lastModified, String etag, String contentType, byte[] body) {
+
+        boolean matches(long size, long lastModified) {
+            return this.size == size && this.lastModified == lastModified;
+        }
+
+        Entry withoutBody() {
+            return body == null ? this : new Entry(size, lastModified, etag, contentType, null);
+        }
+    }
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(1024, 0.75f, true);
+    private final long byteBudget;
+    private final int maxEntries;
+    private long bodyBytes;
+
+    /* ===== 지표 ===== */
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder bodyHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bodyEvictions = new LongAdder();
+    private final LongAdder entryEvictions = new LongAdder();
+
+    public ImageCache(ImageServingProperties properties) {
+        this.byteBudget = properties.cacheBytes().toBytes();
+        this.maxEntries = Math.max(1, properties.maxEntries());
+    }
+
+    /** 파일 크기/수정시각이 같을 때만 반환(바뀌었으면 제거 후 null) */
+    public synchronized Entry get(String key, long size, long lastModified) {
+        Entry e = entries.get(key);
+        if (e == null) {
+            misses.increment();
+            return null;
+        }
+        if (!e.matches(size, lastModified)) {
+            remove(key);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        if (e.body() != null) bodyHits.increment();
+        return e;
+    }
+
+    public synchronized void put(String key, Entry entry) {
+        Entry old = entries.put(key, entry);
+        if (old != null && old.body() != null) bodyBytes -= old.body().length;
+        if (entry.body() != null) bodyBytes += entry.body().length;
+        trim();
+    }
+
+    public synchronized void remove(String key) {
+        Entry old = entries.remove(key);
+        if (old != null && old.body() != null) bodyBytes -= old.body().length;
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            Entry e = it.next().getValue();
+            if (e.body() != null) bodyBytes -= e.body().length;
+            it.remove();
+            entryEvictions.increment();
+        }
+        if (bodyBytes <= byteBudget) return;
+        for (Map.Entry<String, Entry> me : entries.entrySet()) {
+            if (bodyBytes <= byteBudget) break;
+            Entry e = me.getValue();
+            if (e.body() == null) continue;
+            bodyBytes -= e.body().length;
+            me.setValue(e.withoutBody());
+            bodyEvictions.increment();
+        }
+    }
+
+    /** 지표 스냅샷 */
+    public synchronized Map<String, Object> metrics() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("entries", entries.size());
+        out.put("bodyBytes", bodyBytes);
+        out.put("byteBudget", byteBudget);
+        out.put("hits", hits.sum());
+        out.put("bodyHits", bodyHits.sum());
+        out.put("misses", misses.sum());
+        out.put("bodyEvictions", bodyEvictions.sum());
+        out.put("entryEvictions", entryEvictions.sum());
+        return out;
+    }
+}
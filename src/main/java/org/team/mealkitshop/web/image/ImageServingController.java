@@ -0,0 +1,250 @@
+package org.team.mealkitshop.web.image;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.util.UriUtils;
+import org.team.mealkitshop.config.ImageServingProperties;
+import org.team.mealkitshop.service.image.ImageDerivatives;
+import org.team.mealkitshop.service.item.ContentAddressedStore;
+import org.team.mealkitshop.service.item.FileService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지 서빙 (/images/**) — 리소스 체인 대신 전용 핸들러
+ * - 강한 ETag = 내용 SHA-256 앞 128bit (파일 크기/수정시각이 같으면 캐시된 값 재사용)
+ * - If-None-Match / If-Modified-Since → 304, Range(단일 구간) / If-Range → 206/416
+ * - UUID/해시 이름 원본은 내용이 바뀌지 않으므로 immutable 장기 캐시, 파생본 등은 기본 기간 + 재검증
+ * - 작은 파일은 본문을 메모리 LRU(바이트 예산)에서 바로 응답
+ * - 큰 파일은 컨테이너 sendfile(Tomcat NIO) 위임, 미지원 시 FileChannel.transferTo 로 복사 최소화
+ */
+@Controller
+@RequiredArgsConstructor
+public class ImageServingController {
+
+    static final String PREFIX = "/images/";
+
+    /** 내용이 바뀌지 않는 저장 이름: UUID(+확장자 또는 _원본이름) / SHA-256 */
+    private static final Pattern IMMUTABLE_NAME = Pattern.compile(
+            "^([0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}|[0-9a-f]{64})([._].*)?$");
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /** 요청 구간(양끝 포함) */
+    record ByteRange(long start, long end) {
+        static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+        long length() { return end - start + 1; }
+    }
+
+    private final FileService fileService;
+    private final ImageCache cache;
+    private final ImageServingProperties properties;
+
+    @RequestMapping(value = "/images/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String relative = relativePath(request);
+        Path file;
+        BasicFileAttributes attrs;
+        try {
+            if (relative == null) throw new NoSuchFileException(PREFIX);
+            file = fileService.resolveSaved(relative);
+            if (file.startsWith(fileService.resolveSaved(ContentAddressedStore.BLOB_DIR))) throw new NoSuchFileException(relative);
+            attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            if (!attrs.isRegularFile()) throw new NoSuchFileException(relative);
+        } catch (IOException | SecurityException | IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long size = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        ImageCache.Entry entry = cache.get(relative, size, lastModified);
+        if (entry == null) {
+            entry = load(file, size, lastModified);
+            cache.put(relative, entry);
+        }
+
+        response.setHeader(HttpHeaders.ETAG, entry.etag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(relative).getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        if (notModified(request, entry.etag(), lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(entry.contentType());
+        ByteRange range = rangeFor(request, entry.etag(), size);
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+        long start = 0, length = size;
+        if (range != null) {
+            start = range.start();
+            length = range.length();
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + size);
+        }
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod())) return;
+
+        if (entry.body() != null) {
+            response.getOutputStream().write(entry.body(), (int) start, (int) length);
+            return;
+        }
+        if (length >= properties.sendfileMinBytes().toBytes()
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        transfer(file, start, length, response.getOutputStream());
+    }
+
+    /* ===================== 내부 ===================== */
+
+    /** 요청 URI → 업로드 루트 기준 상대 경로(디코딩) */
+    static String relativePath(HttpServletRequest request) {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        if (!uri.startsWith(PREFIX)) return null;
+        String decoded = UriUtils.decode(uri.substring(PREFIX.length()), StandardCharsets.UTF_8);
+        if (decoded.isEmpty() || decoded.indexOf('\0') >= 0) return null;
+        return decoded;
+    }
+
+    /** 메타(+작은 파일 본문) 적재 — 해시는 파일 버전당 1회 */
+    private ImageCache.Entry load(Path file, long size, long lastModified) throws IOException {
+        String contentType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] body = null;
+        if (size <= properties.maxCachedFileBytes().toBytes()) {
+            body = Files.readAllBytes(file);
+            md.update(body);
+        } else {
+            try (InputStream in = new DigestInputStream(Files.newInputStream(file), md)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+        }
+        String etag = "\"" + HexFormat.of().formatHex(md.digest(), 0, 16) + "\"";
+        if (body != null && body.length != size) body = null; // 읽는 중 바뀜 — 본문은 캐시하지 않음
+        return new ImageCache.Entry(size, lastModified, etag, contentType, body);
+    }
+
+    private CacheControl cacheControl(String relative) {
+        String name = relative.substring(relative.lastIndexOf('/') + 1);
+        if (!ImageDerivatives.isDerivative(relative) && IMMUTABLE_NAME.matcher(name).matches()) {
+            return CacheControl.maxAge(properties.immutableMaxAge()).cachePublic().immutable();
+        }
+        return CacheControl.maxAge(properties.defaultMaxAge()).cachePublic();
+    }
+
+    /** If-None-Match 우선, 없으면 If-Modified-Since(초 단위) */
+    static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String inm = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (inm != null) {
+            for (String candidate : inm.split(",")) {
+                String c = candidate.trim();
+                if (c.startsWith("W/")) c = c.substring(2);
+                if (c.equals("*") || c.equals(etag)) return true;
+            }
+            return false;
+        }
+        long ims;
+        try {
+            ims = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return ims >= 0 && lastModified / 1000 <= ims / 1000;
+    }
+
+    /** Range 적용 여부 — If-Range 가 현재 ETag 와 다르면 전체 응답 */
+    private static ByteRange rangeFor(HttpServletRequest request, String etag, long size) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) return null;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.trim().equals(etag)) return null;
+        return parseRange(header, size);
+    }
+
+    /**
+     * "bytes=a-b" / "bytes=a-" / "bytes=-n" 단일 구간 해석
+     * @return null: 무시(형식 오류/다중 구간 → 전체 응답), UNSATISFIABLE: 416
+     */
+    static ByteRange parseRange(String header, long size) {
+        if (header == null || !header.startsWith("bytes=")) return null;
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (spec.contains(",") || dash < 0) return null;
+        String first = spec.substring(0, dash).trim();
+        String last = spec.substring(dash + 1).trim();
+        try {
+            if (first.isEmpty()) {
+                if (last.isEmpty()) return null;
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || size == 0) return ByteRange.UNSATISFIABLE;
+                return new ByteRange(Math.max(0, size - suffix), size - 1);
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+            if (start < 0 || end < start) return null;
+            if (start >= size) return ByteRange.UNSATISFIABLE;
+            return new ByteRange(start, Math.min(end, size - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** FileChannel.transferTo — 커널이 지원하면 사용자 공간 복사 없이 전송 */
+    private static void transfer(Path file, long start, long length, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long pos = start, remaining = length;
+            while (remaining > 0) {
+                long n = channel.transferTo(pos, remaining, target);
+                if (n <= 0) break;
+                pos += n;
+                remaining -= n;
+            }
+        }
+    }
+}
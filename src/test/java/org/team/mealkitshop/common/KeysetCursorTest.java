@@ -0,0 +1,55 @@
+package org.team.mealkitshop.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 키셋 커서/조각 단위 테스트
+ */
+class KeysetCursorTest {
+
+    @Test
+    void 커서는_정렬값과_id를_그대로_되돌린다() {
+        LocalDateTime at = LocalDateTime.of(2025, 3, 1, 9, 30, 0, 123_000_000);
+        KeysetCursor c = KeysetCursor.decode(KeysetCursor.of("date", at, 42L).encode(), "date");
+
+        assertThat(c.dateTimeValue()).isEqualTo(at);
+        assertThat(c.id()).isEqualTo(42L);
+        assertThat(KeysetCursor.decode(KeysetCursor.of("NEW", "a|b", 7L).encode(), "NEW").value()).isEqualTo("a|b");
+        assertThat(KeysetCursor.decode(" ", "id")).isNull();
+    }
+
+    @Test
+    void 정렬이_다르거나_깨진_커서는_거부한다() {
+        String cursor = KeysetCursor.of("PRICE_ASC", 1000, 3L).encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, "PRICE_DESC"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%", "id"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(KeysetCursor.of("id", "x", 1L).encode(), "id").longValue())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(KeysetCursor.of("PRICE_ASC", Long.MAX_VALUE, 1L).encode(), "PRICE_ASC").intValue())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    void size보다_하나_더_조회되면_다음_커서를_만든다() {
+        CursorSlice<Long> more = CursorSlice.of(List.of(9L, 8L, 7L), 2, id -> KeysetCursor.of("id", null, id));
+        assertThat(more.content()).containsExactly(9L, 8L);
+        assertThat(more.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(more.nextCursor(), "id").id()).isEqualTo(8L);
+
+        CursorSlice<Long> last = CursorSlice.of(List.of(6L), 2, id -> KeysetCursor.of("id", null, id));
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+        assertThat(CursorSlice.clampSize(0)).isEqualTo(CursorSlice.DEFAULT_SIZE);
+        assertThat(CursorSlice.clampSize(1000)).isEqualTo(CursorSlice.MAX_SIZE);
+    }
+}
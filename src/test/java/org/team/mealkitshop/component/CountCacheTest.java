@@ -0,0 +1,117 @@
+package org.team.mealkitshop.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.team.mealkitshop.common.CountMode;
+import org.team.mealkitshop.config.CountCacheProperties;
+import org.team.mealkitshop.event.ItemChangedEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 전체 건수 캐시 단위 테스트
+ * - 같은 조건 재사용, 도메인 단위 무효화, count 생략(NONE) 모드, 키 정규화
+ */
+class CountCacheTest {
+
+    private CountCache cache;
+    private AtomicInteger counted;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CountCache(new CountCacheProperties(Duration.ofSeconds(30), 100, CountMode.CACHED,
+                Map.of("item-public", CountMode.NONE, "member-admin", CountMode.EXACT)));
+        counted = new AtomicInteger();
+    }
+
+    @Test
+    void 같은_조건은_한번만_세고_쓰기가_있으면_다시_센다() {
+        assertThat(cache.count("item-list", "cat=KOREAN", this::count)).isEqualTo(42);
+        assertThat(cache.count("item-list", "cat=KOREAN", this::count)).isEqualTo(42);
+        cache.count("item-list", "cat=WESTERN", this::count);
+        assertThat(counted).hasValue(2);
+
+        cache.invalidate(CountCache.BOARD); // 다른 도메인은 영향 없음
+        cache.count("item-list", "cat=KOREAN", this::count);
+        assertThat(counted).hasValue(2);
+
+        cache.invalidate(CountCache.ITEM);
+        cache.count("item-list", "cat=KOREAN", this::count);
+        assertThat(counted).hasValue(3);
+    }
+
+    @Test
+    void 목록_구성이_바뀐_상품_변경만_건수를_비운다() {
+        cache.count("item-list", "cat=KOREAN", this::count);
+
+        cache.onItemChanged(ItemChangedEvent.of(1L));            // 찜/리뷰/주문
+        cache.count("item-list", "cat=KOREAN", this::count);
+        assertThat(counted).hasValue(1);
+
+        cache.onItemChanged(ItemChangedEvent.membershipOf(1L));  // 등록/삭제/상태
+        cache.count("item-list", "cat=KOREAN", this::count);
+        assertThat(counted).hasValue(2);
+    }
+
+    @Test
+    void 세는_도중_무효화되면_결과를_저장하지_않는다() {
+        cache.count("item-list", "", () -> {
+            cache.invalidate(CountCache.ITEM);
+            return count();
+        });
+        cache.count("item-list", "", this::count);
+
+        assertThat(counted).hasValue(2);
+        assertThat(cache.metrics()).containsEntry("staleLoadsDiscarded", 1L);
+    }
+
+    @Test
+    void NONE_모드는_한건_더_조회해_다음_페이지_여부만_판단한다() {
+        AtomicInteger limit = new AtomicInteger();
+        Page<Long> page = cache.page("item-public", PageRequest.of(1, 10), l -> {
+            limit.set(l);
+            return LongStream.range(0, l).boxed().toList();
+        }, "", this::count);
+
+        assertThat(limit).hasValue(11);
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(counted).hasValue(0);
+
+        Page<Long> last = cache.page("item-public", PageRequest.of(2, 10), l -> List.of(1L, 2L), "", this::count);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.getTotalElements()).isEqualTo(22);
+    }
+
+    @Test
+    void 내용이_한페이지에_다_들어오면_세지_않는다() {
+        Page<Long> page = cache.page("member-admin", PageRequest.of(0, 10), l -> List.of(1L, 2L), "", this::count);
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(counted).hasValue(0);
+
+        cache.page("member-admin", PageRequest.of(0, 2), l -> List.of(1L, 2L), "", this::count);
+        cache.page("member-admin", PageRequest.of(0, 2), l -> List.of(1L, 2L), "", this::count);
+        assertThat(counted).hasValue(2); // EXACT 는 매번
+    }
+
+    @Test
+    void 조건_키는_이름순이고_빈_값은_생략한다() {
+        assertThat(CountCache.key("kw", "Salad", "types", new String[]{"w", "t"}, "deal", null, "q", ""))
+                .isEqualTo(CountCache.key("types", new String[]{"t", "w"}, "kw", "Salad"))
+                .isEqualTo("kw=Salad&types=t,w");
+    }
+
+    private long count() {
+        counted.incrementAndGet();
+        return 42;
+    }
+}
@@ -0,0 +1,64 @@
+package org.team.mealkitshop.reports.cube;
+
+import org.junit.jupiter.api.Test;
+import org.team.mealkitshop.common.Category;
+import org.team.mealkitshop.common.FoodItem;
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.common.Pay;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SalesCube 단위 테스트
+ * - 기간/필터/그룹 집계, 음수 반영(취소), 일자 범위 양방향 확장
+ */
+class SalesCubeTest {
+
+    private static final LocalDate D1 = LocalDate.of(2025, 3, 1);
+
+    @Test
+    void 분류x결제수단_집계와_기간_필터() {
+        SalesCube cube = new SalesCube();
+        cube.add(D1, FoodItem.SALAD, Grade.BASIC, Pay.POINT, 2, 20000, 1);
+        cube.add(D1, FoodItem.POKE, Grade.VIP, Pay.POINT, 1, 12000, 1);        // 같은 분류(냉장)
+        cube.add(D1, FoodItem.FRIED_RICE, Grade.GOLD, Pay.TOSSPAY, 3, 15000, 1);
+        cube.add(D1.plusDays(10), FoodItem.SALAD, Grade.BASIC, Pay.POINT, 5, 50000, 1); // 기간 밖
+
+        List<SalesCube.Cell> cells = cube.slice(D1, D1.plusDays(1), SalesCube.Filter.all(),
+                List.of(CubeDimension.CATEGORY, CubeDimension.PAY));
+
+        assertThat(cells).containsExactlyInAnyOrder(
+                new SalesCube.Cell(Category.REFRIGERATED, null, null, Pay.POINT, 3, 32000, 2),
+                new SalesCube.Cell(Category.FROZEN, null, null, Pay.TOSSPAY, 3, 15000, 1));
+    }
+
+    @Test
+    void 필터와_취소_반영() {
+        SalesCube cube = new SalesCube();
+        cube.add(D1, FoodItem.SALAD, Grade.VIP, Pay.POINT, 2, 20000, 1);
+        cube.add(D1, FoodItem.SALAD, Grade.BASIC, Pay.POINT, 1, 10000, 1);
+        cube.add(D1, FoodItem.SALAD, Grade.BASIC, Pay.POINT, -1, -10000, -1); // 취소
+
+        List<SalesCube.Cell> cells = cube.slice(D1, D1.plusDays(1),
+                new SalesCube.Filter(null, null, Set.of(Grade.VIP, Grade.BASIC), null), List.of(CubeDimension.GRADE));
+
+        assertThat(cells).containsExactly(new SalesCube.Cell(null, null, Grade.VIP, null, 2, 20000, 1));
+    }
+
+    @Test
+    void 과거_미래_일자로_확장해도_값_유지() {
+        SalesCube cube = new SalesCube();
+        cube.add(D1, FoodItem.DRESSING, Grade.BASIC, Pay.POINT, 1, 3000, 1);
+        cube.add(D1.minusYears(2), FoodItem.DRESSING, Grade.BASIC, Pay.POINT, 1, 3000, 1);
+        cube.add(D1.plusYears(1), FoodItem.DRESSING, Grade.BASIC, Pay.POINT, 1, 3000, 1);
+
+        List<SalesCube.Cell> total = cube.slice(D1.minusYears(5), D1.plusYears(5), SalesCube.Filter.all(), List.of());
+
+        assertThat(total).containsExactly(new SalesCube.Cell(null, null, null, null, 3, 9000, 3));
+        assertThat(cube.slice(D1, D1.plusDays(1), null, null).get(0).lines()).isEqualTo(1);
+    }
+}
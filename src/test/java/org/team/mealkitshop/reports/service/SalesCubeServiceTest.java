@@ -0,0 +1,93 @@
+package org.team.mealkitshop.reports.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.team.mealkitshop.common.FoodItem;
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.common.OrderStatus;
+import org.team.mealkitshop.common.Pay;
+import org.team.mealkitshop.reports.cube.SalesCube;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 큐브 재구성 중 들어온 증분 — 스캔이 못 본 전이만 교체 후 큐브에 재적용(이중 집계 없음)
+ */
+class SalesCubeServiceTest {
+
+    private static final LocalDate D1 = LocalDate.of(2025, 3, 1);
+
+    private JdbcTemplate jdbc;
+    private SalesCubeService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = mock(JdbcTemplate.class);
+        service = new SalesCubeService(jdbc, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void 스냅샷_이후_커밋된_주문은_새_큐브에_재적용() {
+        doAnswer(inv -> {
+            // 스캔 스냅샷 이후 생성 → 스캔에는 없고 증분은 옛 큐브에만 반영됨
+            service.apply(created(7L, 20_000, 2));
+            return null;
+        }).when(jdbc).query(startsWith("select date"), any(RowCallbackHandler.class));
+        snapshotStatus(7L, null);
+
+        service.rebuild();
+
+        assertThat(total()).singleElement().satisfies(c -> {
+            assertThat(c.sales()).isEqualTo(20_000);
+            assertThat(c.quantity()).isEqualTo(2);
+        });
+
+        service.apply(created(8L, 10_000, 1));
+        assertThat(total()).singleElement().extracting(SalesCube.Cell::sales)
+                .isEqualTo(30_000L); // 재구성 밖 증분은 재적용 없음
+    }
+
+    @Test
+    void 스냅샷_전에_커밋되고_리스너만_늦은_주문은_재적용하지_않는다() {
+        doAnswer(inv -> {
+            service.apply(created(7L, 20_000, 2)); // 스캔은 이미 이 주문을 셈(여기서는 스캔 행 생략)
+            return null;
+        }).when(jdbc).query(startsWith("select date"), any(RowCallbackHandler.class));
+        snapshotStatus(7L, OrderStatus.CREATED);
+
+        service.rebuild();
+
+        assertThat(total()).allSatisfy(c -> assertThat(c.sales()).isZero()); // 스캔 몫만 — 이중 집계 없음
+    }
+
+    private SalesCubeService.OrderDelta created(long orderId, long amount, long qty) {
+        return new SalesCubeService.OrderDelta(orderId, null, OrderStatus.CREATED,
+                List.of(new SalesCubeService.LineDelta(D1, FoodItem.SALAD, Grade.BASIC, Pay.POINT, qty, amount, 1)));
+    }
+
+    /** 재적용 판정용 스냅샷 상태 조회 응답(null 이면 스냅샷에 없는 주문) */
+    private void snapshotStatus(long orderId, OrderStatus status) {
+        doAnswer(inv -> {
+            if (status != null) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong(1)).thenReturn(orderId);
+                when(rs.getString(2)).thenReturn(status.name());
+                inv.getArgument(1, RowCallbackHandler.class).processRow(rs);
+            }
+            return null;
+        }).when(jdbc).query(startsWith("select order_id, status"), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    private List<SalesCube.Cell> total() {
+        return service.slice(D1, D1.plusDays(1), SalesCube.Filter.all(), List.of());
+    }
+}
@@ -0,0 +1,72 @@
+package org.team.mealkitshop.reports.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.team.mealkitshop.common.OrderStatus;
+import org.team.mealkitshop.config.SalesRollupProperties;
+import org.team.mealkitshop.event.OrderStatusChangedEvent;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * SalesRollupService 단위 테스트
+ * - 상태 전이별 집계 변화량(생성 +1, 취소/환불 -1, 그 외 0)과 upsert 인자
+ */
+@ExtendWith(MockitoExtension.class)
+class SalesRollupServiceTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private SalesRollupService service() {
+        return new SalesRollupService(jdbcTemplate, transactionTemplate, new SalesRollupProperties(false, 3, "-", 31));
+    }
+
+    private OrderStatusChangedEvent event(OrderStatus from, OrderStatus to) {
+        return new OrderStatusChangedEvent(1L, LocalDate.of(2025, 3, 1), 30000, 1500, from, to);
+    }
+
+    @Test
+    void 상태전이별_집계_변화량() {
+        assertThat(SalesRollupService.countedDelta(null, OrderStatus.CREATED)).isEqualTo(1);
+        assertThat(SalesRollupService.countedDelta(OrderStatus.CREATED, OrderStatus.PREPARING)).isZero();
+        assertThat(SalesRollupService.countedDelta(OrderStatus.CREATED, OrderStatus.CANCELED)).isEqualTo(-1);
+        assertThat(SalesRollupService.countedDelta(OrderStatus.REFUND_REQUESTED, OrderStatus.REFUNDED)).isEqualTo(-1);
+        assertThat(SalesRollupService.countedDelta(OrderStatus.CANCELED, OrderStatus.CANCELED)).isZero();
+    }
+
+    @Test
+    void 생성은_가산_취소는_차감_upsert() {
+        SalesRollupService service = service();
+        Date day = Date.valueOf(LocalDate.of(2025, 3, 1));
+
+        service.onOrderStatusChanged(event(null, OrderStatus.PREPARING));
+        verify(jdbcTemplate).update(anyString(), eq(day), eq(1L), eq(30000L), eq(1500L));
+
+        service.onOrderStatusChanged(event(OrderStatus.PREPARING, OrderStatus.CANCELED));
+        verify(jdbcTemplate).update(anyString(), eq(day), eq(-1L), eq(-30000L), eq(-1500L));
+
+        assertThat(service.metrics()).containsEntry("appliedEvents", 2L);
+    }
+
+    @Test
+    void 집계에_영향없는_전이는_쓰지_않는다() {
+        SalesRollupService service = service();
+
+        service.onOrderStatusChanged(event(OrderStatus.PREPARING, OrderStatus.SHIPPED));
+
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(service.metrics()).containsEntry("skippedEvents", 1L);
+    }
+}
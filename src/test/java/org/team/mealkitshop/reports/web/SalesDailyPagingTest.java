@@ -0,0 +1,64 @@
+package org.team.mealkitshop.reports.web;
+
+import org.junit.jupiter.api.Test;
+import org.team.mealkitshop.reports.dto.SalesDailyPointDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 일별 매출 페이지 구간 계산/0 채움 단위 테스트
+ */
+class SalesDailyPagingTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+
+    @Test
+    void 페이지_구간은_요청한_날짜만() {
+        ReportsApiController.DayWindow w = ReportsApiController.DayWindow.of(JAN_1, LocalDate.of(2025, 12, 31), 2, 40);
+
+        assertThat(w.totalItems()).isEqualTo(365);
+        assertThat(w.totalPages()).isEqualTo(10);
+        assertThat(w.from()).isEqualTo(JAN_1.plusDays(40));
+        assertThat(w.to()).isEqualTo(JAN_1.plusDays(79));
+
+        ReportsApiController.DayWindow last = ReportsApiController.DayWindow.of(JAN_1, LocalDate.of(2025, 12, 31), 99, 40);
+        assertThat(last.page()).isEqualTo(10);
+        assertThat(last.to()).isEqualTo(LocalDate.of(2025, 12, 31));
+    }
+
+    @Test
+    void 스트리밍은_역순과_최대_기간_초과를_거절() {
+        ReportsApiController.validateStreamRange(JAN_1, JAN_1.plusDays(ReportsApiController.MAX_STREAM_DAYS - 1));
+
+        assertThatThrownBy(() -> ReportsApiController.validateStreamRange(JAN_1, JAN_1.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReportsApiController.validateStreamRange(JAN_1, JAN_1.plusDays(ReportsApiController.MAX_STREAM_DAYS)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 빈_기간은_빈_페이지() {
+        ReportsApiController.DayWindow w = ReportsApiController.DayWindow.of(JAN_1, JAN_1.minusDays(1), 1, 40);
+
+        assertThat(w.isEmpty()).isTrue();
+        assertThat(w.page()).isEqualTo(1);
+        assertThat(w.totalPages()).isZero();
+    }
+
+    @Test
+    void 없는_날은_0으로_채우고_aov_보정() {
+        List<SalesDailyPointDTO> raw = List.of(
+                new SalesDailyPointDTO(JAN_1.minusDays(1), 9, 9000, 1000),  // 구간 밖 — 무시
+                new SalesDailyPointDTO(JAN_1.plusDays(1), 2, 30000, 0));
+
+        List<SalesDailyPointDTO> filled = ReportsApiController.zeroFill(raw, JAN_1, JAN_1.plusDays(2));
+
+        assertThat(filled).extracting(SalesDailyPointDTO::getOrders).containsExactly(0L, 2L, 0L);
+        assertThat(filled.get(1).getAov()).isEqualTo(15000);
+        assertThat(filled.get(2).getDate()).isEqualTo(JAN_1.plusDays(2));
+    }
+}
@@ -0,0 +1,98 @@
+package org.team.mealkitshop.repository.item;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.team.mealkitshop.common.*;
+import org.team.mealkitshop.domain.item.Item;
+import org.team.mealkitshop.domain.item.ItemListing;
+import org.team.mealkitshop.dto.item.ItemSearchDTO;
+import org.team.mealkitshop.dto.item.ListItemDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 목록 읽기 모델 키셋(커서) 조회 테스트
+ * - 같은 가격이 여러 건이어도 커서로 끝까지 넘기면 한 번에 조회한 순서와 같음(누락/중복 없음)
+ * - int 범위를 벗어난 가격 커서는 깨진 커서와 같이 거부
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Transactional
+class ItemListingRepositoryCursorTests {
+
+    private static final String KEYWORD = "커서테스트";
+
+    @Autowired ItemRepository itemRepository;
+    @Autowired ItemListingRepository itemListingRepository;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @BeforeEach
+    void seedListings() {
+        int[] prices = {3000, 1000, 2000, 1000, 3000};
+        for (int i = 0; i < prices.length; i++) {
+            Item item = itemRepository.save(Item.builder()
+                    .itemNm(KEYWORD + " 밀키트 " + i)
+                    .originalPrice(prices[i])
+                    .stockNumber(10)
+                    .itemDetail("키셋 조회 테스트")
+                    .itemSellStatus(ItemSellStatus.SELL)
+                    .category(Category.ETC)
+                    .foodItem(FoodItem.SALAD)
+                    .build());
+            ItemListing listing = ItemListing.of(item.getId());
+            listing.sync(item, null, 0.0, 0L, 0L);
+            itemListingRepository.save(listing);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 가격순_커서로_끝까지_넘기면_같은_가격도_빠짐없이_한번씩() {
+        for (ItemSortType sort : List.of(ItemSortType.PRICE_ASC, ItemSortType.PRICE_DESC)) {
+            ItemSearchDTO cond = cond(sort);
+            List<Long> all = itemListingRepository.getListSlice(cond, null, 10, null).content()
+                    .stream().map(ListItemDTO::getId).toList();
+
+            List<Long> paged = new ArrayList<>();
+            String cursor = null;
+            CursorSlice<ListItemDTO> slice;
+            do {
+                slice = itemListingRepository.getListSlice(cond, cursor, 2, null);
+                slice.content().forEach(d -> paged.add(d.getId()));
+                cursor = slice.nextCursor();
+            } while (slice.hasNext());
+
+            assertThat(all).hasSize(5);
+            assertThat(paged).isEqualTo(all);
+        }
+    }
+
+    @Test
+    void 범위를_벗어난_가격_커서는_잘못된_커서로_거부() {
+        String cursor = KeysetCursor.of(ItemSortType.PRICE_ASC.name(), Long.MAX_VALUE, 1L).encode();
+
+        assertThatThrownBy(() -> itemListingRepository.getListSlice(cond(ItemSortType.PRICE_ASC), cursor, 2, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    private static ItemSearchDTO cond(ItemSortType sort) {
+        ItemSearchDTO cond = new ItemSearchDTO();
+        cond.setKeyword(KEYWORD);
+        cond.setSortType(sort);
+        return cond;
+    }
+}
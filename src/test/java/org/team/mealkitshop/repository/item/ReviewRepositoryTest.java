@@ -123,8 +123,8 @@ class ReviewRepositoryTest {
     }
 
     @Test
-    @DisplayName("findWithImagesByItemId: 리뷰 + 이미지까지 페치 - 페이징")
-    void findWithImagesByItemId() {
+    @DisplayName("findByItem_Id: 아이템별 리뷰 페이징(이미지는 조립 단계에서 일괄 조회)")
+    void findByItemId() {
         Member m = makeMember("u1@test.com", "u1");
         Item it = makeItem("A", 1000);       // ⚠️ makeItem 안에서 stockNumber, foodItem 세팅 필수
         Review r = makeReview(m, it, "good", 5);
@@ -134,7 +134,7 @@ class ReviewRepositoryTest {
         em.flush();
         em.clear();                           //  1차 캐시 초기화
 
-        Page<Review> page = reviewRepository.findWithImagesByItemId(it.getId(), PageRequest.of(0, 10));
+        Page<Review> page = reviewRepository.findByItem_Id(it.getId(), PageRequest.of(0, 10));
         assertEquals(1, page.getTotalElements());
         Review got = page.getContent().get(0);
         assertEquals("good", got.getContent());
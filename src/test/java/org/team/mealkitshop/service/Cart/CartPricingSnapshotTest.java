@@ -0,0 +1,68 @@
+package org.team.mealkitshop.service.Cart;
+
+import org.junit.jupiter.api.Test;
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.domain.cart.CartItem;
+import org.team.mealkitshop.domain.item.Item;
+import org.team.mealkitshop.service.cart.CartPricingSnapshot;
+import org.team.mealkitshop.service.pricing.PricingRuleSet;
+import org.team.mealkitshop.service.pricing.PricingRules;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CartPricingSnapshot 단위 테스트
+ * - 전체/체크 합계, 등급 쿠폰, 배송비를 한 번에 계산
+ */
+class CartPricingSnapshotTest {
+
+    private final PricingRules rules = PricingRules.compile(PricingRuleSet.defaults(), 1L);
+
+    private CartItem line(long itemId, int originalPrice, int discountRate, int qty, boolean checked) {
+        Item item = Item.builder()
+                .id(itemId)
+                .itemNm("상품" + itemId)
+                .originalPrice(originalPrice)
+                .discountRate(discountRate)
+                .stockNumber(10)
+                .build();
+        return CartItem.builder().item(item).quantity(qty).checked(checked).build();
+    }
+
+    @Test
+    void 전체와_체크_합계를_한번에_계산() {
+        List<CartItem> lines = List.of(
+                line(1L, 20000, 10, 2, true),   // 18,000 × 2 = 36,000 (할인 4,000)
+                line(2L, 30000, 0, 1, false));  // 30,000
+
+        CartPricingSnapshot s = CartPricingSnapshot.price(lines, rules, Grade.GOLD, "06236", Map.of(1L, "/img/1.jpg"));
+
+        assertThat(s.all().saleTotal()).isEqualTo(66000);
+        assertThat(s.all().discountTotal()).isEqualTo(4000);
+        assertThat(s.all().shippingFee()).isZero();                 // 5만원 이상
+        assertThat(s.all().couponDiscount()).isEqualTo(4620);       // 7%
+        assertThat(s.all().payableAmount()).isEqualTo(66000 - 4620);
+
+        assertThat(s.checked().saleTotal()).isEqualTo(36000);
+        assertThat(s.checked().shippingFee()).isEqualTo(3000);
+        assertThat(s.lines().get(0).thumbnailUrl()).isEqualTo("/img/1.jpg");
+    }
+
+    @Test
+    void 상품할인은_라인단가와_합계에_함께_반영() {
+        PricingRuleSet d = PricingRuleSet.defaults();
+        PricingRules promo = PricingRules.compile(new PricingRuleSet(d.gradeDiscountPercent(), d.freeShippingGrades(),
+                d.freeShippingThreshold(), d.baseShippingFee(), d.shippingZoneFees(), Map.of(1L, 10)), 2L);
+
+        CartPricingSnapshot s = CartPricingSnapshot.price(
+                List.of(line(1L, 20000, 10, 2, true)), promo, Grade.BASIC, "63000", Map.of());
+
+        assertThat(s.lines().get(0).salePrice()).isEqualTo(16200);        // 18,000 - 10%
+        assertThat(s.lines().get(0).lineDiscountTotal()).isEqualTo(7600); // (20,000 - 16,200) × 2
+        assertThat(s.all().saleTotal()).isEqualTo(32400);
+        assertThat(s.all().shippingFee()).isEqualTo(8000);                // 5만원 미만 + 제주
+    }
+}
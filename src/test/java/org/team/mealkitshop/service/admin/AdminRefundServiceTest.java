@@ -0,0 +1,79 @@
+package org.team.mealkitshop.service.admin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.team.mealkitshop.common.OrderStatus;
+import org.team.mealkitshop.common.Pay;
+import org.team.mealkitshop.common.RefundStatus;
+import org.team.mealkitshop.domain.member.Member;
+import org.team.mealkitshop.domain.order.Order;
+import org.team.mealkitshop.domain.order.OrderRefund;
+import org.team.mealkitshop.repository.member.MemberRepository;
+import org.team.mealkitshop.repository.order.OrderRefundRepository;
+import org.team.mealkitshop.repository.order.OrderRepository;
+import org.team.mealkitshop.service.order.StockReservationService;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 환불 승인/거절 — 조건부 상태 전이로 동시 처리 시 부수효과(포인트/재고)는 한 번만
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminRefundServiceTest {
+
+    @Mock private OrderRefundRepository refundRepository;
+    @Mock private OrderRepository orderRepository;
+    @Mock private MemberRepository memberRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private StockReservationService stockReservationService;
+
+    @InjectMocks
+    private AdminRefundService service;
+
+    private Member member;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        member = new Member();
+        member.setPoints(0);
+        order = Order.builder().orderId(1L).member(member).payMethod(Pay.POINT)
+                .status(OrderStatus.REFUND_REQUESTED).payableAmount(10_000).build();
+        given(refundRepository.findById(5L))
+                .willReturn(Optional.of(OrderRefund.builder().refundId(5L).order(order).build()));
+    }
+
+    @Test
+    void 먼저_처리된_환불은_포인트_재고를_되돌리지_않는다() {
+        given(orderRepository.transitionStatus(1L, OrderStatus.REFUND_REQUESTED, OrderStatus.REFUNDED)).willReturn(0);
+
+        assertThatThrownBy(() -> service.approveRefund(5L, "admin")).isInstanceOf(IllegalStateException.class);
+        assertThat(member.getPoints()).isZero();
+        verify(stockReservationService, never()).release(anyMap());
+        verify(refundRepository, never()).completePending(any(), any(), any(), any());
+    }
+
+    @Test
+    void 승인하면_포인트_환불과_처리_기록() {
+        given(orderRepository.transitionStatus(1L, OrderStatus.REFUND_REQUESTED, OrderStatus.REFUNDED)).willReturn(1);
+        given(refundRepository.completePending(eq(5L), eq(RefundStatus.APPROVED), eq("admin"), any())).willReturn(1);
+
+        service.approveRefund(5L, "admin");
+
+        assertThat(member.getPoints()).isEqualTo(10_000);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.REFUNDED);
+        verify(stockReservationService).release(anyMap());
+    }
+}
@@ -0,0 +1,87 @@
+package org.team.mealkitshop.service.board;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.team.mealkitshop.config.BoardViewProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * BoardViewTracker 단위 테스트
+ * - 회원/방문자 중복 제거, 게시판 간 독립, 구간 교체 후 재집계
+ * - 게시판별 배치 UPDATE 반영
+ */
+class BoardViewTrackerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private BoardViewTracker tracker;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate tx = mock(TransactionTemplate.class);
+        doAnswer(inv -> {
+            ((Consumer<TransactionStatus>) inv.getArgument(0)).accept(null);
+            return null;
+        }).when(tx).executeWithoutResult(any());
+        tracker = new BoardViewTracker(jdbcTemplate, tx,
+                new BoardViewProperties(Duration.ofHours(24), 10_000, 0.001, Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void 같은회원_재조회는_1회만_집계() {
+        assertThat(tracker.recordView(BoardViewTarget.TIP_BOARD, 1L, 10L, null)).isTrue();
+        assertThat(tracker.recordView(BoardViewTarget.TIP_BOARD, 1L, 10L, null)).isFalse();
+        assertThat(tracker.recordView(BoardViewTarget.TIP_BOARD, 1L, 11L, null)).isTrue();
+        // 같은 글번호라도 다른 게시판은 별개
+        assertThat(tracker.recordView(BoardViewTarget.REVIEW_BOARD, 1L, 10L, null)).isTrue();
+
+        assertThat(tracker.pending(BoardViewTarget.TIP_BOARD, 1L)).isEqualTo(2);
+        assertThat(tracker.hasViewed(BoardViewTarget.TIP_BOARD, 1L, 10L, null)).isTrue();
+    }
+
+    @Test
+    void 방문자쿠키_중복제거_및_식별자없으면_항상집계() {
+        assertThat(tracker.recordView(BoardViewTarget.BOARD, 5L, null, "visitor-a")).isTrue();
+        assertThat(tracker.recordView(BoardViewTarget.BOARD, 5L, null, "visitor-a")).isFalse();
+        assertThat(tracker.recordView(BoardViewTarget.BOARD, 5L, null, null)).isTrue();
+        assertThat(tracker.recordView(BoardViewTarget.BOARD, 5L, null, null)).isTrue();
+        assertThat(tracker.pending(BoardViewTarget.BOARD, 5L)).isEqualTo(3);
+    }
+
+    @Test
+    void 두번_구간교체후에는_다시_집계() {
+        tracker.recordView(BoardViewTarget.BOARD, 7L, 1L, null);
+        tracker.rotateWindow();
+        assertThat(tracker.recordView(BoardViewTarget.BOARD, 7L, 1L, null)).isFalse(); // 이전 세대에 남아 있음
+        tracker.rotateWindow();
+        tracker.rotateWindow();
+        assertThat(tracker.recordView(BoardViewTarget.BOARD, 7L, 1L, null)).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush는_게시판별_배치UPDATE() {
+        tracker.recordView(BoardViewTarget.BOARD, 1L, 1L, null);
+        tracker.recordView(BoardViewTarget.BOARD, 1L, 2L, null);
+        tracker.recordView(BoardViewTarget.TIP_BOARD, 3L, 1L, null);
+
+        tracker.scheduledFlush();
+
+        verify(jdbcTemplate).batchUpdate(startsWith("update board "), argThat((List<Object[]> rows) ->
+                rows.size() == 1 && (Long) rows.get(0)[0] == 2L && (Long) rows.get(0)[1] == 1L));
+        verify(jdbcTemplate).batchUpdate(startsWith("update tip_board "), anyList());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("update review_board "), anyList());
+        assertThat(tracker.pending(BoardViewTarget.BOARD, 1L)).isZero();
+    }
+}
@@ -0,0 +1,150 @@
+package org.team.mealkitshop.service.image;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.team.mealkitshop.config.ImageDerivativeProperties;
+import org.team.mealkitshop.event.ImageStoredEvent;
+import org.team.mealkitshop.event.ItemChangedEvent;
+import org.team.mealkitshop.service.item.FileService;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 이미지 파생본 단위 테스트
+ * - 경로 규칙/축소 규칙(확대 금지, 비율 유지)과 파생본 생성 → 메타 기록 → 목록 갱신 흐름
+ * - 큰 원본은 서브샘플링, 디코딩 불가 원본은 실패 표식
+ */
+class ImageDerivativesTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void 파생본_경로는_원본_폴더의_하위에_만든다() {
+        assertThat(ImageDerivatives.pathOf("item/abc.png", ImageDerivatives.Variant.CARD, "jpg"))
+                .isEqualTo("item/_d/card/abc.jpg");
+        assertThat(ImageDerivatives.pathOf("uuid_사진.v2.jpeg", ImageDerivatives.Variant.MOBILE, "webp"))
+                .isEqualTo("_d/mobile/uuid_사진.v2.webp");
+        assertThat(ImageDerivatives.pathOf("/review\\x", ImageDerivatives.Variant.DETAIL, "jpg"))
+                .isEqualTo("review/_d/detail/x.jpg");
+
+        assertThat(ImageDerivatives.isDerivative("item/_d/card/abc.jpg")).isTrue();
+        assertThat(ImageDerivatives.isDerivative("_d/card/abc.jpg")).isTrue();
+        assertThat(ImageDerivatives.isDerivative("item/abc.jpg")).isFalse();
+        assertThat(ImageDerivatives.allPathsOf("item/abc.png")).hasSize(6);
+    }
+
+    @Test
+    void 긴_변_기준으로_축소만_하고_비율을_유지한다() throws Exception {
+        BufferedImage wide = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage card = ImageDerivatives.downscale(wide, 400);
+        assertThat(card.getWidth()).isEqualTo(400);
+        assertThat(card.getHeight()).isEqualTo(200);
+
+        BufferedImage small = new BufferedImage(300, 100, BufferedImage.TYPE_INT_RGB);
+        assertThat(ImageDerivatives.downscale(small, 400)).isSameAs(small);
+
+        BufferedImage rgb = ImageDerivatives.toRgb(wide);
+        assertThat(rgb.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+        assertThat(rgb.getRGB(0, 0) & 0xFFFFFF).isEqualTo(0xFFFFFF); // 투명 → 흰 배경
+    }
+
+    @Test
+    void 파생본을_만들고_기록한_뒤_목록_갱신을_알린다() throws Exception {
+        Path original = root.resolve("item/abc.png");
+        Files.createDirectories(original.getParent());
+        ImageIO.write(new BufferedImage(1600, 800, BufferedImage.TYPE_INT_RGB), "png", original.toFile());
+
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        when(jdbc.update(anyString(), any(), any(), any(), any(), any())).thenReturn(1);
+        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        ImageDerivativeService service = newService(jdbc, publisher);
+
+        service.process(ImageStoredEvent.item(7L, "item/abc.png", 3L));
+
+        BufferedImage card = ImageIO.read(root.resolve("item/_d/card/abc.jpg").toFile());
+        BufferedImage detail = ImageIO.read(root.resolve("item/_d/detail/abc.jpg").toFile());
+        assertThat(card.getWidth()).isEqualTo(400);
+        assertThat(detail.getWidth()).isEqualTo(1200);
+        verify(jdbc).update(startsWith("update item_img set card_url"),
+                eq("/images/item/_d/card/abc.jpg"), eq("/images/item/_d/mobile/abc.jpg"),
+                eq("/images/item/_d/detail/abc.jpg"), eq(7L), eq("item/abc.png"));
+        verify(publisher).publishEvent(ItemChangedEvent.of(3L));
+        assertThat(service.metrics()).containsEntry("completed", 1L);
+    }
+
+    @Test
+    void 처리_중_원본_행이_사라졌으면_파생본을_지운다() throws Exception {
+        Path original = root.resolve("review/r.png");
+        Files.createDirectories(original.getParent());
+        ImageIO.write(new BufferedImage(800, 800, BufferedImage.TYPE_INT_RGB), "png", original.toFile());
+
+        JdbcTemplate jdbc = mock(JdbcTemplate.class); // update → 0
+        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        ImageDerivativeService service = newService(jdbc, publisher);
+
+        service.process(ImageStoredEvent.review(1L, "review/r.png"));
+
+        assertThat(root.resolve("review/_d/card/r.jpg")).doesNotExist();
+        assertThat(original).exists();
+        verifyNoInteractions(publisher);
+        assertThat(service.metrics()).containsEntry("stale", 1L);
+    }
+
+    @Test
+    void 픽셀_상한을_넘는_원본은_서브샘플링해_파생본을_만든다() throws Exception {
+        Path original = root.resolve("item/huge.png");
+        Files.createDirectories(original.getParent());
+        ImageIO.write(new BufferedImage(3000, 2000, BufferedImage.TYPE_INT_RGB), "png", original.toFile());
+
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        when(jdbc.update(anyString(), any(), any(), any(), any(), any())).thenReturn(1);
+        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        ImageDerivativeService service = newService(jdbc, publisher, 1_000_000L);
+
+        service.process(ImageStoredEvent.item(7L, "item/huge.png", 3L));
+
+        // 3칸마다 1픽셀 → 1000×667 로 디코딩, 상세(1200)는 확대하지 않음
+        assertThat(ImageIO.read(root.resolve("item/_d/detail/huge.jpg").toFile()).getWidth()).isEqualTo(1000);
+        assertThat(ImageIO.read(root.resolve("item/_d/card/huge.jpg").toFile()).getWidth()).isEqualTo(400);
+        assertThat(service.metrics()).containsEntry("oversized", 1L).containsEntry("completed", 1L);
+    }
+
+    @Test
+    void 디코딩할_수_없는_원본은_행에_실패_표식을_남긴다() throws Exception {
+        Path original = root.resolve("item/broken.png");
+        Files.createDirectories(original.getParent());
+        Files.write(original, new byte[]{1, 2, 3, 4});
+
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        ImageDerivativeService service = newService(jdbc, publisher);
+
+        service.process(ImageStoredEvent.item(7L, "item/broken.png", 3L));
+
+        verify(jdbc).update(startsWith("update item_img set derive_failed_at"), any(), eq(7L), eq("item/broken.png"));
+        verifyNoInteractions(publisher);
+        assertThat(service.metrics()).containsEntry("failed", 1L);
+    }
+
+    private ImageDerivativeService newService(JdbcTemplate jdbc, ApplicationEventPublisher publisher) {
+        return newService(jdbc, publisher, 40_000_000L);
+    }
+
+    private ImageDerivativeService newService(JdbcTemplate jdbc, ApplicationEventPublisher publisher, long maxPixels) {
+        ImageDerivativeProperties props = new ImageDerivativeProperties(
+                true, 400, 720, 1200, 0.8, false, 1, 10, 10, maxPixels);
+        return new ImageDerivativeService(new FileService(root.toString()), jdbc, publisher, props, "/images/");
+    }
+}
@@ -0,0 +1,102 @@
+package org.team.mealkitshop.service.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 내용 주소 저장소 단위 테스트(DB 는 목)
+ * - 같은 내용 업로드는 blob 1벌 + 하드링크, 마지막 참조 해제 시 blob 삭제, 기존 트리 마이그레이션 절감량
+ */
+class ContentAddressedStoreTest {
+
+    @TempDir
+    Path root;
+
+    private JdbcTemplate jdbc;
+    private ContentAddressedStore store;
+    private FileService fileService;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = mock(JdbcTemplate.class);
+        store = new ContentAddressedStore(jdbc, mock(PlatformTransactionManager.class), root.toString(), "cas");
+        fileService = new FileService(root.toString(), 2, store);
+    }
+
+    @Test
+    void 같은_내용은_blob_한_벌을_하드링크로_공유한다() throws Exception {
+        byte[] photo = "same-photo".getBytes(StandardCharsets.UTF_8);
+
+        String a = fileService.uploadFileIn("item", "a.jpg", new ByteArrayInputStream(photo));
+        String b = fileService.uploadFileIn("detail", "b.jpg", new ByteArrayInputStream(photo));
+
+        Path pa = root.resolve("item").resolve(a);
+        Path pb = root.resolve("detail").resolve(b);
+        assertThat(Files.readAllBytes(pa)).isEqualTo(photo);
+        assertThat(Files.isSameFile(pa, pb)).isTrue();
+        String hash = ContentAddressedStore.hash(new ByteArrayInputStream(photo));
+        assertThat(store.blobPath(hash)).exists();
+        verify(jdbc).update(anyString(), eq("item/" + a), eq(hash));
+        verify(jdbc).update(anyString(), eq("detail/" + b), eq(hash));
+    }
+
+    @Test
+    void 마지막_참조를_지우면_blob_도_지운다() throws Exception {
+        byte[] photo = "only-once".getBytes(StandardCharsets.UTF_8);
+        String hash = ContentAddressedStore.hash(new ByteArrayInputStream(photo));
+        String saved = fileService.uploadFileIn("review", "r.png", new ByteArrayInputStream(photo));
+        when(jdbc.queryForList(anyString(), eq(String.class), any())).thenReturn(List.of(hash));
+        when(jdbc.queryForObject(startsWith("select ref_count"), eq(Long.class), any())).thenReturn(1L);
+        when(jdbc.update(startsWith("delete from file_blob_ref"), any(), any())).thenReturn(1);
+
+        fileService.deleteBySavedName("review/" + saved);
+
+        assertThat(root.resolve("review").resolve(saved)).doesNotExist();
+        assertThat(store.blobPath(hash)).doesNotExist();
+        verify(jdbc).update("delete from file_blob where hash = ?", hash);
+    }
+
+    @Test
+    void 마이그레이션은_기존_중복_파일을_하드링크로_바꾸고_절감량을_보고한다() throws Exception {
+        Files.createDirectories(root.resolve("item"));
+        Files.writeString(root.resolve("item/a.jpg"), "dup-content");
+        Files.writeString(root.resolve("uuid_board.jpg"), "dup-content");
+        Files.writeString(root.resolve("item/c.jpg"), "unique");
+        Files.createDirectories(root.resolve("item/_d/card"));
+        Files.writeString(root.resolve("item/_d/card/a.jpg"), "derivative");
+        when(jdbc.queryForObject(startsWith("select count(*)"), eq(Integer.class), any())).thenReturn(0);
+
+        ContentAddressedStore.MigrationReport report = store.migrate();
+
+        assertThat(report.scanned()).isEqualTo(3);          // 파생본 제외
+        assertThat(report.registered()).isEqualTo(3);
+        assertThat(report.deduplicated()).isEqualTo(1);
+        assertThat(report.bytesSaved()).isEqualTo("dup-content".length());
+        assertThat(Files.isSameFile(root.resolve("item/a.jpg"), root.resolve("uuid_board.jpg"))).isTrue();
+        assertThat(Files.readString(root.resolve("uuid_board.jpg"))).isEqualTo("dup-content");
+    }
+
+    @Test
+    void plain_모드에서는_마이그레이션하지_않는다() throws Exception {
+        Files.writeString(root.resolve("uuid_board.jpg"), "content");
+        ContentAddressedStore plain = new ContentAddressedStore(jdbc, mock(PlatformTransactionManager.class), root.toString(), "plain");
+
+        assertThatThrownBy(plain::migrate).isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(jdbc);
+        assertThat(root.resolve(ContentAddressedStore.BLOB_DIR)).doesNotExist();
+    }
+}
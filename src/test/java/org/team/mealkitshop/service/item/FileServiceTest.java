@@ -0,0 +1,69 @@
+package org.team.mealkitshop.service.item;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FileService 다중 병렬 저장 단위 테스트
+ * - 입력 순서 유지, 묶음 내 같은 내용 제거, 실패 시 묶음 전체 정리
+ */
+class FileServiceTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void 병렬_저장은_입력_순서를_지키고_같은_내용은_한_장만_남긴다() throws Exception {
+        FileService fileService = new FileService(root.toString(), 3);
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("files", "a.jpg", "image/jpeg", new byte[]{1, 2, 3}),
+                new MockMultipartFile("files", "b.jpg", "image/jpeg", new byte[]{4, 5}),
+                new MockMultipartFile("files", "a-copy.jpg", "image/jpeg", new byte[]{1, 2, 3}));
+
+        List<FileService.StoredFile> stored = fileService.uploadAllIn("item", files);
+
+        assertThat(stored).extracting(FileService.StoredFile::originalName)
+                .containsExactly("a.jpg", "b.jpg", "a-copy.jpg");
+        assertThat(stored.get(2).duplicate()).isTrue();
+        assertThat(stored.get(2).duplicateOf()).isZero();
+        assertThat(stored.get(0).size()).isEqualTo(3);
+        assertThat(stored.get(0).sha256()).isEqualTo(stored.get(2).sha256()).hasSize(64);
+        try (Stream<Path> saved = Files.list(root.resolve("item"))) {
+            assertThat(saved).hasSize(2);
+        }
+    }
+
+    @Test
+    void 하나라도_실패하면_이번_묶음의_파일을_모두_지운다() throws Exception {
+        FileService fileService = new FileService(root.toString(), 2);
+        MultipartFile broken = new MockMultipartFile("files", "x.jpg", "image/jpeg", new byte[]{9}) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("files", "a.jpg", "image/jpeg", new byte[]{1}),
+                broken,
+                new MockMultipartFile("files", "b.jpg", "image/jpeg", new byte[]{2}));
+
+        assertThatThrownBy(() -> fileService.uploadAllIn("item", files))
+                .isInstanceOf(IOException.class)
+                .hasMessage("disk full");
+        try (Stream<Path> saved = Files.list(root.resolve("item"))) {
+            assertThat(saved).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.team.mealkitshop.service.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.team.mealkitshop.config.ItemDetailCacheProperties;
+import org.team.mealkitshop.dto.item.ItemDTO;
+import org.team.mealkitshop.event.ItemChangedEvent;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ItemDetailCache 단위 테스트
+ * - 적중/미스 집계, 이벤트 무효화
+ * - 로딩 도중 무효화된 결과는 저장하지 않음
+ */
+class ItemDetailCacheTest {
+
+    private ItemDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ItemDetailCache(new ItemDetailCacheProperties(Duration.ofMinutes(5), 2));
+    }
+
+    private ItemDTO dto(Long id) {
+        ItemDTO d = new ItemDTO();
+        d.setId(id);
+        return d;
+    }
+
+    @Test
+    void 저장후_적중_이벤트로_무효화() {
+        assertThat(cache.get(1L)).isNull();
+        cache.put(1L, cache.generation(1L), dto(1L));
+        assertThat(cache.get(1L)).isNotNull();
+
+        cache.onItemChanged(ItemChangedEvent.of(1L));
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.metrics()).containsEntry("hits", 1L).containsEntry("misses", 2L);
+    }
+
+    @Test
+    void 로딩중_무효화되면_저장하지_않음() {
+        long gen = cache.generation(1L);
+        cache.evict(1L); // 로딩 도중 쓰기 커밋
+        cache.put(1L, gen, dto(1L));
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.metrics()).containsEntry("staleLoadsDiscarded", 1L);
+    }
+
+    @Test
+    void 용량초과시_오래된_항목부터_제거() {
+        cache.put(1L, cache.generation(1L), dto(1L));
+        cache.put(2L, cache.generation(2L), dto(2L));
+        cache.put(3L, cache.generation(3L), dto(3L));
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(3L)).isNotNull();
+    }
+}
@@ -0,0 +1,129 @@
+package org.team.mealkitshop.service.item;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.team.mealkitshop.common.FoodItem;
+import org.team.mealkitshop.common.ItemSellStatus;
+import org.team.mealkitshop.domain.item.Item;
+import org.team.mealkitshop.domain.item.ItemListing;
+import org.team.mealkitshop.domain.item.ItemReviewStats;
+import org.team.mealkitshop.event.ItemChangedEvent;
+import org.team.mealkitshop.repository.item.ItemImgRepository;
+import org.team.mealkitshop.repository.item.ItemListingRepository;
+import org.team.mealkitshop.repository.item.ItemReviewStatsRepository;
+import org.team.mealkitshop.repository.item.ItemRepository;
+import org.team.mealkitshop.repository.order.OrderItemRepository;
+import org.team.mealkitshop.service.ranking.RankingService;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * ItemListingService 단위 테스트 (Mockito)
+ * - 집계값(대표 이미지/리뷰 통계/판매량) → 목록 행 반영
+ * - 원본 상품이 사라진 경우 목록 행 삭제
+ */
+@ExtendWith(MockitoExtension.class)
+class ItemListingServiceTest {
+
+    @Mock private ItemListingRepository itemListingRepository;
+    @Mock private ItemRepository itemRepository;
+    @Mock private ItemImgRepository itemImgRepository;
+    @Mock private ItemReviewStatsRepository itemReviewStatsRepository;
+    @Mock private OrderItemRepository orderItemRepository;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private RankingService rankingService;
+
+    @InjectMocks
+    private ItemListingService itemListingService;
+
+    private Item sampleItem(Long id) {
+        Item item = Item.builder()
+                .id(id)
+                .itemNm("샐러드")
+                .originalPrice(10_000)
+                .discountRate(15)
+                .stockNumber(3)
+                .itemSellStatus(ItemSellStatus.SELL)
+                .itemLike(7L)
+                .itemViewCnt(42L)
+                .build();
+        item.setFoodItem(FoodItem.SALAD);
+        return item;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refresh_집계값으로_목록행_생성() {
+        given(itemRepository.findAllById(anyIterable())).willReturn(List.of(sampleItem(1L)));
+        given(itemImgRepository.findRepUrlsByItemIdIn(anyCollection())).willReturn(List.of(
+                new ItemImgRepository.ItemRepProjection() {
+                    public Long getItemId() { return 1L; }
+                    public String getImgUrl() { return "/images/item/a.jpg"; }
+                }));
+        ItemReviewStats stats = mock(ItemReviewStats.class);
+        given(stats.getItemId()).willReturn(1L);
+        given(stats.avgRating()).willReturn(4.5);
+        given(stats.getReviewCount()).willReturn(2L);
+        given(itemReviewStatsRepository.findAllById(anyIterable())).willReturn(List.of(stats));
+        given(orderItemRepository.sumSoldQuantityByItemIds(anyCollection(), anyCollection())).willReturn(List.of(
+                new OrderItemRepository.ItemSoldQuantity() {
+                    public Long getItemId() { return 1L; }
+                    public Long getSoldQuantity() { return 9L; }
+                }));
+        given(itemListingRepository.findAllById(anyIterable())).willReturn(List.of());
+
+        itemListingService.refresh(List.of(1L));
+
+        ArgumentCaptor<List<ItemListing>> captor = ArgumentCaptor.forClass(List.class);
+        verify(itemListingRepository).saveAll(captor.capture());
+        ItemListing row = captor.getValue().get(0);
+        assertThat(row.getItemId()).isEqualTo(1L);
+        assertThat(row.getSalePrice()).isEqualTo(8_500);
+        assertThat(row.getRepImgUrl()).isEqualTo("/images/item/a.jpg");
+        assertThat(row.getAvgRating()).isEqualTo(4.5);
+        assertThat(row.getReviewCount()).isEqualTo(2L);
+        assertThat(row.getSoldQuantity()).isEqualTo(9L);
+        assertThat(row.getItemViewCnt()).isEqualTo(42L);
+        verify(itemListingRepository, never()).deleteByItemIdIn(any());
+    }
+
+    @Test
+    void onItemChanged_원본삭제시_목록행삭제() {
+        given(itemRepository.findAllById(anyIterable())).willReturn(List.of());
+
+        itemListingService.onItemChanged(ItemChangedEvent.of(5L));
+
+        verify(itemListingRepository).deleteByItemIdIn(Set.of(5L));
+        verify(rankingService).onItemsRefreshed(List.of(), Set.of(5L));
+        verify(itemListingRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void 순위표는_목록_행_커밋_후에만_반영한다() {
+        given(itemRepository.findAllById(anyIterable())).willReturn(List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            itemListingService.refresh(List.of(5L));
+            verifyNoInteractions(rankingService);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(rankingService).onItemsRefreshed(List.of(), Set.of(5L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -6,13 +6,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import org.team.mealkitshop.domain.item.Item;
 import org.team.mealkitshop.domain.item.ItemImage;
+import org.team.mealkitshop.domain.item.ItemReviewStats;
 import org.team.mealkitshop.dto.item.*;
 import org.team.mealkitshop.repository.item.ItemImgRepository;
 import org.team.mealkitshop.repository.item.ItemLikeRepository;
+import org.team.mealkitshop.repository.item.ItemListingRepository;
+import org.team.mealkitshop.repository.item.ItemReviewStatsRepository;
 import org.team.mealkitshop.repository.item.ItemRepository;
 import org.team.mealkitshop.repository.item.ReviewRepository;
 
@@ -35,14 +39,27 @@ class ItemServiceTest {
     @Mock private ItemRepository itemRepository;
     @Mock private ItemImgRepository itemImgRepository;
     @Mock private ReviewRepository reviewRepository;
+    @Mock private ItemReviewStatsRepository itemReviewStatsRepository;
+    @Mock private ReviewStatsService reviewStatsService;
     @Mock private ItemLikeRepository itemLikeRepository;
     @Mock private FileService fileService;
+    @Mock private ItemListingRepository itemListingRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ItemDetailCache itemDetailCache;
 
     @InjectMocks
     private ItemService itemService;
 
     /* ========================= helpers ========================= */
 
+    private ItemReviewStats stats(Long itemId, double avg, long count) {
+        ItemReviewStats s = mock(ItemReviewStats.class);
+        lenient().when(s.getItemId()).thenReturn(itemId);
+        given(s.avgRating()).willReturn(avg);
+        given(s.getReviewCount()).willReturn(count);
+        return s;
+    }
+
     private Item sampleItem(Long id) {
         Item i = Item.builder()
                 .id(id)
@@ -126,8 +143,9 @@ class ItemServiceTest {
         );
         given(itemImgRepository.findAllForDetail(itemId)).willReturn(ordered);
 
-        given(reviewRepository.getAverageRatingByItemId(itemId)).willReturn(4.5);
-        given(reviewRepository.countByItem_Id(itemId)).willReturn(7L);
+        ItemReviewStats stats = stats(itemId, 4.5, 7L);
+        given(stats.histogram()).willReturn(List.of(0L, 0L, 1L, 1L, 5L));
+        given(itemReviewStatsRepository.findById(itemId)).willReturn(Optional.of(stats));
 
         // when
         ItemDTO dto = itemService.read(itemId);
@@ -136,6 +154,7 @@ class ItemServiceTest {
         assertThat(dto.getId()).isEqualTo(itemId);
         assertThat(dto.getAvgRating()).isEqualTo(4.5);
         assertThat(dto.getReviewCount()).isEqualTo(7L);
+        assertThat(dto.getRatingHistogram()).containsExactly(0L, 0L, 1L, 1L, 5L);
         assertThat(dto.getItemImages()).hasSize(3);
         assertThat(dto.getItemImages().get(0).getImgUrl()).isEqualTo("/images/rep.jpg");
     }
@@ -177,30 +196,9 @@ class ItemServiceTest {
         Page<Item> page = new PageImpl<>(content, pageable, 3);
         given(itemRepository.findAll(pageable)).willReturn(page);
 
-        // 평균/개수 배치 쿼리 결과 모의
-        var avgRows = List.of(
-                new ReviewRepository.ItemAvgRating() {
-                    public Long getItemId() { return 1L; }
-                    public Double getAvgRating() { return 4.0; }
-                },
-                new ReviewRepository.ItemAvgRating() {
-                    public Long getItemId() { return 3L; }
-                    public Double getAvgRating() { return 0.0; }
-                }
-        );
-        var cntRows = List.of(
-                new ReviewRepository.ItemReviewCount() {
-                    public Long getItemId() { return 1L; }
-                    public Long getReviewCount() { return 5L; }
-                },
-                new ReviewRepository.ItemReviewCount() {
-                    public Long getItemId() { return 2L; }
-                    public Long getReviewCount() { return 2L; }
-                }
-        );
-
-        given(reviewRepository.findAvgRatingByItemIds(List.of(1L,2L,3L))).willReturn(avgRows);
-        given(reviewRepository.findReviewCountByItemIds(List.of(1L,2L,3L))).willReturn(cntRows);
+        // 미리 집계된 리뷰 통계 행 모의 (3번은 리뷰 없음 → 행 없음)
+        List<ItemReviewStats> rows = List.of(stats(1L, 4.0, 5L), stats(2L, 3.5, 2L));
+        given(itemReviewStatsRepository.findAllById(List.of(1L, 2L, 3L))).willReturn(rows);
 
         // when
         Page<ItemDTO> result = itemService.listWithStats(pageable);
@@ -212,10 +210,10 @@ class ItemServiceTest {
         assertThat(map.get(1L).getAvgRating()).isEqualTo(4.0);
         assertThat(map.get(1L).getReviewCount()).isEqualTo(5L);
 
-        // 평균 누락 → 0.0 보정
-        assertThat(map.get(2L).getAvgRating()).isEqualTo(0.0);
+        assertThat(map.get(2L).getAvgRating()).isEqualTo(3.5);
         assertThat(map.get(2L).getReviewCount()).isEqualTo(2L);
 
+        // 통계 행 없음 → 0 보정
         assertThat(map.get(3L).getAvgRating()).isEqualTo(0.0);
         assertThat(map.get(3L).getReviewCount()).isEqualTo(0L);
     }
@@ -265,6 +263,7 @@ class ItemServiceTest {
         verify(itemLikeRepository).deleteByItem_Id(itemId);
         // 리뷰 삭제
         verify(reviewRepository).deleteByItemId(itemId);
+        verify(reviewStatsService).removeItem(itemId);
         // 최종 삭제
         verify(itemRepository).delete(entity);
     }
@@ -292,7 +291,7 @@ class ItemServiceTest {
     }
 
     @Test
-    void getListPage_커스텀DTO프로젝션위임() {
+    void getListPage_목록읽기모델위임() {
         ItemSearchDTO cond = new ItemSearchDTO();
         Pageable pageable = PageRequest.of(0, 8);
 
@@ -309,12 +308,13 @@ class ItemServiceTest {
                 .build();
 
         Page<ListItemDTO> page = new PageImpl<>(List.of(row), pageable, 1);
-        given(itemRepository.getListItemPage(cond, pageable)).willReturn(page);
+        given(itemListingRepository.getListPage(cond, pageable)).willReturn(page);
 
         Page<ListItemDTO> result = itemService.getListPage(cond, pageable);
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getRepImgUrl()).isEqualTo("/images/x.jpg");
-        verify(itemRepository).getListItemPage(cond, pageable);
+        verify(itemListingRepository).getListPage(cond, pageable);
+        verify(itemRepository, never()).getListItemPage(any(), any());
     }
 
     /* ========================= read-only 보장 체크 ========================= */
@@ -326,8 +326,7 @@ class ItemServiceTest {
             Pageable pageable = PageRequest.of(0, 1);
             Page<Item> page = new PageImpl<>(List.of(sampleItem(1L)), pageable, 1);
             given(itemRepository.findAll(pageable)).willReturn(page);
-            given(reviewRepository.findAvgRatingByItemIds(anyList())).willReturn(List.of());
-            given(reviewRepository.findReviewCountByItemIds(anyList())).willReturn(List.of());
+            given(itemReviewStatsRepository.findAllById(anyList())).willReturn(List.of());
 
             Page<ItemDTO> result = itemService.listWithStats(pageable);
             assertThat(result.getTotalElements()).isEqualTo(1);
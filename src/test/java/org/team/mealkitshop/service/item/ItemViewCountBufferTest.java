@@ -0,0 +1,80 @@
+package org.team.mealkitshop.service.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.team.mealkitshop.config.ViewCountProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ItemViewCountBuffer 단위 테스트
+ * - 증가분 누적 → 상품별 delta 한 번의 배치로 반영
+ * - 반영 실패 시 누적분 보존
+ */
+@ExtendWith(MockitoExtension.class)
+class ItemViewCountBufferTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private ItemViewCountBuffer buffer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        buffer = new ItemViewCountBuffer(jdbcTemplate, transactionTemplate,
+                new ViewCountProperties(Duration.ofSeconds(5), 10_000));
+        lenient().doAnswer(inv -> {
+            ((Consumer<TransactionStatus>) inv.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 누적후_상품별_delta로_배치반영() {
+        for (int i = 0; i < 3; i++) buffer.increment(1L);
+        buffer.increment(2L);
+        assertThat(buffer.pendingDelta()).isEqualTo(4L);
+        assertThat(buffer.pending(1L)).isEqualTo(3L);
+
+        buffer.scheduledFlush();
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("update item set"), captor.capture());
+        assertThat(captor.getValue())
+                .extracting(row -> row[1] + ":" + row[0])
+                .containsExactlyInAnyOrder("1:3", "2:1");
+        assertThat(buffer.pendingDelta()).isZero();
+
+        // 변화 없으면 DB 호출 없음
+        buffer.scheduledFlush();
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void 반영실패시_누적분_보존() {
+        buffer.increment(7L);
+        buffer.increment(7L);
+        doThrow(new RuntimeException("db down")).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        buffer.flushOnShutdown();
+
+        assertThat(buffer.pendingDelta()).isEqualTo(2L);
+        assertThat(buffer.pending(7L)).isEqualTo(2L);
+        assertThat(buffer.metrics().get("failedFlushCount")).isEqualTo(1L);
+    }
+}
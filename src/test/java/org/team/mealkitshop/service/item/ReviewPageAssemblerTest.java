@@ -0,0 +1,139 @@
+package org.team.mealkitshop.service.item;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.team.mealkitshop.common.*;
+import org.team.mealkitshop.domain.item.Item;
+import org.team.mealkitshop.domain.item.Review;
+import org.team.mealkitshop.domain.item.ReviewImage;
+import org.team.mealkitshop.domain.item.ReviewReply;
+import org.team.mealkitshop.domain.member.Member;
+import org.team.mealkitshop.dto.item.ReviewDTO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리뷰 페이지 조립 쿼리 수 검증 (H2, Hibernate 통계)
+ * - 작성자/이미지/답변이 페이지 크기와 무관하게 고정 횟수 SQL 로 채워지는지
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class ReviewPageAssemblerTest {
+
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+    @Autowired ReviewService reviewService;
+
+    private Statistics stats;
+    private Member admin;
+
+    @BeforeEach
+    void setUp() {
+        stats = emf.unwrap(SessionFactory.class).getStatistics();
+        admin = member("admin@test.com", "관리자", Role.ADMIN);
+    }
+
+    @Test
+    void 페이지_크기와_무관하게_SQL_수가_일정하다() {
+        Item small = itemWithReviews("소", 3);
+        Item large = itemWithReviews("대", 30);
+
+        long smallCount = statementsFor(small, 3);
+        long largeCount = statementsFor(large, 30);
+
+        // 페이지 + 전체 건수(가득 찬 첫 페이지) + 일괄 3회(답변, 이미지, 작성자) + 대표 썸네일
+        assertThat(smallCount).isEqualTo(6);
+        assertThat(largeCount).isEqualTo(6);
+    }
+
+    @Test
+    void 작성자_이미지_답변이_채워진다() {
+        Item it = itemWithReviews("샐러드", 2);
+        em.flush();
+        em.clear();
+
+        Page<ReviewDTO> page = reviewService.listByItem(it.getId(), PageRequest.of(0, 10), true, true);
+
+        assertThat(page.getContent()).hasSize(2).allSatisfy(dto -> {
+            assertThat(dto.getWriterName()).startsWith("작성자");
+            assertThat(dto.getItemName()).isEqualTo("샐러드");
+            assertThat(dto.getReviewImages()).hasSize(2);
+            assertThat(dto.getReply()).isNotNull();
+            assertThat(dto.getReply().getAdminName()).isEqualTo("관리자");
+        });
+    }
+
+    private long statementsFor(Item item, int size) {
+        em.flush();
+        em.clear();
+        stats.clear();
+
+        Page<ReviewDTO> page = reviewService.listByItem(item.getId(), PageRequest.of(0, size), true, true);
+        // DTO 만 읽어도 추가 지연 로딩이 없어야 함
+        page.getContent().forEach(dto -> {
+            assertThat(dto.getWriterName()).isNotNull();
+            assertThat(dto.getReply().getAdminName()).isNotNull();
+        });
+        assertThat(page.getContent()).hasSize(size);
+        return stats.getPrepareStatementCount();
+    }
+
+    /* ========================= fixtures ========================= */
+
+    private Item itemWithReviews(String name, int reviews) {
+        Item it = new Item();
+        it.setItemNm(name);
+        it.setItemDetail("detail-" + name);
+        it.setOriginalPrice(1000);
+        it.setItemSellStatus(ItemSellStatus.SELL);
+        it.setFoodItem(FoodItem.SET);
+        em.persist(it);
+
+        for (int i = 0; i < reviews; i++) {
+            Member writer = member(name + i + "@test.com", "작성자" + name + i, Role.USER);
+            Review r = new Review();
+            r.setMember(writer);
+            r.setItem(it);
+            r.changeContent("리뷰 " + i);
+            r.changeRating(1 + i % 5);
+            em.persist(r);
+
+            for (int k = 0; k < 2; k++) {
+                em.persist(ReviewImage.builder()
+                        .review(r)
+                        .imgUrl("/images/review")
+                        .imgName("r" + i + "-" + k + ".jpg")
+                        .oriImgName("r" + i + "-" + k + ".jpg")
+                        .build());
+            }
+            em.persist(ReviewReply.builder().review(r).admin(admin).content("감사합니다").build());
+        }
+        return it;
+    }
+
+    private Member member(String email, String name, Role role) {
+        Member m = new Member();
+        m.setEmail(email);
+        m.setMemberName(name);
+        m.setPassword("$2a$10$abcdefghijklmnopqrstuvwx.yzABCDEFGHijklmnopqrs");
+        m.setRole(role);
+        m.setProvider(Provider.Local);
+        m.setStatus(Status.ACTIVE);
+        m.setGrade(Grade.BASIC);
+        m.setPoints(0);
+        m.setPhone("010-0000-0000");
+        em.persist(m);
+        return m;
+    }
+}
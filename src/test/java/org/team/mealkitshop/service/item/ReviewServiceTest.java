@@ -207,7 +207,7 @@ class ReviewServiceTest {
         Review r2 = reviewWith(42L, member(2L, "B"), item(itemId));
         Page<Review> page = new PageImpl<>(List.of(r1, r2), pageable, 2);
 
-        when(reviewRepository.findWithImagesByItemId(eq(itemId), any())).thenReturn(page);
+        when(reviewRepository.findByItem_Id(eq(itemId), any())).thenReturn(page);
 
         Map<Long, List<ReviewImageDTO>> imagesMap = new HashMap<>();
         imagesMap.put(41L, List.of(imgDto(1001L, "a.jpg")));
@@ -234,7 +234,7 @@ class ReviewServiceTest {
         assertThat(dto2.getReviewImages()).extracting(ReviewImageDTO::getImgName).containsExactly("b.jpg");
         assertThat(dto2.getReply()).isNull();
 
-        verify(reviewRepository).findWithImagesByItemId(eq(itemId), any());
+        verify(reviewRepository).findByItem_Id(eq(itemId), any());
         verify(reviewImageService).listByReviewIdsGrouped(List.of(41L, 42L));
         verify(reviewReplyRepository).findByReview_IdIn(List.of(41L, 42L));
     }
@@ -0,0 +1,104 @@
+package org.team.mealkitshop.service.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.team.mealkitshop.config.ReviewStatsProperties;
+import org.team.mealkitshop.event.ItemChangedEvent;
+import org.team.mealkitshop.repository.item.ItemRepository;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 상품별 리뷰 통계 단위 테스트(DB 는 목)
+ * - 작성/수정/삭제 변화량, 보정 시 어긋난 행만 CAS 로 고침
+ */
+class ReviewStatsServiceTest {
+
+    private JdbcTemplate jdbc;
+    private ItemRepository itemRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private ReviewStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = mock(JdbcTemplate.class);
+        itemRepository = mock(ItemRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new ReviewStatsService(jdbc, itemRepository,
+                new ReviewStatsProperties(false, "-", 100), eventPublisher);
+    }
+
+    @Test
+    void 변화량은_건수_평점합_별점분포() {
+        assertThat(ReviewStatsService.delta(null, 4)).containsExactly(1, 4, 0, 0, 0, 1, 0);
+        assertThat(ReviewStatsService.delta(4, 2)).containsExactly(0, -2, 0, 1, 0, -1, 0);
+        assertThat(ReviewStatsService.delta(5, null)).containsExactly(-1, -5, 0, 0, 0, 0, -1);
+        assertThatThrownBy(() -> ReviewStatsService.delta(null, 6)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 작성_수정_삭제는_upsert_로_반영하고_같은_평점은_무시() {
+        service.added(7L, 5);
+        service.changed(7L, 5, 3);
+        service.changed(7L, 3, 3);
+        service.removed(7L, 3);
+
+        verify(jdbc).update(contains("on duplicate key update"), eq(7L), eq(1L), eq(5L), eq(0L), eq(0L), eq(0L), eq(0L), eq(1L));
+        verify(jdbc).update(contains("on duplicate key update"), eq(7L), eq(0L), eq(-2L), eq(0L), eq(0L), eq(1L), eq(0L), eq(-1L));
+        verify(jdbc).update(contains("on duplicate key update"), eq(7L), eq(-1L), eq(-3L), eq(0L), eq(0L), eq(-1L), eq(0L), eq(0L));
+        assertThat(service.metrics()).containsEntry("appliedDeltas", 3L);
+    }
+
+    @Test
+    void 보정은_어긋난_행만_CAS_로_고치고_목록에_전파() {
+        when(itemRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L, 3L));
+        // 저장된 통계: 1 은 정확, 2 는 어긋남, 3 은 행 없음
+        stub("from item_review_stats", Map.of(
+                1L, new long[]{1, 5, 0, 0, 0, 0, 1},
+                2L, new long[]{1, 4, 0, 0, 0, 1, 0}));
+        // 원본 집계
+        stub("from review", Map.of(
+                1L, new long[]{1, 5, 0, 0, 0, 0, 1},
+                2L, new long[]{2, 6, 0, 1, 0, 1, 0},
+                3L, new long[]{1, 1, 1, 0, 0, 0, 0}));
+        when(jdbc.update(startsWith("update item_review_stats"), any(Object[].class))).thenReturn(1);
+        when(jdbc.update(startsWith("insert ignore"), any(Object[].class))).thenReturn(0); // 그 사이 증분이 먼저 생성
+
+        int fixed = service.reconcile();
+
+        assertThat(fixed).isEqualTo(1);
+        verify(jdbc).update(startsWith("update item_review_stats"),
+                eq(2L), eq(6L), eq(0L), eq(1L), eq(0L), eq(1L), eq(0L),
+                eq(2L),
+                eq(1L), eq(4L), eq(0L), eq(0L), eq(0L), eq(1L), eq(0L));
+        verify(eventPublisher).publishEvent(ItemChangedEvent.of(2L));
+        assertThat(service.metrics())
+                .containsEntry("checkedItems", 3L)
+                .containsEntry("driftedItems", 2L)
+                .containsEntry("racedItems", 1L);
+    }
+
+    private void stub(String from, Map<Long, long[]> rows) {
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(1);
+            for (Map.Entry<Long, long[]> e : rows.entrySet()) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong(1)).thenReturn(e.getKey());
+                for (int i = 0; i < e.getValue().length; i++) when(rs.getLong(i + 2)).thenReturn(e.getValue()[i]);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbc).query(contains(from), any(RowCallbackHandler.class), any(Object[].class));
+    }
+}
@@ -0,0 +1,128 @@
+package org.team.mealkitshop.service.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.team.mealkitshop.config.UploadGcProperties;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 고아 업로드 파일 정리 단위 테스트(DB 는 목)
+ * - 참조 행/상세 HTML/파생본 보존, 유예 기간·관리 대상 밖 폴더 보존, dry-run, 삭제 직전 재확인
+ */
+class UploadGarbageCollectorTest {
+
+    private static final String BOARD_FILE = "0f8fad5b-d9cb-469f-a165-70867728950e_사진.png";
+    private static final String LIVE_BOARD = "6fa459ea-ee8a-3ca4-894e-db77e160355e_live.png";
+
+    @TempDir
+    Path root;
+
+    private JdbcTemplate jdbc;
+    private UploadGarbageCollector gc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbc = mock(JdbcTemplate.class);
+        when(jdbc.query(startsWith("select item_img_id"), any(RowMapper.class), eq(0L), anyInt()))
+                .thenReturn(List.of(new UploadGarbageCollector.Row(1L, "item/a.jpg", "/images/item/a.jpg")));
+        when(jdbc.query(startsWith("select review_img_id"), any(RowMapper.class), eq(0L), anyInt()))
+                .thenReturn(List.of(new UploadGarbageCollector.Row(1L, "/images/review/r.jpg", null)));
+        when(jdbc.query(startsWith("select item_id"), any(RowMapper.class), eq(0L), anyInt()))
+                .thenReturn(List.of(new UploadGarbageCollector.Row(1L, "<p><img src=\"/images/detail/d.png?v=1\"></p>", null)));
+        when(jdbc.query(startsWith("select file_id"), any(RowMapper.class), eq(0L), anyInt()))
+                .thenReturn(List.of(new UploadGarbageCollector.Row(1L, LIVE_BOARD, null)));
+
+        UploadGcProperties props = new UploadGcProperties(true, true, "-", Duration.ofHours(24), 500, 100,
+                List.of("item", "detail", "review"));
+        gc = new UploadGarbageCollector(new FileService(root.toString()), jdbc, props, root.toString(), "/images/");
+
+        old("item/a.jpg");
+        old("item/_d/card/a.jpg");
+        old("item/orphan.jpg");
+        old("item/_d/card/gone.jpg");
+        old("detail/d.png");
+        old("review/r.jpg");
+        old(BOARD_FILE);
+        old(LIVE_BOARD);
+        old("_d/card/6fa459ea-ee8a-3ca4-894e-db77e160355e_live.jpg");
+        old("_d/card/1b4e28ba-2fa1-11d2-883f-0016d3cca427_gone.jpg");
+        old("banner/banner1.jpg");
+        old("_blobs/ab/cd/abcd");
+        Files.createDirectories(root.resolve("item"));
+        Files.write(root.resolve("item/new.jpg"), new byte[]{1}); // 유예 기간 안
+    }
+
+    @Test
+    void 참조없고_오래된_파일만_지운다() throws Exception {
+        UploadGarbageCollector.GcReport report = gc.run(false);
+
+        assertThat(root.resolve("item/orphan.jpg")).doesNotExist();
+        assertThat(root.resolve("item/_d/card/gone.jpg")).doesNotExist();
+        assertThat(root.resolve(BOARD_FILE)).doesNotExist();
+        assertThat(root.resolve("_d/card/1b4e28ba-2fa1-11d2-883f-0016d3cca427_gone.jpg")).doesNotExist();
+
+        assertThat(root.resolve("item/a.jpg")).exists();
+        assertThat(root.resolve("item/_d/card/a.jpg")).exists();   // 참조 원본의 파생본
+        assertThat(root.resolve("detail/d.png")).exists();          // 상세 HTML 참조
+        assertThat(root.resolve("review/r.jpg")).exists();          // URL 로 참조
+        assertThat(root.resolve("item/new.jpg")).exists();          // 유예 기간
+        assertThat(root.resolve("banner/banner1.jpg")).exists();    // 관리 대상 밖
+        assertThat(root.resolve("_blobs/ab/cd/abcd")).exists();
+        assertThat(root.resolve(LIVE_BOARD)).exists();
+        assertThat(root.resolve("_d/card/6fa459ea-ee8a-3ca4-894e-db77e160355e_live.jpg")).exists(); // 게시판 파생본
+
+        assertThat(report.orphans()).isEqualTo(4);
+        assertThat(report.deleted()).isEqualTo(4);
+        assertThat(report.young()).isEqualTo(1);
+        assertThat(report.referenced()).isEqualTo(6);
+    }
+
+    @Test
+    void dry_run_은_집계만_한다() throws Exception {
+        UploadGarbageCollector.GcReport report = gc.run(true);
+
+        assertThat(report.orphans()).isEqualTo(4);
+        assertThat(report.deleted()).isZero();
+        assertThat(root.resolve("item/orphan.jpg")).exists();
+    }
+
+    @Test
+    void 표시_이후_커밋된_참조는_삭제하지_않는다() throws Exception {
+        when(jdbc.queryForList(anyString(), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of("/images/item/orphan.jpg"));
+
+        UploadGarbageCollector.GcReport report = gc.run(false);
+
+        assertThat(root.resolve("item/orphan.jpg")).exists();
+        assertThat(report.rescued()).isEqualTo(1);
+        assertThat(report.deleted()).isEqualTo(3);
+    }
+
+    @Test
+    void 파생본_판정_키() {
+        assertThat(UploadGarbageCollector.derivativeKey("item/_d/card/abc.jpg")).isEqualTo("item/abc");
+        assertThat(UploadGarbageCollector.derivativeKey("_d/mobile/uuid_사진.v2.webp")).isEqualTo("uuid_사진.v2");
+        assertThat(UploadGarbageCollector.stemKey("uuid_사진.v2.jpeg")).isEqualTo("uuid_사진.v2");
+        assertThat(UploadGarbageCollector.stemKey("item/noext")).isEqualTo("item/noext");
+    }
+
+    private void old(String relative) throws Exception {
+        Path p = root.resolve(relative);
+        Files.createDirectories(p.getParent());
+        Files.write(p, relative.getBytes());
+        Files.setLastModifiedTime(p, FileTime.from(Instant.now().minus(Duration.ofDays(3))));
+    }
+}
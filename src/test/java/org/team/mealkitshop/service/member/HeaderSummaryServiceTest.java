@@ -0,0 +1,109 @@
+package org.team.mealkitshop.service.member;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import org.team.mealkitshop.common.Grade;
+import org.team.mealkitshop.domain.member.Member;
+import org.team.mealkitshop.event.MemberHeaderChangedEvent;
+import org.team.mealkitshop.repository.cart.CartItemRepository;
+import org.team.mealkitshop.repository.member.MemberRepository;
+import org.team.mealkitshop.service.member.HeaderSummaryService.HeaderSummary;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * HeaderSummaryService 단위 테스트
+ * - 같은 세션의 다음 요청은 DB 조회 없이 요약 재사용
+ * - 변경 이벤트 이후에만 재조회
+ */
+@ExtendWith(MockitoExtension.class)
+class HeaderSummaryServiceTest {
+
+    @Mock private MemberRepository memberRepository;
+    @Mock private CartItemRepository cartItemRepository;
+
+    @InjectMocks
+    private HeaderSummaryService service;
+
+    private final MockHttpSession session = new MockHttpSession();
+    private Authentication auth;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        auth = new UsernamePasswordAuthenticationToken(
+                new User("a@test.com", "pw", AuthorityUtils.createAuthorityList("ROLE_USER")),
+                null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+
+        Member m = new Member();
+        m.setMno(7L);
+        m.setEmail("a@test.com");
+        m.setMemberName("홍길동");
+        m.setGrade(Grade.VIP);
+        member = m;
+        given(memberRepository.findMnoByEmail("a@test.com")).willReturn(Optional.of(7L));
+        lenient().when(memberRepository.findByEmail("a@test.com")).thenReturn(Optional.of(m));
+    }
+
+    private HeaderSummary newRequest() {
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        req.setSession(session);
+        return service.resolve(auth, req);
+    }
+
+    @Test
+    void 같은_세션은_두번째_요청부터_DB조회_없음() {
+        given(cartItemRepository.countByCart_Member_Mno(7L)).willReturn(3);
+
+        HeaderSummary first = newRequest();
+        HeaderSummary second = newRequest();
+
+        assertThat(first.name()).isEqualTo("홍길동");
+        assertThat(second.cartCount()).isEqualTo(3);
+        verify(memberRepository, times(1)).findByEmail("a@test.com");
+        verify(cartItemRepository, times(1)).countByCart_Member_Mno(7L);
+    }
+
+    @Test
+    void 변경이벤트_후_재조회() {
+        given(cartItemRepository.countByCart_Member_Mno(7L)).willReturn(3, 4);
+
+        newRequest();
+        service.onMemberHeaderChanged(MemberHeaderChangedEvent.of(7L));
+        HeaderSummary after = newRequest();
+
+        assertThat(after.cartCount()).isEqualTo(4);
+        verify(memberRepository, times(2)).findByEmail("a@test.com");
+    }
+
+    @Test
+    void 회원_조회_중_들어온_변경은_다음_요청에서_반영() {
+        given(memberRepository.findByEmail("a@test.com")).willAnswer(inv -> {
+            service.onMemberHeaderChanged(MemberHeaderChangedEvent.of(7L)); // 조회와 커밋이 엇갈림
+            return Optional.of(member);
+        }).willReturn(Optional.of(member));
+        given(cartItemRepository.countByCart_Member_Mno(7L)).willReturn(3, 4);
+
+        newRequest();
+        HeaderSummary after = newRequest();
+
+        assertThat(after.cartCount()).isEqualTo(4);
+        verify(memberRepository, times(2)).findByEmail("a@test.com");
+    }
+}
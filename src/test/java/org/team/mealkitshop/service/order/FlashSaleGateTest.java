@@ -0,0 +1,113 @@
+package org.team.mealkitshop.service.order;
+
+import org.junit.jupiter.api.Test;
+import org.team.mealkitshop.config.FlashSaleProperties;
+import org.team.mealkitshop.exception.OutOfStockException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FlashSaleGate 단위 테스트
+ * - 배정 토큰 수만큼만 입장, 소진 후 즉시 거절
+ * - 롤백 시 토큰 반환
+ * - 커밋된 주문의 취소/만료 시 토큰 반환(배정 수 상한)
+ */
+class FlashSaleGateTest {
+
+    private static final long ITEM = 1L;
+
+    private FlashSaleGate gate(int permitsPerSecond, int burst) {
+        return new FlashSaleGate(new FlashSaleProperties(permitsPerSecond, burst, 8, 10_000, Duration.ofSeconds(2)));
+    }
+
+    @Test
+    void 소진후_즉시거절_롤백시_토큰반환() {
+        FlashSaleGate gate = gate(1_000_000, 1_000_000);
+        gate.open(ITEM, 2, null, null);
+
+        FlashSaleGate.Admission a = gate.admit(Map.of(ITEM, 2));
+        assertThatThrownBy(() -> gate.admit(Map.of(ITEM, 1))).isInstanceOf(OutOfStockException.class);
+
+        a.complete(false); // 주문 롤백
+        gate.admit(Map.of(ITEM, 1)).complete(true);
+
+        assertThat(gate.metrics().get(ITEM))
+                .containsEntry("remainingTokens", 1)
+                .containsEntry("returnedTokens", 2L);
+    }
+
+    @Test
+    void 커밋된_주문이_취소되면_토큰반환_배정수_초과없음() {
+        FlashSaleGate gate = gate(1_000_000, 1_000_000);
+        gate.open(ITEM, 2, null, null);
+
+        gate.admit(Map.of(ITEM, 2)).complete(true);
+        assertThatThrownBy(() -> gate.admit(Map.of(ITEM, 1))).isInstanceOf(OutOfStockException.class);
+
+        gate.release(Map.of(ITEM, 1));            // 주문 취소
+        gate.admit(Map.of(ITEM, 1)).complete(true);
+
+        gate.release(Map.of(ITEM, 5, 2L, 3));     // 세일 전 주문 반환 + 세일 아닌 상품
+        assertThat(gate.metrics().get(ITEM))
+                .containsEntry("remainingTokens", 2)
+                .containsEntry("releasedTokens", 3L);
+    }
+
+    @Test
+    void 세일상품이_아니면_통과() {
+        FlashSaleGate gate = gate(1, 1);
+        gate.admit(Map.of(2L, 100)).complete(true);
+        assertThat(gate.metrics()).isEmpty();
+    }
+
+    @Test
+    void 유량초과시_거절() {
+        FlashSaleGate gate = gate(1, 1);
+        gate.open(ITEM, 100, null, null);
+        gate.admit(Map.of(ITEM, 1)).complete(true);
+        assertThatThrownBy(() -> gate.admit(Map.of(ITEM, 1))).isInstanceOf(IllegalStateException.class);
+    }
+
+    /** 동시 시도: 토큰 1,000개 / 시도 200,000건 — 정확히 1,000건만 입장하고 나머지는 DB 없이 거절 */
+    @Test
+    void 동시_시도에도_배정_토큰_수만큼만_입장() throws Exception {
+        int tokens = 1_000, attempts = 200_000, threads = 32;
+        FlashSaleGate gate = gate(Integer.MAX_VALUE, Integer.MAX_VALUE);
+        gate.open(ITEM, tokens, 1_000_000_000, 1_000_000);
+
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.submit(() -> {
+                try {
+                    for (int i = 0; i < attempts / threads; i++) {
+                        try {
+                            gate.admit(Map.of(ITEM, 1)).complete(true);
+                            admitted.incrementAndGet();
+                        } catch (OutOfStockException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        pool.shutdown();
+
+        assertThat(admitted.get()).isEqualTo(tokens);
+        assertThat(rejected.get()).isEqualTo(attempts - tokens);
+    }
+}
@@ -0,0 +1,66 @@
+package org.team.mealkitshop.service.order;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.team.mealkitshop.common.Pay;
+import org.team.mealkitshop.config.FlashSaleProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 주문 생성 진입점 — 입장은 트랜잭션 밖, 주문 결과에 따라 토큰 소비/반환
+ */
+class OrderPlacementServiceTest {
+
+    private static final long ITEM = 1L;
+
+    private OrderService orderService;
+    private FlashSaleGate gate;
+    private OrderPlacementService placement;
+
+    @BeforeEach
+    void setUp() {
+        orderService = mock(OrderService.class);
+        gate = new FlashSaleGate(new FlashSaleProperties(1_000_000, 1_000_000, 8, 100, Duration.ofSeconds(2)));
+        placement = new OrderPlacementService(orderService, gate);
+    }
+
+    @Test
+    void 세일이_없으면_수량_조회_없이_바로_주문() {
+        given(orderService.createOrder(7L, 3L, Pay.POINT, Map.of())).willReturn(100L);
+
+        assertThat(placement.createOrder(7L, 3L, Pay.POINT)).isEqualTo(100L);
+        verify(orderService, never()).cartQuantities(any(), any());
+    }
+
+    @Test
+    void 주문이_실패하면_토큰_반환_성공하면_소비() {
+        gate.open(ITEM, 2, null, null);
+        given(orderService.cartQuantities(7L, null)).willReturn(Map.of(ITEM, 2));
+        given(orderService.createOrder(7L, 3L, Pay.POINT, Map.of(ITEM, 2)))
+                .willThrow(new IllegalStateException("포인트가 부족합니다."))
+                .willReturn(100L);
+
+        assertThatThrownBy(() -> placement.createOrder(7L, 3L, Pay.POINT)).isInstanceOf(IllegalStateException.class);
+        assertThat(gate.metrics().get(ITEM)).containsEntry("remainingTokens", 2).containsEntry("inFlight", 0);
+
+        assertThat(placement.createOrder(7L, 3L, Pay.POINT)).isEqualTo(100L);
+        assertThat(gate.metrics().get(ITEM)).containsEntry("remainingTokens", 0).containsEntry("committed", 1L);
+    }
+
+    @Test
+    void 입장_수량을_넘는_세일_라인은_트랜잭션_안에서_거절() {
+        gate.open(ITEM, 5, null, null);
+
+        assertThatThrownBy(() -> gate.verifyAdmitted(Map.of(ITEM, 2, 9L, 1), Map.of(ITEM, 1)))
+                .isInstanceOf(IllegalStateException.class);
+        gate.verifyAdmitted(Map.of(ITEM, 1, 9L, 1), Map.of(ITEM, 1)); // 세일 아닌 상품은 대상 아님
+    }
+}
@@ -0,0 +1,117 @@
+package org.team.mealkitshop.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.team.mealkitshop.common.Category;
+import org.team.mealkitshop.common.FoodItem;
+import org.team.mealkitshop.common.ItemSellStatus;
+import org.team.mealkitshop.domain.item.Item;
+import org.team.mealkitshop.event.ItemChangedEvent;
+import org.team.mealkitshop.exception.OutOfStockException;
+import org.team.mealkitshop.repository.item.ItemRepository;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 예약 동시성 테스트
+ * - 한 상품(SKU)에 수백 스레드가 동시에 1개씩 예약 → 정확히 재고 수만큼만 성공, 재고 음수/lost update 없음
+ * - 스레드별 독립 트랜잭션이 커밋되어야 하므로 클래스 단위 @Transactional 을 두지 않고 직접 정리
+ * - 판매 상태가 실제로 바뀔 때만 목록 구성 변경 이벤트 발행
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@RecordApplicationEvents
+class StockReservationConcurrencyTest {
+
+    private static final int STOCK = 100;
+    private static final int THREADS = 300;
+
+    @Autowired private StockReservationService stockReservationService;
+    @Autowired private ItemRepository itemRepository;
+    @Autowired private ApplicationEvents events;
+
+    private Long itemId;
+
+    @AfterEach
+    void cleanUp() {
+        if (itemId != null) itemRepository.deleteById(itemId);
+    }
+
+    @Test
+    @DisplayName("단일 상품 동시 예약 — 재고 수만큼만 성공하고 0에서 품절 처리")
+    void reserve_동시요청_재고초과_없음() throws Exception {
+        itemId = itemRepository.save(Item.builder()
+                .itemNm("한정 밀키트")
+                .originalPrice(10000)
+                .stockNumber(STOCK)
+                .itemDetail("동시성 테스트")
+                .itemSellStatus(ItemSellStatus.SELL)
+                .category(Category.ETC)
+                .foodItem(FoodItem.SALAD)
+                .build()).getId();
+
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        for (int i = 0; i < THREADS; i++) {
+            pool.submit(() -> {
+                try {
+                    start.await();
+                    stockReservationService.reserve(Map.of(itemId, 1));
+                    success.incrementAndGet();
+                } catch (OutOfStockException e) {
+                    soldOut.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        pool.shutdown();
+
+        Item after = itemRepository.findById(itemId).orElseThrow();
+        assertThat(success.get()).isEqualTo(STOCK);
+        assertThat(soldOut.get()).isEqualTo(THREADS - STOCK);
+        assertThat(after.getStockNumber()).isZero();
+        assertThat(after.getItemSellStatus()).isEqualTo(ItemSellStatus.SOLD_OUT);
+
+        // 반환 시 판매 재개
+        stockReservationService.release(Map.of(itemId, 3));
+        Item released = itemRepository.findById(itemId).orElseThrow();
+        assertThat(released.getStockNumber()).isEqualTo(3);
+        assertThat(released.getItemSellStatus()).isEqualTo(ItemSellStatus.SELL);
+        assertThat(membershipEvents()).isEqualTo(1);
+
+        // 판매 상태가 그대로면(SELL 유지) 목록 구성 변경 아님, 0 이 되는 차감만 변경
+        stockReservationService.reserve(Map.of(itemId, 1));
+        stockReservationService.release(Map.of(itemId, 1));
+        assertThat(membershipEvents()).isEqualTo(1);
+        stockReservationService.reserve(Map.of(itemId, 3));
+        assertThat(membershipEvents()).isEqualTo(2);
+    }
+
+    private long membershipEvents() {
+        return events.stream(ItemChangedEvent.class)
+                .filter(e -> e.membershipChanged() && e.contains(itemId))
+                .count();
+    }
+}
@@ -0,0 +1,63 @@
+package org.team.mealkitshop.service.pricing;
+
+import org.junit.jupiter.api.Test;
+import org.team.mealkitshop.common.Grade;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PricingRules 단위 테스트
+ * - 컴파일된 규칙의 등급 쿠폰/권역 배송비/상품 할인 평가와 엔진의 원자적 교체
+ */
+class PricingRulesTest {
+
+    @Test
+    void 기본규칙은_기존_정책과_같다() {
+        PricingRules rules = PricingRules.compile(PricingRuleSet.defaults(), 1L);
+
+        assertThat(rules.couponDiscount(66000, Grade.GOLD)).isEqualTo(4620);   // 7%
+        assertThat(rules.couponDiscount(10005, Grade.SILVER)).isEqualTo(500);  // 500.25 → 500
+        assertThat(rules.shippingFee(10000, "63000", Grade.BASIC)).isEqualTo(8000);
+        assertThat(rules.shippingFee(10000, "63000", Grade.VIP)).isZero();
+        assertThat(rules.shippingFee(0, "06236", Grade.BASIC)).isZero();
+        assertThat(rules.shippingFee(50000, "06236", Grade.BASIC)).isZero();
+    }
+
+    @Test
+    void 권역은_가장_긴_접두사가_우선() {
+        PricingRules rules = PricingRules.compile(new PricingRuleSet(
+                Map.of(), Set.of(), 50000, 3000, Map.of("63", 5000, "631", 7000), Map.of()), 1L);
+
+        assertThat(rules.zoneFee("63100")).isEqualTo(7000);
+        assertThat(rules.zoneFee("63200")).isEqualTo(5000);
+        assertThat(rules.zoneFee("06236")).isZero();
+        assertThat(rules.zoneFee(null)).isZero();
+    }
+
+    @Test
+    void 상품할인은_단가에_반영() {
+        PricingRules rules = PricingRules.compile(new PricingRuleSet(
+                Map.of(), Set.of(), 50000, 3000, Map.of(), Map.of(7L, 15)), 1L);
+
+        assertThat(rules.effectiveUnitPrice(7L, 9900)).isEqualTo(9900 - 1485);
+        assertThat(rules.effectiveUnitPrice(8L, 9900)).isEqualTo(9900);
+    }
+
+    @Test
+    void 잘못된_규칙은_교체되지_않는다() {
+        PricingEngine engine = new PricingEngine(null);
+        PricingRules before = engine.rules();
+
+        assertThatThrownBy(() -> engine.update(new PricingRuleSet(
+                Map.of(Grade.VIP, 150), Set.of(), 50000, 3000, Map.of(), Map.of())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(engine.rules()).isSameAs(before);
+
+        PricingRules after = engine.update(PricingRuleSet.defaults());
+        assertThat(after.version()).isEqualTo(before.version() + 1);
+    }
+}
@@ -0,0 +1,91 @@
+package org.team.mealkitshop.service.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 순위표 상위 후보 집합 단위 테스트
+ * - 점수순/동점 id순, 여유분 밖으로 밀린 항목 경계, stale 판정, reseed 중 갱신 보존
+ */
+class RankedSetTest {
+
+    @Test
+    void 스냅샷_전에는_비어_있고_점수순_동점은_id_내림차순() {
+        RankedSet set = new RankedSet(3, 1);
+        assertThat(set.isSeeded()).isFalse();
+
+        set.finishReseed(set.beginReseed(), List.of(
+                new RankedSet.Entry(1, 30), new RankedSet.Entry(2, 20)));
+        set.update(3, 20);
+
+        assertThat(set.isSeeded()).isTrue();
+        assertThat(set.top()).containsExactly(1L, 3L, 2L);
+        assertThat(set.isStale()).isFalse(); // 전체를 알고 있으면(경계 없음) 적어도 확정
+    }
+
+    @Test
+    void 밀려난_항목보다_낮아진_항목은_노출하지_않고_stale() {
+        RankedSet set = new RankedSet(2, 1);
+        set.finishReseed(set.beginReseed(), List.of( // 가득 참 → 마지막 행(3,10)이 경계
+                new RankedSet.Entry(1, 30), new RankedSet.Entry(2, 20), new RankedSet.Entry(3, 10)));
+        assertThat(set.top()).containsExactly(1L, 2L);
+
+        set.update(2, 5);      // 경계 아래로 — 보관하지 않은 항목보다 낮을 수 있음
+        assertThat(set.top()).containsExactly(1L, 3L);
+        set.update(1, 1);
+        assertThat(set.top()).containsExactly(3L);
+        assertThat(set.isStale()).isTrue();
+
+        set.update(9, 50);     // 경계 위 신규는 바로 반영
+        assertThat(set.top()).containsExactly(9L, 3L);
+        assertThat(set.isStale()).isFalse();
+    }
+
+    @Test
+    void 여유분을_넘치면_꼴찌를_밀어내고_경계로_삼는다() {
+        RankedSet set = new RankedSet(1, 1);
+        set.finishReseed(set.beginReseed(), List.of());
+        set.update(1, 10);
+        set.update(2, 20);
+        set.update(3, 30);     // (1,10) 밀려남
+        assertThat(set.size()).isEqualTo(2);
+
+        set.update(2, 5);      // 밀려난 (1,10) 보다 낮음 → 버림
+        set.update(3, 1);
+        assertThat(set.top()).isEmpty();
+        assertThat(set.isStale()).isTrue();
+    }
+
+    @Test
+    void reseed_조회_중_들어온_갱신과_삭제는_유지한다() {
+        RankedSet set = new RankedSet(3, 0);
+        set.finishReseed(set.beginReseed(), List.of(new RankedSet.Entry(1, 10)));
+
+        long token = set.beginReseed();
+        set.update(2, 100);    // 조회 이후 갱신
+        set.remove(1);         // 조회 이후 삭제
+        set.finishReseed(token, List.of(new RankedSet.Entry(1, 10), new RankedSet.Entry(2, 1)));
+
+        assertThat(set.top()).containsExactly(2L);
+        set.remove(2);
+        assertThat(set.top()).isEmpty();
+    }
+
+    @Test
+    void reseed_중_옛_경계_아래로_갱신된_항목도_유지한다() {
+        RankedSet set = new RankedSet(2, 1);
+        set.finishReseed(set.beginReseed(), List.of( // 가득 참 → (4,85) 경계, (3,80) 미보관
+                new RankedSet.Entry(1, 100), new RankedSet.Entry(2, 90),
+                new RankedSet.Entry(4, 85), new RankedSet.Entry(3, 80)));
+
+        long token = set.beginReseed();
+        set.update(3, 70);     // 옛 경계 아래 → 보관하지 않지만 삭제는 아님
+        set.finishReseed(token, List.of(new RankedSet.Entry(1, 100), new RankedSet.Entry(3, 80)));
+
+        assertThat(set.top()).containsExactly(1L, 3L);
+        assertThat(set.isStale()).isFalse();
+    }
+}
@@ -0,0 +1,91 @@
+package org.team.mealkitshop.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.team.mealkitshop.event.ItemChangedEvent;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 상품 검색 역색인 단위 테스트(DB 는 목)
+ * - 한글 n-gram 부분 일치, 필드 가중치 순위, 필드 한정 검색, 변경 시 재색인(지문 같으면 본문 미조회)
+ */
+class ItemSearchIndexTest {
+
+    private JdbcTemplate jdbc;
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = mock(JdbcTemplate.class);
+        when(jdbc.query(contains("limit ?"), any(RowMapper.class), eq(0L), anyInt())).thenReturn(List.of(
+                source(1, "닭가슴살 샐러드", "REFRIGERATED", "SALAD", "<p>신선한 <b>채소</b></p>"),
+                source(2, "훈제 닭가슴살", "FROZEN", "CHICKEN_BREAST", "<p>오븐에 구운 샐러드 토핑용</p>"),
+                source(3, "연어 포케", "REFRIGERATED", "POKE", "<p>생연어</p>")));
+        index = new ItemSearchIndex(jdbc);
+        index.rebuild();
+    }
+
+    @Test
+    void 띄어쓰기_없는_합성어도_부분_일치한다() {
+        assertThat(index.search("가슴살", ItemSearchIndex.ALL_FIELDS, 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("닭", ItemSearchIndex.ALL_FIELDS, 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("ＰＯＫＥ", ItemSearchIndex.ALL_FIELDS, 10)).isEmpty(); // 영문 코드는 색인하지 않음
+        assertThat(index.search("포케", ItemSearchIndex.ALL_FIELDS, 10)).containsExactly(3L);
+        assertThat(index.search("없는상품", ItemSearchIndex.ALL_FIELDS, 10)).isEmpty();
+    }
+
+    @Test
+    void 상품명_일치가_상세_설명_일치보다_앞선다() {
+        // 1: 상품명 "샐러드" + 품목 "샐러드", 2: 상세 설명에만 "샐러드"
+        assertThat(index.search("샐러드", ItemSearchIndex.ALL_FIELDS, 10)).containsExactly(1L, 2L);
+        assertThat(index.search("냉장", ItemSearchIndex.ALL_FIELDS, 10)).containsExactly(3L, 1L); // 카테고리 한글명, 동점은 최신 id 우선
+    }
+
+    @Test
+    void 필드를_한정하면_그_필드에서만_찾는다() {
+        assertThat(index.search("샐러드", EnumSet.of(ItemSearchIndex.Field.DETAIL), 10)).containsExactly(2L);
+        assertThat(index.search("샐러드", EnumSet.of(ItemSearchIndex.Field.NAME), 10)).containsExactly(1L);
+        assertThat(index.search("채소", EnumSet.of(ItemSearchIndex.Field.NAME), 10)).isEmpty(); // 태그는 제거, 상세에만 있음
+    }
+
+    @Test
+    void 변경된_상품만_다시_색인한다() {
+        // 3: 이름 변경, 1: 지문 동일(주문/리뷰 변경 등), 2: 삭제됨
+        when(jdbc.query(contains("crc32"), any(RowMapper.class), any(Object[].class))).thenReturn(List.of(
+                new ItemSearchIndex.Source(1, "닭가슴살 샐러드", "REFRIGERATED", "SALAD", null,
+                        ItemSearchIndex.crc32("<p>신선한 <b>채소</b></p>")),
+                new ItemSearchIndex.Source(3, "연어 덮밥", "REFRIGERATED", "POKE", null, 0)));
+        when(jdbc.query(contains("where item_id in"), any(RowMapper.class), eq(3L))).thenReturn(List.of(
+                source(3, "연어 덮밥", "REFRIGERATED", "POKE", "")));
+
+        index.onItemChanged(ItemChangedEvent.of(List.of(1L, 2L, 3L)));
+
+        assertThat(index.search("덮밥", ItemSearchIndex.ALL_FIELDS, 10)).containsExactly(3L);
+        assertThat(index.search("포케", EnumSet.of(ItemSearchIndex.Field.NAME), 10)).isEmpty();
+        assertThat(index.search("훈제", ItemSearchIndex.ALL_FIELDS, 10)).isEmpty();
+        assertThat(index.metrics())
+                .containsEntry("documents", 2)
+                .containsEntry("reindexed", 1L)
+                .containsEntry("skippedUnchanged", 1L);
+    }
+
+    @Test
+    void 한글_토큰화_규칙() {
+        assertThat(KoreanNgram.words("500g닭가슴살, Salad!")).containsExactly("500", "g", "닭가슴살", "salad");
+        assertThat(KoreanNgram.queryGrams("닭가슴살")).containsExactly("닭가", "가슴", "슴살");
+        assertThat(KoreanNgram.queryGrams("닭 샐러드")).containsExactly("닭", "샐러", "러드");
+        assertThat(KoreanNgram.compact(" 닭가슴살 샐러드 ")).isEqualTo("닭가슴살샐러드");
+    }
+
+    private static ItemSearchIndex.Source source(long id, String name, String category, String foodItem, String detail) {
+        return new ItemSearchIndex.Source(id, name, category, foodItem, detail, ItemSearchIndex.crc32(detail));
+    }
+}
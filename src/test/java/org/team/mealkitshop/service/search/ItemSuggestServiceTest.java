@@ -0,0 +1,102 @@
+package org.team.mealkitshop.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.team.mealkitshop.config.ItemSuggestProperties;
+import org.team.mealkitshop.event.ItemChangedEvent;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 검색어 자동완성 단위 테스트(DB 는 목)
+ * - 입력 중인 음절/초성/단어 중간부터 일치, 오타 허용, 판매중단 제외, 인기 검색어, 변경 반영
+ */
+class ItemSuggestServiceTest {
+
+    private JdbcTemplate jdbc;
+    private ItemSuggestService suggest;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = mock(JdbcTemplate.class);
+        when(jdbc.query(contains("item_id > ?"), any(RowMapper.class), eq(0L), anyInt())).thenReturn(List.of(
+                new ItemSuggestService.ItemRow(1, "닭가슴살 샐러드", 100, "SELL"),
+                new ItemSuggestService.ItemRow(2, "닭갈비 볶음밥", 10, "SELL"),
+                new ItemSuggestService.ItemRow(3, "연어 포케", 5, "SOLD_OUT"),
+                new ItemSuggestService.ItemRow(4, "단종 상품", 1000, "STOP")));
+        suggest = new ItemSuggestService(jdbc, new ItemSuggestProperties(10, 300, 3, 10000, Duration.ofMinutes(5)));
+        suggest.rebuild();
+    }
+
+    @Test
+    void 입력_중인_음절과_초성으로도_찾는다() {
+        assertThat(ids("닭")).containsExactly(1L, 2L);      // 조회수 많은 순
+        assertThat(ids("달")).containsExactly(1L, 2L);      // "닭" 입력 도중
+        assertThat(ids("닭가스")).containsExactly(1L);      // "닭가슴" 입력 도중
+        assertThat(ids("ㄷㄱㅅㅅ")).containsExactly(1L);
+        assertThat(ids("샐러")).containsExactly(1L);        // 두 번째 단어부터
+        assertThat(ids("연어")).containsExactly(3L);        // 품절도 목록에 보이므로 제안
+        assertThat(ids("단종")).isEmpty();                  // 판매중단 제외
+        assertThat(suggest.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void 오타는_자모_편집_거리로_보정한다() {
+        assertThat(ids("닭가숨살")).startsWith(1L);
+        assertThat(ids("닭갈ㅂ보끔")).startsWith(2L);
+        assertThat(ItemSuggestService.maxEdits(HangulJamo.decompose("닭"))).isZero();
+        assertThat(ItemSuggestService.maxEdits("ㄷㄱㅅㅅㅅㄹ")).isZero();
+    }
+
+    @Test
+    void 결과가_있던_검색어는_주기_갱신_후_제안된다() {
+        for (int i = 0; i < 3; i++) suggest.recordQuery("닭가슴살  도시락");
+        suggest.recordQuery("한번만 검색");
+        for (int i = 0; i < 5; i++) suggest.recordQuery("닭가슴살 샐러드"); // 상품명과 같으면 상품으로만
+        suggest.refresh();
+
+        assertThat(suggest.suggest("닭가슴살도", 10)) // 정확 접두 일치가 먼저, 나머지는 오타 보정 후보
+                .startsWith(new ItemSuggestService.Suggestion("닭가슴살 도시락", "QUERY", null));
+        assertThat(suggest.suggest("한번", 10)).isEmpty();
+        assertThat(suggest.suggest("닭가슴살 샐", 10))
+                .containsExactly(new ItemSuggestService.Suggestion("닭가슴살 샐러드", "ITEM", 1L));
+    }
+
+    @Test
+    void 이름이_바뀐_상품만_반영한다() {
+        when(jdbc.query(contains("item_id in"), any(RowMapper.class), any(Object[].class))).thenReturn(List.of(
+                new ItemSuggestService.ItemRow(2, "닭갈비 덮밥", 10, "SELL")));
+
+        suggest.onItemChanged(ItemChangedEvent.of(List.of(2L, 3L))); // 3 은 삭제됨
+
+        assertThat(ids("덮밥")).containsExactly(2L);
+        assertThat(ids("볶음")).isEmpty();
+        assertThat(ids("연어")).isEmpty();
+        assertThat(suggest.metrics()).containsEntry("entries", 2).containsEntry("rebuilds", 2L);
+    }
+
+    @Test
+    void 긴_입력은_상한_길이까지만_본다() {
+        assertThat(ids("닭가슴살" + "!".repeat(100_000))).containsExactly(1L);
+        assertThat(ItemSuggestService.capped("가".repeat(100))).hasSize(30);
+        assertThat(ItemSuggestService.capped("닭")).isEqualTo("닭");
+    }
+
+    @Test
+    void 자모_분해() {
+        assertThat(HangulJamo.decompose("닭과")).isEqualTo("ㄷㅏㄹㄱㄱㅗㅏ");
+        assertThat(HangulJamo.decompose(KoreanNgram.normalize("ㄷㄱ"))).isEqualTo("ㄷㄱ"); // NFKC 조합형 자모 → 호환 자모
+        assertThat(HangulJamo.initials("닭가슴살 500g")).isEqualTo("ㄷㄱㅅㅅ 500g");
+    }
+
+    private List<Long> ids(String q) {
+        return suggest.suggest(q, 10).stream().map(ItemSuggestService.Suggestion::itemId).toList();
+    }
+}
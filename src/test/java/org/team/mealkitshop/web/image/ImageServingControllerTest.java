@@ -0,0 +1,129 @@
+package org.team.mealkitshop.web.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.team.mealkitshop.config.ImageServingProperties;
+import org.team.mealkitshop.service.item.FileService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /images/** 서빙 단위 테스트
+ * - ETag 재검증(304), Range(206/416), immutable 캐시 헤더, 경로 차단, 캐시 무효화
+ */
+class ImageServingControllerTest {
+
+    private static final String NAME = "item/0f8fad5b-d9cb-469f-a165-70867728950e.jpg";
+
+    @TempDir
+    Path root;
+
+    private ImageServingController controller;
+    private ImageCache cache;
+    private byte[] body;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        body = new byte[1000];
+        for (int i = 0; i < body.length; i++) body[i] = (byte) i;
+        Files.createDirectories(root.resolve("item"));
+        Files.write(root.resolve(NAME), body);
+
+        // 본문 캐시 상한 512B → 1000B 파일은 파일 채널 경로
+        ImageServingProperties props = new ImageServingProperties(DataSize.ofKilobytes(64),
+                DataSize.ofBytes(512), 100, Duration.ofDays(365), Duration.ofDays(30), DataSize.ofKilobytes(48));
+        cache = new ImageCache(props);
+        controller = new ImageServingController(new FileService(root.toString()), cache, props);
+    }
+
+    @Test
+    void 전체_응답에_ETag와_immutable_캐시_헤더를_붙인다() throws Exception {
+        MockHttpServletResponse res = get(NAME, null, null);
+
+        assertThat(res.getStatus()).isEqualTo(200);
+        assertThat(res.getContentAsByteArray()).isEqualTo(body);
+        assertThat(res.getHeader("ETag")).matches("\"[0-9a-f]{32}\"");
+        assertThat(res.getHeader("Cache-Control")).contains("max-age=31536000").contains("immutable");
+        assertThat(res.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(res.getContentType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    void ETag가_같으면_304로_본문_없이_응답한다() throws Exception {
+        String etag = get(NAME, null, null).getHeader("ETag");
+
+        MockHttpServletResponse res = get(NAME, etag, null);
+
+        assertThat(res.getStatus()).isEqualTo(304);
+        assertThat(res.getContentAsByteArray()).isEmpty();
+        assertThat(cache.metrics()).containsEntry("hits", 1L);
+    }
+
+    @Test
+    void 단일_Range는_206_범위_밖이면_416() throws Exception {
+        MockHttpServletResponse partial = get(NAME, null, "bytes=10-19");
+        assertThat(partial.getStatus()).isEqualTo(206);
+        assertThat(partial.getHeader("Content-Range")).isEqualTo("bytes 10-19/1000");
+        assertThat(partial.getContentAsByteArray()).hasSize(10).startsWith((byte) 10);
+
+        MockHttpServletResponse suffix = get(NAME, null, "bytes=-5");
+        assertThat(suffix.getHeader("Content-Range")).isEqualTo("bytes 995-999/1000");
+
+        MockHttpServletResponse unsatisfiable = get(NAME, null, "bytes=5000-");
+        assertThat(unsatisfiable.getStatus()).isEqualTo(416);
+        assertThat(unsatisfiable.getHeader("Content-Range")).isEqualTo("bytes */1000");
+    }
+
+    @Test
+    void Range_해석_규칙() {
+        assertThat(ImageServingController.parseRange("bytes=0-", 10))
+                .isEqualTo(new ImageServingController.ByteRange(0, 9));
+        assertThat(ImageServingController.parseRange("bytes=5-100", 10))
+                .isEqualTo(new ImageServingController.ByteRange(5, 9));
+        assertThat(ImageServingController.parseRange("bytes=0-1,4-5", 10)).isNull(); // 다중 구간 → 전체
+        assertThat(ImageServingController.parseRange("bytes=x-1", 10)).isNull();
+        assertThat(ImageServingController.parseRange("bytes=-0", 10))
+                .isSameAs(ImageServingController.ByteRange.UNSATISFIABLE);
+    }
+
+    @Test
+    void 파일이_바뀌면_캐시를_버리고_새_ETag를_만든다() throws Exception {
+        Files.write(root.resolve("banner.png"), new byte[]{1, 2, 3});
+        MockHttpServletResponse first = get("banner.png", null, null);
+        assertThat(first.getHeader("Cache-Control")).doesNotContain("immutable");
+
+        Files.write(root.resolve("banner.png"), new byte[]{4, 5, 6, 7});
+        MockHttpServletResponse second = get("banner.png", first.getHeader("ETag"), null);
+
+        assertThat(second.getStatus()).isEqualTo(200);
+        assertThat(second.getContentAsByteArray()).containsExactly(4, 5, 6, 7);
+        assertThat(second.getHeader("ETag")).isNotEqualTo(first.getHeader("ETag"));
+    }
+
+    @Test
+    void 경로_이탈과_blob_폴더는_404() throws Exception {
+        Files.createDirectories(root.resolve("_blobs/ab"));
+        Files.write(root.resolve("_blobs/ab/x"), body);
+
+        assertThat(get("../secret.txt", null, null).getStatus()).isEqualTo(404);
+        assertThat(get("_blobs/ab/x", null, null).getStatus()).isEqualTo(404);
+        assertThat(get("item/none.jpg", null, null).getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletResponse get(String path, String ifNoneMatch, String range) throws Exception {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/images/" + path);
+        if (ifNoneMatch != null) req.addHeader("If-None-Match", ifNoneMatch);
+        if (range != null) req.addHeader("Range", range);
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        controller.serve(req, res);
+        return res;
+    }
+}